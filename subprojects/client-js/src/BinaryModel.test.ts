@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+import { expect, test } from 'vitest';
+
+import { readBinaryModel, toTuples } from './BinaryModel';
+
+const MODEL = new Uint8Array([
+  // Magic and version
+  ...[0x52, 0x46, 0x4d, 0x42, 1],
+  // Nodes
+  ...[2, 1, 0x61, 1, 0x62],
+  // Relation `friend` with arity 2 and 3 tuples
+  ...[6, 0x66, 0x72, 0x69, 0x65, 0x6e, 0x64, 2, 3],
+  // Dictionary: "true" and "unknown", both written as concrete values
+  ...[2, 0, 4, 0x74, 0x72, 0x75, 0x65, 0, 7],
+  ...[0x75, 0x6e, 0x6b, 0x6e, 0x6f, 0x77, 0x6e],
+  // Delta-encoded first column, second column, and value indices
+  ...[0, 1, 0, 1, 0, 1, 0, 1, 1],
+  // Relation `age` with arity 1 and a single tuple
+  ...[3, 0x61, 0x67, 0x65, 1, 1],
+  // Dictionary: {"unknown": "18..65"}
+  ...[1, 1, 6, 0x31, 0x38, 0x2e, 0x2e, 0x36, 0x35],
+  // Column and value index
+  ...[1, 0],
+]);
+
+test('read binary model', () => {
+  const model = readBinaryModel(MODEL);
+  expect(model.nodes).toEqual(['a', 'b']);
+  expect(Object.keys(model.relations)).toEqual(['friend', 'age']);
+  expect(toTuples(model.relations['friend']!)).toEqual([
+    [0, 1, 'true'],
+    [1, 0, 'unknown'],
+    [1, 1, 'unknown'],
+  ]);
+  expect(toTuples(model.relations['age']!)).toEqual([
+    [1, { unknown: '18..65' }],
+  ]);
+});
+
+test('read Base64 binary model', () => {
+  const base64 = btoa(String.fromCharCode(...MODEL));
+  expect(readBinaryModel(base64)).toEqual(readBinaryModel(MODEL));
+});
+
+test('reject invalid binary model', () => {
+  expect(() => readBinaryModel(new Uint8Array([1, 2, 3, 4]))).toThrow(
+    RangeError,
+  );
+});
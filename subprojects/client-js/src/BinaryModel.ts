@@ -0,0 +1,189 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+import type { Tuple } from './dto';
+
+const MAGIC = 'RFMB';
+
+const VERSION = 1;
+
+const CONCRETE_TAG = 0;
+
+const UNKNOWN_TAG = 1;
+
+const ERROR_TAG = 2;
+
+type Value = Tuple[number];
+
+export interface BinaryRelation {
+  arity: number;
+  /** Node IDs in each tuple position, stored column-wise. */
+  columns: Uint32Array[];
+  /** Index into `dictionary` for each tuple. */
+  valueIndices: Uint32Array;
+  dictionary: Value[];
+}
+
+export interface BinaryModel {
+  nodes: string[];
+  relations: Record<string, BinaryRelation>;
+}
+
+class Reader {
+  private readonly bytes: Uint8Array;
+
+  private readonly decoder = new TextDecoder();
+
+  private offset = 0;
+
+  constructor(bytes: Uint8Array) {
+    this.bytes = bytes;
+  }
+
+  readVarInt(): number {
+    let result = 0;
+    let shift = 0;
+    for (;;) {
+      if (this.offset >= this.bytes.length) {
+        throw new RangeError('Unexpected end of binary model');
+      }
+      const byte = this.bytes[this.offset] ?? 0;
+      this.offset += 1;
+      // Use multiplication instead of bit shifts to avoid overflow above 2^31.
+      result += (byte & 0x7f) * 2 ** shift;
+      if ((byte & 0x80) === 0) {
+        return result;
+      }
+      shift += 7;
+    }
+  }
+
+  readByte(): number {
+    const byte = this.bytes[this.offset];
+    if (byte === undefined) {
+      throw new RangeError('Unexpected end of binary model');
+    }
+    this.offset += 1;
+    return byte;
+  }
+
+  readString(): string {
+    const length = this.readVarInt();
+    const end = this.offset + length;
+    if (end > this.bytes.length) {
+      throw new RangeError('Unexpected end of binary model');
+    }
+    const value = this.decoder.decode(this.bytes.subarray(this.offset, end));
+    this.offset = end;
+    return value;
+  }
+
+  readValue(): Value {
+    const tag = this.readByte();
+    const value = this.readString();
+    switch (tag) {
+      case CONCRETE_TAG:
+        return value;
+      case UNKNOWN_TAG:
+        return { unknown: value };
+      case ERROR_TAG:
+        return { error: value };
+      default:
+        throw new RangeError(`Unknown value tag: ${tag}`);
+    }
+  }
+
+  readColumn(length: number, deltaEncoded: boolean): Uint32Array {
+    const column = new Uint32Array(length);
+    let previous = 0;
+    for (let i = 0; i < length; i += 1) {
+      const value = this.readVarInt() + (deltaEncoded ? previous : 0);
+      column[i] = value;
+      previous = value;
+    }
+    return column;
+  }
+}
+
+function toBytes(data: Uint8Array | ArrayBuffer | string): Uint8Array {
+  if (data instanceof Uint8Array) {
+    return data;
+  }
+  if (data instanceof ArrayBuffer) {
+    return new Uint8Array(data);
+  }
+  // Models returned by the API are encoded in Base64.
+  const binaryString = atob(data);
+  const bytes = new Uint8Array(binaryString.length);
+  for (let i = 0; i < binaryString.length; i += 1) {
+    bytes[i] = binaryString.charCodeAt(i);
+  }
+  return bytes;
+}
+
+/**
+ * Reads a model written in the compact binary output format.
+ *
+ * @param data The binary model, or its Base64 encoding as returned in the
+ *   `binary` field of `GenerateSuccessResult`.
+ * @returns The nodes and the column-wise tuples of each relation.
+ */
+export function readBinaryModel(
+  data: Uint8Array | ArrayBuffer | string,
+): BinaryModel {
+  const bytes = toBytes(data);
+  const magic = String.fromCharCode(...bytes.subarray(0, MAGIC.length));
+  if (magic !== MAGIC) {
+    throw new RangeError('Not a binary model');
+  }
+  const reader = new Reader(bytes.subarray(MAGIC.length));
+  const version = reader.readVarInt();
+  if (version !== VERSION) {
+    throw new RangeError(`Unsupported binary model version: ${version}`);
+  }
+  const nodeCount = reader.readVarInt();
+  const nodes: string[] = [];
+  for (let i = 0; i < nodeCount; i += 1) {
+    nodes.push(reader.readString());
+  }
+  const relationCount = reader.readVarInt();
+  const relations: Record<string, BinaryRelation> = {};
+  for (let i = 0; i < relationCount; i += 1) {
+    const name = reader.readString();
+    const arity = reader.readVarInt();
+    const tupleCount = reader.readVarInt();
+    const dictionarySize = reader.readVarInt();
+    const dictionary: Value[] = [];
+    for (let j = 0; j < dictionarySize; j += 1) {
+      dictionary.push(reader.readValue());
+    }
+    const columns: Uint32Array[] = [];
+    for (let j = 0; j < arity; j += 1) {
+      columns.push(reader.readColumn(tupleCount, j === 0));
+    }
+    const valueIndices = reader.readColumn(tupleCount, false);
+    relations[name] = { arity, columns, valueIndices, dictionary };
+  }
+  return { nodes, relations };
+}
+
+/**
+ * Converts a relation read by {@link readBinaryModel} to the tuples used in
+ * the `partialInterpretation` of {@link JsonOutput}.
+ */
+export function toTuples(relation: BinaryRelation): Tuple[] {
+  const tuples: Tuple[] = [];
+  const { columns, valueIndices, dictionary } = relation;
+  for (let i = 0; i < valueIndices.length; i += 1) {
+    const tuple: Tuple = columns.map((column) => column[i] ?? 0);
+    const value = dictionary[valueIndices[i] ?? 0];
+    if (value !== undefined) {
+      tuple.push(value);
+    }
+    tuples.push(tuple);
+  }
+  return tuples;
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -34,6 +34,7 @@ export type GenerateInput = z.input<typeof GenerateInput>;
 const GenerateSuccessResult = z.object({
   json: JsonOutput.optional(),
   source: z.string().optional(),
+  binary: z.string().optional(),
 });
 
 export type GenerateSuccessResult = z.output<typeof GenerateSuccessResult>;
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -27,10 +27,17 @@ export const SourceOutputFormat = OutputFormat;
 
 export type SourceOutputFormat = z.infer<typeof SourceOutputFormat>;
 
+export const BinaryOutputFormat = OutputFormat.extend({
+  enabled: z.boolean().default(false),
+});
+
+export type BinaryOutputFormat = z.infer<typeof BinaryOutputFormat>;
+
 export const OutputFormats = z
   .object({
     json: JsonOutputFormat.prefault({}),
     source: SourceOutputFormat.prefault({}),
+    binary: BinaryOutputFormat.prefault({}),
   })
   .prefault({});
 
@@ -1,9 +1,10 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
 
+export * from './BinaryModel';
 export * from './dto';
 export * from './GenericRefinery';
 export * from './Refinery';
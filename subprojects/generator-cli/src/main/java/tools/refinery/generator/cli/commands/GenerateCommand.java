@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -8,6 +8,7 @@ package tools.refinery.generator.cli.commands;
 import com.beust.jcommander.Parameter;
 import com.beust.jcommander.Parameters;
 import com.google.inject.Inject;
+import tools.refinery.generator.ModelGenerator;
 import tools.refinery.generator.ModelGeneratorFactory;
 import tools.refinery.generator.cli.RefineryCli;
 import tools.refinery.generator.cli.utils.CliProblemLoader;
@@ -30,6 +31,7 @@ public class GenerateCommand implements Command {
 	private List<String> overrideScopes = new ArrayList<>();
 	private long randomSeed = 1;
 	private int count = 1;
+	private boolean binary;
 
 	@Inject
 	public GenerateCommand(CliProblemLoader loader, ModelGeneratorFactory generatorFactory,
@@ -72,6 +74,11 @@ public class GenerateCommand implements Command {
 		this.count = count;
 	}
 
+	@Parameter(names = {"-binary", "-b"}, description = "Save models in the compact binary format")
+	public void setBinary(boolean binary) {
+		this.binary = binary;
+	}
+
 	@Override
 	public int run() throws IOException {
 		if (count > 1 && CliUtils.isStandardStream(outputPath)) {
@@ -84,17 +91,25 @@ public class GenerateCommand implements Command {
 			generator.setMaxNumberOfSolutions(count);
 			generator.generate();
 			if (count == 1) {
-				serializer.saveModel(generator, outputPath);
+				saveModel(generator, outputPath, true);
 			} else {
 				int solutionCount = generator.getSolutionCount();
 				for (int i = 0; i < solutionCount; i++) {
 					generator.loadSolution(i);
 					var pathWithIndex = CliUtils.getFileNameWithIndex(outputPath, i + 1);
-					serializer.saveModel(generator, pathWithIndex, false);
+					saveModel(generator, pathWithIndex, false);
 				}
 			}
 		}
 		return RefineryCli.EXIT_SUCCESS;
 	}
+
+	private void saveModel(ModelGenerator generator, String path, boolean allowStandardOutput) throws IOException {
+		if (binary) {
+			serializer.saveBinaryModel(generator, path, allowStandardOutput);
+		} else {
+			serializer.saveModel(generator, path, allowStandardOutput);
+		}
+	}
 }
 
@@ -1,43 +1,67 @@
 /*
- * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2024-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
 package tools.refinery.generator.cli.utils;
 
-import org.eclipse.emf.ecore.resource.Resource;
+import com.google.inject.Inject;
+import tools.refinery.generator.BinaryModelSerializer;
 import tools.refinery.generator.ModelFacade;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.Map;
 
 public class CliProblemSerializer {
+	@Inject
+	private BinaryModelSerializer binaryModelSerializer;
+
 	public void saveModel(ModelFacade modelFacade, String outputPath) throws IOException {
 		saveModel(modelFacade, outputPath, true);
 	}
 
 	public void saveModel(ModelFacade modelFacade, String outputPath,
 						  boolean allowStandardOutput) throws IOException {
-		var problem = modelFacade.serialize();
-		var resource = problem.eResource();
-		var saveOptions = Map.of();
-		if (CliUtils.isStandardStream(outputPath)) {
-			if (!allowStandardOutput) {
-				throw new IllegalArgumentException("Refusing to save model to standard output '" +
-						CliUtils.STANDARD_OUTPUT_PATH + "'");
+		if (isStandardOutput(outputPath, allowStandardOutput)) {
+			printSolution(modelFacade);
+		} else {
+			try (var outputStream = new FileOutputStream(outputPath)) {
+				modelFacade.serialize(outputStream);
 			}
-			printSolution(resource, saveOptions);
+		}
+	}
+
+	public void saveBinaryModel(ModelFacade modelFacade, String outputPath,
+								boolean allowStandardOutput) throws IOException {
+		if (isStandardOutput(outputPath, allowStandardOutput)) {
+			printBinarySolution(modelFacade);
 		} else {
 			try (var outputStream = new FileOutputStream(outputPath)) {
-				resource.save(outputStream, saveOptions);
+				binaryModelSerializer.serialize(modelFacade, outputStream);
 			}
 		}
 	}
 
+	private static boolean isStandardOutput(String outputPath, boolean allowStandardOutput) {
+		if (!CliUtils.isStandardStream(outputPath)) {
+			return false;
+		}
+		if (!allowStandardOutput) {
+			throw new IllegalArgumentException("Refusing to save model to standard output '" +
+					CliUtils.STANDARD_OUTPUT_PATH + "'");
+		}
+		return true;
+	}
+
+	// We deliberately write to the standard output if no output path is specified.
+	@SuppressWarnings("squid:S106")
+	private static void printSolution(ModelFacade modelFacade) throws IOException {
+		modelFacade.serialize(System.out);
+	}
+
 	// We deliberately write to the standard output if no output path is specified.
 	@SuppressWarnings("squid:S106")
-	private static void printSolution(Resource solutionResource, Map<?, ?> saveOptions) throws IOException {
-		solutionResource.save(System.out, saveOptions);
+	private void printBinarySolution(ModelFacade modelFacade) throws IOException {
+		binaryModelSerializer.serialize(modelFacade, System.out);
 	}
 }
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+public class ProblemLoaderBenchmark {
+	@Benchmark
+	public void loadBenchmark(ProblemLoaderExecutionPlan executionPlan, Blackhole blackhole) throws IOException {
+		var loader = executionPlan.createProblemLoader();
+		blackhole.consume(loader.loadString(executionPlan.problemString));
+	}
+
+	@Benchmark
+	public void loadAndInitializeBenchmark(ProblemLoaderExecutionPlan executionPlan, Blackhole blackhole)
+			throws IOException {
+		var problem = executionPlan.createProblemLoader().loadString(executionPlan.problemString);
+		try (var semantics = executionPlan.createSemanticsFactory().createSemantics(problem)) {
+			blackhole.consume(semantics.getModel());
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.refinery.generator.ModelSemanticsFactory;
+import tools.refinery.generator.ProblemLoader;
+import tools.refinery.generator.standalone.StandaloneRefinery;
+
+import java.util.Random;
+
+@State(Scope.Benchmark)
+public class ProblemLoaderExecutionPlan {
+	private static final String METAMODEL = """
+			class Person {
+				Person[] friend
+				Address[1] address
+			}
+
+			class Address.
+
+			""";
+
+	@Param({"1000", "10000"})
+	public int nNodes;
+
+	@Param({"3"})
+	public int nFriends;
+
+	public String problemString;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		var random = new Random(1);
+		var builder = new StringBuilder(METAMODEL);
+		for (int i = 0; i < nNodes; i++) {
+			builder.append("Person(person").append(i).append(").\n");
+			builder.append("Address(address").append(i).append(").\n");
+			builder.append("address(person").append(i).append(", address").append(i).append(").\n");
+			for (int j = 0; j < nFriends; j++) {
+				builder.append("friend(person").append(i).append(", person").append(random.nextInt(nNodes))
+						.append(").\n");
+			}
+		}
+		problemString = builder.toString();
+	}
+
+	public ProblemLoader createProblemLoader() {
+		return StandaloneRefinery.getProblemLoader();
+	}
+
+	public ModelSemanticsFactory createSemanticsFactory() {
+		return StandaloneRefinery.getSemanticsFactory();
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import tools.refinery.generator.serializer.PartialInterpretationTuples;
+import tools.refinery.generator.serializer.TupleEntry;
+import tools.refinery.generator.serializer.ValueTag;
+import tools.refinery.language.semantics.SemanticsUtils;
+import tools.refinery.logic.AbstractValue;
+import tools.refinery.store.reasoning.representation.AnyPartialSymbol;
+import tools.refinery.store.util.CancellationToken;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Writes the partial interpretation of a model in a compact binary format.
+ * <p>
+ * All integers are written as unsigned LEB128 varints and all strings are written as their length in bytes followed
+ * by their UTF-8 encoding. The format consists of
+ * <ol>
+ *     <li>the magic bytes {@code RFMB} and the format version {@value #VERSION},</li>
+ *     <li>the number of nodes followed by the name of each node (empty if the node has no name),</li>
+ *     <li>the number of relations, and for each relation
+ *     <ol>
+ *         <li>its name, arity and number of tuples,</li>
+ *         <li>the dictionary of its values, consisting of the number of values followed by the tag and string
+ *         representation of each value, where the tag is {@link #CONCRETE_TAG}, {@link #UNKNOWN_TAG}, or
+ *         {@link #ERROR_TAG},</li>
+ *         <li>the columns of its tuples, where the first column is delta-encoded,</li>
+ *         <li>the column of dictionary indices of the values of its tuples.</li>
+ *     </ol>
+ *     </li>
+ * </ol>
+ * Tuples are sorted lexicographically, which makes the delta encoding of the first column non-negative.
+ * </p>
+ */
+@Singleton
+public class BinaryModelSerializer {
+	public static final int VERSION = 1;
+	public static final byte CONCRETE_TAG = 0;
+	public static final byte UNKNOWN_TAG = 1;
+	public static final byte ERROR_TAG = 2;
+
+	private static final byte[] MAGIC = "RFMB".getBytes(StandardCharsets.US_ASCII);
+
+	@Inject
+	private SemanticsUtils semanticsUtils;
+
+	public void serialize(ModelFacade facade, OutputStream outputStream) throws IOException {
+		serialize(facade, outputStream, CancellationToken.NONE);
+	}
+
+	public void serialize(ModelFacade facade, OutputStream outputStream,
+						  CancellationToken cancellationToken) throws IOException {
+		var relations = new LinkedHashMap<String, AnyPartialSymbol>();
+		for (var entry : facade.getProblemTrace().getRelationTrace().entrySet()) {
+			var partialSymbol = entry.getValue();
+			var name = semanticsUtils.getNameWithoutRootPrefix(entry.getKey()).orElse(partialSymbol.name());
+			relations.put(name, partialSymbol);
+		}
+		var nodes = facade.getNodesMetadata().list();
+		cancellationToken.checkCancelled();
+		var out = new BufferedOutputStream(outputStream);
+		out.write(MAGIC);
+		writeVarInt(out, VERSION);
+		writeVarInt(out, nodes.size());
+		for (var node : nodes) {
+			writeString(out, node == null ? "" : node.name());
+		}
+		writeVarInt(out, relations.size());
+		for (var entry : relations.entrySet()) {
+			var partialSymbol = entry.getValue();
+			writeString(out, entry.getKey());
+			writeVarInt(out, partialSymbol.arity());
+			writeRelation(out, partialSymbol.arity(),
+					PartialInterpretationTuples.getSortedTuples(facade, partialSymbol));
+			cancellationToken.checkCancelled();
+		}
+		out.flush();
+	}
+
+	private static void writeRelation(OutputStream out, int arity, List<TupleEntry> tuples) throws IOException {
+		int tupleCount = tuples.size();
+		writeVarInt(out, tupleCount);
+		var dictionary = new LinkedHashMap<AbstractValue<?, ?>, Integer>();
+		var valueIndices = new int[tupleCount];
+		for (int i = 0; i < tupleCount; i++) {
+			valueIndices[i] = dictionary.computeIfAbsent(tuples.get(i).value(), ignored -> dictionary.size());
+		}
+		writeVarInt(out, dictionary.size());
+		for (var value : dictionary.keySet()) {
+			writeValue(out, value);
+		}
+		for (int column = 0; column < arity; column++) {
+			int previous = 0;
+			for (var entry : tuples) {
+				int nodeId = entry.tuple().get(column);
+				if (column == 0) {
+					writeVarInt(out, nodeId - previous);
+					previous = nodeId;
+				} else {
+					writeVarInt(out, nodeId);
+				}
+			}
+		}
+		for (int valueIndex : valueIndices) {
+			writeVarInt(out, valueIndex);
+		}
+	}
+
+	private static void writeValue(OutputStream out, AbstractValue<?, ?> value) throws IOException {
+		var stringValue = value.toString();
+		out.write(switch (ValueTag.of(value, stringValue)) {
+			case CONCRETE -> CONCRETE_TAG;
+			case UNKNOWN -> UNKNOWN_TAG;
+			case ERROR -> ERROR_TAG;
+		});
+		writeString(out, stringValue);
+	}
+
+	private static void writeString(OutputStream out, String value) throws IOException {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static void writeVarInt(OutputStream out, int value) throws IOException {
+		if (value < 0) {
+			throw new IllegalArgumentException("Cannot encode negative value: " + value);
+		}
+		int remaining = value;
+		while ((remaining & ~0x7f) != 0) {
+			out.write((remaining & 0x7f) | 0x80);
+			remaining >>>= 7;
+		}
+		out.write(remaining);
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -18,6 +18,8 @@ import tools.refinery.store.reasoning.literal.Concreteness;
 import tools.refinery.store.reasoning.representation.AnyPartialSymbol;
 import tools.refinery.store.reasoning.representation.PartialSymbol;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,6 +54,28 @@ public interface ModelFacade extends AutoCloseable {
 
 	Optional<Problem> trySerialize();
 
+	/**
+	 * Writes the source text of the serialized model to an output stream.
+	 * <p>
+	 * Unlike {@link #serialize()}, implementations may write the model directly without creating a {@link Problem}
+	 * for it, which makes this method suitable for large models.
+	 * </p>
+	 *
+	 * @param outputStream The output stream to write the UTF-8 encoded source text to. It will not be closed.
+	 * @throws IOException If the output could not be written.
+	 */
+	void serialize(OutputStream outputStream) throws IOException;
+
+	/**
+	 * Writes the source text of the serialized model to an output stream if the model can be serialized.
+	 *
+	 * @param outputStream The output stream to write the UTF-8 encoded source text to. It will not be closed.
+	 * @return {@code true} if the model was written, {@code false} if it could not be serialized.
+	 * @throws IOException If the output could not be written.
+	 * @see #trySerialize()
+	 */
+	boolean trySerialize(OutputStream outputStream) throws IOException;
+
 	@Override
 	void close();
 }
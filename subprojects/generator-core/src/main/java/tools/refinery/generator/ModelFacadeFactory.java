@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2024-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -9,12 +9,16 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import tools.refinery.generator.impl.ConcreteModelFacade;
 import tools.refinery.generator.impl.ModelFacadeImpl;
+import tools.refinery.generator.impl.ReusableModel;
+import tools.refinery.generator.impl.SwitchableCancellationToken;
+import tools.refinery.language.model.problem.Problem;
 import tools.refinery.language.semantics.ModelInitializer;
 import tools.refinery.language.semantics.SolutionSerializer;
 import tools.refinery.language.semantics.TracedException;
 import tools.refinery.language.semantics.metadata.MetadataCreator;
 import tools.refinery.store.model.ModelStore;
 import tools.refinery.store.model.ModelStoreBuilder;
+import tools.refinery.store.reasoning.ReasoningStoreAdapter;
 import tools.refinery.store.reasoning.translator.TranslationException;
 import tools.refinery.store.util.CancellationToken;
 
@@ -34,6 +38,9 @@ public abstract sealed class ModelFacadeFactory<T extends ModelFacadeFactory<T>>
 	@Inject
 	private RefineryDiagnostics diagnostics;
 
+	@Inject
+	private ModelStoreCache modelStoreCache;
+
 	private CancellationToken cancellationToken = CancellationToken.NONE;
 
 	private boolean keepNonExistingObjects;
@@ -80,23 +87,105 @@ public abstract sealed class ModelFacadeFactory<T extends ModelFacadeFactory<T>>
 		return diagnostics;
 	}
 
-	protected ModelFacadeImpl.Args createFacadeArgs(ModelInitializer initializer, ModelStoreBuilder storeBuilder) {
+	/**
+	 * Creates a builder for a model store with all the required adapters, but without any partial symbols.
+	 *
+	 * @param cancellationToken The cancellation token of the model store.
+	 * @return The model store builder.
+	 */
+	protected abstract ModelStoreBuilder createStoreBuilder(CancellationToken cancellationToken);
+
+	/**
+	 * Describes the configuration of the model store builder returned by
+	 * {@link #createStoreBuilder(CancellationToken)}.
+	 * <p>
+	 * Model stores are only reused between factories with the same configuration key.
+	 *
+	 * @return The configuration key.
+	 */
+	protected abstract String getStoreConfigurationKey();
+
+	/**
+	 * Determines whether models may be kept in the {@link ModelStoreCache} after their facade is closed.
+	 * <p>
+	 * Reused models are restored to their seeded version and seeded again, which is only worthwhile if facades do
+	 * not commit the model themselves.
+	 * <p>
+	 * Model reuse only takes effect if the {@link ModelStoreCache} is enabled, which is opt-in. The web server enables
+	 * it, so that successive semantics requests of the editor for the same metamodel reuse the same model.
+	 *
+	 * @return {@code true} if models should be reused along with their model store.
+	 */
+	protected boolean isModelReuseEnabled() {
+		return false;
+	}
+
+	protected ModelFacadeImpl.Args createFacadeArgs(Problem problem, ModelInitializer initializer,
+													CancellationToken cancellationToken) {
+		if (!modelStoreCache.isEnabled()) {
+			var store = buildStore(problem, initializer, cancellationToken);
+			return createFacadeArgs(initializer, store, null, ignoredModel -> {
+			});
+		}
+		var key = getStoreConfigurationKey() + ":" + initializer.getStoreStructureHash();
+		var entry = modelStoreCache.take(key);
+		if (entry != null && tryReuseModelStore(initializer, entry)) {
+			entry.cancellationToken().setWrappedToken(cancellationToken);
+		} else {
+			if (entry != null) {
+				entry.close();
+			}
+			var switchableCancellationToken = new SwitchableCancellationToken(cancellationToken);
+			var store = buildStore(problem, initializer, switchableCancellationToken);
+			entry = new ModelStoreCache.Entry(store, initializer.getModelStoreTrace(), switchableCancellationToken);
+		}
+		var finalEntry = entry;
+		return createFacadeArgs(initializer, entry.store(), entry.reusableModel(),
+				reusableModel -> modelStoreCache.release(key, finalEntry.withReusableModel(reusableModel)));
+	}
+
+	private static boolean tryReuseModelStore(ModelInitializer initializer, ModelStoreCache.Entry entry) {
+		var partialSymbols = entry.store().getAdapter(ReasoningStoreAdapter.class).getPartialSymbols();
+		try {
+			initializer.reuseModelStore(entry.storeTrace(), partialSymbols);
+		} catch (IllegalArgumentException e) {
+			// The cached model store is incompatible with the problem despite the hash match, so we drop it.
+			return false;
+		}
+		return true;
+	}
+
+	private ModelStore buildStore(Problem problem, ModelInitializer initializer,
+								  CancellationToken cancellationToken) {
+		var storeBuilder = createStoreBuilder(cancellationToken);
 		var trace = initializer.getProblemTrace();
-		ModelStore store;
 		try {
-			store = storeBuilder.build();
+			initializer.configureStoreBuilder(storeBuilder);
+		} catch (TranslationException e) {
+			throw diagnostics.wrapTranslationException(e, trace);
+		} catch (TracedException e) {
+			throw diagnostics.wrapTracedException(e, problem);
+		}
+		try {
+			return storeBuilder.build();
 		} catch (TranslationException e) {
 			throw diagnostics.wrapTranslationException(e, trace);
 		} catch (TracedException e) {
 			throw diagnostics.wrapTracedException(e, trace);
 		}
-		return new ModelFacadeImpl.Args(trace, store, initializer.getModelSeed(), metadataCreatorProvider,
-				diagnostics);
 	}
 
-	protected ConcreteModelFacade.Args createConcreteFacadeArgs(ModelInitializer initializer,
-															ModelStoreBuilder storeBuilder) {
-		return new ConcreteModelFacade.Args(createFacadeArgs(initializer, storeBuilder), solutionSerializerProvider,
-				keepNonExistingObjects);
+	private ModelFacadeImpl.Args createFacadeArgs(ModelInitializer initializer, ModelStore store,
+												  ReusableModel reusableModel,
+												  ModelFacadeImpl.CloseHandler closeHandler) {
+		boolean modelReuseEnabled = isModelReuseEnabled() && modelStoreCache.isEnabled();
+		return new ModelFacadeImpl.Args(initializer.getProblemTrace(), store, initializer.getModelSeed(),
+				metadataCreatorProvider, diagnostics, modelReuseEnabled, reusableModel, closeHandler);
+	}
+
+	protected ConcreteModelFacade.Args createConcreteFacadeArgs(Problem problem, ModelInitializer initializer,
+																CancellationToken cancellationToken) {
+		return new ConcreteModelFacade.Args(createFacadeArgs(problem, initializer, cancellationToken),
+				solutionSerializerProvider, keepNonExistingObjects);
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -12,14 +12,15 @@ import tools.refinery.language.semantics.TracedException;
 import tools.refinery.store.dse.propagation.PropagationAdapter;
 import tools.refinery.store.dse.transition.DesignSpaceExplorationAdapter;
 import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.model.ModelStoreBuilder;
 import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
 import tools.refinery.store.reasoning.ReasoningAdapter;
 import tools.refinery.store.reasoning.interpretation.PartialNeighborhoodCalculator;
 import tools.refinery.store.reasoning.literal.Concreteness;
-import tools.refinery.store.reasoning.translator.TranslationException;
 import tools.refinery.store.statecoding.StateCodeCalculatorFactory;
 import tools.refinery.store.statecoding.StateCoderAdapter;
 import tools.refinery.store.statecoding.neighborhood.NeighborhoodCalculator;
+import tools.refinery.store.util.CancellationToken;
 
 import java.util.Collection;
 import java.util.Set;
@@ -33,6 +34,10 @@ public final class ModelGeneratorFactory extends ModelFacadeFactory<ModelGenerat
 
 	private int stateCoderDepth = NeighborhoodCalculator.DEFAULT_DEPTH;
 
+	private boolean learnNogoods = true;
+
+	private int propagationMemoSize;
+
 	public ModelGeneratorFactory() {
 		keepShadowPredicates(false);
 	}
@@ -58,6 +63,37 @@ public final class ModelGeneratorFactory extends ModelFacadeFactory<ModelGenerat
 		return this;
 	}
 
+	/**
+	 * Sets whether model generation should remember sets of decisions that lead to propagation rejections and avoid
+	 * them in other branches of the exploration.
+	 *
+	 * @param learnNogoods {@code true} to enable nogood learning.
+	 * @return This factory.
+	 */
+	public ModelGeneratorFactory learnNogoods(boolean learnNogoods) {
+		this.learnNogoods = learnNogoods;
+		return this;
+	}
+
+	/**
+	 * Sets the number of state codes of models before propagation that are remembered during model generation, so
+	 * that models reached again on another branch of the exploration can be discarded without running propagation.
+	 * <p>
+	 * Disabled by default, because the state code has to be calculated before every propagation, even if it is not
+	 * found among the remembered ones.
+	 * </p>
+	 *
+	 * @param propagationMemoSize The number of remembered state codes, or {@code 0} to always run propagation.
+	 * @return This factory.
+	 */
+	public ModelGeneratorFactory propagationMemoSize(int propagationMemoSize) {
+		if (propagationMemoSize < 0) {
+			throw new IllegalArgumentException("Propagation memo size must not be negative");
+		}
+		this.propagationMemoSize = propagationMemoSize;
+		return this;
+	}
+
 	public ModelGenerator tryCreateGenerator(Problem problem) {
 		var initializer = createModelInitializer();
 		try {
@@ -67,7 +103,13 @@ public final class ModelGeneratorFactory extends ModelFacadeFactory<ModelGenerat
 		}
 		checkCancelled();
 		var cancellationToken = new CancellableCancellationToken(getCancellationToken());
-		var storeBuilder = ModelStore.builder()
+		return new ModelGeneratorImpl(createConcreteFacadeArgs(problem, initializer, cancellationToken),
+				cancellationToken, learnNogoods, propagationMemoSize);
+	}
+
+	@Override
+	protected ModelStoreBuilder createStoreBuilder(CancellationToken cancellationToken) {
+		return ModelStore.builder()
 				.cancellationToken(cancellationToken)
 				.with(QueryInterpreterAdapter.builder())
 				.with(PropagationAdapter.builder())
@@ -76,14 +118,12 @@ public final class ModelGeneratorFactory extends ModelFacadeFactory<ModelGenerat
 				.with(DesignSpaceExplorationAdapter.builder())
 				.with(ReasoningAdapter.builder()
 						.requiredInterpretations(getRequiredInterpretations()));
-		try {
-			initializer.configureStoreBuilder(storeBuilder);
-		} catch (TranslationException e) {
-			throw getDiagnostics().wrapTranslationException(e, initializer.getProblemTrace());
-		} catch (TracedException e) {
-			throw getDiagnostics().wrapTracedException(e, problem);
-		}
-		return new ModelGeneratorImpl(createConcreteFacadeArgs(initializer, storeBuilder), cancellationToken);
+	}
+
+	@Override
+	protected String getStoreConfigurationKey() {
+		return "generator:%b:%b:%d".formatted(debugPartialInterpretations, partialInterpretationBasedNeighborhoods,
+				stateCoderDepth);
 	}
 
 	public ModelGenerator createGenerator(Problem problem) {
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -12,10 +12,11 @@ import tools.refinery.language.semantics.TracedException;
 import tools.refinery.store.dse.propagation.PropagationAdapter;
 import tools.refinery.store.dse.transition.DesignSpaceExplorationAdapter;
 import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.model.ModelStoreBuilder;
 import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
 import tools.refinery.store.reasoning.ReasoningAdapter;
 import tools.refinery.store.reasoning.literal.Concreteness;
-import tools.refinery.store.reasoning.translator.TranslationException;
+import tools.refinery.store.util.CancellationToken;
 
 import java.util.Collection;
 import java.util.Set;
@@ -55,25 +56,32 @@ public final class ModelSemanticsFactory extends ModelFacadeFactory<ModelSemanti
 			throw getDiagnostics().wrapTracedException(e, problem);
 		}
 		checkCancelled();
-		var storeBuilder = ModelStore.builder()
-				.cancellationToken(getCancellationToken())
+		if (concretize) {
+			return new ConcreteModelSemantics(createConcreteFacadeArgs(problem, initializer, getCancellationToken()));
+		}
+		return new ModelSemanticsImpl(createFacadeArgs(problem, initializer, getCancellationToken()));
+	}
+
+	@Override
+	protected ModelStoreBuilder createStoreBuilder(CancellationToken cancellationToken) {
+		return ModelStore.builder()
+				.cancellationToken(cancellationToken)
 				.with(QueryInterpreterAdapter.builder())
 				.with(PropagationAdapter.builder()
 						.throwOnFatalRejection(false))
 				.with(DesignSpaceExplorationAdapter.builder())
 				.with(ReasoningAdapter.builder()
 						.requiredInterpretations(getRequiredInterpretations()));
-		try {
-			initializer.configureStoreBuilder(storeBuilder);
-		} catch (TranslationException e) {
-			throw getDiagnostics().wrapTranslationException(e, initializer.getProblemTrace());
-		} catch (TracedException e) {
-			throw getDiagnostics().wrapTracedException(e, problem);
-		}
-		if (concretize) {
-			return new ConcreteModelSemantics(createConcreteFacadeArgs(initializer, storeBuilder));
-		}
-		return new ModelSemanticsImpl(createFacadeArgs(initializer, storeBuilder));
+	}
+
+	@Override
+	protected String getStoreConfigurationKey() {
+		return "semantics:%b:%b".formatted(withCandidateInterpretations, concretize);
+	}
+
+	@Override
+	protected boolean isModelReuseEnabled() {
+		return true;
 	}
 
 	private Collection<Concreteness> getRequiredInterpretations() {
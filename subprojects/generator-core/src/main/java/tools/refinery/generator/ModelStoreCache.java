@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator;
+
+import com.google.inject.Singleton;
+import tools.refinery.generator.impl.ReusableModel;
+import tools.refinery.generator.impl.SwitchableCancellationToken;
+import tools.refinery.language.semantics.ModelStoreTrace;
+import tools.refinery.store.model.ModelStore;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the most recently used model stores built by {@link ModelFacadeFactory} instances, so that problems that only
+ * differ in their assertions can skip building a new model store.
+ * <p>
+ * Each model store is used by at most one {@link ModelFacade} at a time. Model stores are removed from the cache
+ * while in use, and are only offered back to the cache when their facade is closed. If the cache holds more than
+ * {@link #getMaximumSize()} model stores, the least recently used ones are evicted.
+ * <p>
+ * Caching is disabled by default, because every cached model store (and cached model) is kept in memory until it is
+ * evicted. Use {@link #setMaximumSize(int)} to enable it, e.g., the web server sets it from the
+ * {@code REFINERY_MODEL_STORE_CACHE_SIZE} environment variable. Entries only keep a {@link ModelStoreTrace} instead
+ * of the full problem trace, so that the problem the model store was built for can be garbage collected.
+ * <p>
+ * The size of the cache is bounded by the number of entries, not by their memory usage. Each entry retains the
+ * compiled queries and translators of its model store, which grow with the size of the metamodel. If the factory
+ * also offers its model, the entry retains the model along with the state of its query engine, which grows with the
+ * number of nodes and query matches. Thus, each entry may use about as much memory as a running request with the
+ * same problem.
+ * <p>
+ * Factories may also offer the model of a closed facade along with its model store. Such models are seeded again by
+ * the next facade with the same model store, which only has to update its model queries according to the changed
+ * assertions instead of computing them from scratch.
+ */
+@Singleton
+public class ModelStoreCache {
+	public static final int DEFAULT_MAXIMUM_SIZE = 0;
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	public synchronized int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Sets the maximum number of cached model stores.
+	 *
+	 * @param maximumSize The maximum number of model stores, or {@code 0} to disable caching.
+	 */
+	public synchronized void setMaximumSize(int maximumSize) {
+		if (maximumSize < 0) {
+			throw new IllegalArgumentException("Maximum size must not be negative");
+		}
+		this.maximumSize = maximumSize;
+		evict();
+	}
+
+	public synchronized boolean isEnabled() {
+		return maximumSize > 0;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized void clear() {
+		for (var entry : entries.values()) {
+			entry.close();
+		}
+		entries.clear();
+	}
+
+	synchronized Entry take(String key) {
+		return entries.remove(key);
+	}
+
+	synchronized void release(String key, Entry entry) {
+		entries.put(key, entry);
+		evict();
+	}
+
+	private void evict() {
+		var iterator = entries.values().iterator();
+		while (entries.size() > maximumSize && iterator.hasNext()) {
+			var entry = iterator.next();
+			iterator.remove();
+			entry.close();
+		}
+	}
+
+	record Entry(ModelStore store, ModelStoreTrace storeTrace, SwitchableCancellationToken cancellationToken,
+				 ReusableModel reusableModel) {
+		Entry(ModelStore store, ModelStoreTrace storeTrace, SwitchableCancellationToken cancellationToken) {
+			this(store, storeTrace, cancellationToken, null);
+		}
+
+		Entry withReusableModel(ReusableModel newReusableModel) {
+			return new Entry(store, storeTrace, cancellationToken, newReusableModel);
+		}
+
+		void close() {
+			if (reusableModel != null) {
+				reusableModel.model().close();
+			}
+		}
+	}
+}
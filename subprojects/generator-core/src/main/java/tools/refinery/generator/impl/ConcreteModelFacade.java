@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2024-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -15,6 +15,9 @@ import tools.refinery.store.reasoning.interpretation.PartialInterpretation;
 import tools.refinery.store.reasoning.literal.Concreteness;
 import tools.refinery.store.reasoning.representation.PartialSymbol;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 public class ConcreteModelFacade extends ModelFacadeImpl {
 	private final Provider<SolutionSerializer> solutionSerializerProvider;
 	private final boolean keepNonExistingObjects;
@@ -49,6 +52,12 @@ public class ConcreteModelFacade extends ModelFacadeImpl {
 		return serializer.serializeSolution(getProblemTrace(), getModel());
 	}
 
+	@Override
+	public void serialize(OutputStream outputStream) throws IOException {
+		var serializer = getSolutionSerializer();
+		serializer.writeSolution(getProblemTrace(), getModel(), outputStream);
+	}
+
 	protected SolutionSerializer getSolutionSerializer() {
 		return solutionSerializerProvider.get();
 	}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -17,6 +17,8 @@ import tools.refinery.store.dse.propagation.PropagationResult;
 import tools.refinery.store.dse.transition.ExclusionPropagator;
 import tools.refinery.store.model.Model;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Optional;
 
 public class ConcreteModelSemantics extends ConcreteModelFacade implements ModelSemantics {
@@ -74,6 +76,24 @@ public class ConcreteModelSemantics extends ConcreteModelFacade implements Model
 		return Optional.of(super.serialize());
 	}
 
+	@Override
+	public void serialize(OutputStream outputStream) throws IOException {
+		// {@link SolutionSerializer} can only serialize consistent models.
+		throwIfInitializationFailed();
+		checkConsistency().throwIfInconsistent();
+		super.serialize(outputStream);
+	}
+
+	@Override
+	public boolean trySerialize(OutputStream outputStream) throws IOException {
+		if (getInitializationResult().isRejected() || !checkConsistency().isConsistent()) {
+			return false;
+		}
+		// Skip the check in {@code this.serialize(outputStream)}.
+		super.serialize(outputStream);
+		return true;
+	}
+
 	@Override
 	protected SolutionSerializer getSolutionSerializer() {
 		var serializer = super.getSolutionSerializer();
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -23,6 +23,7 @@ import tools.refinery.store.dse.propagation.PropagationRejectedException;
 import tools.refinery.store.dse.propagation.PropagationRejectedResult;
 import tools.refinery.store.dse.propagation.PropagationResult;
 import tools.refinery.store.dse.transition.ExclusionPropagator;
+import tools.refinery.store.map.Version;
 import tools.refinery.store.model.Model;
 import tools.refinery.store.model.ModelStore;
 import tools.refinery.store.reasoning.ReasoningAdapter;
@@ -33,11 +34,20 @@ import tools.refinery.store.reasoning.seed.ModelSeed;
 import tools.refinery.store.reasoning.seed.PropagatedModel;
 import tools.refinery.store.reasoning.translator.TranslationException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public abstract class ModelFacadeImpl implements ModelFacade {
+	/**
+	 * Each reuse of a model adds a new version to its version history, so we eventually discard reused models to bound
+	 * their memory consumption.
+	 */
+	public static final int MAX_MODEL_REUSE_COUNT = 256;
+
 	private final ProblemTrace problemTrace;
 	private final ModelStore store;
 	private final ModelFacadeResult initializationResult;
@@ -45,12 +55,17 @@ public abstract class ModelFacadeImpl implements ModelFacade {
 	private final ReasoningAdapter reasoningAdapter;
 	private final Provider<MetadataCreator> metadataCreatorProvider;
 	private final RefineryDiagnostics diagnostics;
+	private CloseHandler closeHandler;
+	private Version seededVersion;
+	private int reuseCount;
+	private boolean closed;
 
 	protected ModelFacadeImpl(Args args) {
 		problemTrace = args.problemTrace();
 		store = args.store();
 		metadataCreatorProvider = args.metadataCreatorProvider();
 		diagnostics = args.diagnostics();
+		closeHandler = args.closeHandler();
 		var propagatedModel = getPropagatedModel(args);
 		var theModel = propagatedModel.model();
 		try {
@@ -70,7 +85,7 @@ public abstract class ModelFacadeImpl implements ModelFacade {
 	private PropagatedModel getPropagatedModel(Args args) {
 		PropagatedModel propagatedModel;
 		try {
-			propagatedModel = store.getAdapter(ReasoningStoreAdapter.class).tryCreateInitialModel(args.modelSeed());
+			propagatedModel = createPropagatedModel(args);
 		} catch (TranslationException e) {
 			throw diagnostics.wrapTranslationException(e, problemTrace);
 		} catch (TracedException e) {
@@ -87,6 +102,31 @@ public abstract class ModelFacadeImpl implements ModelFacade {
 		return propagatedModel;
 	}
 
+	private PropagatedModel createPropagatedModel(Args args) {
+		var reasoningStoreAdapter = store.getAdapter(ReasoningStoreAdapter.class);
+		if (!args.modelReuseEnabled()) {
+			return reasoningStoreAdapter.tryCreateInitialModel(args.modelSeed());
+		}
+		var reusableModel = args.reusableModel();
+		Model modelToSeed;
+		if (reusableModel == null) {
+			modelToSeed = store.createEmptyModel();
+		} else {
+			modelToSeed = reusableModel.model();
+			try {
+				// Only the difference between the previous and the current model seed will be applied to the model.
+				modelToSeed.restore(reusableModel.seededVersion());
+			} catch (RuntimeException e) {
+				modelToSeed.close();
+				throw e;
+			}
+			reuseCount = reusableModel.reuseCount() + 1;
+		}
+		var seededModel = reasoningStoreAdapter.tryResetAndCommitInitialModel(modelToSeed, args.modelSeed());
+		seededVersion = seededModel.seededVersion();
+		return seededModel.propagatedModel();
+	}
+
 	@Override
 	public ProblemTrace getProblemTrace() {
 		return problemTrace;
@@ -197,12 +237,57 @@ public abstract class ModelFacadeImpl implements ModelFacade {
 		return Optional.of(serialize());
 	}
 
+	@Override
+	public void serialize(OutputStream outputStream) throws IOException {
+		serialize().eResource().save(outputStream, Map.of());
+	}
+
+	@Override
+	public boolean trySerialize(OutputStream outputStream) throws IOException {
+		serialize(outputStream);
+		return true;
+	}
+
 	@Override
 	public void close() {
-		model.close();
+		if (closed) {
+			// Once released, the model may already be seeded again by another facade, so we must not touch it.
+			return;
+		}
+		closed = true;
+		if (closeHandler == null) {
+			model.close();
+			return;
+		}
+		var handler = closeHandler;
+		closeHandler = null;
+		ReusableModel reusableModel = null;
+		if (seededVersion != null && reuseCount < MAX_MODEL_REUSE_COUNT) {
+			reusableModel = new ReusableModel(model, seededVersion, reuseCount);
+		} else {
+			model.close();
+		}
+		handler.onClose(reusableModel);
+	}
+
+	@FunctionalInterface
+	public interface CloseHandler {
+		/**
+		 * @param reusableModel The model of the closed facade if it can be seeded again, or {@code null} if the model
+		 *                      was closed.
+		 */
+		void onClose(ReusableModel reusableModel);
 	}
 
+	/**
+	 * @param modelReuseEnabled Whether to commit the model after seeding so that it can be reused by subsequent
+	 *                          facades.
+	 * @param reusableModel     A model released by a previous facade to seed instead of creating a new model, or
+	 *                          {@code null} to create a new model.
+	 * @param closeHandler      Called when the facade is closed, e.g., to release the model store for reuse.
+	 */
 	public record Args(ProblemTrace problemTrace, ModelStore store, ModelSeed modelSeed,
-					   Provider<MetadataCreator> metadataCreatorProvider, RefineryDiagnostics diagnostics) {
+					   Provider<MetadataCreator> metadataCreatorProvider, RefineryDiagnostics diagnostics,
+					   boolean modelReuseEnabled, ReusableModel reusableModel, CloseHandler closeHandler) {
 	}
 }
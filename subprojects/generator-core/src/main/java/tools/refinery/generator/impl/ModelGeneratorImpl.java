@@ -1,10 +1,11 @@
 /*
- * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
 package tools.refinery.generator.impl;
 
+import org.jetbrains.annotations.Nullable;
 import tools.refinery.generator.GeneratorResult;
 import tools.refinery.generator.GeneratorTimeoutException;
 import tools.refinery.generator.ModelGenerator;
@@ -12,12 +13,16 @@ import tools.refinery.language.model.problem.Problem;
 import tools.refinery.logic.AbstractValue;
 import tools.refinery.store.dse.propagation.PropagationRejectedException;
 import tools.refinery.store.dse.strategy.BestFirstStoreManager;
+import tools.refinery.store.dse.transition.statespace.NogoodStore;
+import tools.refinery.store.dse.transition.statespace.PropagationMemo;
 import tools.refinery.store.dse.transition.statespace.SolutionStore;
 import tools.refinery.store.dse.transition.statespace.SolutionStoreListener;
 import tools.refinery.store.map.Version;
 import tools.refinery.store.reasoning.interpretation.PartialInterpretation;
 import tools.refinery.store.reasoning.representation.PartialSymbol;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executors;
@@ -26,15 +31,22 @@ import java.util.concurrent.TimeUnit;
 public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGenerator {
 	private final Version initialVersion;
 	private final CancellableCancellationToken cancellationToken;
+	private final boolean learnNogoods;
+	private final int propagationMemoSize;
 	private final List<SolutionStoreListener> listeners = new ArrayList<>();
 	private long randomSeed = 1;
 	private int maxNumberOfSolutions = 1;
 	private Status status = Status.RESET;
 	private SolutionStore solutionStore;
+	private NogoodStore nogoodStore;
+	private PropagationMemo propagationMemo;
 
-	public ModelGeneratorImpl(Args args, CancellableCancellationToken cancellationToken) {
+	public ModelGeneratorImpl(Args args, CancellableCancellationToken cancellationToken, boolean learnNogoods,
+							  int propagationMemoSize) {
 		super(args);
 		this.cancellationToken = cancellationToken;
+		this.learnNogoods = learnNogoods;
+		this.propagationMemoSize = propagationMemoSize;
 		initialVersion = getModel().commit();
 	}
 
@@ -76,9 +88,29 @@ public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGene
 		getModel().restore(solutionStore.getSolutions().get(index).version());
 	}
 
+	/**
+	 * Gets the nogoods learned during the last model generation.
+	 *
+	 * @return The nogood store, or {@code null} if nogood learning is disabled or no generation was started.
+	 */
+	public @Nullable NogoodStore getNogoodStore() {
+		return nogoodStore;
+	}
+
+	/**
+	 * Gets the state codes remembered during the last model generation to skip propagation.
+	 *
+	 * @return The propagation memo, or {@code null} if it is disabled or no generation was started.
+	 */
+	public @Nullable PropagationMemo getPropagationMemo() {
+		return propagationMemo;
+	}
+
 	private void clearLastGeneration() {
 		status = Status.RESET;
 		solutionStore = null;
+		nogoodStore = null;
+		propagationMemo = null;
 	}
 
 	private void generationFailed() {
@@ -108,8 +140,13 @@ public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGene
 		}
 		clearLastGeneration();
 		randomSeed++;
-		var bestFirst = new BestFirstStoreManager(getModelStore(), maxNumberOfSolutions);
+		// Decision rules of partial models only refine the model, so propagation rejections can be learned as nogoods.
+		var bestFirst = new BestFirstStoreManager(getModelStore(), maxNumberOfSolutions)
+				.learnNogoods(learnNogoods)
+				.propagationMemoSize(propagationMemoSize);
 		solutionStore = bestFirst.getSolutionStore();
+		nogoodStore = bestFirst.getNogoodStore();
+		propagationMemo = bestFirst.getPropagationMemo();
 		listeners.forEach(solutionStore::addListener);
 		status = Status.RUNNING;
 		try {
@@ -161,6 +198,12 @@ public class ModelGeneratorImpl extends ConcreteModelFacade implements ModelGene
 		return super.serialize();
 	}
 
+	@Override
+	public void serialize(OutputStream outputStream) throws IOException {
+		checkModelAccess();
+		super.serialize(outputStream);
+	}
+
 	private void checkModelAccess() {
 		switch (status) {
 		case RESET -> throw new IllegalStateException("No generated model is available");
@@ -0,0 +1,19 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator.impl;
+
+import tools.refinery.store.map.Version;
+import tools.refinery.store.model.Model;
+
+/**
+ * A model released by a closed {@link ModelFacadeImpl} that can be restored to its seeded version and seeded again.
+ *
+ * @param model         The model.
+ * @param seededVersion The committed version of the model before propagation.
+ * @param reuseCount    The number of times the model was already seeded.
+ */
+public record ReusableModel(Model model, Version seededVersion, int reuseCount) {
+}
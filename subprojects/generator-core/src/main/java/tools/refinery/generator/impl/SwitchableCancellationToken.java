@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator.impl;
+
+import tools.refinery.store.util.CancellationToken;
+
+/**
+ * Cancellation token of a model store shared by subsequent requests, each of which may bring its own cancellation
+ * token.
+ */
+public class SwitchableCancellationToken implements CancellationToken {
+	private volatile CancellationToken wrappedToken;
+
+	public SwitchableCancellationToken(CancellationToken wrappedToken) {
+		this.wrappedToken = wrappedToken;
+	}
+
+	public void setWrappedToken(CancellationToken wrappedToken) {
+		this.wrappedToken = wrappedToken;
+	}
+
+	@Override
+	public void checkCancelled() {
+		wrappedToken.checkCancelled();
+	}
+}
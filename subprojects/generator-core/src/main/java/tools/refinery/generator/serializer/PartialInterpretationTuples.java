@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator.serializer;
+
+import tools.refinery.generator.ModelFacade;
+import tools.refinery.store.reasoning.interpretation.PartialInterpretation;
+import tools.refinery.store.reasoning.representation.AnyPartialSymbol;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Lists the tuples of partial interpretations in the order shared by all output formats.
+ */
+public final class PartialInterpretationTuples {
+	private PartialInterpretationTuples() {
+		throw new IllegalArgumentException("This is a static utility class and should not be instantiated directly");
+	}
+
+	/**
+	 * Gets the tuples of a partial symbol sorted lexicographically.
+	 *
+	 * @param facade        The model to get the tuples from.
+	 * @param partialSymbol The partial symbol to get the tuples of.
+	 * @return The tuples of the partial symbol together with their values.
+	 */
+	public static List<TupleEntry> getSortedTuples(ModelFacade facade, AnyPartialSymbol partialSymbol) {
+		var interpretation = (PartialInterpretation<?, ?>) facade.getPartialInterpretation(partialSymbol);
+		var cursor = interpretation.getAll();
+		var tuples = new ArrayList<TupleEntry>();
+		while (cursor.move()) {
+			tuples.add(new TupleEntry(cursor.getKey(), cursor.getValue()));
+		}
+		// Sorting the array backing the list in place avoids the per-entry overhead of a TreeMap.
+		tuples.sort(Comparator.comparing(TupleEntry::tuple));
+		tuples.trimToSize();
+		return tuples;
+	}
+}
@@ -0,0 +1,18 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator.serializer;
+
+import tools.refinery.logic.AbstractValue;
+import tools.refinery.store.tuple.Tuple;
+
+/**
+ * A tuple of a partial interpretation together with its value.
+ *
+ * @param tuple The tuple of node identifiers.
+ * @param value The value of the tuple in the partial interpretation.
+ */
+public record TupleEntry(Tuple tuple, AbstractValue<?, ?> value) {
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator.serializer;
+
+import tools.refinery.logic.AbstractValue;
+
+/**
+ * Distinguishes values that serializers write as they are from values that they have to mark as unknown or error.
+ */
+public enum ValueTag {
+	CONCRETE,
+	UNKNOWN,
+	ERROR;
+
+	private static final String UNKNOWN_STRING = "unknown";
+	private static final String ERROR_STRING = "error";
+
+	/**
+	 * Gets the tag of a value.
+	 * <p>
+	 * Values with the string representation {@code unknown} or {@code error} (e.g., the truth values) are considered
+	 * concrete, because their string representation already shows that they are not concrete.
+	 * </p>
+	 *
+	 * @param value       The value to tag.
+	 * @param stringValue The string representation of {@code value}, which serializers have to compute anyway.
+	 * @return The tag of the value.
+	 */
+	@SuppressWarnings({"StringEquality", "squid:S4973"})
+	public static ValueTag of(AbstractValue<?, ?> value, String stringValue) {
+		// We deliberately use {@code ==} to check for the equality of interned strings.
+		if (stringValue == UNKNOWN_STRING || stringValue == ERROR_STRING || value.isConcrete()) {
+			return CONCRETE;
+		}
+		return value.isError() ? ERROR : UNKNOWN;
+	}
+}
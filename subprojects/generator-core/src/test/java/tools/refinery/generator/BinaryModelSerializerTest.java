@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator;
+
+import com.google.inject.Inject;
+import org.junit.jupiter.api.Test;
+import tools.refinery.language.tests.InjectWithRefinery;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+
+@InjectWithRefinery
+class BinaryModelSerializerTest {
+	@Inject
+	private ProblemLoader loader;
+
+	@Inject
+	private ModelSemanticsFactory semanticsFactory;
+
+	@Inject
+	private BinaryModelSerializer serializer;
+
+	@Test
+	void serializeTest() throws IOException {
+		var problem = loader.loadString("""
+				class Person {
+					Person[] friend
+				}
+
+				friend(a, b).
+				!friend(b, a).
+				""");
+		var outputStream = new ByteArrayOutputStream();
+		try (var semantics = semanticsFactory.createSemantics(problem)) {
+			serializer.serialize(semantics, outputStream);
+		}
+		var input = new ByteArrayInputStream(outputStream.toByteArray());
+		assertThat(new String(input.readNBytes(4), StandardCharsets.US_ASCII), is("RFMB"));
+		assertThat(readVarInt(input), is(BinaryModelSerializer.VERSION));
+		int nodeCount = readVarInt(input);
+		var nodes = new ArrayList<String>();
+		for (int i = 0; i < nodeCount; i++) {
+			nodes.add(readString(input));
+		}
+		assertThat(nodes, hasItems("a", "b"));
+		var relations = new HashMap<String, List<List<String>>>();
+		int relationCount = readVarInt(input);
+		for (int i = 0; i < relationCount; i++) {
+			var name = readString(input);
+			relations.put(name, readTuples(input, nodes));
+		}
+		assertThat(relations.get("Person::friend"), hasItems(
+				List.of("a", "b", "true"),
+				List.of("b", "a", "false")));
+		assertThat(input.available(), is(0));
+	}
+
+	private static List<List<String>> readTuples(InputStream input, List<String> nodes) throws IOException {
+		int arity = readVarInt(input);
+		int tupleCount = readVarInt(input);
+		int dictionarySize = readVarInt(input);
+		var dictionary = new ArrayList<String>();
+		for (int i = 0; i < dictionarySize; i++) {
+			int tag = input.read();
+			var value = readString(input);
+			dictionary.add(tag == BinaryModelSerializer.CONCRETE_TAG ? value : Map.of(tag, value).toString());
+		}
+		var columns = new int[arity][tupleCount];
+		for (int column = 0; column < arity; column++) {
+			int previous = 0;
+			for (int i = 0; i < tupleCount; i++) {
+				int value = readVarInt(input) + (column == 0 ? previous : 0);
+				columns[column][i] = value;
+				previous = value;
+			}
+		}
+		var tuples = new ArrayList<List<String>>();
+		for (int i = 0; i < tupleCount; i++) {
+			var tuple = new ArrayList<String>();
+			for (int column = 0; column < arity; column++) {
+				tuple.add(nodes.get(columns[column][i]));
+			}
+			tuple.add(dictionary.get(readVarInt(input)));
+			tuples.add(tuple);
+		}
+		return tuples;
+	}
+
+	private static String readString(InputStream input) throws IOException {
+		int length = readVarInt(input);
+		return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+	}
+
+	private static int readVarInt(InputStream input) throws IOException {
+		int result = 0;
+		int shift = 0;
+		int read;
+		do {
+			read = input.read();
+			result |= (read & 0x7f) << shift;
+			shift += 7;
+		} while ((read & 0x80) != 0);
+		return result;
+	}
+}
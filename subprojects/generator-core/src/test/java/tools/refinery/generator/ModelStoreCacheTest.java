@@ -0,0 +1,179 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator;
+
+import com.google.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.refinery.language.tests.InjectWithRefinery;
+import tools.refinery.logic.term.truthvalue.TruthValue;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.tuple.Tuple;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+@InjectWithRefinery
+class ModelStoreCacheTest {
+	private static final int MAXIMUM_SIZE = 8;
+
+	private static final String METAMODEL = """
+			class Person {
+				Person[] friend
+			}
+
+			pred lonely(Person p) <-> !friend(p, _).
+			""";
+
+	@Inject
+	private ProblemLoader loader;
+
+	@Inject
+	private ModelSemanticsFactory semanticsFactory;
+
+	@Inject
+	private ModelStoreCache modelStoreCache;
+
+	@BeforeEach
+	void beforeEach() {
+		modelStoreCache.clear();
+		modelStoreCache.setMaximumSize(MAXIMUM_SIZE);
+	}
+
+	@Test
+	void reuseModelStoreTest() throws IOException {
+		var firstProblem = loader.loadString(METAMODEL + """
+				friend(a, b).
+				""");
+		var secondProblem = loader.loadString(METAMODEL + """
+				!friend(a, *).
+				Person(b).
+				""");
+		var firstSemantics = semanticsFactory.createSemantics(firstProblem);
+		var store = firstSemantics.getModelStore();
+		assertThat(modelStoreCache.size(), is(0));
+		firstSemantics.close();
+		assertThat(modelStoreCache.size(), is(1));
+		try (var secondSemantics = semanticsFactory.createSemantics(secondProblem)) {
+			assertThat(secondSemantics.getModelStore(), sameInstance(store));
+			assertThat(modelStoreCache.size(), is(0));
+			var trace = secondSemantics.getProblemTrace();
+			var lonely = secondSemantics.getPartialInterpretation(trace.getPartialRelation("lonely"));
+			assertThat(lonely.get(Tuple.of(trace.getNodeId("a"))), is(TruthValue.TRUE));
+			assertThat(lonely.get(Tuple.of(trace.getNodeId("b"))), is(TruthValue.UNKNOWN));
+		}
+		assertThat(modelStoreCache.size(), is(1));
+	}
+
+	@Test
+	void reuseModelTest() throws IOException {
+		var firstProblem = loader.loadString(METAMODEL + """
+				friend(a, b).
+				!friend(b, *).
+				""");
+		var secondProblem = loader.loadString(METAMODEL + """
+				Person(a).
+				!friend(b, *).
+				friend(c, a).
+				""");
+		Model model;
+		try (var firstSemantics = semanticsFactory.createSemantics(firstProblem)) {
+			model = firstSemantics.getModel();
+		}
+		try (var secondSemantics = semanticsFactory.createSemantics(secondProblem)) {
+			assertThat(secondSemantics.getModel(), sameInstance(model));
+			var trace = secondSemantics.getProblemTrace();
+			var lonely = secondSemantics.getPartialInterpretation(trace.getPartialRelation("lonely"));
+			assertThat(lonely.get(Tuple.of(trace.getNodeId("a"))), is(TruthValue.UNKNOWN));
+			assertThat(lonely.get(Tuple.of(trace.getNodeId("b"))), is(TruthValue.TRUE));
+			assertThat(lonely.get(Tuple.of(trace.getNodeId("c"))), is(TruthValue.FALSE));
+		}
+	}
+
+	@Test
+	void reuseModelWithWebEditorSettingsTest() throws IOException {
+		// Same settings as the semantics requests of the web editor.
+		semanticsFactory.keepNonExistingObjects(true)
+				.keepShadowPredicates(true)
+				.concretize(false);
+		var firstProblem = loader.loadString(METAMODEL + """
+				friend(a, b).
+				""");
+		var secondProblem = loader.loadString(METAMODEL + """
+				friend(a, b).
+				friend(b, a).
+				""");
+		Model model;
+		try (var firstSemantics = semanticsFactory.tryCreateSemantics(firstProblem)) {
+			model = firstSemantics.getModel();
+		}
+		try (var secondSemantics = semanticsFactory.tryCreateSemantics(secondProblem)) {
+			assertThat(secondSemantics.getModel(), sameInstance(model));
+			var trace = secondSemantics.getProblemTrace();
+			var lonely = secondSemantics.getPartialInterpretation(trace.getPartialRelation("lonely"));
+			assertThat(lonely.get(Tuple.of(trace.getNodeId("b"))), is(TruthValue.FALSE));
+		}
+	}
+
+	@Test
+	void closeTwiceTest() throws IOException {
+		var firstProblem = loader.loadString(METAMODEL + """
+				friend(a, b).
+				""");
+		var secondProblem = loader.loadString(METAMODEL + """
+				!friend(a, *).
+				""");
+		var firstSemantics = semanticsFactory.createSemantics(firstProblem);
+		var model = firstSemantics.getModel();
+		firstSemantics.close();
+		firstSemantics.close();
+		assertThat(modelStoreCache.size(), is(1));
+		try (var secondSemantics = semanticsFactory.createSemantics(secondProblem)) {
+			assertThat(secondSemantics.getModel(), sameInstance(model));
+			var trace = secondSemantics.getProblemTrace();
+			var lonely = secondSemantics.getPartialInterpretation(trace.getPartialRelation("lonely"));
+			assertThat(lonely.get(Tuple.of(trace.getNodeId("a"))), is(TruthValue.TRUE));
+			// Closing the first facade again must not affect the model reused by the second one.
+			firstSemantics.close();
+			assertThat(lonely.get(Tuple.of(trace.getNodeId("a"))), is(TruthValue.TRUE));
+		}
+		assertThat(modelStoreCache.size(), is(1));
+	}
+
+	@Test
+	void differentStructureTest() throws IOException {
+		var firstProblem = loader.loadString(METAMODEL);
+		var secondProblem = loader.loadString(METAMODEL + """
+				class Dog.
+				""");
+		ModelStore store;
+		try (var firstSemantics = semanticsFactory.createSemantics(firstProblem)) {
+			store = firstSemantics.getModelStore();
+		}
+		try (var secondSemantics = semanticsFactory.createSemantics(secondProblem)) {
+			assertThat(secondSemantics.getModelStore(), not(sameInstance(store)));
+		}
+		assertThat(modelStoreCache.size(), is(2));
+	}
+
+	@Test
+	void disabledByDefaultTest() {
+		assertThat(new ModelStoreCache().isEnabled(), is(false));
+	}
+
+	@Test
+	void disabledTest() throws IOException {
+		modelStoreCache.setMaximumSize(0);
+		var problem = loader.loadString(METAMODEL);
+		semanticsFactory.createSemantics(problem).close();
+		assertThat(modelStoreCache.size(), is(0));
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator;
+
+import com.google.inject.Inject;
+import org.junit.jupiter.api.Test;
+import tools.refinery.generator.impl.ModelGeneratorImpl;
+import tools.refinery.language.tests.InjectWithRefinery;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@InjectWithRefinery
+class NogoodLearningTest {
+	// Large enough to explore the whole state space.
+	private static final int MAX_NUMBER_OF_SOLUTIONS = 1000;
+
+	// Type scopes don't refine the types of individual nodes, so choosing a second directory is only rejected by
+	// propagation after the decision was made.
+	private static final String METAMODEL = """
+			abstract class Entry.
+
+			class File extends Entry.
+
+			class Dir extends Entry.
+
+			Entry(e1).
+			Entry(e2).
+			Entry(e3).
+			Entry(e4).
+
+			scope Entry = 4, Dir = 1.
+			""";
+
+	@Inject
+	private ProblemLoader loader;
+
+	@Inject
+	private ModelGeneratorFactory generatorFactory;
+
+	@Test
+	void nogoodsPruneBranchesTest() throws IOException {
+		var problem = loader.loadString(METAMODEL);
+		generatorFactory.learnNogoods(true);
+		try (var generator = generatorFactory.createGenerator(problem)) {
+			generator.setMaxNumberOfSolutions(MAX_NUMBER_OF_SOLUTIONS);
+			assertThat(generator.tryGenerate(), is(GeneratorResult.NO_MORE_SOLUTIONS));
+			var nogoodStore = ((ModelGeneratorImpl) generator).getNogoodStore();
+			assertThat(nogoodStore, notNullValue());
+			assertThat(nogoodStore.getNumberOfNogoods(), greaterThan(0));
+			assertThat(nogoodStore.getNumberOfExcludedDecisions(), greaterThan(0L));
+		}
+	}
+
+	@Test
+	void learningDisabledTest() throws IOException {
+		var problem = loader.loadString(METAMODEL);
+		generatorFactory.learnNogoods(false);
+		try (var generator = generatorFactory.createGenerator(problem)) {
+			generator.setMaxNumberOfSolutions(MAX_NUMBER_OF_SOLUTIONS);
+			generator.tryGenerate();
+			assertThat(((ModelGeneratorImpl) generator).getNogoodStore(), nullValue());
+		}
+	}
+
+	@Test
+	void satisfiableResultsMatchTest() throws IOException {
+		var withLearning = generate(METAMODEL, true);
+		var withoutLearning = generate(METAMODEL, false);
+		assertThat(withLearning.result(), is(GeneratorResult.NO_MORE_SOLUTIONS));
+		assertThat(withLearning, is(withoutLearning));
+	}
+
+	@Test
+	void unsatisfiableResultsMatchTest() throws IOException {
+		var problem = METAMODEL + """
+				pred twoDirs() <-> Dir(d1), Dir(d2), d1 != d2.
+
+				error tooFewDirs() <-> !twoDirs().
+				""";
+		var withLearning = generate(problem, true);
+		var withoutLearning = generate(problem, false);
+		assertThat(withLearning.result(), is(GeneratorResult.UNSATISFIABLE));
+		assertThat(withLearning, is(withoutLearning));
+	}
+
+	private GenerationOutcome generate(String problemString, boolean learnNogoods) throws IOException {
+		var problem = loader.loadString(problemString);
+		generatorFactory.learnNogoods(learnNogoods);
+		try (var generator = generatorFactory.createGenerator(problem)) {
+			generator.setMaxNumberOfSolutions(MAX_NUMBER_OF_SOLUTIONS);
+			var result = generator.tryGenerate();
+			return new GenerationOutcome(result, generator.getSolutionCount());
+		}
+	}
+
+	private record GenerationOutcome(GeneratorResult result, int solutionCount) {
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator;
+
+import com.google.inject.Inject;
+import org.junit.jupiter.api.Test;
+import tools.refinery.generator.impl.ModelGeneratorImpl;
+import tools.refinery.language.tests.InjectWithRefinery;
+import tools.refinery.store.dse.propagation.PropagationAdapter;
+import tools.refinery.store.dse.propagation.PropagatorStatistics;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@InjectWithRefinery
+class PropagationMemoTest {
+	// Large enough to explore the whole state space.
+	private static final int MAX_NUMBER_OF_SOLUTIONS = 1000;
+
+	private static final int PROPAGATION_MEMO_SIZE = 1 << 16;
+
+	// The types of the entries can be decided in any order, so the same models are reached on several branches.
+	private static final String PROBLEM = """
+			abstract class Entry.
+
+			class File extends Entry.
+
+			class Dir extends Entry.
+
+			Entry(e1).
+			Entry(e2).
+			Entry(e3).
+			Entry(e4).
+
+			scope Entry = 4, Dir = 1..2.
+			""";
+
+	@Inject
+	private ProblemLoader loader;
+
+	@Inject
+	private ModelGeneratorFactory generatorFactory;
+
+	@Test
+	void memoDisabledByDefaultTest() throws IOException {
+		var problem = loader.loadString(PROBLEM);
+		try (var generator = generatorFactory.createGenerator(problem)) {
+			generator.setMaxNumberOfSolutions(MAX_NUMBER_OF_SOLUTIONS);
+			generator.tryGenerate();
+			assertThat(((ModelGeneratorImpl) generator).getPropagationMemo(), nullValue());
+		}
+	}
+
+	@Test
+	void memoSkipsPropagationTest() throws IOException {
+		var withoutMemo = generate(0);
+		var withMemo = generate(PROPAGATION_MEMO_SIZE);
+		assertThat(withMemo.result(), is(GeneratorResult.NO_MORE_SOLUTIONS));
+		assertThat(withMemo.solutionCount(), is(withoutMemo.solutionCount()));
+		assertThat(withMemo.memoHitCount(), greaterThan(0L));
+		assertThat(withMemo.propagatorCallCount(), lessThan(withoutMemo.propagatorCallCount()));
+	}
+
+	private GenerationOutcome generate(int propagationMemoSize) throws IOException {
+		var problem = loader.loadString(PROBLEM);
+		// Replaying decisions to learn nogoods would also call the propagators.
+		generatorFactory.learnNogoods(false).propagationMemoSize(propagationMemoSize);
+		try (var generator = generatorFactory.createGenerator(problem)) {
+			generator.setMaxNumberOfSolutions(MAX_NUMBER_OF_SOLUTIONS);
+			var result = generator.tryGenerate();
+			var propagatorCallCount = generator.getModel().getAdapter(PropagationAdapter.class).getStatistics()
+					.stream()
+					.mapToLong(PropagatorStatistics::callCount)
+					.sum();
+			var propagationMemo = ((ModelGeneratorImpl) generator).getPropagationMemo();
+			long memoHitCount = propagationMemo == null ? 0 : propagationMemo.getHitCount();
+			return new GenerationOutcome(result, generator.getSolutionCount(), propagatorCallCount, memoHitCount);
+		}
+	}
+
+	private record GenerationOutcome(GeneratorResult result, int solutionCount, long propagatorCallCount,
+									 long memoHitCount) {
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.generator.serializer;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.refinery.logic.AbstractValue;
+import tools.refinery.logic.term.intinterval.IntInterval;
+import tools.refinery.logic.term.truthvalue.TruthValue;
+
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ValueTagTest {
+	@ParameterizedTest(name = "{0} -> {1}")
+	@MethodSource
+	void ofTest(AbstractValue<?, ?> value, ValueTag expected) {
+		assertThat(ValueTag.of(value, value.toString()), is(expected));
+	}
+
+	static Stream<Arguments> ofTest() {
+		return Stream.of(
+				Arguments.of(TruthValue.TRUE, ValueTag.CONCRETE),
+				Arguments.of(TruthValue.UNKNOWN, ValueTag.CONCRETE),
+				Arguments.of(TruthValue.ERROR, ValueTag.CONCRETE),
+				Arguments.of(IntInterval.of(18), ValueTag.CONCRETE),
+				Arguments.of(IntInterval.UNKNOWN, ValueTag.CONCRETE),
+				Arguments.of(IntInterval.ERROR, ValueTag.CONCRETE),
+				Arguments.of(IntInterval.of(18, 65), ValueTag.UNKNOWN),
+				Arguments.of(IntInterval.of(65, 18), ValueTag.ERROR)
+		);
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -16,5 +16,7 @@ mavenArtifact {
 dependencies {
 	implementation(project(":refinery-interpreter"))
 	implementation(project(":refinery-interpreter-rete-recipes"))
+	implementation(libs.eclipseCollections)
+	runtimeOnly(libs.eclipseCollections.impl)
 	implementation(libs.slf4j.log4j)
 }
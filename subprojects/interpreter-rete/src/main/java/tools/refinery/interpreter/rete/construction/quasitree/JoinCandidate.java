@@ -1,5 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2004-2010 Gabor Bergmann and Daniel Varro
+ * Copyright (c) 2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -13,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -32,6 +34,7 @@ import tools.refinery.interpreter.matchers.util.CollectionsFactory;
  */
 class JoinCandidate {
     private QueryAnalyzer analyzer;
+    private JoinCostEstimator costEstimator;
 
     SubPlan primary;
     SubPlan secondary;
@@ -43,21 +46,54 @@ class JoinCandidate {
     List<PConstraint> consPrimary;
     List<PConstraint> consSecondary;
 
+    List<PConstraint> structuralConsPrimary;
+    List<PConstraint> structuralConsSecondary;
+
 
     JoinCandidate(SubPlan primary, SubPlan secondary, QueryAnalyzer analyzer) {
+        this(primary, secondary, analyzer, false, null);
+    }
+
+    /**
+     * @param structural whether the join should be oriented and ordered independently of the order of the
+     *                   constraints in the body
+     * @param costEstimator estimates the size of the join result, or <code>null</code> if costs should not be considered
+     */
+    JoinCandidate(SubPlan primary, SubPlan secondary, QueryAnalyzer analyzer, boolean structural,
+            JoinCostEstimator costEstimator) {
         super();
-        this.primary = primary;
-        this.secondary = secondary;
         this.analyzer = analyzer;
+        this.costEstimator = costEstimator;
+
+        if (structural) {
+            structuralConsPrimary = new ArrayList<PConstraint>(primary.getAllEnforcedConstraints());
+            Collections.sort(structuralConsPrimary, TieBreaker.STRUCTURAL_CONSTRAINT_COMPARATOR);
+            structuralConsSecondary = new ArrayList<PConstraint>(secondary.getAllEnforcedConstraints());
+            Collections.sort(structuralConsSecondary, TieBreaker.STRUCTURAL_CONSTRAINT_COMPARATOR);
+        }
+
+        // orient the join independently of the order of the constraints in the body,
+        // so that equivalent joins of different bodies result in the same recipe
+        if (structural && TieBreaker.STRUCTURAL_CONSTRAINT_LIST_COMPARATOR.compare(structuralConsPrimary,
+                structuralConsSecondary) > 0) {
+            this.primary = secondary;
+            this.secondary = primary;
+            List<PConstraint> swap = structuralConsPrimary;
+            structuralConsPrimary = structuralConsSecondary;
+            structuralConsSecondary = swap;
+        } else {
+            this.primary = primary;
+            this.secondary = secondary;
+        }
 
         varPrimary = getPrimary().getVisibleVariables();
         varSecondary = getSecondary().getVisibleVariables();
         varCommon = CollectionsFactory.createSet(varPrimary);
         varCommon.retainAll(varSecondary);
 
-        consPrimary = new ArrayList<PConstraint>(primary.getAllEnforcedConstraints());
+        consPrimary = new ArrayList<PConstraint>(this.primary.getAllEnforcedConstraints());
         Collections.sort(consPrimary, TieBreaker.CONSTRAINT_COMPARATOR);
-        consSecondary = new ArrayList<PConstraint>(secondary.getAllEnforcedConstraints());
+        consSecondary = new ArrayList<PConstraint>(this.secondary.getAllEnforcedConstraints());
         Collections.sort(consSecondary, TieBreaker.CONSTRAINT_COMPARATOR);
     }
 
@@ -122,6 +158,22 @@ class JoinCandidate {
         return consSecondary;
     }
 
+    /**
+     * @return constraints of primary, sorted according to {@link TieBreaker#STRUCTURAL_CONSTRAINT_COMPARATOR},
+     * or <code>null</code> if the join is not structural.
+     */
+    public List<PConstraint> getStructuralConsPrimary() {
+        return structuralConsPrimary;
+    }
+
+    /**
+     * @return constraints of secondary, sorted according to {@link TieBreaker#STRUCTURAL_CONSTRAINT_COMPARATOR},
+     * or <code>null</code> if the join is not structural.
+     */
+    public List<PConstraint> getStructuralConsSecondary() {
+        return structuralConsSecondary;
+    }
+
 
 
     public boolean isTrivial() {
@@ -159,4 +211,17 @@ class JoinCandidate {
         return heath;
     }
 
+    private Optional<Double> estimatedCost;
+
+    /**
+     * @return the estimated number of tuples produced by this join, or empty if no estimate is available
+     */
+    public Optional<Double> getEstimatedCost() {
+        if (estimatedCost == null) {
+            estimatedCost = costEstimator == null ? Optional.empty() :
+                    costEstimator.estimateJoin(primary, secondary, varCommon);
+        }
+        return estimatedCost;
+    }
+
 }
@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.rete.construction.quasitree;
+
+import tools.refinery.interpreter.matchers.context.IInputKey;
+import tools.refinery.interpreter.matchers.context.IQueryRuntimeContext;
+import tools.refinery.interpreter.matchers.planning.SubPlan;
+import tools.refinery.interpreter.matchers.planning.operations.PEnumerate;
+import tools.refinery.interpreter.matchers.planning.operations.PJoin;
+import tools.refinery.interpreter.matchers.planning.operations.PStart;
+import tools.refinery.interpreter.matchers.psystem.EnumerablePConstraint;
+import tools.refinery.interpreter.matchers.psystem.PVariable;
+import tools.refinery.interpreter.matchers.psystem.basicenumerables.ConstantValue;
+import tools.refinery.interpreter.matchers.psystem.basicenumerables.TypeConstraint;
+import tools.refinery.interpreter.matchers.tuple.TupleMask;
+import tools.refinery.interpreter.rete.util.JoinCardinalityStatistics;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Estimates the number of tuples produced by the partial plans of a single pattern body based on the
+ * {@link JoinCardinalityStatistics} provided in the query evaluation hints.
+ * <p>
+ * Only upper bounds of the sizes of enumerable input keys are used. If any input of a plan (e.g., a pattern call) has
+ * no such estimate, the plan has no estimate either, and the join ordering falls back to the structural heuristics.
+ */
+class JoinCostEstimator {
+	private final IQueryRuntimeContext runtimeContext;
+	private final JoinCardinalityStatistics statistics;
+	private final Map<SubPlan, Optional<Double>> cardinalities = new IdentityHashMap<>();
+	private final Map<PVariable, Double> domainSizes = new HashMap<>();
+
+	JoinCostEstimator(IQueryRuntimeContext runtimeContext, JoinCardinalityStatistics statistics) {
+		this.runtimeContext = runtimeContext;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Estimates the number of tuples produced by joining two plans with the natural join.
+	 *
+	 * @param primary   The primary parent of the join.
+	 * @param secondary The secondary parent of the join.
+	 * @param common    The variables visible in both parents.
+	 * @return The estimated number of joined tuples, or an empty optional if no estimate is available.
+	 */
+	Optional<Double> estimateJoin(SubPlan primary, SubPlan secondary, Set<PVariable> common) {
+		var primaryCardinality = estimate(primary);
+		if (primaryCardinality.isEmpty()) {
+			return Optional.empty();
+		}
+		var secondaryCardinality = estimate(secondary);
+		if (secondaryCardinality.isEmpty()) {
+			return Optional.empty();
+		}
+		double primarySize = primaryCardinality.get();
+		double secondarySize = secondaryCardinality.get();
+		// Textbook estimate assuming uniformly distributed join keys: every tuple of the parent with fewer distinct
+		// join keys meets |other| / distinct(other) tuples of the other parent.
+		double commonDomain = estimateDomain(common);
+		double distinctKeys = Math.max(Math.min(primarySize, commonDomain), Math.min(secondarySize, commonDomain));
+		return Optional.of(primarySize * secondarySize / Math.max(distinctKeys, 1.0));
+	}
+
+	Optional<Double> estimate(SubPlan plan) {
+		var cached = cardinalities.get(plan);
+		if (cached != null) {
+			return cached;
+		}
+		var result = computeEstimate(plan);
+		cardinalities.put(plan, result);
+		return result;
+	}
+
+	private Optional<Double> computeEstimate(SubPlan plan) {
+		var operation = plan.getOperation();
+		if (operation instanceof PStart) {
+			return Optional.of(1.0);
+		}
+		if (operation instanceof PEnumerate enumerate) {
+			return estimateEnumerable(enumerate.getEnumerablePConstraint());
+		}
+		var parents = plan.getParentPlans();
+		if (operation instanceof PJoin && parents.size() == 2) {
+			var primary = parents.get(0);
+			var secondary = parents.get(1);
+			Set<PVariable> common = new HashSet<>(primary.getVisibleVariables());
+			common.retainAll(secondary.getVisibleVariables());
+			return estimateJoin(primary, secondary, common);
+		}
+		if (parents.size() == 1) {
+			// Filters, projections and evaluations never produce more tuples than their parent.
+			return estimate(parents.getFirst());
+		}
+		return Optional.empty();
+	}
+
+	private Optional<Double> estimateEnumerable(EnumerablePConstraint constraint) {
+		if (constraint instanceof ConstantValue) {
+			return Optional.of(1.0);
+		}
+		if (constraint instanceof TypeConstraint typeConstraint) {
+			var inputKey = typeConstraint.getSupplierKey();
+			return estimateInputKey(inputKey, TupleMask.identity(inputKey.getArity()));
+		}
+		return Optional.empty();
+	}
+
+	private Optional<Double> estimateInputKey(IInputKey inputKey, TupleMask mask) {
+		if (!inputKey.isEnumerable()) {
+			return Optional.empty();
+		}
+		return statistics.estimateCardinality(runtimeContext, inputKey, mask).map(Long::doubleValue);
+	}
+
+	private double estimateDomain(Set<PVariable> variables) {
+		double product = 1.0;
+		for (var variable : variables) {
+			product *= domainSizes.computeIfAbsent(variable, this::computeDomain);
+		}
+		return product;
+	}
+
+	private double computeDomain(PVariable variable) {
+		double domain = Double.POSITIVE_INFINITY;
+		for (var constraint : variable.getReferringConstraintsOfType(TypeConstraint.class)) {
+			var inputKey = constraint.getSupplierKey();
+			var variablesTuple = constraint.getVariablesTuple();
+			int arity = variablesTuple.getSize();
+			for (int i = 0; i < arity; i++) {
+				if (variable.equals(variablesTuple.get(i))) {
+					var estimate = estimateInputKey(inputKey, TupleMask.selectSingle(i, arity));
+					if (estimate.isPresent()) {
+						domain = Math.min(domain, estimate.get());
+					}
+				}
+			}
+		}
+		return domain;
+	}
+}
@@ -1,5 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2004-2010 Gabor Bergmann and Daniel Varro
+ * Copyright (c) 2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -10,7 +11,10 @@
 package tools.refinery.interpreter.rete.construction.quasitree;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 
+import tools.refinery.interpreter.matchers.psystem.PConstraint;
 import tools.refinery.interpreter.rete.util.Options;
 import tools.refinery.interpreter.rete.util.OrderingCompareAgent;
 
@@ -35,13 +39,34 @@ public class JoinOrderingHeuristics implements Comparator<JoinCandidate> {
                             )
                         && consider(preferFalse(a.isDescartes(), b.isDescartes()))
 
-                        // TODO main heuristic decisions
+                        // main heuristic decision: produce as few intermediate tuples as possible
+                        && consider(compareEstimatedCosts(a, b))
 
-                        // tie breaking
+                        // tie breaking, first independently of constraint identities to share common subplans
+                        && consider(compareStructuralConstraints(a.getStructuralConsPrimary(),
+                                b.getStructuralConsPrimary()))
+                        && consider(compareStructuralConstraints(a.getStructuralConsSecondary(),
+                                b.getStructuralConsSecondary()))
                         && consider(preferLess(a.getConsPrimary(), b.getConsPrimary(), TieBreaker.CONSTRAINT_LIST_COMPARATOR))
                         && consider(preferLess(a.getConsSecondary(), b.getConsSecondary(), TieBreaker.CONSTRAINT_LIST_COMPARATOR))
                         && consider(preferLess(System.identityHashCode(a), System.identityHashCode(b))));
             }
+
+            private int compareStructuralConstraints(List<PConstraint> cons1, List<PConstraint> cons2) {
+                if (cons1 == null || cons2 == null) {
+                    return dontCare();
+                }
+                return preferLess(cons1, cons2, TieBreaker.STRUCTURAL_CONSTRAINT_LIST_COMPARATOR);
+            }
+
+            private int compareEstimatedCosts(JoinCandidate jc1, JoinCandidate jc2) {
+                Optional<Double> cost1 = jc1.getEstimatedCost();
+                Optional<Double> cost2 = jc2.getEstimatedCost();
+                if (cost1.isEmpty() || cost2.isEmpty()) {
+                    return dontCare();
+                }
+                return preferLess(cost1.get(), cost2.get());
+            }
         }.compare();
 
     }
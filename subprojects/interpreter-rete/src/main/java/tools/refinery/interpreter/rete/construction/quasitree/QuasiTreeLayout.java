@@ -1,5 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2004-2010 Gabor Bergmann and Daniel Varro
+ * Copyright (c) 2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -36,6 +37,7 @@ import tools.refinery.interpreter.matchers.psystem.analysis.QueryAnalyzer;
 import tools.refinery.interpreter.matchers.psystem.basicenumerables.ConstantValue;
 import tools.refinery.interpreter.matchers.psystem.queries.PQuery;
 import tools.refinery.interpreter.rete.construction.RetePatternBuildException;
+import tools.refinery.interpreter.rete.util.JoinCardinalityStatistics;
 import tools.refinery.interpreter.rete.util.ReteHintOptions;
 
 /**
@@ -73,6 +75,8 @@ public class QuasiTreeLayout implements IQueryPlannerStrategy {
         //IOperationCompiler compiler;
         //SubPlanProcessor planProcessor = new SubPlanProcessor();
         SubPlanFactory planFactory;
+        boolean useCostBasedJoinOrdering;
+        JoinCostEstimator costEstimator;
 
         Set<DeferredPConstraint> deferredConstraints = null;
         Set<EnumerablePConstraint> enumerableConstraints = null;
@@ -90,6 +94,14 @@ public class QuasiTreeLayout implements IQueryPlannerStrategy {
             //planProcessor.setCompiler(compiler);
 
             hints = hintProvider.getQueryEvaluationHint(query);
+            useCostBasedJoinOrdering = ReteHintOptions.useCostBasedJoinOrdering.getValueOrDefault(hints);
+            if (useCostBasedJoinOrdering) {
+                JoinCardinalityStatistics statistics = ReteHintOptions.joinCardinalityStatistics
+                        .getValueOrDefault(hints);
+                if (statistics != null) {
+                    costEstimator = new JoinCostEstimator(backendContext.getRuntimeContext(), statistics);
+                }
+            }
         }
 
         /**
@@ -155,7 +167,7 @@ public class QuasiTreeLayout implements IQueryPlannerStrategy {
                 for (SubPlan a : forefront) {
                     if (aIndex++ >= bIndex)
                         break;
-                    candidates.add(new JoinCandidate(a, b, queryAnalyzer));
+                    candidates.add(new JoinCandidate(a, b, queryAnalyzer, useCostBasedJoinOrdering, costEstimator));
                 }
                 bIndex++;
             }
@@ -1,5 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2010-2014, Bergmann Gabor, Istvan Rath and Daniel Varro
+ * Copyright (c) 2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -10,7 +11,10 @@ package tools.refinery.interpreter.rete.construction.quasitree;
 
 import java.util.Comparator;
 
+import tools.refinery.interpreter.matchers.context.IInputKey;
+import tools.refinery.interpreter.matchers.psystem.KeyedEnumerablePConstraint;
 import tools.refinery.interpreter.matchers.psystem.PConstraint;
+import tools.refinery.interpreter.matchers.psystem.queries.PQuery;
 import tools.refinery.interpreter.rete.util.LexicographicComparator;
 
 /**
@@ -27,4 +31,28 @@ public class TieBreaker {
     public static final Comparator<Iterable<? extends PConstraint>> CONSTRAINT_LIST_COMPARATOR =
             new LexicographicComparator<PConstraint>(CONSTRAINT_COMPARATOR);
 
+    /**
+     * Compares constraints by their kind and supplier only, ignoring their identity and the variables they refer to.
+     * Unlike {@link #CONSTRAINT_COMPARATOR}, this yields the same decisions for equivalent constraints of different
+     * pattern bodies, so that common join prefixes are built in the same way and can be shared in the network.
+     */
+    public static final Comparator<PConstraint> STRUCTURAL_CONSTRAINT_COMPARATOR =
+            Comparator.comparing(TieBreaker::getStructuralKey);
+
+    public static final Comparator<Iterable<? extends PConstraint>> STRUCTURAL_CONSTRAINT_LIST_COMPARATOR =
+            new LexicographicComparator<PConstraint>(STRUCTURAL_CONSTRAINT_COMPARATOR);
+
+    private static String getStructuralKey(PConstraint constraint) {
+        String kind = constraint.getClass().getName();
+        if (constraint instanceof KeyedEnumerablePConstraint<?> keyed) {
+            Object supplierKey = keyed.getSupplierKey();
+            if (supplierKey instanceof IInputKey inputKey) {
+                return kind + ":" + inputKey.getStringID();
+            } else if (supplierKey instanceof PQuery query) {
+                return kind + ":" + query.getFullyQualifiedName();
+            }
+        }
+        return kind;
+    }
+
 }
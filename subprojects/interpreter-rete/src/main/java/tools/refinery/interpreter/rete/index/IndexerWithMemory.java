@@ -1,5 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2004-2009 Gabor Bergmann and Daniel Varro
+ * Copyright (c) 2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -63,7 +64,8 @@ public abstract class IndexerWithMemory extends StandardIndexer
         final boolean isTimely = reteContainer.isTimelyEvaluation()
                 && reteContainer.getCommunicationTracker().isInRecursiveGroup(this);
         memory = MaskedTupleMemory.create(mask, MemoryType.SETS, this, isTimely, isTimely && reteContainer
-                .getTimelyConfiguration().getTimelineRepresentation() == TimelyConfiguration.TimelineRepresentation.FAITHFUL);
+                .getTimelyConfiguration().getTimelineRepresentation() == TimelyConfiguration.TimelineRepresentation.FAITHFUL,
+                reteContainer.getTupleElementCodec());
         reteContainer.registerClearable(memory);
         mailbox = instantiateMailbox();
         reteContainer.registerClearable(mailbox);
@@ -89,7 +91,8 @@ public abstract class IndexerWithMemory extends StandardIndexer
         if (wasTimely != isTimely) {
             final MaskedTupleMemory<Timestamp> newMemory = MaskedTupleMemory.create(mask, MemoryType.SETS, this,
                     isTimely, isTimely && reteContainer.getTimelyConfiguration()
-                            .getTimelineRepresentation() == TimelyConfiguration.TimelineRepresentation.FAITHFUL);
+                            .getTimelineRepresentation() == TimelyConfiguration.TimelineRepresentation.FAITHFUL,
+                    reteContainer.getTupleElementCodec());
             newMemory.initializeWith(this.memory, Timestamp.ZERO);
             memory.clear();
             memory = newMemory;
@@ -0,0 +1,360 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.rete.itc.alg.primitive;
+
+import org.eclipse.collections.api.block.procedure.primitive.IntIntProcedure;
+import org.eclipse.collections.api.factory.primitive.IntIntMaps;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.factory.primitive.IntObjectMaps;
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.map.primitive.IntIntMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import tools.refinery.interpreter.matchers.util.CollectionsFactory;
+import tools.refinery.interpreter.rete.itc.graphimpl.IntGraph;
+import tools.refinery.interpreter.rete.itc.igraph.IIntTcObserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Incremental transitive closure over an {@link IntGraph}.
+ * <p>
+ * Both directions of the closure are stored as primitive sets of nodes. An inserted edge joins the nodes reaching its
+ * source with the nodes reachable from its target. A deleted edge that can't be bypassed invalidates the closure of
+ * the nodes reaching its source. These are recomputed one strongly connected component at a time in reverse
+ * topological order, so the members of a component share a single recomputed set.
+ * <p>
+ * Between {@link #beginBatch()} and {@link #endBatch()}, edge updates only modify the graph. Following the
+ * delete-rederive approach, the closure of every node reaching the source of a changed edge is discarded and rederived
+ * in a single recomputation when the batch ends.
+ */
+public class IntTcAlg {
+	private final IntGraph graph = new IntGraph();
+	// source -> nodes reachable from source
+	private final MutableIntObjectMap<MutableIntSet> targets = IntObjectMaps.mutable.empty();
+	// target -> nodes reaching target
+	private final MutableIntObjectMap<MutableIntSet> sources = IntObjectMaps.mutable.empty();
+	private final List<IIntTcObserver> observers = CollectionsFactory.createObserverList();
+	// nodes whose closure may be changed by the edge updates of the current batch, or null outside batches
+	private MutableIntSet batchAffectedNodes;
+
+	public IntGraph getGraph() {
+		return graph;
+	}
+
+	public void attachObserver(IIntTcObserver observer) {
+		observers.add(observer);
+	}
+
+	public void detachObserver(IIntTcObserver observer) {
+		observers.remove(observer);
+	}
+
+	public boolean isReachable(int source, int target) {
+		var reachableTargets = targets.get(source);
+		return reachableTargets != null && reachableTargets.contains(target);
+	}
+
+	/**
+	 * Calls the procedure with each tuple of the transitive closure relation.
+	 */
+	public void forEachTuple(IntIntProcedure procedure) {
+		targets.forEachKeyValue((source, reachableTargets) ->
+				reachableTargets.forEach(target -> procedure.value(source, target)));
+	}
+
+	public boolean isInBatch() {
+		return batchAffectedNodes != null;
+	}
+
+	/**
+	 * Defers the maintenance of the closure until the matching call to {@link #endBatch()}.
+	 */
+	public void beginBatch() {
+		if (batchAffectedNodes != null) {
+			throw new IllegalStateException("Batch already in progress");
+		}
+		batchAffectedNodes = IntSets.mutable.empty();
+	}
+
+	/**
+	 * Rederives the closure of the nodes affected by the edge updates since {@link #beginBatch()} and notifies the
+	 * observers about the net changes of the closure relation.
+	 */
+	public void endBatch() {
+		if (batchAffectedNodes == null) {
+			throw new IllegalStateException("No batch in progress");
+		}
+		var affectedNodes = batchAffectedNodes;
+		batchAffectedNodes = null;
+		if (!affectedNodes.isEmpty()) {
+			recomputeClosure(affectedNodes.toArray());
+		}
+	}
+
+	public void insertEdge(int source, int target) {
+		if (!graph.insertEdge(source, target) || isReachable(source, target)) {
+			// Every tuple the new edge could contribute is already derived through another path.
+			return;
+		}
+		if (batchAffectedNodes != null) {
+			markAffected(source);
+			return;
+		}
+		int[] newSources = withClosure(source, sources);
+		int[] newTargets = withClosure(target, targets);
+		for (int newSource : newSources) {
+			var reachableTargets = targets.getIfAbsentPut(newSource, IntSets.mutable::empty);
+			for (int newTarget : newTargets) {
+				if (reachableTargets.add(newTarget)) {
+					sources.getIfAbsentPut(newTarget, IntSets.mutable::empty).add(newSource);
+					notifyInserted(newSource, newTarget);
+				}
+			}
+		}
+	}
+
+	public void deleteEdgeIfExists(int source, int target) {
+		if (!graph.deleteEdgeIfExists(source, target)) {
+			return;
+		}
+		if (batchAffectedNodes != null) {
+			markAffected(source);
+			return;
+		}
+		if (!isStillReachable(source, target)) {
+			recomputeClosure(withClosure(source, sources));
+		}
+	}
+
+	public void dispose() {
+		batchAffectedNodes = null;
+		observers.clear();
+		targets.clear();
+		sources.clear();
+	}
+
+	private static int[] withClosure(int node, MutableIntObjectMap<MutableIntSet> closure) {
+		var closureOfNode = closure.get(node);
+		if (closureOfNode == null) {
+			return new int[]{node};
+		}
+		if (closureOfNode.contains(node)) {
+			return closureOfNode.toArray();
+		}
+		int[] result = Arrays.copyOf(closureOfNode.toArray(), closureOfNode.size() + 1);
+		result[result.length - 1] = node;
+		return result;
+	}
+
+	/**
+	 * Marks the nodes reaching the given source of a changed edge. Since the closure is not modified during a batch,
+	 * the nodes that can reach the source through the edges inserted in the same batch are already marked, because
+	 * they reach the source of the first inserted edge along such a path.
+	 */
+	private void markAffected(int source) {
+		if (!batchAffectedNodes.add(source)) {
+			// The nodes reaching source are already marked, because source was marked with them.
+			return;
+		}
+		var reachingSources = sources.get(source);
+		if (reachingSources != null) {
+			batchAffectedNodes.addAll(reachingSources);
+		}
+	}
+
+	/**
+	 * Searches the graph after the deletion of an edge for another path between its endpoints.
+	 * <p>
+	 * Nodes not reaching the source of the deleted edge before the deletion are not expanded, since their closure
+	 * could not have depended on the deleted edge.
+	 */
+	private boolean isStillReachable(int source, int target) {
+		var visited = IntSets.mutable.of(source);
+		var queue = IntLists.mutable.of(source);
+		for (int head = 0; head < queue.size(); head++) {
+			var iterator = graph.getTargetNodes(queue.get(head)).intIterator();
+			while (iterator.hasNext()) {
+				int successor = iterator.next();
+				if (successor == target) {
+					return true;
+				}
+				if (!visited.add(successor)) {
+					continue;
+				}
+				if (isReachable(successor, source)) {
+					queue.add(successor);
+				} else if (isReachable(successor, target)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Recomputes the closure of the given nodes with an iterative variant of Tarjan's algorithm on the subgraph
+	 * induced by them. The closure of the nodes outside this subgraph must already be up-to-date, and the nodes must be
+	 * closed under reachability from their sources.
+	 */
+	private void recomputeClosure(int[] nodes) {
+		int size = nodes.length;
+		var localIndices = IntIntMaps.mutable.empty();
+		for (int i = 0; i < size; i++) {
+			localIndices.put(nodes[i], i);
+		}
+		int[] discoveryIndices = new int[size];
+		Arrays.fill(discoveryIndices, -1);
+		int[] lowLinks = new int[size];
+		boolean[] onStack = new boolean[size];
+		int[] components = new int[size];
+		var componentTargets = new ArrayList<IntSet>();
+		int[] componentStack = new int[size];
+		int componentStackSize = 0;
+		int[] callStack = new int[size];
+		var successorIterators = new IntIterator[size];
+		int callStackSize = 0;
+		int nextDiscoveryIndex = 0;
+		for (int root = 0; root < size; root++) {
+			if (discoveryIndices[root] >= 0) {
+				continue;
+			}
+			int pushed = root;
+			while (pushed >= 0 || callStackSize > 0) {
+				if (pushed >= 0) {
+					discoveryIndices[pushed] = nextDiscoveryIndex;
+					lowLinks[pushed] = nextDiscoveryIndex;
+					nextDiscoveryIndex++;
+					componentStack[componentStackSize] = pushed;
+					componentStackSize++;
+					onStack[pushed] = true;
+					callStack[callStackSize] = pushed;
+					successorIterators[callStackSize] = graph.getTargetNodes(nodes[pushed]).intIterator();
+					callStackSize++;
+					pushed = -1;
+				}
+				int current = callStack[callStackSize - 1];
+				var iterator = successorIterators[callStackSize - 1];
+				if (iterator.hasNext()) {
+					int successor = localIndices.getIfAbsent(iterator.next(), -1);
+					if (successor < 0) {
+						continue;
+					}
+					if (discoveryIndices[successor] < 0) {
+						pushed = successor;
+					} else if (onStack[successor]) {
+						lowLinks[current] = Math.min(lowLinks[current], discoveryIndices[successor]);
+					}
+					continue;
+				}
+				callStackSize--;
+				successorIterators[callStackSize] = null;
+				if (callStackSize > 0) {
+					int parent = callStack[callStackSize - 1];
+					lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[current]);
+				}
+				if (lowLinks[current] == discoveryIndices[current]) {
+					int componentStart = componentStackSize;
+					int member;
+					do {
+						componentStart--;
+						member = componentStack[componentStart];
+						onStack[member] = false;
+						components[member] = componentTargets.size();
+					} while (member != current);
+					componentTargets.add(computeComponentTargets(nodes, localIndices, components, componentTargets,
+							Arrays.copyOfRange(componentStack, componentStart, componentStackSize)));
+					componentStackSize = componentStart;
+				}
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			updateTargets(nodes[i], componentTargets.get(components[i]));
+		}
+	}
+
+	/**
+	 * Computes the nodes reachable from a strongly connected component. Since Tarjan's algorithm completes components
+	 * in reverse topological order, the targets of all successor components are already known.
+	 */
+	private IntSet computeComponentTargets(int[] nodes, IntIntMap localIndices, int[] components,
+										   List<IntSet> componentTargets, int[] members) {
+		int component = componentTargets.size();
+		var result = IntSets.mutable.empty();
+		for (int member : members) {
+			var iterator = graph.getTargetNodes(nodes[member]).intIterator();
+			while (iterator.hasNext()) {
+				int successor = iterator.next();
+				result.add(successor);
+				int localSuccessor = localIndices.getIfAbsent(successor, -1);
+				if (localSuccessor < 0) {
+					var successorTargets = targets.get(successor);
+					if (successorTargets != null) {
+						result.addAll(successorTargets);
+					}
+				} else if (components[localSuccessor] != component) {
+					result.addAll(componentTargets.get(components[localSuccessor]));
+				}
+			}
+		}
+		return result;
+	}
+
+	private void updateTargets(int source, IntSet newTargets) {
+		var reachableTargets = targets.get(source);
+		if (reachableTargets == null) {
+			if (newTargets.isEmpty()) {
+				return;
+			}
+			reachableTargets = IntSets.mutable.empty();
+			targets.put(source, reachableTargets);
+		} else {
+			for (int target : reachableTargets.toArray()) {
+				if (!newTargets.contains(target)) {
+					reachableTargets.remove(target);
+					removeSource(target, source);
+					notifyDeleted(source, target);
+				}
+			}
+		}
+		// Only batches may extend the closure, since deleting a single edge can only shrink it.
+		var iterator = newTargets.intIterator();
+		while (iterator.hasNext()) {
+			int target = iterator.next();
+			if (reachableTargets.add(target)) {
+				sources.getIfAbsentPut(target, IntSets.mutable::empty).add(source);
+				notifyInserted(source, target);
+			}
+		}
+		if (reachableTargets.isEmpty()) {
+			targets.remove(source);
+		}
+	}
+
+	private void removeSource(int target, int source) {
+		var reachingSources = sources.get(target);
+		reachingSources.remove(source);
+		if (reachingSources.isEmpty()) {
+			sources.remove(target);
+		}
+	}
+
+	private void notifyInserted(int source, int target) {
+		for (var observer : observers) {
+			observer.tupleInserted(source, target);
+		}
+	}
+
+	private void notifyDeleted(int source, int target) {
+		for (var observer : observers) {
+			observer.tupleDeleted(source, target);
+		}
+	}
+}
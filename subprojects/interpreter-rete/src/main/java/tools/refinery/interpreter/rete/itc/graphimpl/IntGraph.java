@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.rete.itc.graphimpl;
+
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.block.procedure.primitive.IntIntProcedure;
+import org.eclipse.collections.api.factory.primitive.IntIntMaps;
+import org.eclipse.collections.api.factory.primitive.IntObjectMaps;
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+
+/**
+ * Directed multigraph over <code>int</code> nodes, stored as primitive adjacency maps from targets to edge
+ * multiplicities.
+ * <p>
+ * Nodes are not tracked explicitly: a node is part of the graph as long as it has adjacent edges.
+ */
+public class IntGraph {
+	// source -> target -> count
+	private final MutableIntObjectMap<MutableIntIntMap> outgoingEdges = IntObjectMaps.mutable.empty();
+
+	/**
+	 * @return <code>true</code> if there was no edge between the given nodes before the insertion
+	 */
+	public boolean insertEdge(int source, int target) {
+		var targets = outgoingEdges.getIfAbsentPut(source, IntIntMaps.mutable::empty);
+		return targets.addToValue(target, 1) == 1;
+	}
+
+	/**
+	 * No-op if trying to delete an edge that does not exist.
+	 *
+	 * @return <code>true</code> if the last edge between the given nodes was deleted
+	 */
+	public boolean deleteEdgeIfExists(int source, int target) {
+		var targets = outgoingEdges.get(source);
+		if (targets == null) {
+			return false;
+		}
+		int count = targets.getIfAbsent(target, 0);
+		if (count == 0) {
+			return false;
+		}
+		if (count > 1) {
+			targets.put(target, count - 1);
+			return false;
+		}
+		targets.remove(target);
+		if (targets.isEmpty()) {
+			outgoingEdges.remove(source);
+		}
+		return true;
+	}
+
+	public int getEdgeCount(int source, int target) {
+		var targets = outgoingEdges.get(source);
+		return targets == null ? 0 : targets.getIfAbsent(target, 0);
+	}
+
+	/**
+	 * @return the distinct targets of the edges from the given source
+	 */
+	public IntIterable getTargetNodes(int source) {
+		var targets = outgoingEdges.get(source);
+		return targets == null ? IntSets.immutable.empty() : targets.keySet();
+	}
+
+	/**
+	 * Calls the procedure with each distinct edge of the graph. Use {@link #getEdgeCount(int, int)} to get the
+	 * multiplicity of the edge.
+	 */
+	public void forEachEdge(IntIntProcedure procedure) {
+		outgoingEdges.forEachKeyValue((source, targets) ->
+				targets.forEachKey(target -> procedure.value(source, target)));
+	}
+
+	public boolean isEmpty() {
+		return outgoingEdges.isEmpty();
+	}
+}
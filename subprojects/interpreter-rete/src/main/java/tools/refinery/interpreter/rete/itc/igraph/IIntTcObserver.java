@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.rete.itc.igraph;
+
+/**
+ * Observes the changes of a transitive closure relation over <code>int</code> nodes without boxing them.
+ *
+ * @see ITcObserver
+ */
+public interface IIntTcObserver {
+	void tupleInserted(int source, int target);
+
+	void tupleDeleted(int source, int target);
+}
@@ -1,6 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2004-2008 Gabor Bergmann and Daniel Varro
- * Copyright (c) 2023 The Refinery Authors <https://refinery.tools>
+ * Copyright (c) 2023-2026 The Refinery Authors <https://refinery.tools>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -22,6 +22,7 @@ import tools.refinery.interpreter.rete.network.delayed.DelayedConnectCommand;
 import tools.refinery.interpreter.rete.network.delayed.DelayedDisconnectCommand;
 import tools.refinery.interpreter.CancellationToken;
 import tools.refinery.interpreter.matchers.context.IQueryBackendContext;
+import tools.refinery.interpreter.matchers.tuple.ITupleElementCodec;
 import tools.refinery.interpreter.matchers.tuple.Tuple;
 import tools.refinery.interpreter.matchers.util.Clearable;
 import tools.refinery.interpreter.matchers.util.CollectionsFactory;
@@ -75,6 +76,8 @@ public final class ReteContainer {
 
 	private final CancellationToken cancellationToken;
 
+	private final ITupleElementCodec tupleElementCodec;
+
     /**
      * @param threaded
      *            false if operating in a single-threaded environment
@@ -85,6 +88,7 @@ public final class ReteContainer {
         this.backendContext = network.getEngine().getBackendContext();
         this.timelyConfiguration = network.getEngine().getTimelyConfiguration();
 		cancellationToken = backendContext.getRuntimeContext().getCancellationToken();
+		tupleElementCodec = backendContext.getRuntimeContext().getTupleElementCodec();
 
         this.delayedCommandQueue = new LinkedHashSet<DelayedCommand>();
         this.delayedCommandBuffer = new LinkedHashSet<DelayedCommand>();
@@ -130,6 +134,13 @@ public final class ReteContainer {
         return this.timelyConfiguration;
     }
 
+	/**
+	 * @return the primitive encoding of tuple elements provided by the runtime context, or <code>null</code> if none
+	 */
+	public ITupleElementCodec getTupleElementCodec() {
+		return tupleElementCodec;
+	}
+
     /**
      * @since 1.6
      * @return the communication graph of the nodes, incl. message scheduling
@@ -1,5 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2010-2012, Tamas Szabo, Gabor Bergmann, Istvan Rath and Daniel Varro
+ * Copyright (c) 2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -15,9 +16,12 @@ import tools.refinery.interpreter.rete.network.communication.CommunicationGroup;
 import tools.refinery.interpreter.rete.network.communication.Timestamp;
 import tools.refinery.interpreter.rete.itc.alg.incscc.IncSCCAlg;
 import tools.refinery.interpreter.rete.itc.alg.misc.Tuple;
+import tools.refinery.interpreter.rete.itc.alg.primitive.IntTcAlg;
 import tools.refinery.interpreter.rete.itc.graphimpl.Graph;
+import tools.refinery.interpreter.rete.itc.igraph.IIntTcObserver;
 import tools.refinery.interpreter.rete.itc.igraph.ITcDataSource;
 import tools.refinery.interpreter.rete.itc.igraph.ITcObserver;
+import tools.refinery.interpreter.matchers.tuple.ITupleElementCodec;
 import tools.refinery.interpreter.matchers.tuple.Tuples;
 import tools.refinery.interpreter.matchers.util.Clearable;
 import tools.refinery.interpreter.matchers.util.Direction;
@@ -30,6 +34,15 @@ import java.util.Map;
  * This class represents a transitive closure node in the Rete net.
  * <p>
  * This node must not be used in recursive {@link CommunicationGroup}s.
+ * <p>
+ * If the runtime context provides an {@link ITupleElementCodec}, the closure is computed over the encoded elements by
+ * an {@link IntTcAlg}. The node switches to the generic {@link IncSCCAlg} upon receiving the first element without
+ * a code.
+ * <p>
+ * Batches of updates delivered by the mailbox of the node are applied to the {@link IntTcAlg} in a single batch, so
+ * that the closure is only recomputed once per batch. The {@link IncSCCAlg} receives the insertions of a batch before
+ * its deletions. This way, moving an edge to a new source or target does not split and merge strongly connected
+ * components, or remove and re-add the nodes it connects.
  *
  * @author Gabor Bergmann
  *
@@ -37,8 +50,24 @@ import java.util.Map;
 public class TransitiveClosureNode extends SingleInputNode
         implements Clearable, ITcObserver<Object>, NetworkStructureChangeSensitiveNode, ReinitializedNode {
 
+    private final ITupleElementCodec tupleElementCodec;
+    private final IIntTcObserver intObserver = new IIntTcObserver() {
+        @Override
+        public void tupleInserted(int source, int target) {
+            TransitiveClosureNode.this.tupleInserted(tupleElementCodec.decode(source),
+                    tupleElementCodec.decode(target));
+        }
+
+        @Override
+        public void tupleDeleted(int source, int target) {
+            TransitiveClosureNode.this.tupleDeleted(tupleElementCodec.decode(source),
+                    tupleElementCodec.decode(target));
+        }
+    };
+    private IntTcAlg intTransitiveClosureAlgorithm;
     private Graph<Object> graphDataSource;
     private ITcDataSource<Object> transitiveClosureAlgorithm;
+    private boolean observerAttached;
 
     /**
      * Create a new transitive closure rete node.
@@ -51,9 +80,9 @@ public class TransitiveClosureNode extends SingleInputNode
      */
     public TransitiveClosureNode(ReteContainer reteContainer) {
         super(reteContainer);
-        graphDataSource = new Graph<Object>();
-        transitiveClosureAlgorithm = new IncSCCAlg<Object>(graphDataSource);
-        transitiveClosureAlgorithm.attachObserver(this);
+        tupleElementCodec = reteContainer.getTupleElementCodec();
+        createTransitiveClosureAlgorithm();
+        attachObserver();
         reteContainer.registerClearable(this);
     }
 
@@ -76,15 +105,108 @@ public class TransitiveClosureNode extends SingleInputNode
         clear();
 
         for (tools.refinery.interpreter.matchers.tuple.Tuple t : tuples) {
-            graphDataSource.insertNode(t.get(0));
-            graphDataSource.insertNode(t.get(1));
-            graphDataSource.insertEdge(t.get(0), t.get(1));
+            insertEdge(t.get(0), t.get(1));
+        }
+        attachObserver();
+    }
+
+    private void createTransitiveClosureAlgorithm() {
+        observerAttached = false;
+        if (tupleElementCodec == null) {
+            createObjectTransitiveClosureAlgorithm();
+        } else {
+            intTransitiveClosureAlgorithm = new IntTcAlg();
+            graphDataSource = null;
+            transitiveClosureAlgorithm = null;
+        }
+    }
+
+    private void createObjectTransitiveClosureAlgorithm() {
+        graphDataSource = new Graph<Object>();
+        transitiveClosureAlgorithm = new IncSCCAlg<Object>(graphDataSource);
+    }
+
+    private void attachObserver() {
+        if (observerAttached) {
+            return;
+        }
+        observerAttached = true;
+        if (intTransitiveClosureAlgorithm == null) {
+            transitiveClosureAlgorithm.attachObserver(this);
+        } else {
+            intTransitiveClosureAlgorithm.attachObserver(intObserver);
+        }
+    }
+
+    /**
+     * Replaces the {@link IntTcAlg} by an {@link IncSCCAlg} over the same edges. The transitive closure relation
+     * does not change, so no updates are propagated. The observer is only attached to the new algorithm if it was
+     * attached to the old one, i.e., not while the node is being reinitialized.
+     */
+    private void switchToObjectTransitiveClosureAlgorithm() {
+        boolean shouldAttachObserver = observerAttached;
+        observerAttached = false;
+        var intGraph = intTransitiveClosureAlgorithm.getGraph();
+        intTransitiveClosureAlgorithm.dispose();
+        intTransitiveClosureAlgorithm = null;
+        createObjectTransitiveClosureAlgorithm();
+        intGraph.forEachEdge((source, target) -> {
+            Object sourceElement = tupleElementCodec.decode(source);
+            Object targetElement = tupleElementCodec.decode(target);
+            graphDataSource.insertNode(sourceElement);
+            graphDataSource.insertNode(targetElement);
+            int count = intGraph.getEdgeCount(source, target);
+            for (int i = 0; i < count; i++) {
+                graphDataSource.insertEdge(sourceElement, targetElement);
+            }
+        });
+        if (shouldAttachObserver) {
+            attachObserver();
+        }
+    }
+
+    private void insertEdge(Object source, Object target) {
+        if (intTransitiveClosureAlgorithm != null) {
+            int sourceCode = tupleElementCodec.encode(source);
+            int targetCode = tupleElementCodec.encode(target);
+            if (sourceCode != ITupleElementCodec.NOT_ENCODABLE && targetCode != ITupleElementCodec.NOT_ENCODABLE) {
+                intTransitiveClosureAlgorithm.insertEdge(sourceCode, targetCode);
+                return;
+            }
+            switchToObjectTransitiveClosureAlgorithm();
+        }
+        graphDataSource.insertNode(source);
+        graphDataSource.insertNode(target);
+        graphDataSource.insertEdge(source, target);
+    }
+
+    private void deleteEdge(Object source, Object target) {
+        if (intTransitiveClosureAlgorithm != null) {
+            int sourceCode = tupleElementCodec.encode(source);
+            int targetCode = tupleElementCodec.encode(target);
+            if (sourceCode != ITupleElementCodec.NOT_ENCODABLE && targetCode != ITupleElementCodec.NOT_ENCODABLE) {
+                intTransitiveClosureAlgorithm.deleteEdgeIfExists(sourceCode, targetCode);
+            }
+            // An edge with an element without a code can't have been inserted into the int graph.
+            return;
+        }
+        graphDataSource.deleteEdgeIfExists(source, target);
+
+        if (((IncSCCAlg<Object>) transitiveClosureAlgorithm).isIsolated(source)) {
+            graphDataSource.deleteNode(source);
+        }
+        if (!source.equals(target) && ((IncSCCAlg<Object>) transitiveClosureAlgorithm).isIsolated(target)) {
+            graphDataSource.deleteNode(target);
         }
-        transitiveClosureAlgorithm.attachObserver(this);
     }
 
     @Override
     public void pullInto(final Collection<tools.refinery.interpreter.matchers.tuple.Tuple> collector, final boolean flush) {
+        if (intTransitiveClosureAlgorithm != null) {
+            intTransitiveClosureAlgorithm.forEachTuple((source, target) -> collector.add(
+                    Tuples.staticArityFlatTupleOf(tupleElementCodec.decode(source), tupleElementCodec.decode(target))));
+            return;
+        }
         for (final Tuple<Object> tuple : ((IncSCCAlg<Object>) transitiveClosureAlgorithm).getTcRelation()) {
             collector.add(Tuples.staticArityFlatTupleOf(tuple.getSource(), tuple.getTarget()));
         }
@@ -95,6 +217,12 @@ public class TransitiveClosureNode extends SingleInputNode
             final Map<tools.refinery.interpreter.matchers.tuple.Tuple, Timeline<Timestamp>> collector,
             final boolean flush) {
         // use all zero timestamps because this node cannot be used in recursive groups anyway
+        if (intTransitiveClosureAlgorithm != null) {
+            intTransitiveClosureAlgorithm.forEachTuple((source, target) -> collector.put(
+                    Tuples.staticArityFlatTupleOf(tupleElementCodec.decode(source), tupleElementCodec.decode(target)),
+                    Timestamp.INSERT_AT_ZERO_TIMELINE));
+            return;
+        }
         for (final Tuple<Object> tuple : ((IncSCCAlg<Object>) transitiveClosureAlgorithm).getTcRelation()) {
             collector.put(Tuples.staticArityFlatTupleOf(tuple.getSource(), tuple.getTarget()), Timestamp.INSERT_AT_ZERO_TIMELINE);
         }
@@ -108,28 +236,82 @@ public class TransitiveClosureNode extends SingleInputNode
             Object target = updateElement.get(1);
 
             if (direction == Direction.INSERT) {
-                graphDataSource.insertNode(source);
-                graphDataSource.insertNode(target);
-                graphDataSource.insertEdge(source, target);
+                insertEdge(source, target);
             }
             if (direction == Direction.DELETE) {
-                graphDataSource.deleteEdgeIfExists(source, target);
+                deleteEdge(source, target);
+            }
+        }
+    }
 
-                if (((IncSCCAlg<Object>) transitiveClosureAlgorithm).isIsolated(source)) {
-                    graphDataSource.deleteNode(source);
-                }
-                if (!source.equals(target) && ((IncSCCAlg<Object>) transitiveClosureAlgorithm).isIsolated(target)) {
-                    graphDataSource.deleteNode(target);
+    @Override
+    public void batchUpdate(Collection<Map.Entry<tools.refinery.interpreter.matchers.tuple.Tuple, Integer>> updates,
+            Timestamp timestamp) {
+        if (intTransitiveClosureAlgorithm != null && isEncodable(updates)) {
+            intTransitiveClosureAlgorithm.beginBatch();
+            try {
+                for (var entry : updates) {
+                    var updateElement = entry.getKey();
+                    if (updateElement.getSize() == 2) {
+                        batchUpdateEdge(tupleElementCodec.encode(updateElement.get(0)),
+                                tupleElementCodec.encode(updateElement.get(1)), entry.getValue());
+                    }
                 }
+            } finally {
+                intTransitiveClosureAlgorithm.endBatch();
+            }
+            return;
+        }
+        for (var entry : updates) {
+            if (entry.getValue() > 0) {
+                update(entry.getKey(), entry.getValue(), timestamp);
+            }
+        }
+        for (var entry : updates) {
+            if (entry.getValue() < 0) {
+                update(entry.getKey(), entry.getValue(), timestamp);
             }
         }
     }
 
+    private boolean isEncodable(
+            Collection<Map.Entry<tools.refinery.interpreter.matchers.tuple.Tuple, Integer>> updates) {
+        for (var entry : updates) {
+            var updateElement = entry.getKey();
+            if (updateElement.getSize() == 2 &&
+                    (tupleElementCodec.encode(updateElement.get(0)) == ITupleElementCodec.NOT_ENCODABLE ||
+                            tupleElementCodec.encode(updateElement.get(1)) == ITupleElementCodec.NOT_ENCODABLE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void batchUpdateEdge(int sourceCode, int targetCode, int count) {
+        for (int i = 0; i < count; i++) {
+            intTransitiveClosureAlgorithm.insertEdge(sourceCode, targetCode);
+        }
+        for (int i = 0; i > count; i--) {
+            intTransitiveClosureAlgorithm.deleteEdgeIfExists(sourceCode, targetCode);
+        }
+    }
+
+    private void update(tools.refinery.interpreter.matchers.tuple.Tuple updateElement, int count,
+            Timestamp timestamp) {
+        var direction = count < 0 ? Direction.DELETE : Direction.INSERT;
+        for (int i = Math.abs(count); i > 0; i--) {
+            update(direction, updateElement, timestamp);
+        }
+    }
+
     @Override
     public void clear() {
-        transitiveClosureAlgorithm.dispose();
-        graphDataSource = new Graph<Object>();
-        transitiveClosureAlgorithm = new IncSCCAlg<Object>(graphDataSource);
+        if (intTransitiveClosureAlgorithm == null) {
+            transitiveClosureAlgorithm.dispose();
+        } else {
+            intTransitiveClosureAlgorithm.dispose();
+        }
+        createTransitiveClosureAlgorithm();
     }
 
     @Override
@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.rete.util;
+
+import tools.refinery.interpreter.matchers.context.IInputKey;
+import tools.refinery.interpreter.matchers.context.IQueryRuntimeContext;
+import tools.refinery.interpreter.matchers.tuple.TupleMask;
+
+import java.util.Optional;
+
+/**
+ * Provides the cardinality statistics for cost-based join ordering in the Rete planner.
+ * <p>
+ * Unlike {@link IQueryRuntimeContext#estimateCardinality}, these statistics are only consulted by the Rete planner,
+ * so they can be provided without affecting other backends (e.g., local search planning).
+ *
+ * @see ReteHintOptions#joinCardinalityStatistics
+ */
+@FunctionalInterface
+public interface JoinCardinalityStatistics {
+	/**
+	 * Gives an upper bound on the number of distinct projections of the tuples of an enumerable input key.
+	 *
+	 * @param runtimeContext The runtime context the Rete network is being built for.
+	 * @param inputKey       The input key to estimate.
+	 * @param groupMask      The projection of the tuples of the input key.
+	 * @return The estimated upper bound, or an empty optional if no estimate is available.
+	 */
+	Optional<Long> estimateCardinality(IQueryRuntimeContext runtimeContext, IInputKey inputKey, TupleMask groupMask);
+}
@@ -1,5 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2010-2016, Gabor Bergmann, IncQueryLabs Ltd.
+ * Copyright (c) 2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -53,6 +54,23 @@ public final class ReteHintOptions {
     public static final QueryHintOption<Boolean> expandWeakenedAlternativeConstraints =
             hintOption("expandWeakenedAlternativeConstraints", true);
 
+    /**
+     * This hint allows the query planner to order joins by the number of intermediate tuples they are expected to
+     * produce, as estimated from the {@link #joinCardinalityStatistics}, and to orient joins independently of the
+     * order of constraints in the pattern body.
+     * Joins without an estimate are ordered by the structural heuristics only.
+     *
+     * <p> As the Rete network is usually built before the model is populated, it is not enabled by default.
+     */
+    public static final QueryHintOption<Boolean> useCostBasedJoinOrdering =
+            hintOption("useCostBasedJoinOrdering", false);
+
+    /**
+     * The cardinality statistics used by {@link #useCostBasedJoinOrdering}. If not set, no costs are estimated.
+     */
+    public static final QueryHintOption<JoinCardinalityStatistics> joinCardinalityStatistics =
+            hintOption("joinCardinalityStatistics", null);
+
     // internal helper for conciseness
     private static <T> QueryHintOption<T> hintOption(String hintKeyLocalName, T defaultValue) {
         return new QueryHintOption<>(ReteHintOptions.class, hintKeyLocalName, defaultValue);
@@ -1,5 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2010-2012, Tamas Szabo, Istvan Rath and Daniel Varro
+ * Copyright (c) 2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -18,6 +19,8 @@ import tools.refinery.interpreter.rete.itc.dred.DRedGraphsTestCase;
 import tools.refinery.interpreter.rete.itc.incscc.IncSCCCompleteGraphTestCase;
 import tools.refinery.interpreter.rete.itc.incscc.IncSCCGraphsTestCase;
 import tools.refinery.interpreter.rete.itc.incscc.IncSCCPathConstructionTestCase;
+import tools.refinery.interpreter.rete.itc.primitive.IntTcGraphsTestCase;
+import tools.refinery.interpreter.rete.itc.primitive.IntTcRandomGraphTestCase;
 
 @RunWith(Suite.class)
 @SuiteClasses({
@@ -27,7 +30,9 @@ import tools.refinery.interpreter.rete.itc.incscc.IncSCCPathConstructionTestCase
         CountingCompleteGraphTestCase.class,
         IncSCCGraphsTestCase.class,
         IncSCCCompleteGraphTestCase.class,
-        IncSCCPathConstructionTestCase.class
+        IncSCCPathConstructionTestCase.class,
+        IntTcGraphsTestCase.class,
+        IntTcRandomGraphTestCase.class
 })
 public class TransitiveClosureAlgorithmTestSuite {
 
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.rete.itc.primitive;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import tools.refinery.interpreter.rete.itc.BaseTransitiveClosureAlgorithmTest;
+import tools.refinery.interpreter.rete.itc.alg.incscc.IncSCCAlg;
+import tools.refinery.interpreter.rete.itc.alg.primitive.IntTcAlg;
+import tools.refinery.interpreter.rete.itc.graphs.TestGraph;
+import tools.refinery.interpreter.rete.itc.igraph.IGraphObserver;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class IntTcGraphsTestCase extends BaseTransitiveClosureAlgorithmTest {
+	private final TestGraph<Integer> testGraph;
+
+	public IntTcGraphsTestCase(TestGraph<Integer> testGraph) {
+		this.testGraph = testGraph;
+	}
+
+	@Test
+	public void testResult() {
+		var incSCCAlg = new IncSCCAlg<>(testGraph);
+		var expected = new HashSet<List<Integer>>();
+		incSCCAlg.attachObserver(RecordingIntTcObserver.recording(expected));
+		var alg = new IntTcAlg();
+		var observer = new RecordingIntTcObserver();
+		alg.attachObserver(observer);
+		testGraph.attachObserver(new IGraphObserver<>() {
+			@Override
+			public void edgeInserted(Integer source, Integer target) {
+				alg.insertEdge(source, target);
+			}
+
+			@Override
+			public void edgeDeleted(Integer source, Integer target) {
+				alg.deleteEdgeIfExists(source, target);
+			}
+
+			@Override
+			public void nodeInserted(Integer n) {
+				// Nodes without edges have no effect on the transitive closure.
+			}
+
+			@Override
+			public void nodeDeleted(Integer n) {
+				// Adjacent edges are deleted one by one before the node.
+			}
+		});
+		testGraph.modify();
+		assertEquals(expected, RecordingIntTcObserver.toSet(alg));
+		assertEquals(expected, observer.getTuples());
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.rete.itc.primitive;
+
+import org.junit.Test;
+import tools.refinery.interpreter.rete.itc.alg.incscc.IncSCCAlg;
+import tools.refinery.interpreter.rete.itc.alg.primitive.IntTcAlg;
+import tools.refinery.interpreter.rete.itc.graphimpl.Graph;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntTcRandomGraphTestCase {
+	@Test
+	public void testResult() {
+		final int nodeCount = 12;
+		var random = new Random(42);
+		var graph = new Graph<Integer>();
+		var incSCCAlg = new IncSCCAlg<>(graph);
+		var expected = new HashSet<List<Integer>>();
+		incSCCAlg.attachObserver(RecordingIntTcObserver.recording(expected));
+		var alg = new IntTcAlg();
+		var observer = new RecordingIntTcObserver();
+		alg.attachObserver(observer);
+		for (int i = 0; i < nodeCount; i++) {
+			graph.insertNode(i);
+		}
+		var edges = new ArrayList<List<Integer>>();
+		for (int step = 0; step < 2000; step++) {
+			// Keep the graph sparse enough to exercise both acyclic and cyclic components.
+			if (edges.size() < 2 * nodeCount && (edges.isEmpty() || random.nextInt(3) > 0)) {
+				int source = random.nextInt(nodeCount);
+				int target = random.nextInt(nodeCount);
+				var edge = List.of(source, target);
+				if (edges.contains(edge)) {
+					// The RETE network only feeds sets of tuples into transitive closures.
+					continue;
+				}
+				edges.add(edge);
+				graph.insertEdge(source, target);
+				alg.insertEdge(source, target);
+			} else {
+				var edge = edges.remove(random.nextInt(edges.size()));
+				graph.deleteEdgeIfExists(edge.get(0), edge.get(1));
+				alg.deleteEdgeIfExists(edge.get(0), edge.get(1));
+			}
+			assertEquals(expected, RecordingIntTcObserver.toSet(alg));
+			assertEquals(expected, observer.getTuples());
+		}
+	}
+
+	@Test
+	public void batchTest() {
+		final int nodeCount = 16;
+		var random = new Random(42);
+		var expected = new IntTcAlg();
+		var alg = new IntTcAlg();
+		var observer = new RecordingIntTcObserver();
+		alg.attachObserver(observer);
+		var edges = new ArrayList<List<Integer>>();
+		for (int batch = 0; batch < 300; batch++) {
+			alg.beginBatch();
+			int batchSize = 1 + random.nextInt(8);
+			for (int step = 0; step < batchSize; step++) {
+				if (edges.size() < 2 * nodeCount && (edges.isEmpty() || random.nextInt(3) > 0)) {
+					int source = random.nextInt(nodeCount);
+					int target = random.nextInt(nodeCount);
+					var edge = List.of(source, target);
+					if (!edges.contains(edge)) {
+						edges.add(edge);
+						expected.insertEdge(source, target);
+						alg.insertEdge(source, target);
+					}
+				} else {
+					var edge = edges.remove(random.nextInt(edges.size()));
+					expected.deleteEdgeIfExists(edge.get(0), edge.get(1));
+					alg.deleteEdgeIfExists(edge.get(0), edge.get(1));
+				}
+			}
+			alg.endBatch();
+			var expectedTuples = RecordingIntTcObserver.toSet(expected);
+			assertEquals(expectedTuples, RecordingIntTcObserver.toSet(alg));
+			assertEquals(expectedTuples, observer.getTuples());
+		}
+	}
+
+	@Test
+	public void batchMoveTest() {
+		var alg = new IntTcAlg();
+		var observer = new RecordingIntTcObserver();
+		alg.attachObserver(observer);
+		alg.insertEdge(0, 1);
+		alg.insertEdge(1, 2);
+		alg.insertEdge(3, 4);
+		alg.beginBatch();
+		alg.deleteEdgeIfExists(1, 2);
+		alg.insertEdge(4, 2);
+		alg.insertEdge(2, 0);
+		assertTrue(alg.isInBatch());
+		assertFalse(alg.isReachable(2, 0));
+		alg.endBatch();
+		assertFalse(alg.isInBatch());
+		assertTrue(alg.isReachable(3, 1));
+		assertFalse(alg.isReachable(1, 2));
+		assertEquals(Set.of(List.of(0, 1), List.of(2, 0), List.of(2, 1), List.of(3, 0), List.of(3, 1),
+				List.of(3, 2), List.of(3, 4), List.of(4, 0), List.of(4, 1), List.of(4, 2)), observer.getTuples());
+	}
+
+	@Test
+	public void parallelEdgesTest() {
+		var alg = new IntTcAlg();
+		var observer = new RecordingIntTcObserver();
+		alg.attachObserver(observer);
+		alg.insertEdge(0, 1);
+		alg.insertEdge(1, 1);
+		alg.insertEdge(0, 1);
+		alg.insertEdge(1, 1);
+		var expected = Set.of(List.of(0, 1), List.of(1, 1));
+		assertEquals(expected, observer.getTuples());
+		alg.deleteEdgeIfExists(0, 1);
+		alg.deleteEdgeIfExists(1, 1);
+		assertEquals(expected, observer.getTuples());
+		alg.deleteEdgeIfExists(0, 1);
+		alg.deleteEdgeIfExists(1, 1);
+		assertEquals(Set.of(), observer.getTuples());
+		assertTrue(alg.getGraph().isEmpty());
+	}
+
+	@Test
+	public void longCycleTest() {
+		final int depth = 300;
+		var alg = new IntTcAlg();
+		for (int i = 1; i < depth; i++) {
+			alg.insertEdge(i - 1, i);
+		}
+		alg.insertEdge(depth - 1, 0);
+		assertTrue(alg.isReachable(depth - 1, depth - 1));
+		alg.deleteEdgeIfExists(depth - 1, 0);
+		assertFalse(alg.isReachable(depth - 1, 0));
+		assertTrue(alg.isReachable(0, depth - 1));
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.rete.itc.primitive;
+
+import tools.refinery.interpreter.rete.itc.alg.primitive.IntTcAlg;
+import tools.refinery.interpreter.rete.itc.igraph.IIntTcObserver;
+import tools.refinery.interpreter.rete.itc.igraph.ITcObserver;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Maintains the transitive closure relation from the notifications of an {@link IntTcAlg}, and fails on duplicate or
+ * spurious notifications.
+ */
+class RecordingIntTcObserver implements IIntTcObserver {
+	private final Set<List<Integer>> tuples = new HashSet<>();
+
+	@Override
+	public void tupleInserted(int source, int target) {
+		assertTrue("Duplicate insertion", tuples.add(List.of(source, target)));
+	}
+
+	@Override
+	public void tupleDeleted(int source, int target) {
+		assertTrue("Spurious deletion", tuples.remove(List.of(source, target)));
+	}
+
+	public Set<List<Integer>> getTuples() {
+		return tuples;
+	}
+
+	public static Set<List<Integer>> toSet(IntTcAlg alg) {
+		var result = new HashSet<List<Integer>>();
+		alg.forEachTuple((source, target) -> result.add(List.of(source, target)));
+		return result;
+	}
+
+	/**
+	 * Records the notifications of an object-based transitive closure algorithm for comparison.
+	 */
+	public static ITcObserver<Integer> recording(Set<List<Integer>> tuples) {
+		return new ITcObserver<>() {
+			@Override
+			public void tupleInserted(Integer source, Integer target) {
+				assertTrue("Duplicate insertion", tuples.add(List.of(source, target)));
+			}
+
+			@Override
+			public void tupleDeleted(Integer source, Integer target) {
+				assertTrue("Spurious deletion", tuples.remove(List.of(source, target)));
+			}
+		};
+	}
+}
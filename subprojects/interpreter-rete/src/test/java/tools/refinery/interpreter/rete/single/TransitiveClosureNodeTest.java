@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.rete.single;
+
+import org.junit.Before;
+import org.junit.Test;
+import tools.refinery.interpreter.matchers.tuple.ITupleElementCodec;
+import tools.refinery.interpreter.matchers.tuple.Tuple;
+import tools.refinery.interpreter.matchers.tuple.Tuples;
+import tools.refinery.interpreter.matchers.util.Direction;
+import tools.refinery.interpreter.rete.network.ReteContainer;
+import tools.refinery.interpreter.rete.network.communication.Timestamp;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TransitiveClosureNodeTest {
+	private static final ITupleElementCodec CODEC = new ITupleElementCodec() {
+		@Override
+		public int encode(Object element) {
+			return element instanceof Integer value && value >= 0 ? value : NOT_ENCODABLE;
+		}
+
+		@Override
+		public Object decode(int code) {
+			return code;
+		}
+	};
+
+	private final List<Tuple> insertions = new ArrayList<>();
+	private final List<Tuple> deletions = new ArrayList<>();
+	private TransitiveClosureNode node;
+
+	@Before
+	public void setUp() {
+		var reteContainer = mock(ReteContainer.class);
+		when(reteContainer.getTupleElementCodec()).thenReturn(CODEC);
+		node = new TransitiveClosureNode(reteContainer) {
+			@Override
+			public void tupleInserted(Object source, Object target) {
+				insertions.add(Tuples.staticArityFlatTupleOf(source, target));
+			}
+
+			@Override
+			public void tupleDeleted(Object source, Object target) {
+				deletions.add(Tuples.staticArityFlatTupleOf(source, target));
+			}
+		};
+	}
+
+	@Test
+	public void reinitializeWithIntTuplesTest() {
+		node.reinitializeWith(List.of(edge(1, 2), edge(2, 3)));
+		assertNoUpdates();
+		assertEquals(Set.of(edge(1, 2), edge(1, 3), edge(2, 3)), pull());
+
+		// Switch to the object algorithm after reinitialization.
+		node.update(Direction.INSERT, edge("a", 1), Timestamp.ZERO);
+		assertUpdatedOnce(insertions, Set.of(edge("a", 1), edge("a", 2), edge("a", 3)));
+		assertTrue(deletions.isEmpty());
+	}
+
+	@Test
+	public void reinitializeWithMixedTuplesTest() {
+		// Switch to the object algorithm during reinitialization.
+		node.reinitializeWith(List.of(edge(1, 2), edge("a", 1), edge(2, 3)));
+		assertNoUpdates();
+		assertEquals(Set.of(edge(1, 2), edge(1, 3), edge(2, 3), edge("a", 1), edge("a", 2), edge("a", 3)), pull());
+
+		node.update(Direction.INSERT, edge(3, 4), Timestamp.ZERO);
+		assertUpdatedOnce(insertions, Set.of(edge(1, 4), edge(2, 4), edge(3, 4), edge("a", 4)));
+		assertTrue(deletions.isEmpty());
+
+		insertions.clear();
+		node.update(Direction.DELETE, edge(3, 4), Timestamp.ZERO);
+		assertTrue(insertions.isEmpty());
+		assertUpdatedOnce(deletions, Set.of(edge(1, 4), edge(2, 4), edge(3, 4), edge("a", 4)));
+	}
+
+	@Test
+	public void reinitializeTwiceTest() {
+		node.reinitializeWith(List.of(edge("a", 1)));
+		node.reinitializeWith(List.of(edge(1, 2)));
+		assertNoUpdates();
+		assertEquals(Set.of(edge(1, 2)), pull());
+
+		node.update(Direction.INSERT, edge(2, 3), Timestamp.ZERO);
+		assertUpdatedOnce(insertions, Set.of(edge(1, 3), edge(2, 3)));
+	}
+
+	private void assertNoUpdates() {
+		assertTrue("Unexpected insertions: " + insertions, insertions.isEmpty());
+		assertTrue("Unexpected deletions: " + deletions, deletions.isEmpty());
+	}
+
+	private static void assertUpdatedOnce(List<Tuple> updates, Set<Tuple> expected) {
+		assertEquals(expected.size(), updates.size());
+		assertEquals(expected, new HashSet<>(updates));
+	}
+
+	private Set<Tuple> pull() {
+		var tuples = new ArrayList<Tuple>();
+		node.pullInto(tuples, false);
+		var result = new HashSet<>(tuples);
+		assertEquals("Duplicate tuples: " + tuples, tuples.size(), result.size());
+		return result;
+	}
+
+	private static Tuple edge(Object source, Object target) {
+		return Tuples.staticArityFlatTupleOf(source, target);
+	}
+}
@@ -1,6 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2010-2015, Bergmann Gabor, Istvan Rath and Daniel Varro
- * Copyright (c) 2023 The Refinery Authors <https://refinery.tools>
+ * Copyright (c) 2023-2026 The Refinery Authors <https://refinery.tools>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -12,6 +12,7 @@ package tools.refinery.interpreter.matchers.context;
 import tools.refinery.interpreter.matchers.planning.helpers.StatisticsHelper;
 import tools.refinery.interpreter.CancellationToken;
 import tools.refinery.interpreter.matchers.tuple.ITuple;
+import tools.refinery.interpreter.matchers.tuple.ITupleElementCodec;
 import tools.refinery.interpreter.matchers.tuple.Tuple;
 import tools.refinery.interpreter.matchers.tuple.TupleMask;
 import tools.refinery.interpreter.matchers.util.Accuracy;
@@ -284,4 +285,14 @@ public interface IQueryRuntimeContext {
 	default CancellationToken getCancellationToken() {
 		return CancellationToken.NONE;
 	}
+
+	/**
+	 * Provides a primitive encoding of the elements of this context, which allows memories to pack the tuples they
+	 * index by into primitive keys.
+	 *
+	 * @return the codec of the elements, or <code>null</code> if elements should be stored as objects
+	 */
+	default ITupleElementCodec getTupleElementCodec() {
+		return null;
+	}
 }
@@ -1,5 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2010-2018, Gabor Bergmann, IncQuery Labs Ltd.
+ * Copyright (c) 2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * http://www.eclipse.org/legal/epl-v20.html.
@@ -18,6 +19,7 @@ import tools.refinery.interpreter.matchers.memories.timely.TimelyIdentityMaskedT
 import tools.refinery.interpreter.matchers.memories.timely.TimelyNullaryMaskedTupleMemory;
 import tools.refinery.interpreter.matchers.memories.timely.TimelyUnaryMaskedTupleMemory;
 import tools.refinery.interpreter.matchers.tuple.ITuple;
+import tools.refinery.interpreter.matchers.tuple.ITupleElementCodec;
 import tools.refinery.interpreter.matchers.tuple.Tuple;
 import tools.refinery.interpreter.matchers.tuple.TupleMask;
 import tools.refinery.interpreter.matchers.util.Clearable;
@@ -77,6 +79,21 @@ public abstract class MaskedTupleMemory<Timestamp extends Comparable<Timestamp>>
      */
     public static <T extends Comparable<T>> MaskedTupleMemory<T> create(final TupleMask mask,
             final MemoryType bucketType, final Object owner, final boolean isTimely, final boolean isLazy) {
+        return create(mask, bucketType, owner, isTimely, isLazy, null);
+    }
+
+    /**
+     * Creates a new memory for the given owner that indexes tuples according to the given mask, see
+     * {@link #create(TupleMask, MemoryType, Object, boolean, boolean)}. <br>
+     * <br>
+     * If an element codec is given, timeless memories index signatures of encodable elements by packed primitive
+     * keys where the size of the mask permits.
+     *
+     * @param codec the encoding of tuple elements, may be null
+     */
+    public static <T extends Comparable<T>> MaskedTupleMemory<T> create(final TupleMask mask,
+            final MemoryType bucketType, final Object owner, final boolean isTimely, final boolean isLazy,
+            final ITupleElementCodec codec) {
         if (isTimely) {
             if (bucketType != MemoryType.SETS) {
                 throw new IllegalArgumentException("Timely memories only support SETS as the bucket type!");
@@ -100,6 +117,8 @@ public abstract class MaskedTupleMemory<Timestamp extends Comparable<Timestamp>>
                 return new NullaryMaskedTupleMemory<T>(mask, bucketType, owner);
             } else if (1 == mask.getSize()) {
                 return new UnaryMaskedTupleMemory<T>(mask, bucketType, owner);
+            } else if (codec != null && PackedMaskedTupleMemory.isApplicable(mask)) {
+                return new PackedMaskedTupleMemory<T>(mask, bucketType, owner, codec);
             } else {
                 return new DefaultMaskedTupleMemory<T>(mask, bucketType, owner);
             }
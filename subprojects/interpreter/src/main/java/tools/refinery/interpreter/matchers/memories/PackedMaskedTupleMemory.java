@@ -0,0 +1,242 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.matchers.memories;
+
+import tools.refinery.interpreter.matchers.tuple.ITuple;
+import tools.refinery.interpreter.matchers.tuple.ITupleElementCodec;
+import tools.refinery.interpreter.matchers.tuple.Tuple;
+import tools.refinery.interpreter.matchers.tuple.TupleMask;
+import tools.refinery.interpreter.matchers.tuple.Tuples;
+import tools.refinery.interpreter.matchers.util.CollectionsFactory;
+import tools.refinery.interpreter.matchers.util.CollectionsFactory.MemoryType;
+import tools.refinery.interpreter.matchers.util.IMemoryView;
+import tools.refinery.interpreter.matchers.util.IMultiLookup;
+import tools.refinery.interpreter.matchers.util.IMultiLookup.ChangeGranularity;
+import tools.refinery.interpreter.matchers.util.timeline.Timeline;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Specialized for masks of size {@value #MIN_PACKED_SIZE} to {@value #MAX_PACKED_SIZE}; signatures consisting of
+ * elements encodable by an {@link ITupleElementCodec} are packed into a single <code>long</code>, which is stored in a
+ * primitive hash table instead of a signature tuple.
+ * <p>
+ * Signatures that can't be packed, because some of their elements have no code or have a code too large for the bits
+ * available to their position, are stored as tuples in a separate lookup.
+ */
+public final class PackedMaskedTupleMemory<Timestamp extends Comparable<Timestamp>>
+		extends MaskedTupleMemory<Timestamp> {
+	/**
+	 * Single-column signatures are already indexed by their element without allocating a tuple in
+	 * {@link UnaryMaskedTupleMemory}, so packing only pays off for wider signatures.
+	 */
+	public static final int MIN_PACKED_SIZE = 2;
+
+	public static final int MAX_PACKED_SIZE = 4;
+
+	private static final long NOT_PACKABLE = -1;
+
+	private final ITupleElementCodec codec;
+	private final int size;
+	private final int bitsPerElement;
+	private final long maxCode;
+	private final int[] signatureIndices;
+	private final MemoryType bucketType;
+	private final IMultiLookup<Long, Tuple> packedSignatureToTuples;
+	private IMultiLookup<Tuple, Tuple> signatureToTuples;
+
+	/**
+	 * @param mask       The mask used to index the matchings
+	 * @param bucketType the kind of tuple collection maintained for each indexer bucket
+	 * @param owner      the object "owning" this memory
+	 * @param codec      the encoding of the elements of the indexed tuples
+	 */
+	public PackedMaskedTupleMemory(TupleMask mask, MemoryType bucketType, Object owner, ITupleElementCodec codec) {
+		super(mask, owner);
+		if (!isApplicable(mask)) {
+			throw new IllegalArgumentException(mask.toString());
+		}
+		this.codec = codec;
+		this.bucketType = bucketType;
+		size = mask.getSize();
+		// Keep the sign bit clear so that NOT_PACKABLE can never collide with a packed signature.
+		bitsPerElement = (Long.SIZE - 1) / size;
+		maxCode = (1L << bitsPerElement) - 1;
+		signatureIndices = TupleMask.identity(size).indices;
+		packedSignatureToTuples = CollectionsFactory.createMultiLookup(Long.class, bucketType, Object.class);
+	}
+
+	public static boolean isApplicable(TupleMask mask) {
+		int maskSize = mask.getSize();
+		return maskSize >= MIN_PACKED_SIZE && maskSize <= MAX_PACKED_SIZE && !mask.isIdentity();
+	}
+
+	private long pack(ITuple tuple, int[] indices) {
+		long packed = 0;
+		for (int index : indices) {
+			int code = codec.encode(tuple.get(index));
+			if (code < 0 || code > maxCode) {
+				return NOT_PACKABLE;
+			}
+			packed = (packed << bitsPerElement) | code;
+		}
+		return packed;
+	}
+
+	private Tuple unpack(long packed) {
+		var elements = new Object[size];
+		long remaining = packed;
+		for (int i = size - 1; i >= 0; i--) {
+			elements[i] = codec.decode((int) (remaining & maxCode));
+			remaining >>>= bitsPerElement;
+		}
+		return Tuples.flatTupleOf(elements);
+	}
+
+	private IMultiLookup<Tuple, Tuple> getOrCreateSignatureToTuples() {
+		if (signatureToTuples == null) {
+			signatureToTuples = CollectionsFactory.createMultiLookup(Object.class, bucketType, Object.class);
+		}
+		return signatureToTuples;
+	}
+
+	@Override
+	public boolean add(Tuple tuple) {
+		long packed = pack(tuple, mask.indices);
+		if (packed == NOT_PACKABLE) {
+			return addUnpacked(tuple, mask.transform(tuple));
+		}
+		return addPacked(tuple, packed);
+	}
+
+	@Override
+	public boolean add(Tuple tuple, Tuple signature) {
+		long packed = pack(tuple, mask.indices);
+		if (packed == NOT_PACKABLE) {
+			return addUnpacked(tuple, signature);
+		}
+		return addPacked(tuple, packed);
+	}
+
+	private boolean addPacked(Tuple tuple, long packed) {
+		try {
+			return packedSignatureToTuples.addPair(packed, tuple) == ChangeGranularity.KEY;
+		} catch (IllegalStateException ex) { // ignore worthless internal exception details
+			throw raiseDuplicateInsertion(tuple);
+		}
+	}
+
+	private boolean addUnpacked(Tuple tuple, Tuple signature) {
+		try {
+			return getOrCreateSignatureToTuples().addPair(signature, tuple) == ChangeGranularity.KEY;
+		} catch (IllegalStateException ex) { // ignore worthless internal exception details
+			throw raiseDuplicateInsertion(tuple);
+		}
+	}
+
+	@Override
+	public boolean remove(Tuple tuple) {
+		long packed = pack(tuple, mask.indices);
+		if (packed == NOT_PACKABLE) {
+			return removeUnpacked(tuple, mask.transform(tuple));
+		}
+		return removePacked(tuple, packed);
+	}
+
+	@Override
+	public boolean remove(Tuple tuple, Tuple signature) {
+		long packed = pack(tuple, mask.indices);
+		if (packed == NOT_PACKABLE) {
+			return removeUnpacked(tuple, signature);
+		}
+		return removePacked(tuple, packed);
+	}
+
+	private boolean removePacked(Tuple tuple, long packed) {
+		try {
+			return packedSignatureToTuples.removePair(packed, tuple) == ChangeGranularity.KEY;
+		} catch (IllegalStateException ex) { // ignore worthless internal exception details
+			throw raiseDuplicateDeletion(tuple);
+		}
+	}
+
+	private boolean removeUnpacked(Tuple tuple, Tuple signature) {
+		if (signatureToTuples == null) {
+			throw raiseDuplicateDeletion(tuple);
+		}
+		try {
+			return signatureToTuples.removePair(signature, tuple) == ChangeGranularity.KEY;
+		} catch (IllegalStateException ex) { // ignore worthless internal exception details
+			throw raiseDuplicateDeletion(tuple);
+		}
+	}
+
+	@Override
+	public Map<Tuple, Timeline<Timestamp>> getWithTimeline(ITuple signature) {
+		throw new UnsupportedOperationException("Timeless memories do not support timestamp-based lookup!");
+	}
+
+	@Override
+	public Collection<Tuple> get(ITuple signature) {
+		long packed = pack(signature, signatureIndices);
+		IMemoryView<Tuple> bucket;
+		if (packed == NOT_PACKABLE) {
+			bucket = signatureToTuples == null ? null : signatureToTuples.lookupUnsafe(signature);
+		} else {
+			bucket = packedSignatureToTuples.lookup(packed);
+		}
+		return bucket == null ? null : bucket.distinctValues();
+	}
+
+	@Override
+	public void clear() {
+		packedSignatureToTuples.clear();
+		signatureToTuples = null;
+	}
+
+	@Override
+	public Iterable<Tuple> getSignatures() {
+		return () -> {
+			Stream<Tuple> packedSignatures = packedSignatureToTuples.distinctKeysStream().map(this::unpack);
+			if (signatureToTuples == null) {
+				return packedSignatures.iterator();
+			}
+			return Stream.concat(packedSignatures, signatureToTuples.distinctKeysStream()).iterator();
+		};
+	}
+
+	@Override
+	public Iterator<Tuple> iterator() {
+		Stream<Tuple> packedTuples = packedSignatureToTuples.distinctValuesStream();
+		if (signatureToTuples == null) {
+			return packedTuples.iterator();
+		}
+		return Stream.concat(packedTuples, signatureToTuples.distinctValuesStream()).iterator();
+	}
+
+	@Override
+	public int getTotalSize() {
+		int i = 0;
+		for (Long key : packedSignatureToTuples.distinctKeys()) {
+			i += packedSignatureToTuples.lookup(key).size();
+		}
+		if (signatureToTuples != null) {
+			for (Tuple key : signatureToTuples.distinctKeys()) {
+				i += signatureToTuples.lookup(key).size();
+			}
+		}
+		return i;
+	}
+
+	@Override
+	public int getKeysetSize() {
+		int keys = packedSignatureToTuples.countKeys();
+		return signatureToTuples == null ? keys : keys + signatureToTuples.countKeys();
+	}
+}
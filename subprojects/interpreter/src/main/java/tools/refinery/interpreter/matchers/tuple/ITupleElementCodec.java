@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.matchers.tuple;
+
+/**
+ * Encodes tuple elements that are known to the runtime context as non-negative <code>int</code> values, so that
+ * memories may store tuples of such elements as packed primitives instead of tuple objects.
+ * <p>
+ * The encoding must be injective, and decoding an encoded element must result in an element equal to the original.
+ */
+public interface ITupleElementCodec {
+	/**
+	 * Returned by {@link #encode(Object)} for elements that have no primitive representation.
+	 */
+	int NOT_ENCODABLE = -1;
+
+	/**
+	 * @return a non-negative code of the element, or {@link #NOT_ENCODABLE} if the element can't be encoded
+	 */
+	int encode(Object element);
+
+	/**
+	 * @param code a non-negative value previously returned by {@link #encode(Object)}
+	 * @return an element equal to the encoded one
+	 */
+	Object decode(int code);
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.interpreter.tests;
+
+import org.junit.Test;
+import tools.refinery.interpreter.matchers.memories.DefaultMaskedTupleMemory;
+import tools.refinery.interpreter.matchers.memories.MaskedTupleMemory;
+import tools.refinery.interpreter.matchers.memories.PackedMaskedTupleMemory;
+import tools.refinery.interpreter.matchers.tuple.ITupleElementCodec;
+import tools.refinery.interpreter.matchers.tuple.Tuple;
+import tools.refinery.interpreter.matchers.tuple.TupleMask;
+import tools.refinery.interpreter.matchers.tuple.Tuples;
+import tools.refinery.interpreter.matchers.util.CollectionsFactory.MemoryType;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that {@link PackedMaskedTupleMemory} behaves like {@link DefaultMaskedTupleMemory}, both for signatures that
+ * can be packed and for those that fall back to signature tuples.
+ */
+public class PackedMaskedTupleMemoryTest {
+	private static final ITupleElementCodec INTEGER_CODEC = new ITupleElementCodec() {
+		@Override
+		public int encode(Object element) {
+			return element instanceof Integer value && value >= 0 ? value : NOT_ENCODABLE;
+		}
+
+		@Override
+		public Object decode(int code) {
+			return code;
+		}
+	};
+
+	private static final List<Tuple> TUPLES = List.of(
+			Tuples.flatTupleOf(1, 2, 3),
+			Tuples.flatTupleOf(1, 2, 4),
+			Tuples.flatTupleOf(2, 2, 3),
+			Tuples.flatTupleOf(1, "foo", 3),
+			Tuples.flatTupleOf(1, "foo", 5),
+			Tuples.flatTupleOf(1, -7, 3),
+			// Does not fit into the 21 bits available to each element of a ternary signature.
+			Tuples.flatTupleOf(1 << 22, 2, 3)
+	);
+
+	@Test
+	public void createPackedMemoryTest() {
+		var memory = MaskedTupleMemory.create(TupleMask.fromSelectedIndices(3, new int[]{0, 1}), MemoryType.SETS,
+				null, false, false, INTEGER_CODEC);
+		assertTrue(memory instanceof PackedMaskedTupleMemory);
+		var unaryMemory = MaskedTupleMemory.create(TupleMask.selectSingle(0, 3), MemoryType.SETS, null, false,
+				false, INTEGER_CODEC);
+		assertFalse(unaryMemory instanceof PackedMaskedTupleMemory);
+	}
+
+	@Test
+	public void binaryMaskTest() {
+		checkAgainstDefault(TupleMask.fromSelectedIndices(3, new int[]{0, 1}));
+	}
+
+	@Test
+	public void ternaryMaskTest() {
+		checkAgainstDefault(TupleMask.fromSelectedIndices(4, new int[]{2, 1, 0}));
+	}
+
+	private void checkAgainstDefault(TupleMask mask) {
+		var tuples = TUPLES.stream()
+				.map(tuple -> tuple.getSize() == mask.getSourceWidth() ? tuple : Tuples.flatTupleOf(
+						tuple.get(0), tuple.get(1), tuple.get(2), "bar"))
+				.toList();
+		var expected = new DefaultMaskedTupleMemory<Integer>(mask, MemoryType.SETS, null);
+		var actual = new PackedMaskedTupleMemory<Integer>(mask, MemoryType.SETS, null, INTEGER_CODEC);
+		for (var tuple : tuples) {
+			assertEquals(tuple.toString(), expected.add(tuple), actual.add(tuple));
+			assertSameContents(expected, actual, tuples);
+		}
+		assertThrows(IllegalStateException.class, () -> actual.add(tuples.getFirst()));
+		for (var tuple : tuples) {
+			assertEquals(tuple.toString(), expected.remove(tuple), actual.remove(tuple, mask.transform(tuple)));
+			assertSameContents(expected, actual, tuples);
+		}
+		assertThrows(IllegalStateException.class, () -> actual.remove(tuples.getFirst()));
+	}
+
+	private static void assertSameContents(MaskedTupleMemory<Integer> expected, MaskedTupleMemory<Integer> actual,
+										   List<Tuple> tuples) {
+		assertEquals(expected.getKeysetSize(), actual.getKeysetSize());
+		assertEquals(expected.getTotalSize(), actual.getTotalSize());
+		assertEquals(toSet(expected.getSignatures()), toSet(actual.getSignatures()));
+		assertEquals(toSet(expected::iterator), toSet(actual::iterator));
+		for (var tuple : tuples) {
+			var signature = expected.getMask().transform(tuple);
+			var expectedBucket = expected.get(signature);
+			var actualBucket = actual.get(signature);
+			if (expectedBucket == null) {
+				assertNull(actualBucket);
+			} else {
+				assertEquals(new HashSet<>(expectedBucket), new HashSet<>(actualBucket));
+			}
+		}
+	}
+
+	private static Set<Tuple> toSet(Iterable<Tuple> iterable) {
+		var set = new HashSet<Tuple>();
+		iterable.forEach(set::add);
+		return set;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -13,6 +13,7 @@ import tools.refinery.language.scoping.imports.ImportAdapterProvider;
 import tools.refinery.language.scoping.imports.ImportCollector;
 import tools.refinery.language.semantics.internal.MutableRelationCollector;
 import tools.refinery.language.semantics.internal.MutableSeed;
+import tools.refinery.language.semantics.internal.StoreStructureHasher;
 import tools.refinery.language.semantics.internal.annotations.TopLevelAnnotations;
 import tools.refinery.language.semantics.internal.query.FunctionCompiler;
 import tools.refinery.language.semantics.internal.query.QueryCompiler;
@@ -37,8 +38,10 @@ import tools.refinery.store.model.ModelStoreBuilder;
 import tools.refinery.store.model.ModelStoreConfiguration;
 import tools.refinery.store.reasoning.ReasoningAdapter;
 import tools.refinery.store.reasoning.literal.ConcretenessSpecification;
+import tools.refinery.store.reasoning.representation.AnyPartialSymbol;
 import tools.refinery.store.reasoning.representation.PartialFunction;
 import tools.refinery.store.reasoning.representation.PartialRelation;
+import tools.refinery.store.reasoning.representation.PartialSymbol;
 import tools.refinery.store.reasoning.scope.ScopePropagator;
 import tools.refinery.store.reasoning.seed.ModelSeed;
 import tools.refinery.store.reasoning.seed.Seed;
@@ -65,9 +68,18 @@ import tools.refinery.store.tuple.Tuple;
 import tools.refinery.store.tuple.Tuple1;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ModelInitializer {
+	/**
+	 * Minimum number of nodes and assertions for which seeds are built in parallel. Smaller problems are faster to
+	 * handle on a single thread.
+	 */
+	private static final int PARALLEL_SEED_THRESHOLD = 10_000;
+
 	@Inject
 	private SemanticsUtils semanticsUtils;
 
@@ -143,6 +155,10 @@ public class ModelInitializer {
 
 	private int ruleCount;
 
+	private final Map<MutableSeed<?>, PendingAssertions<?>> pendingAssertions = new LinkedHashMap<>();
+
+	private boolean parallelSeeds;
+
 	public void readProblem(Problem problem) {
 		if (this.problem != null) {
 			throw new IllegalArgumentException("Problem was already set");
@@ -186,20 +202,27 @@ public class ModelInitializer {
 			metamodel = metamodelBuilder.build();
 			problemTrace.setMetamodel(metamodel);
 			fixClassDeclarationAssertions();
+			var seedTasks = new ArrayList<Supplier<Consumer<ModelSeed.Builder>>>();
 			for (var entry : relationInfoMap.entrySet()) {
 				if (entry.getKey() instanceof ReferenceDeclaration) {
 					continue;
 				}
 				var info = entry.getValue();
-				var partialRelation = info.partialRelation();
-				modelSeedBuilder.seed(partialRelation, info.toSeed(nodeCount));
+				seedTasks.add(() -> {
+					var seed = info.toSeed(nodeCount);
+					return builder -> builder.seed(info.partialRelation(), seed);
+				});
 			}
 			for (var entry : functionInfoMap.entrySet()) {
 				if (entry.getKey() instanceof ReferenceDeclaration) {
 					continue;
 				}
-				entry.getValue().addToModelSeed(modelSeedBuilder);
+				var info = entry.getValue();
+				seedTasks.add(() -> info.createModelSeedAction(nodeCount));
 			}
+			// Seeds are added to the builder in a deterministic order, irrespective of the order of building them.
+			var seedActions = streamSeeds(seedTasks).map(Supplier::get).toList();
+			seedActions.forEach(seedAction -> seedAction.accept(modelSeedBuilder));
 			collectScopes();
 			modelSeedBuilder.seed(MultiObjectTranslator.COUNT_SYMBOL, builder -> builder
 					.reducedValue(CardinalityIntervals.SET)
@@ -257,6 +280,146 @@ public class ModelInitializer {
 		}
 	}
 
+	/**
+	 * Computes a canonical hash of everything {@link #configureStoreBuilder(ModelStoreBuilder)} depends on, including
+	 * the default values and mutability of symbols inferred from the model seed.
+	 * <p>
+	 * Problems with the same hash only differ in their model seeds, so they can share a single model store by calling
+	 * {@link #reuseModelStore(ModelStoreTrace, Collection)} instead of configuring a new one.
+	 *
+	 * @return The hexadecimal hash.
+	 */
+	public String getStoreStructureHash() {
+		checkProblem();
+		var hasher = new StoreStructureHasher(problemTrace.getNodeTrace(), semanticsUtils::getNameWithoutRootPrefix);
+		hasher.putBoolean(keepNonExistingObjects);
+		hasher.putBoolean(keepShadowPredicates);
+		hasher.putProblems(List.copyOf(importedProblems));
+		for (var individual : individuals) {
+			hasher.putInt(individual.get(0));
+		}
+		hasher.putInt(-1);
+		for (var entry : relationInfoMap.entrySet()) {
+			var partialRelation = entry.getValue().partialRelation();
+			if (modelSeed.containsSeed(partialRelation)) {
+				var seed = modelSeed.getSeed(partialRelation);
+				hasher.putString(partialRelation.name());
+				hasher.putString(seed.majorityValue().toString());
+				if (entry.getKey() instanceof PredicateDefinition predicateDefinition &&
+						!ProblemUtil.isBasePredicate(predicateDefinition)) {
+					hasher.putBoolean(hasNonDefaultValue(seed, getDefaultValue(partialRelation)));
+				}
+			}
+		}
+		for (var entry : functionInfoMap.entrySet()) {
+			var partialFunction = entry.getValue().partialFunction();
+			if (modelSeed.containsSeed(partialFunction)) {
+				var seed = modelSeed.getSeed(partialFunction);
+				hasher.putString(partialFunction.name());
+				hasher.putString(String.valueOf(seed.majorityValue()));
+				if (entry.getKey() instanceof FunctionDefinition functionDefinition &&
+						!ProblemUtil.isBaseFunction(functionDefinition)) {
+					hasher.putBoolean(hasNonDefaultValue(seed, seed.majorityValue()));
+				}
+			}
+		}
+		return hasher.finish();
+	}
+
+	/**
+	 * Creates the trace required to reuse the model store configured for this problem with
+	 * {@link #reuseModelStore(ModelStoreTrace, Collection)}.
+	 *
+	 * @return The model store trace.
+	 */
+	public ModelStoreTrace getModelStoreTrace() {
+		checkProblem();
+		var relationSymbols = new HashMap<String, AnyPartialSymbol>();
+		for (var partialSymbol : problemTrace.getRelationTrace().values()) {
+			relationSymbols.put(partialSymbol.name(), partialSymbol);
+		}
+		var ruleNames = new HashMap<Rule, String>();
+		// Rules are only traced back to their definitions for diagnostics, so we skip unnamed rule definitions.
+		for (var entry : problemTrace.getInverseRuleDefinitionTrace().entrySet()) {
+			semanticsUtils.getNameWithoutRootPrefix(entry.getValue())
+					.ifPresent(name -> ruleNames.put(entry.getKey(), name));
+		}
+		return new ModelStoreTrace(Collections.unmodifiableMap(relationSymbols), problemTrace.getMetamodel(),
+				Collections.unmodifiableMap(ruleNames));
+	}
+
+	/**
+	 * Uses the partial symbols of a model store configured for another problem instead of configuring a new model
+	 * store. The other problem must have the same {@link #getStoreStructureHash()} as this one.
+	 *
+	 * @param storeTrace   The trace of the problem the model store was configured for.
+	 * @param storeSymbols The partial symbols of the model store.
+	 * @throws IllegalArgumentException If some partial symbol of this problem has no counterpart in the model store.
+	 */
+	public void reuseModelStore(ModelStoreTrace storeTrace, Collection<AnyPartialSymbol> storeSymbols) {
+		checkProblem();
+		// Symbols traced to relations of the problem take precedence over internal symbols with the same name.
+		var storeSymbolsByName = new HashMap<>(storeTrace.relationSymbols());
+		for (var storeSymbol : storeSymbols) {
+			storeSymbolsByName.putIfAbsent(storeSymbol.name(), storeSymbol);
+		}
+		var replacements = new HashMap<AnyPartialSymbol, AnyPartialSymbol>();
+		for (var partialSymbol : problemTrace.getRelationTrace().values()) {
+			replacements.put(partialSymbol, getStoreSymbol(partialSymbol, storeSymbolsByName));
+		}
+		var seedBuilder = ModelSeed.builder(modelSeed.getNodeCount());
+		for (var partialSymbol : modelSeed.getSeededSymbols()) {
+			var storeSymbol = replacements.computeIfAbsent(partialSymbol,
+					key -> getStoreSymbol(key, storeSymbolsByName));
+			reuseSeed(seedBuilder, (PartialSymbol<?, ?>) partialSymbol, (PartialSymbol<?, ?>) storeSymbol);
+		}
+		modelSeed = seedBuilder.build();
+		problemTrace.replacePartialSymbols(replacements);
+		problemTrace.setMetamodel(storeTrace.metamodel());
+		metamodel = storeTrace.metamodel();
+		var ruleDefinitions = new HashMap<String, RuleDefinition>();
+		for (var importedProblem : importedProblems) {
+			for (var statement : importedProblem.getStatements()) {
+				if (statement instanceof RuleDefinition ruleDefinition) {
+					semanticsUtils.getNameWithoutRootPrefix(ruleDefinition)
+							.ifPresent(name -> ruleDefinitions.put(name, ruleDefinition));
+				}
+			}
+		}
+		for (var entry : storeTrace.ruleNames().entrySet()) {
+			var ruleDefinition = ruleDefinitions.get(entry.getValue());
+			if (ruleDefinition != null) {
+				problemTrace.putRuleDefinition(ruleDefinition, entry.getKey());
+			}
+		}
+		if (!keepShadowPredicates) {
+			problemTrace.removeShadowRelations();
+		}
+	}
+
+	private static AnyPartialSymbol getStoreSymbol(AnyPartialSymbol partialSymbol,
+												   Map<String, AnyPartialSymbol> storeSymbolsByName) {
+		var storeSymbol = storeSymbolsByName.get(partialSymbol.name());
+		if (storeSymbol == null || storeSymbol.arity() != partialSymbol.arity() ||
+				!storeSymbol.abstractDomain().abstractType().equals(partialSymbol.abstractDomain().abstractType())) {
+			throw new IllegalArgumentException("No partial symbol in model store for " + partialSymbol);
+		}
+		return storeSymbol;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A extends AbstractValue<A, ?>> void reuseSeed(ModelSeed.Builder seedBuilder,
+														   PartialSymbol<?, ?> partialSymbol,
+														   PartialSymbol<?, ?> storeSymbol) {
+		// {@link #getStoreSymbol(AnyPartialSymbol, Map)} has already checked that both symbols have the same type.
+		var seed = modelSeed.getSeed((PartialSymbol<A, ?>) partialSymbol);
+		seedBuilder.seed((PartialSymbol<A, ?>) storeSymbol, seed);
+	}
+
+	private <A> boolean hasNonDefaultValue(Seed<A> seed, A defaultValue) {
+		return seed.getCursor(defaultValue, problemTrace.getNodeTrace().size()).move();
+	}
+
 	private void checkProblem() {
 		if (problem == null) {
 			throw new IllegalStateException("Problem is not set");
@@ -508,7 +671,7 @@ public class ModelInitializer {
 		// because we have created them at the same time.
 		@SuppressWarnings("unchecked")
 		var functionInfo = (FunctionInfo<A, C>) functionInfoMap.get(referenceDeclaration);
-		var seed = functionInfo.toSeed();
+		var seed = functionInfo.toSeed(nodeCount);
 		modelSeedBuilder.seed(partialFunction, seed);
 		metamodelBuilder.attribute(partialFunction, new AttributeInfo(source, seed.majorityValue()));
 	}
@@ -562,6 +725,32 @@ public class ModelInitializer {
 				}
 			}
 		}
+		mergePendingAssertions();
+	}
+
+	private <T> void deferMergeValue(MutableSeed<T> seed, Tuple tuple, T value) {
+		// The key of the map is the seed itself.
+		@SuppressWarnings("unchecked")
+		var pending = (PendingAssertions<T>) pendingAssertions.computeIfAbsent(seed,
+				_ -> new PendingAssertions<>(seed));
+		pending.add(tuple, value);
+	}
+
+	private void mergePendingAssertions() {
+		var batches = List.copyOf(pendingAssertions.values());
+		pendingAssertions.clear();
+		int assertionCount = 0;
+		for (var batch : batches) {
+			assertionCount += batch.size();
+		}
+		parallelSeeds = nodeCount + assertionCount >= PARALLEL_SEED_THRESHOLD;
+		// Each seed is only modified by a single task and merging values is commutative, so the resulting seeds don't
+		// depend on the order of the tasks.
+		streamSeeds(batches).forEach(PendingAssertions::mergeAll);
+	}
+
+	private <T> Stream<T> streamSeeds(List<T> tasks) {
+		return parallelSeeds && tasks.size() > 1 ? tasks.parallelStream() : tasks.stream();
 	}
 
 	private void collectClassDeclarationAssertions(ClassDeclaration classDeclaration) {
@@ -627,10 +816,12 @@ public class ModelInitializer {
 					.formatted(partialRelation.arity(), partialRelation, tuple.getSize()));
 		}
 		var value = parseConstant(assertion.getValue(), TruthValue.class);
-		if (assertion.isDefault()) {
-			info.defaultAssertions().mergeValue(tuple, value);
+		var seed = assertion.isDefault() ? info.defaultAssertions() : info.assertions();
+		if (relation instanceof EnumDeclaration) {
+			// Enum declarations overwrite assertions, so we must merge in the order of the statements.
+			seed.mergeValue(tuple, value);
 		} else {
-			info.assertions().mergeValue(tuple, value);
+			deferMergeValue(seed, tuple, value);
 		}
 	}
 
@@ -643,11 +834,8 @@ public class ModelInitializer {
 					.formatted(partialFunction.arity(), partialFunction, tuple.getSize()));
 		}
 		var abstractValue = parseConstant(assertion.getValue(), partialFunction.abstractDomain().abstractType());
-		if (assertion.isDefault()) {
-			functionInfo.defaultAssertions().mergeValue(tuple, abstractValue);
-		} else {
-			functionInfo.assertions().mergeValue(tuple, abstractValue);
-		}
+		var seed = assertion.isDefault() ? functionInfo.defaultAssertions() : functionInfo.assertions();
+		deferMergeValue(seed, tuple, abstractValue);
 	}
 
 	private <T> T parseConstant(Expr value, Class<T> type) {
@@ -775,10 +963,9 @@ public class ModelInitializer {
 			defaultValue = TruthValue.FALSE;
 		} else {
 			var seed = modelSeed.getSeed(partialRelation);
-			defaultValue = seed.majorityValue() == TruthValue.FALSE ? TruthValue.FALSE : TruthValue.UNKNOWN;
-			var cursor = seed.getCursor(defaultValue, problemTrace.getNodeTrace().size());
+			defaultValue = getDefaultValue(partialRelation);
 			// The symbol should be mutable if there is at least one non-default entry in the seed.
-			mutable = mutable || cursor.move();
+			mutable = mutable || hasNonDefaultValue(seed, defaultValue);
 		}
 		var parameterTypes = getParameterTypes(predicateDefinition, null);
 		var supersets = getSupersets(predicateDefinition);
@@ -920,8 +1107,8 @@ public class ModelInitializer {
 		}
 		var seed = modelSeed.getSeed(partialFunction);
 		var defaultValue = seed.majorityValue();
-		var cursor = seed.getCursor(defaultValue, problemTrace.getNodeTrace().size());
-		boolean mutable = mutableRelationCollector.isMutable(functionDefinition) || cursor.move();
+		boolean mutable = mutableRelationCollector.isMutable(functionDefinition) ||
+				hasNonDefaultValue(seed, defaultValue);
 		var translator = new FunctionTranslator<>(partialFunction, domainRelation, query, defaultValue, mutable);
 		storeBuilder.with(translator);
 		var computedValueFunction = functionDefinition.getComputedValue();
@@ -1009,7 +1196,7 @@ public class ModelInitializer {
 				}
 				defaultAssertions.setAllMissing(TruthValue.FALSE);
 			}
-			return defaultAssertions;
+			return defaultAssertions.toCompactSeed(nodeCount);
 		}
 	}
 
@@ -1022,13 +1209,39 @@ public class ModelInitializer {
 					MutableSeed.of(partialFunction.arity(), abstractDomain, abstractDomain.unknown()));
 		}
 
-		public Seed<A> toSeed() {
+		public Seed<A> toSeed(int nodeCount) {
 			defaultAssertions.overwriteValues(assertions);
-			return defaultAssertions;
+			return defaultAssertions.toCompactSeed(nodeCount);
 		}
 
-		public void addToModelSeed(ModelSeed.Builder modelSeedBuilder) {
-			modelSeedBuilder.seed(partialFunction, toSeed());
+		public Consumer<ModelSeed.Builder> createModelSeedAction(int nodeCount) {
+			var seed = toSeed(nodeCount);
+			return modelSeedBuilder -> modelSeedBuilder.seed(partialFunction, seed);
+		}
+	}
+
+	private static final class PendingAssertions<T> {
+		private final MutableSeed<T> seed;
+		private final List<Tuple> tuples = new ArrayList<>();
+		private final List<T> values = new ArrayList<>();
+
+		public PendingAssertions(MutableSeed<T> seed) {
+			this.seed = seed;
+		}
+
+		public void add(Tuple tuple, T value) {
+			tuples.add(tuple);
+			values.add(value);
+		}
+
+		public int size() {
+			return tuples.size();
+		}
+
+		public void mergeAll() {
+			for (int i = 0; i < tuples.size(); i++) {
+				seed.mergeValue(tuples.get(i), values.get(i));
+			}
 		}
 	}
 
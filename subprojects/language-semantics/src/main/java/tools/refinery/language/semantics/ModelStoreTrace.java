@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.semantics;
+
+import tools.refinery.store.dse.transition.Rule;
+import tools.refinery.store.reasoning.representation.AnyPartialSymbol;
+import tools.refinery.store.reasoning.translator.metamodel.Metamodel;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * The parts of a {@link ProblemTrace} needed to reuse a model store for another problem with
+ * {@link ModelInitializer#reuseModelStore(ModelStoreTrace, Collection)}.
+ * <p>
+ * Unlike the {@link ProblemTrace}, it doesn't refer to the problem the model store was configured for, so it can be
+ * kept along with the model store without also keeping the problem, its resource, and its node model in memory.
+ * </p>
+ *
+ * @param relationSymbols The partial symbols traced to relations of the problem by their name.
+ * @param metamodel       The metamodel of the model store.
+ * @param ruleNames       The names of the rule definitions the rules of the model store were translated from.
+ */
+public record ModelStoreTrace(Map<String, AnyPartialSymbol> relationSymbols, Metamodel metamodel,
+							  Map<Rule, String> ruleNames) {
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -114,6 +114,15 @@ class ProblemTraceImpl implements ProblemTrace {
 		}
 	}
 
+	void replacePartialSymbols(Map<AnyPartialSymbol, AnyPartialSymbol> replacements) {
+		mutableInverseTrace.clear();
+		for (var entry : mutableRelationTrace.entrySet()) {
+			var replacement = replacements.getOrDefault(entry.getValue(), entry.getValue());
+			entry.setValue(replacement);
+			mutableInverseTrace.put(replacement, entry.getKey());
+		}
+	}
+
 	void removeShadowRelations() {
 		var iterator = mutableRelationTrace.entrySet().iterator();
 		while (iterator.hasNext()) {
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -13,17 +13,21 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.conversion.IValueConverterService;
+import org.eclipse.xtext.naming.IQualifiedNameConverter;
 import org.eclipse.xtext.naming.IQualifiedNameProvider;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IResourceFactory;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.scoping.IScopeProvider;
+import org.eclipse.xtext.serializer.ISerializer;
 import tools.refinery.language.expressions.BuiltInTerms;
 import tools.refinery.language.expressions.BuiltinTermInterpreter;
 import tools.refinery.language.model.problem.*;
 import tools.refinery.language.naming.NamingUtil;
 import tools.refinery.language.scoping.imports.ImportAdapterProvider;
+import tools.refinery.language.serializer.ProblemCrossReferenceSerializer;
 import tools.refinery.language.typesystem.DataExprType;
 import tools.refinery.language.typesystem.LiteralType;
 import tools.refinery.language.typesystem.SignatureProvider;
@@ -39,13 +43,9 @@ import tools.refinery.store.reasoning.translator.typehierarchy.InferredType;
 import tools.refinery.store.reasoning.translator.typehierarchy.TypeHierarchyTranslator;
 import tools.refinery.store.tuple.Tuple;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.util.Map;
-import java.util.Objects;
-import java.util.TreeMap;
-import java.util.UUID;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -59,6 +59,9 @@ public class SolutionSerializer {
 	@Inject
 	private IQualifiedNameProvider qualifiedNameProvider;
 
+	@Inject
+	private IQualifiedNameConverter qualifiedNameConverter;
+
 	@Inject
 	private SemanticsUtils semanticsUtils;
 
@@ -74,6 +77,15 @@ public class SolutionSerializer {
 	@Inject
 	private SignatureProvider signatureProvider;
 
+	@Inject
+	private ProblemCrossReferenceSerializer crossReferenceSerializer;
+
+	@Inject
+	private IValueConverterService valueConverterService;
+
+	@Inject
+	private ISerializer serializer;
+
 	private ProblemTrace trace;
 	private Model model;
 	private ReasoningAdapter reasoningAdapter;
@@ -83,7 +95,7 @@ public class SolutionSerializer {
 	private QualifiedName originalProblemName;
 	private Problem problem;
 	private QualifiedName newProblemName;
-	private NodeDeclaration nodeDeclaration;
+	private SolutionWriter writer;
 	private final MutableIntObjectMap<Node> nodes = IntObjectMaps.mutable.empty();
 	private boolean preserveNewNodes;
 
@@ -96,12 +108,51 @@ public class SolutionSerializer {
 	}
 
 	public Problem serializeSolution(ProblemTrace trace, Model model) {
-		var uri = URI.createURI("__solution_%s.%s".formatted(UUID.randomUUID().toString().replace('-', '_'),
-				ProblemUtil.MODULE_EXTENSION));
-		return serializeSolution(trace, model, uri);
+		return serializeSolution(trace, model, createSolutionUri());
 	}
 
 	public Problem serializeSolution(ProblemTrace trace, Model model, URI uri) {
+		initialize(trace, model, uri);
+		writer = new ProblemSolutionWriter();
+		writeAssertions();
+		return problem;
+	}
+
+	/**
+	 * Writes the solution directly as Refinery source text without creating EMF objects for the assertions.
+	 * <p>
+	 * Only the statements of the original problem (without assertions and scope declarations) are serialized by the
+	 * Xtext serializer. Node declarations and assertions are written to the output as soon as they are read from the
+	 * model, so this method remains usable for solutions with a large number of nodes.
+	 * </p>
+	 *
+	 * @param trace        The trace of the problem the model was created from.
+	 * @param model        The model to serialize.
+	 * @param outputStream The output stream to write the UTF-8 encoded source text to. It will not be closed.
+	 * @throws IOException If the output could not be written.
+	 */
+	public void writeSolution(ProblemTrace trace, Model model, OutputStream outputStream) throws IOException {
+		initialize(trace, model, createSolutionUri());
+		var newResource = problem.eResource();
+		try {
+			var textWriter = new TextSolutionWriter(outputStream);
+			writer = textWriter;
+			writeAssertions();
+			textWriter.flush();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			// The copied problem was only needed to resolve names, so we shouldn't leave it in the resource set.
+			newResource.getResourceSet().getResources().remove(newResource);
+		}
+	}
+
+	private static URI createSolutionUri() {
+		return URI.createURI("__solution_%s.%s".formatted(UUID.randomUUID().toString().replace('-', '_'),
+				ProblemUtil.MODULE_EXTENSION));
+	}
+
+	private void initialize(ProblemTrace trace, Model model, URI uri) {
 		this.trace = trace;
 		this.model = model;
 		reasoningAdapter = model.getAdapter(ReasoningAdapter.class);
@@ -116,23 +167,24 @@ public class SolutionSerializer {
 		newProblemName = qualifiedNameProvider.getFullyQualifiedName(originalProblem);
 		problem.getStatements().removeIf(SolutionSerializer::shouldRemoveStatement);
 		removeNonExistentImplicitNodes();
-		nodeDeclaration = ProblemFactory.eINSTANCE.createNodeDeclaration();
-		nodeDeclaration.setKind(NodeKind.NODE);
-		nodeDeclaration.getNodes().addAll(problem.getNodes());
-		problem.getStatements().add(nodeDeclaration);
 		nameProvider.setProblem(problem);
-		addExistsAssertions();
-		addClassAssertions();
+	}
+
+	private void writeAssertions() {
+		var newNodes = collectNodes();
+		var types = trace.getMetamodel().typeHierarchy().getPreservedTypes().keySet().stream()
+				.collect(Collectors.toMap(Function.identity(), this::findRelation));
+		createNewNodes(types);
+		writer.startAssertions();
+		addExistsAssertions(newNodes);
+		addClassAssertions(types);
 		addReferenceAssertions();
 		addAttributeAssertions();
 		addBasePredicateAssertions();
 		addComputedPredicateAssertions();
 		addBaseFunctionAssertions();
 		addComputedFunctionAssertions();
-		if (nodeDeclaration.getNodes().isEmpty()) {
-			problem.getStatements().remove(nodeDeclaration);
-		}
-		return problem;
+		writer.finish();
 	}
 
 	private static boolean shouldRemoveStatement(Statement statement) {
@@ -234,26 +286,7 @@ public class SolutionSerializer {
 		return semanticsUtils.maybeGetLocalElement(problem, qualifiedName, Node.class, ProblemPackage.Literals.NODE);
 	}
 
-	private void addAssertion(Relation relation, LogicValue value, Node... arguments) {
-		var logicConstant = ProblemFactory.eINSTANCE.createLogicConstant();
-		logicConstant.setLogicValue(value);
-		addAssertion(relation, logicConstant, arguments);
-	}
-
-	private void addAssertion(Relation relation, Expr value, Node... arguments) {
-		var assertion = ProblemFactory.eINSTANCE.createAssertion();
-		assertion.setRelation(relation);
-		for (var node : arguments) {
-			var argument = ProblemFactory.eINSTANCE.createNodeAssertionArgument();
-			argument.setNode(node);
-			assertion.getArguments().add(argument);
-		}
-		assertion.setValue(value);
-		problem.getStatements().add(assertion);
-	}
-
-	private void addExistsAssertions() {
-		var builtinSymbols = importAdapterProvider.getBuiltinSymbols(problem);
+	private SortedMap<Integer, Node> collectNodes() {
 		// Make sure to output exists assertions in a deterministic order.
 		var sortedNewNodes = new TreeMap<Integer, Node>();
 		for (var pair : trace.getNodeTrace().keyValuesView()) {
@@ -268,59 +301,72 @@ public class SolutionSerializer {
 			// we only need to add !exists assertions to ::new nodes and explicitly declared nodes that do not exist.
 			if (ProblemUtil.isMultiNode(originalNode) || (ProblemUtil.isDeclaredNode(originalNode) && !isExistingNode(nodeId))) {
 				sortedNewNodes.put(nodeId, newNode);
+				// If a node is a new node of the class, we should replace it with a normal node unless
+				// {@code preserveNewNodes} is set.
+				if (preserveNewNodes && ProblemUtil.isMultiNode(newNode) && isExistingNode(nodeId)) {
+					nodes.put(nodeId, newNode);
+				}
 			} else {
 				nodes.put(nodeId, newNode);
 			}
 		}
-		for (var entry : sortedNewNodes.entrySet()) {
-			int nodeId = entry.getKey();
-			var newNode = entry.getValue();
-			// If a node is a new node of the class, we should replace it with a normal node unless
-			// {@code preserveNewNodes} is set.
-			if (preserveNewNodes && ProblemUtil.isMultiNode(newNode) && isExistingNode(nodeId)) {
-				addAssertion(builtinSymbols.exists(), LogicValue.TRUE, newNode);
-				addAssertion(builtinSymbols.equals(), LogicValue.TRUE, newNode, newNode);
-				nodes.put(nodeId, newNode);
+		return sortedNewNodes;
+	}
+
+	private void createNewNodes(Map<PartialRelation, Relation> types) {
+		var cursor = model.getInterpretation(TypeHierarchyTranslator.TYPE_SYMBOL).getAll();
+		while (cursor.move()) {
+			int nodeId = cursor.getKey().get(0);
+			if (nodes.containsKey(nodeId) || !isExistingNode(nodeId)) {
+				continue;
+			}
+			var candidateRelation = types.get(cursor.getValue().candidateType());
+			if (candidateRelation instanceof EnumDeclaration) {
+				// Enum literals are never created as new nodes.
+				continue;
+			}
+			var nodeName = nameProvider.getNextName(candidateRelation.getName());
+			writer.addNewNode(nodeId, nodeName);
+		}
+	}
+
+	private void addExistsAssertions(SortedMap<Integer, Node> sortedNewNodes) {
+		var builtinSymbols = importAdapterProvider.getBuiltinSymbols(problem);
+		for (int nodeId : sortedNewNodes.keySet()) {
+			var arguments = Tuple.of(nodeId);
+			// Preserved new nodes were already added to the nodes map by collectNodes.
+			if (nodes.containsKey(nodeId)) {
+				writer.addAssertion(builtinSymbols.exists(), LogicValue.TRUE, arguments);
+				writer.addAssertion(builtinSymbols.equals(), LogicValue.TRUE, Tuple.of(nodeId, nodeId));
 			} else {
-				addAssertion(builtinSymbols.exists(), LogicValue.FALSE, newNode);
+				writer.addAssertion(builtinSymbols.exists(), LogicValue.FALSE, arguments);
 			}
 		}
 	}
 
-	private void addClassAssertions() {
-		var types = trace.getMetamodel().typeHierarchy().getPreservedTypes().keySet().stream()
-				.collect(Collectors.toMap(Function.identity(), this::findRelation));
+	private void addClassAssertions(Map<PartialRelation, Relation> types) {
 		var cursor = model.getInterpretation(TypeHierarchyTranslator.TYPE_SYMBOL).getAll();
 		while (cursor.move()) {
 			var key = cursor.getKey();
 			var nodeId = key.get(0);
 			if (isExistingNode(nodeId)) {
-				createNodeAndAssertType(nodeId, cursor.getValue(), types);
+				assertType(key, cursor.getValue(), types);
 			}
 		}
 	}
 
-	private void createNodeAndAssertType(int nodeId, InferredType inferredType, Map<PartialRelation, Relation> types) {
+	private void assertType(Tuple arguments, InferredType inferredType, Map<PartialRelation, Relation> types) {
 		var candidateTypeSymbol = inferredType.candidateType();
 		var candidateRelation = types.get(candidateTypeSymbol);
 		if (candidateRelation instanceof EnumDeclaration) {
 			// Type assertions for enum literals are added implicitly.
 			return;
 		}
-		Node node = nodes.get(nodeId);
-		if (node == null) {
-			var typeName = candidateRelation.getName();
-			var nodeName = nameProvider.getNextName(typeName);
-			node = ProblemFactory.eINSTANCE.createNode();
-			node.setName(nodeName);
-			nodeDeclaration.getNodes().add(node);
-			nodes.put(nodeId, node);
-		}
-		addAssertion(candidateRelation, LogicValue.TRUE, node);
+		writer.addAssertion(candidateRelation, LogicValue.TRUE, arguments);
 		var typeAnalysisResult = trace.getMetamodel().typeHierarchy().getPreservedTypes().get(candidateTypeSymbol);
 		for (var subtype : typeAnalysisResult.getDirectSubtypes()) {
 			var subtypeRelation = types.get(subtype);
-			addAssertion(subtypeRelation, LogicValue.FALSE, node);
+			writer.addAssertion(subtypeRelation, LogicValue.FALSE, arguments);
 		}
 	}
 
@@ -366,8 +412,6 @@ public class SolutionSerializer {
 	private <A extends AbstractValue<A, C>, C> void addAssertions(PartialSymbol<A, C> partialSymbol) {
 		var relation = findRelation(partialSymbol);
 		var cursor = reasoningAdapter.getPartialInterpretation(Concreteness.CANDIDATE, partialSymbol).getAll();
-		// Make sure to output assertions in a deterministic order.
-		var sortedTuples = new TreeMap<Tuple, Expr>();
 		var interpreter = importAdapterProvider.getTermInterpreter(relation);
 		var resultType = signatureProvider.getSignature(relation).resultType();
 		var dataType = switch (resultType) {
@@ -375,55 +419,40 @@ public class SolutionSerializer {
 			case DataExprType dataExprType -> dataExprType;
 			default -> throw new IllegalArgumentException("Invalid result type for relation: " + relation.getName());
 		};
+		var entries = new ArrayList<AssertionEntry>();
 		while (cursor.move()) {
 			var tuple = cursor.getKey();
 			if (isEndpointMissing(tuple)) {
 				continue;
 			}
-			var value = interpreter.serialize(dataType, cursor.getValue())
-					.orElseThrow(() -> new IllegalArgumentException(
-							"Failed to serialize value for relation: " + relation.getName()));
-			sortedTuples.put(tuple, value);
+			entries.add(new AssertionEntry(tuple, cursor.getValue()));
 		}
-		addAssertions(sortedTuples, relation);
+		writeAssertions(relation, entries, value -> interpreter.serialize(dataType, value)
+				.orElseThrow(() -> new IllegalArgumentException(
+						"Failed to serialize value for relation: " + relation.getName())));
 	}
 
 	private boolean isEndpointMissing(Tuple tuple) {
 		int arity = tuple.getSize();
 		for (int i = 0; i < arity; i++) {
-			if (!nodes.containsKey(tuple.get(i))) {
+			if (!writer.containsNode(tuple.get(i))) {
 				return true;
 			}
 		}
 		return false;
 	}
 
-	private void addAssertions(Map<Tuple, Expr> sortedTuples, Relation relation) {
-		for (var entry : sortedTuples.entrySet()) {
-			var tuple = entry.getKey();
-			int arity = tuple.getSize();
-			var arguments = new Node[arity];
-			for (int i = 0; i < arity; i++) {
-				arguments[i] = nodes.get(tuple.get(i));
-			}
-			addAssertion(relation, entry.getValue(), arguments);
-		}
+	private void writeAssertions(Relation relation, List<AssertionEntry> entries,
+								 Function<Object, Expr> valueSerializer) {
+		// Make sure to output assertions in a deterministic order. Sorting the list in place is cheaper than
+		// building a sorted map of tuples.
+		entries.sort(Comparator.comparing(AssertionEntry::tuple));
+		writer.addAssertions(relation, entries, valueSerializer);
 	}
 
 	private void addDefaultAssertion(PartialRelation partialRelation) {
 		var relation = findRelation(partialRelation);
-		var assertion = ProblemFactory.eINSTANCE.createAssertion();
-		assertion.setDefault(true);
-		assertion.setRelation(relation);
-		int arity = signatureProvider.getArity(relation);
-		for (int i = 0; i < arity; i++) {
-			var argument = ProblemFactory.eINSTANCE.createWildcardAssertionArgument();
-			assertion.getArguments().add(argument);
-		}
-		var logicConstant = ProblemFactory.eINSTANCE.createLogicConstant();
-		logicConstant.setLogicValue(LogicValue.FALSE);
-		assertion.setValue(logicConstant);
-		problem.getStatements().add(assertion);
+		writer.addDefaultAssertion(relation, signatureProvider.getArity(relation));
 	}
 
 	private void addComputedPredicateAssertions() {
@@ -444,7 +473,7 @@ public class SolutionSerializer {
 		var assertedInterpretation = reasoningAdapter.getPartialInterpretation(Concreteness.CANDIDATE,
 				partialRelation);
 		var cursor = reasoningAdapter.getPartialInterpretation(Concreteness.CANDIDATE, computedRelation).getAll();
-		var sortedTuples = new TreeMap<Tuple, Expr>();
+		var entries = new ArrayList<AssertionEntry>();
 		while (cursor.move()) {
 			var tuple = cursor.getKey();
 			if (isEndpointMissing(tuple)) {
@@ -456,10 +485,11 @@ public class SolutionSerializer {
 					throw new IllegalStateException("Invalid %s UNKNOWN asserted for tuple %s"
 							.formatted(partialRelation, tuple));
 				}
-				sortedTuples.put(tuple, BuiltinTermInterpreter.createLogicConstant(value));
+				entries.add(new AssertionEntry(tuple, value));
 			}
 		}
-		addAssertions(sortedTuples, relation);
+		writeAssertions(relation, entries,
+				value -> BuiltinTermInterpreter.createLogicConstant((TruthValue) value));
 	}
 
 	private void addBaseFunctionAssertions() {
@@ -497,7 +527,7 @@ public class SolutionSerializer {
 		var assertedInterpretation = reasoningAdapter.getPartialInterpretation(Concreteness.CANDIDATE,
 				uncheckedPartialFunction);
 		var cursor = reasoningAdapter.getPartialInterpretation(Concreteness.CANDIDATE, computedFunction).getAll();
-		var sortedTuples = new TreeMap<Tuple, Expr>();
+		var entries = new ArrayList<AssertionEntry>();
 		while (cursor.move()) {
 			var tuple = cursor.getKey();
 			if (isEndpointMissing(tuple)) {
@@ -505,12 +535,326 @@ public class SolutionSerializer {
 			}
 			var value = assertedInterpretation.get(tuple);
 			if (!Objects.equals(value, cursor.getValue())) {
-				var expr = interpreter.serialize(dataType, value)
-						.orElseThrow(() -> new IllegalArgumentException(
-								"Failed to serialize value for function: " + relation.getName()));
-				sortedTuples.put(tuple, expr);
+				entries.add(new AssertionEntry(tuple, value));
 			}
 		}
-		addAssertions(sortedTuples, relation);
+		writeAssertions(relation, entries, value -> interpreter.serialize(dataType, value)
+				.orElseThrow(() -> new IllegalArgumentException(
+						"Failed to serialize value for function: " + relation.getName())));
+	}
+
+	private record AssertionEntry(Tuple tuple, Object value) {
+	}
+
+	private interface SolutionWriter {
+		void addNewNode(int nodeId, String name);
+
+		boolean containsNode(int nodeId);
+
+		void startAssertions();
+
+		void addAssertion(Relation relation, LogicValue value, Tuple arguments);
+
+		void addAssertions(Relation relation, List<AssertionEntry> entries, Function<Object, Expr> valueSerializer);
+
+		void addDefaultAssertion(Relation relation, int arity);
+
+		void finish();
+	}
+
+	/**
+	 * Adds node declarations and assertions to the copied {@link Problem} as EMF objects.
+	 */
+	private class ProblemSolutionWriter implements SolutionWriter {
+		private final NodeDeclaration nodeDeclaration;
+		private final MutableIntObjectMap<Node> newNodes = IntObjectMaps.mutable.empty();
+
+		public ProblemSolutionWriter() {
+			nodeDeclaration = ProblemFactory.eINSTANCE.createNodeDeclaration();
+			nodeDeclaration.setKind(NodeKind.NODE);
+			nodeDeclaration.getNodes().addAll(problem.getNodes());
+			problem.getStatements().add(nodeDeclaration);
+		}
+
+		@Override
+		public void addNewNode(int nodeId, String name) {
+			var node = ProblemFactory.eINSTANCE.createNode();
+			node.setName(name);
+			nodeDeclaration.getNodes().add(node);
+			newNodes.put(nodeId, node);
+		}
+
+		@Override
+		public boolean containsNode(int nodeId) {
+			return nodes.containsKey(nodeId) || newNodes.containsKey(nodeId);
+		}
+
+		private Node getNode(int nodeId) {
+			var node = nodes.get(nodeId);
+			return node == null ? newNodes.get(nodeId) : node;
+		}
+
+		@Override
+		public void startAssertions() {
+			// Assertions are added after the node declaration, which is already in place.
+		}
+
+		@Override
+		public void addAssertion(Relation relation, LogicValue value, Tuple arguments) {
+			var logicConstant = ProblemFactory.eINSTANCE.createLogicConstant();
+			logicConstant.setLogicValue(value);
+			addAssertion(relation, logicConstant, arguments);
+		}
+
+		@Override
+		public void addAssertions(Relation relation, List<AssertionEntry> entries,
+								  Function<Object, Expr> valueSerializer) {
+			for (var entry : entries) {
+				addAssertion(relation, valueSerializer.apply(entry.value()), entry.tuple());
+			}
+		}
+
+		private void addAssertion(Relation relation, Expr value, Tuple arguments) {
+			var assertion = ProblemFactory.eINSTANCE.createAssertion();
+			assertion.setRelation(relation);
+			int arity = arguments.getSize();
+			for (int i = 0; i < arity; i++) {
+				var argument = ProblemFactory.eINSTANCE.createNodeAssertionArgument();
+				argument.setNode(getNode(arguments.get(i)));
+				assertion.getArguments().add(argument);
+			}
+			assertion.setValue(value);
+			problem.getStatements().add(assertion);
+		}
+
+		@Override
+		public void addDefaultAssertion(Relation relation, int arity) {
+			var assertion = ProblemFactory.eINSTANCE.createAssertion();
+			assertion.setDefault(true);
+			assertion.setRelation(relation);
+			for (int i = 0; i < arity; i++) {
+				var argument = ProblemFactory.eINSTANCE.createWildcardAssertionArgument();
+				assertion.getArguments().add(argument);
+			}
+			var logicConstant = ProblemFactory.eINSTANCE.createLogicConstant();
+			logicConstant.setLogicValue(LogicValue.FALSE);
+			assertion.setValue(logicConstant);
+			problem.getStatements().add(assertion);
+		}
+
+		@Override
+		public void finish() {
+			if (nodeDeclaration.getNodes().isEmpty()) {
+				problem.getStatements().remove(nodeDeclaration);
+			}
+		}
+	}
+
+	/**
+	 * Writes node declarations and assertions directly to an output stream.
+	 * <p>
+	 * Names of relations are resolved only once per relation and the textual form of values only once per distinct
+	 * value of a relation. Only the names of nodes have to be retained until all assertions are written.
+	 * </p>
+	 */
+	private class TextSolutionWriter implements SolutionWriter {
+		private static final String DECLARE_KEYWORD = "declare ";
+		private static final String DEFAULT_KEYWORD = "default ";
+
+		private final Writer output;
+		private final MutableIntObjectMap<String> nodeNames = IntObjectMaps.mutable.empty();
+		private final Map<Relation, String> relationNames = new HashMap<>();
+		private boolean nodesDeclared;
+		private Assertion temporaryAssertion;
+
+		public TextSolutionWriter(OutputStream outputStream) {
+			output = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			writeHeader();
+			for (var node : problem.getNodes()) {
+				declareNode(node.getName());
+			}
+		}
+
+		private void writeHeader() {
+			String header;
+			try (var outputStream = new ByteArrayOutputStream()) {
+				problem.eResource().save(outputStream, Map.of());
+				header = outputStream.toString(StandardCharsets.UTF_8).stripTrailing();
+			} catch (IOException e) {
+				throw new IllegalStateException("Failed to serialize problem", e);
+			}
+			if (!header.isEmpty()) {
+				write(header);
+				write("\n\n");
+			}
+		}
+
+		private void declareNode(String name) {
+			write(nodesDeclared ? ", " : DECLARE_KEYWORD);
+			write(qualifiedNameConverter.toString(QualifiedName.create(name)));
+			nodesDeclared = true;
+		}
+
+		@Override
+		public void addNewNode(int nodeId, String name) {
+			declareNode(name);
+			nodeNames.put(nodeId, qualifiedNameConverter.toString(QualifiedName.create(name)));
+		}
+
+		@Override
+		public boolean containsNode(int nodeId) {
+			return nodes.containsKey(nodeId) || nodeNames.containsKey(nodeId);
+		}
+
+		private String getNodeName(int nodeId) {
+			var name = nodeNames.get(nodeId);
+			if (name != null) {
+				return name;
+			}
+			var node = nodes.get(nodeId);
+			if (node == null) {
+				throw new IllegalArgumentException("Unknown node: " + nodeId);
+			}
+			name = crossReferenceSerializer.getShortestName(problem,
+					ProblemPackage.Literals.NODE_ASSERTION_ARGUMENT__NODE, node);
+			if (name == null) {
+				throw new IllegalStateException("No unambiguous name for node: " + node.getName());
+			}
+			nodeNames.put(nodeId, name);
+			return name;
+		}
+
+		private String getRelationName(Relation relation) {
+			return relationNames.computeIfAbsent(relation, key -> {
+				var name = crossReferenceSerializer.getShortestName(problem,
+						ProblemPackage.Literals.ASSERTION__RELATION, key);
+				if (name == null) {
+					throw new IllegalStateException("No unambiguous name for relation: " + key.getName());
+				}
+				return name;
+			});
+		}
+
+		@Override
+		public void startAssertions() {
+			if (nodesDeclared) {
+				write(".\n");
+			}
+		}
+
+		@Override
+		public void addAssertion(Relation relation, LogicValue value, Tuple arguments) {
+			writeAssertion(getRelationName(relation), getAssertionValue(value), arguments);
+		}
+
+		@Override
+		public void addAssertions(Relation relation, List<AssertionEntry> entries,
+								  Function<Object, Expr> valueSerializer) {
+			var relationName = getRelationName(relation);
+			var assertionValues = new HashMap<Object, AssertionValue>();
+			for (var entry : entries) {
+				var assertionValue = assertionValues.computeIfAbsent(entry.value(),
+						value -> getAssertionValue(valueSerializer.apply(value)));
+				writeAssertion(relationName, assertionValue, entry.tuple());
+			}
+		}
+
+		private void writeAssertion(String relationName, AssertionValue value, Tuple arguments) {
+			write(value.prefix());
+			write(relationName);
+			write("(");
+			int arity = arguments.getSize();
+			for (int i = 0; i < arity; i++) {
+				if (i > 0) {
+					write(", ");
+				}
+				write(getNodeName(arguments.get(i)));
+			}
+			write(")");
+			write(value.suffix());
+			write(".\n");
+		}
+
+		@Override
+		public void addDefaultAssertion(Relation relation, int arity) {
+			write(DEFAULT_KEYWORD);
+			write("!");
+			write(getRelationName(relation));
+			write("(");
+			for (int i = 0; i < arity; i++) {
+				write(i > 0 ? ", *" : "*");
+			}
+			write(").\n");
+		}
+
+		private AssertionValue getAssertionValue(LogicValue value) {
+			return switch (value) {
+				case TRUE -> new AssertionValue("", "");
+				case FALSE -> new AssertionValue("!", "");
+				case UNKNOWN -> new AssertionValue("?", "");
+				case ERROR -> new AssertionValue("", ": error");
+			};
+		}
+
+		private AssertionValue getAssertionValue(Expr value) {
+			if (value instanceof LogicConstant logicConstant) {
+				return getAssertionValue(logicConstant.getLogicValue());
+			}
+			return new AssertionValue("", ": " + getExprText(value));
+		}
+
+		private String getExprText(Expr expr) {
+			return switch (expr) {
+				case LogicConstant logicConstant -> switch (logicConstant.getLogicValue()) {
+					case TRUE -> "true";
+					case FALSE -> "false";
+					case UNKNOWN -> "unknown";
+					case ERROR -> "error";
+				};
+				case IntConstant intConstant -> valueConverterService.toString(intConstant.getIntValue(),
+						"Integer");
+				case RealConstant realConstant -> valueConverterService.toString(realConstant.getRealValue(),
+						"Real");
+				case StringConstant stringConstant -> valueConverterService.toString(stringConstant.getStringValue(),
+						"STRING");
+				case InfiniteConstant ignoredInfiniteConstant -> "*";
+				case RangeExpr rangeExpr -> getExprText(rangeExpr.getLeft()) + ".." +
+						getExprText(rangeExpr.getRight());
+				default -> serializeExpr(expr);
+			};
+		}
+
+		private String serializeExpr(Expr expr) {
+			// Values not created by the built-in term interpreter are serialized by Xtext. The expression must be
+			// contained in the problem for the serializer to find its grammar context.
+			if (temporaryAssertion == null) {
+				temporaryAssertion = ProblemFactory.eINSTANCE.createAssertion();
+				problem.getStatements().add(temporaryAssertion);
+			}
+			temporaryAssertion.setValue(expr);
+			return serializer.serialize(expr).strip();
+		}
+
+		@Override
+		public void finish() {
+			if (temporaryAssertion != null) {
+				problem.getStatements().remove(temporaryAssertion);
+			}
+		}
+
+		public void flush() throws IOException {
+			output.flush();
+		}
+
+		private void write(String text) {
+			try {
+				output.write(text);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private record AssertionValue(String prefix, String suffix) {
 	}
 }
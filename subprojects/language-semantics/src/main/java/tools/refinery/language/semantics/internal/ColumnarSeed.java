@@ -0,0 +1,278 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.semantics.internal;
+
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import tools.refinery.logic.AbstractValue;
+import tools.refinery.store.map.Cursor;
+import tools.refinery.store.reasoning.seed.Seed;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * An immutable, compact copy of a {@link DecisionTree} for a fixed number of nodes.
+ * <p>
+ * Only tuples with a value different from the background value of the tree are stored. They are sorted in the
+ * iteration order of {@link DecisionTreeCursor} (i.e., by their last element first) and stored column-wise, one
+ * {@code int} array per tuple element. Values are stored as indices into a dictionary of distinct values, which are
+ * omitted altogether if every stored tuple has the same value.
+ * </p>
+ * <p>
+ * Tuples containing nodes outside the frozen node count get the background value, even if a wildcard assertion in
+ * the original tree would have covered them.
+ * </p>
+ */
+final class ColumnarSeed<A extends AbstractValue<A, C>, C> implements Seed<A> {
+	private final int arity;
+	private final Class<A> valueType;
+	private final A majorityValue;
+	private final A backgroundValue;
+	private final int size;
+	private final int[][] columns;
+	private final Object[] dictionary;
+	private final int[] valueCodes;
+
+	private ColumnarSeed(int arity, Class<A> valueType, A majorityValue, A backgroundValue, int size,
+						 int[][] columns, Object[] dictionary, int[] valueCodes) {
+		this.arity = arity;
+		this.valueType = valueType;
+		this.majorityValue = majorityValue;
+		this.backgroundValue = backgroundValue;
+		this.size = size;
+		this.columns = columns;
+		this.dictionary = dictionary;
+		this.valueCodes = valueCodes;
+	}
+
+	@Override
+	public int arity() {
+		return arity;
+	}
+
+	@Override
+	public Class<A> valueType() {
+		return valueType;
+	}
+
+	@Override
+	public A majorityValue() {
+		return majorityValue;
+	}
+
+	int size() {
+		return size;
+	}
+
+	@Override
+	public A get(Tuple key) {
+		int low = 0;
+		int high = size - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int comparison = compareEntry(middle, key);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return getValue(middle);
+			}
+		}
+		return backgroundValue;
+	}
+
+	private int compareEntry(int index, Tuple key) {
+		for (int level = arity - 1; level >= 0; level--) {
+			int comparison = Integer.compare(columns[level][index], key.get(level));
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+	private int compareEntry(int index, int[] rawTuple) {
+		for (int level = arity - 1; level >= 0; level--) {
+			int comparison = Integer.compare(columns[level][index], rawTuple[level]);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+	private A getValue(int index) {
+		// This is safe, because only values of type A are added to the dictionary.
+		@SuppressWarnings("unchecked")
+		var value = (A) dictionary[valueCodes == null ? 0 : valueCodes[index]];
+		return value;
+	}
+
+	@Override
+	public Cursor<Tuple, A> getCursor(A defaultValue, int nodeCount) {
+		if (Objects.equals(defaultValue, backgroundValue)) {
+			return new SparseCursor();
+		}
+		return new DenseCursor(defaultValue, nodeCount);
+	}
+
+	public static <A extends AbstractValue<A, C>, C> ColumnarSeed<A, C> of(DecisionTree<A, C> tree, int nodeCount) {
+		int arity = tree.arity();
+		var backgroundValue = tree.getBackgroundValue();
+		var columnLists = new MutableIntList[arity];
+		for (int level = 0; level < arity; level++) {
+			columnLists[level] = IntLists.mutable.empty();
+		}
+		var codeList = IntLists.mutable.empty();
+		var dictionaryList = new ArrayList<A>();
+		var codeMap = new HashMap<A, Integer>();
+		var cursor = tree.getCursor(backgroundValue, nodeCount);
+		while (cursor.move()) {
+			var key = cursor.getKey();
+			for (int level = 0; level < arity; level++) {
+				columnLists[level].add(key.get(level));
+			}
+			var value = cursor.getValue();
+			var code = codeMap.get(value);
+			if (code == null) {
+				code = dictionaryList.size();
+				codeMap.put(value, code);
+				dictionaryList.add(value);
+			}
+			codeList.add(code);
+		}
+		var columns = new int[arity][];
+		for (int level = 0; level < arity; level++) {
+			columns[level] = columnLists[level].toArray();
+		}
+		var valueCodes = dictionaryList.size() > 1 ? codeList.toArray() : null;
+		return new ColumnarSeed<>(arity, tree.valueType(), tree.majorityValue(), backgroundValue, codeList.size(),
+				columns, dictionaryList.toArray(), valueCodes);
+	}
+
+	private final class SparseCursor implements Cursor<Tuple, A> {
+		private final int[] rawTuple = new int[arity];
+		private int index = -1;
+		private Tuple key;
+		private A value;
+
+		@Override
+		public Tuple getKey() {
+			return key;
+		}
+
+		@Override
+		public A getValue() {
+			return value;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return index >= size;
+		}
+
+		@Override
+		public boolean move() {
+			if (index < size) {
+				index++;
+			}
+			if (index >= size) {
+				key = null;
+				value = null;
+				return false;
+			}
+			for (int level = 0; level < arity; level++) {
+				rawTuple[level] = columns[level][index];
+			}
+			key = Tuple.of(rawTuple);
+			value = ColumnarSeed.this.getValue(index);
+			return true;
+		}
+	}
+
+	private final class DenseCursor implements Cursor<Tuple, A> {
+		private final A defaultValue;
+		private final int nodeCount;
+		private final int[] rawTuple = new int[arity];
+		private boolean started;
+		private boolean terminated;
+		private int index;
+		private Tuple key;
+		private A value;
+
+		private DenseCursor(A defaultValue, int nodeCount) {
+			this.defaultValue = defaultValue;
+			this.nodeCount = nodeCount;
+		}
+
+		@Override
+		public Tuple getKey() {
+			return key;
+		}
+
+		@Override
+		public A getValue() {
+			return value;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return terminated;
+		}
+
+		@Override
+		public boolean move() {
+			while (moveOne()) {
+				var currentValue = getCurrentValue();
+				if (!Objects.equals(currentValue, defaultValue)) {
+					key = Tuple.of(rawTuple);
+					value = currentValue;
+					return true;
+				}
+			}
+			key = null;
+			value = null;
+			return false;
+		}
+
+		private boolean moveOne() {
+			if (terminated) {
+				return false;
+			}
+			if (!started) {
+				started = true;
+				if (nodeCount > 0) {
+					return true;
+				}
+			} else {
+				// Increment the first element fastest to match the order of the stored tuples.
+				for (int level = 0; level < arity; level++) {
+					rawTuple[level]++;
+					if (rawTuple[level] < nodeCount) {
+						return true;
+					}
+					rawTuple[level] = 0;
+				}
+			}
+			terminated = true;
+			return false;
+		}
+
+		private A getCurrentValue() {
+			while (index < size && compareEntry(index, rawTuple) < 0) {
+				index++;
+			}
+			if (index < size && compareEntry(index, rawTuple) == 0) {
+				return ColumnarSeed.this.getValue(index);
+			}
+			return backgroundValue;
+		}
+	}
+}
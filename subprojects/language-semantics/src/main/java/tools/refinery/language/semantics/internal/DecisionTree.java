@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -9,6 +9,7 @@ import org.eclipse.collections.api.factory.primitive.IntObjectMaps;
 import tools.refinery.logic.AbstractValue;
 import tools.refinery.store.map.Cursor;
 import tools.refinery.logic.term.truthvalue.TruthValue;
+import tools.refinery.store.reasoning.seed.Seed;
 import tools.refinery.store.tuple.Tuple;
 
 class DecisionTree<A extends AbstractValue<A, C>, C> implements MutableSeed<A> {
@@ -85,6 +86,15 @@ class DecisionTree<A extends AbstractValue<A, C>, C> implements MutableSeed<A> {
 		root.overwriteValues(typedRoot);
 	}
 
+	A getBackgroundValue() {
+		return root.getMajorityValue().orElseNull();
+	}
+
+	@Override
+	public Seed<A> toCompactSeed(int nodeCount) {
+		return ColumnarSeed.of(this, nodeCount);
+	}
+
 	public A getReducedValue() {
 		var reducedValue = root.getReducedValue();
 		return reducedValue == null ? null : reducedValue.orElseNull();
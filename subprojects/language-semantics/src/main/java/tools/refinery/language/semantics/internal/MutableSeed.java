@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -21,6 +21,15 @@ public interface MutableSeed<T> extends Seed<T> {
 
 	void overwriteValues(MutableSeed<T> other);
 
+	/**
+	 * Creates an immutable seed with the current contents of this seed for the given number of nodes.
+	 * <p>
+	 * Implementations may return this seed itself if its representation is already compact, so this seed must not be
+	 * modified afterward.
+	 * </p>
+	 */
+	Seed<T> toCompactSeed(int nodeCount);
+
 	static <A extends AbstractValue<A, C>, C> MutableSeed<A> of(int levels, AbstractDomain<A, C> domain,
 																A fallbackMajorityValue, A initialValue) {
 		if (levels == 0) {
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -8,6 +8,7 @@ package tools.refinery.language.semantics.internal;
 import tools.refinery.logic.AbstractValue;
 import tools.refinery.store.map.Cursor;
 import tools.refinery.store.map.Cursors;
+import tools.refinery.store.reasoning.seed.Seed;
 import tools.refinery.store.tuple.Tuple;
 
 import java.util.Objects;
@@ -63,6 +64,11 @@ class NullaryMutableSeed<A extends AbstractValue<A, C>, C> implements MutableSee
 		return Cursors.singleton(Tuple.of(), value.orElseNull());
 	}
 
+	@Override
+	public Seed<A> toCompactSeed(int nodeCount) {
+		return this;
+	}
+
 	@Override
 	public void mergeValue(Tuple tuple, A value) {
 		validateKey(tuple);
@@ -0,0 +1,166 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.semantics.internal;
+
+import org.eclipse.collections.api.map.primitive.ObjectIntMap;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import tools.refinery.language.model.problem.Assertion;
+import tools.refinery.language.model.problem.Node;
+import tools.refinery.language.model.problem.NodeDeclaration;
+import tools.refinery.language.model.problem.Problem;
+import tools.refinery.language.model.problem.Statement;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Computes a canonical hash of the parts of problems that determine the structure of a model store.
+ * <p>
+ * Assertions and node declarations are skipped, because they only contribute to the model seed. Instead, references
+ * to nodes are hashed by their node ID. Other references are hashed by the qualified name of their target, or by the
+ * path of their target inside its enclosing named statement, so that the hash doesn't depend on the position of
+ * statements relative to the skipped ones.
+ */
+public class StoreStructureHasher {
+	private static final String ALGORITHM = "SHA-256";
+
+	private final MessageDigest digest;
+	private final ObjectIntMap<Node> nodeTrace;
+	private final Function<EObject, Optional<String>> nameProvider;
+	private final Map<Statement, String> statementKeys = new IdentityHashMap<>();
+	private final ByteBuffer intBuffer = ByteBuffer.allocate(Integer.BYTES);
+
+	public StoreStructureHasher(ObjectIntMap<Node> nodeTrace, Function<EObject, Optional<String>> nameProvider) {
+		try {
+			digest = MessageDigest.getInstance(ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(ALGORITHM + " is not available", e);
+		}
+		this.nodeTrace = nodeTrace;
+		this.nameProvider = nameProvider;
+	}
+
+	public void putProblems(List<Problem> problems) {
+		for (int problemIndex = 0; problemIndex < problems.size(); problemIndex++) {
+			int statementIndex = 0;
+			for (var statement : problems.get(problemIndex).getStatements()) {
+				if (isStructural(statement)) {
+					statementKeys.put(statement, "%d#%d".formatted(problemIndex, statementIndex));
+					statementIndex++;
+				}
+			}
+		}
+		for (var problem : problems) {
+			putEObject(problem);
+		}
+	}
+
+	public void putString(String value) {
+		if (value == null) {
+			putInt(-1);
+			return;
+		}
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		putInt(bytes.length);
+		digest.update(bytes);
+	}
+
+	public void putInt(int value) {
+		intBuffer.clear();
+		intBuffer.putInt(value);
+		digest.update(intBuffer.array());
+	}
+
+	public void putBoolean(boolean value) {
+		digest.update(value ? (byte) 1 : (byte) 0);
+	}
+
+	public String finish() {
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static boolean isStructural(Statement statement) {
+		return !(statement instanceof Assertion) && !(statement instanceof NodeDeclaration);
+	}
+
+	private void putEObject(EObject eObject) {
+		var eClass = eObject.eClass();
+		putString(eClass.getName());
+		for (var feature : eClass.getEAllStructuralFeatures()) {
+			if (feature.isDerived() || feature.isTransient()) {
+				// Transient features, such as implicitly declared nodes, are computed from the other features.
+				continue;
+			}
+			putString(feature.getName());
+			if (feature.isMany()) {
+				var values = (List<?>) eObject.eGet(feature);
+				for (var value : values) {
+					putValue(feature, value);
+				}
+				putInt(-1);
+			} else {
+				putValue(feature, eObject.eGet(feature));
+			}
+		}
+	}
+
+	private void putValue(EStructuralFeature feature, Object value) {
+		if (value == null) {
+			putString(null);
+			return;
+		}
+		if (feature instanceof EAttribute) {
+			putString(value.toString());
+			return;
+		}
+		var target = (EObject) value;
+		if (((EReference) feature).isContainment()) {
+			if (target instanceof Statement statement && !isStructural(statement)) {
+				return;
+			}
+			putEObject(target);
+		} else {
+			putString(getReferenceKey(target));
+		}
+	}
+
+	private String getReferenceKey(EObject target) {
+		if (target instanceof Node node) {
+			return "node:" + nodeTrace.getIfAbsent(node, -1);
+		}
+		var name = nameProvider.apply(target);
+		if (name.isPresent()) {
+			return "name:" + name.get();
+		}
+		var statement = getContainingStatement(target);
+		if (statement == null) {
+			return "class:" + target.eClass().getName();
+		}
+		var statementKey = nameProvider.apply(statement)
+				.orElseGet(() -> statementKeys.getOrDefault(statement, ""));
+		return "local:%s/%s".formatted(statementKey, EcoreUtil.getRelativeURIFragmentPath(statement, target));
+	}
+
+	private static Statement getContainingStatement(EObject eObject) {
+		var current = eObject;
+		while (current != null && !(current.eContainer() instanceof Problem)) {
+			current = current.eContainer();
+		}
+		return current instanceof Statement statement ? statement : null;
+	}
+}
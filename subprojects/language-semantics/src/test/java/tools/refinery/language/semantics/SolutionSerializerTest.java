@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -15,6 +15,7 @@ import tools.refinery.language.tests.utils.ProblemParseHelper;
 import tools.refinery.store.dse.propagation.PropagationAdapter;
 import tools.refinery.store.dse.strategy.BestFirstStoreManager;
 import tools.refinery.store.dse.transition.DesignSpaceExplorationAdapter;
+import tools.refinery.store.model.Model;
 import tools.refinery.store.model.ModelStore;
 import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
 import tools.refinery.store.reasoning.ReasoningAdapter;
@@ -24,6 +25,7 @@ import tools.refinery.store.statecoding.StateCoderAdapter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -46,6 +48,37 @@ class SolutionSerializerTest {
 	@MethodSource
 	void solutionSerializerTest(String prefix, String input, boolean preserveNewNodes,
 								String expectedOutput) throws IOException {
+		var actualOutput = serialize(prefix, input, (initializer, model) -> {
+			var serializer = serializerProvider.get();
+			serializer.setPreserveNewNodes(preserveNewNodes);
+			var solution = serializer.serializeSolution(initializer.getProblemTrace(), model);
+			try (var outputStream = new ByteArrayOutputStream()) {
+				solution.eResource().save(outputStream, Map.of());
+				return outputStream.toString();
+			}
+		});
+		var normalizedResult = actualOutput.replace("\r\n", "\n");
+		var normalizedExpected = (prefix + "\n" + expectedOutput).replace("\r\n", "\n");
+		assertThat(normalizedResult, is(normalizedExpected));
+	}
+
+	@ParameterizedTest
+	@MethodSource("solutionSerializerTest")
+	void solutionWriterTest(String prefix, String input, boolean preserveNewNodes,
+							String expectedOutput) throws IOException {
+		var actualOutput = serialize(prefix, input, (initializer, model) -> {
+			var serializer = serializerProvider.get();
+			serializer.setPreserveNewNodes(preserveNewNodes);
+			var outputStream = new ByteArrayOutputStream();
+			serializer.writeSolution(initializer.getProblemTrace(), model, outputStream);
+			return outputStream.toString(StandardCharsets.UTF_8);
+		});
+		var normalizedResult = actualOutput.replace("\r\n", "\n");
+		var normalizedExpected = (prefix.stripTrailing() + "\n\n" + expectedOutput).replace("\r\n", "\n");
+		assertThat(normalizedResult, is(normalizedExpected));
+	}
+
+	private String serialize(String prefix, String input, SerializerCallback callback) throws IOException {
 		var problem = parseHelper.parse(prefix + "\n" + input).problem();
 		var storeBuilder = ModelStore.builder()
 				.with(QueryInterpreterAdapter.builder())
@@ -59,23 +92,13 @@ class SolutionSerializerTest {
 		initializer.setKeepShadowPredicates(false);
 		var modelSeed = initializer.createModel(problem, storeBuilder);
 		var store = storeBuilder.build();
-		String actualOutput;
 		try (var model = store.getAdapter(ReasoningStoreAdapter.class).createInitialModel(modelSeed)) {
 			var initialVersion = model.commit();
 			var bestFirst = new BestFirstStoreManager(store, 1);
 			bestFirst.startExploration(initialVersion, 0);
 			model.restore(bestFirst.getSolutionStore().getSolutions().getFirst().version());
-			var serializer = serializerProvider.get();
-			serializer.setPreserveNewNodes(preserveNewNodes);
-			var solution = serializer.serializeSolution(initializer.getProblemTrace(), model);
-			try (var outputStream = new ByteArrayOutputStream()) {
-				solution.eResource().save(outputStream, Map.of());
-				actualOutput = outputStream.toString();
-			}
+			return callback.serialize(initializer, model);
 		}
-		var normalizedResult = actualOutput.replace("\r\n", "\n");
-		var normalizedExpected = (prefix + "\n" + expectedOutput).replace("\r\n", "\n");
-		assertThat(normalizedResult, is(normalizedExpected));
 	}
 
 	static Stream<Arguments> solutionSerializerTest() {
@@ -532,4 +555,9 @@ class SolutionSerializerTest {
 				default !next(*, *).
 				"""));
 	}
+
+	@FunctionalInterface
+	private interface SerializerCallback {
+		String serialize(ModelInitializer initializer, Model model) throws IOException;
+	}
 }
@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.semantics.internal;
+
+import org.junit.jupiter.api.Test;
+import tools.refinery.logic.term.truthvalue.TruthValue;
+import tools.refinery.store.map.Cursor;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ColumnarSeedTests {
+	@Test
+	void getTest() {
+		var tree = createTree();
+		var sut = ColumnarSeed.of(tree, 4);
+		for (int i = 0; i < 4; i++) {
+			for (int j = 0; j < 4; j++) {
+				var key = Tuple.of(i, j);
+				assertThat(sut.get(key), is(tree.get(key)));
+			}
+		}
+	}
+
+	@Test
+	void majorityValueTest() {
+		var sut = ColumnarSeed.of(createTree(), 4);
+		assertThat(sut.majorityValue(), is(TruthValue.UNKNOWN));
+	}
+
+	@Test
+	void sparseCursorTest() {
+		var tree = createTree();
+		var sut = ColumnarSeed.of(tree, 4);
+		assertThat(sut.size(), is(5));
+		assertThat(collect(sut.getCursor(TruthValue.UNKNOWN, 4)),
+				is(collect(tree.getCursor(TruthValue.UNKNOWN, 4))));
+	}
+
+	@Test
+	void denseCursorTest() {
+		var tree = createTree();
+		var sut = ColumnarSeed.of(tree, 4);
+		assertThat(collect(sut.getCursor(TruthValue.FALSE, 4)), is(collect(tree.getCursor(TruthValue.FALSE, 4))));
+	}
+
+	@Test
+	void emptyTest() {
+		var sut = ColumnarSeed.of(new DecisionTree<>(2, TruthValue.class, TruthValue.FALSE, TruthValue.UNKNOWN), 3);
+		assertThat(sut.size(), is(0));
+		assertThat(sut.get(Tuple.of(1, 2)), is(TruthValue.UNKNOWN));
+		assertThat(collect(sut.getCursor(TruthValue.UNKNOWN, 3)), anEmptyMap());
+		assertThat(collect(sut.getCursor(TruthValue.FALSE, 3)).size(), is(9));
+	}
+
+	@Test
+	void singleValueTest() {
+		var tree = new DecisionTree<>(2, TruthValue.class, TruthValue.FALSE, TruthValue.UNKNOWN);
+		tree.mergeValue(Tuple.of(1, 0), TruthValue.TRUE);
+		tree.mergeValue(Tuple.of(0, 1), TruthValue.TRUE);
+		var sut = ColumnarSeed.of(tree, 2);
+		assertThat(collect(sut.getCursor(TruthValue.UNKNOWN, 2)), is(Map.of(
+				Tuple.of(1, 0), TruthValue.TRUE,
+				Tuple.of(0, 1), TruthValue.TRUE
+		)));
+	}
+
+	private static DecisionTree<TruthValue, Boolean> createTree() {
+		var tree = new DecisionTree<>(2, TruthValue.class, TruthValue.FALSE, TruthValue.UNKNOWN);
+		tree.mergeValue(Tuple.of(2, -1), TruthValue.TRUE);
+		tree.mergeValue(Tuple.of(1, 3), TruthValue.FALSE);
+		tree.mergeValue(Tuple.of(2, 1), TruthValue.FALSE);
+		return tree;
+	}
+
+	private static Map<Tuple, TruthValue> collect(Cursor<Tuple, TruthValue> cursor) {
+		var map = new LinkedHashMap<Tuple, TruthValue>();
+		while (cursor.move()) {
+			map.put(cursor.getKey(), cursor.getValue());
+		}
+		return map;
+	}
+}
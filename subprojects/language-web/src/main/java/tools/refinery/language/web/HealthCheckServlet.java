@@ -1,14 +1,17 @@
-package tools.refinery.language.web;/*
- * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+/*
+ * SPDX-FileCopyrightText: 2024-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
+package tools.refinery.language.web;
 
+import com.google.gson.JsonObject;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tools.refinery.language.web.xtext.server.ThreadPoolExecutorServiceProvider;
 
 import java.io.IOException;
 import java.io.Serial;
@@ -19,12 +22,18 @@ public class HealthCheckServlet extends HttpServlet {
 
 	private final transient Logger log = LoggerFactory.getLogger(getClass());
 
+	private final transient ThreadPoolExecutorServiceProvider executorServiceProvider;
+
+	public HealthCheckServlet(ThreadPoolExecutorServiceProvider executorServiceProvider) {
+		this.executorServiceProvider = executorServiceProvider;
+	}
+
 	@Override
 	protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
 		resp.setStatus(HttpServletResponse.SC_OK);
 		resp.setContentType("application/json");
 		try (var writer = resp.getWriter()) {
-			writer.println("{\"status\": \"up\"}");
+			writer.println(getStatus());
 			writer.flush();
 		} catch (IOException e) {
 			log.error("Failed to write response", e);
@@ -34,4 +43,23 @@ public class HealthCheckServlet extends HttpServlet {
 			}
 		}
 	}
+
+	private JsonObject getStatus() {
+		var status = new JsonObject();
+		status.addProperty("status", "up");
+		var queues = new JsonObject();
+		for (var entry : executorServiceProvider.getQueueMetrics().entrySet()) {
+			var metrics = entry.getValue();
+			var queue = new JsonObject();
+			queue.addProperty("queueSize", metrics.queueSize());
+			queue.addProperty("queuedCost", metrics.queuedCost());
+			queue.addProperty("executedCount", metrics.executedCount());
+			queue.addProperty("rejectedCount", metrics.rejectedCount());
+			queue.addProperty("meanWaitMs", metrics.meanWait().toMillis());
+			queue.addProperty("maxWaitMs", metrics.maxWait().toMillis());
+			queues.add(entry.getKey(), queue);
+		}
+		status.add("queues", queues);
+		return status;
+	}
 }
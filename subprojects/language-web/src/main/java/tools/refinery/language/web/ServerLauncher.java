@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -29,6 +29,7 @@ import org.jvnet.hk2.guice.bridge.api.GuiceIntoHK2Bridge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.bridge.SLF4JBridgeHandler;
+import tools.refinery.generator.ModelStoreCache;
 import tools.refinery.language.web.api.ConcretizeApi;
 import tools.refinery.language.web.api.GenerateApi;
 import tools.refinery.language.web.api.GenerateManyApi;
@@ -38,14 +39,20 @@ import tools.refinery.language.web.api.provider.RefineryResponseFilter;
 import tools.refinery.language.web.api.provider.ServerExceptionMapperProvider;
 import tools.refinery.language.web.config.BackendConfigServlet;
 import tools.refinery.language.web.gson.GsonJerseyProvider;
+import tools.refinery.language.web.xtext.server.ThreadPoolExecutorServiceProvider;
 import tools.refinery.language.web.xtext.servlet.XtextWebSocketServlet;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
 
 public class ServerLauncher {
 	public static final String DEFAULT_LISTEN_HOST = "localhost";
@@ -60,17 +67,32 @@ public class ServerLauncher {
 
 	public static final String ALLOWED_ORIGINS_SEPARATOR = ",";
 
+	public static final int DEFAULT_WARMUP_ITERATIONS = 5;
+
+	public static final int DEFAULT_MODEL_STORE_CACHE_SIZE = 4;
+
 	private static final Logger LOG = LoggerFactory.getLogger(ServerLauncher.class);
 
 	// Register Xtext services as soon as this class is instantiated.
 	private final ProblemInjectorHolder injectorHolder = new ProblemInjectorHolder();
 
+	private final ThreadPoolExecutorServiceProvider executorServiceProvider =
+			injectorHolder.getInjector().getInstance(ThreadPoolExecutorServiceProvider.class);
+
 	private final Server server;
 
 	public ServerLauncher(InetSocketAddress bindAddress, String[] allowedOrigins, String apiBase,
                           String webSocketUrl, String chatBase) {
 		server = new Server(bindAddress);
-		((QueuedThreadPool) server.getThreadPool()).setName("jetty");
+		var threadPool = (QueuedThreadPool) server.getThreadPool();
+		threadPool.setName("jetty");
+		if (executorServiceProvider.isVirtualThreads()) {
+			// Blocking request handlers, such as the SSE heartbeat loops of streaming API calls, will run on virtual
+			// threads instead of pinning a platform thread for each connected client.
+			threadPool.setVirtualThreadsExecutor(Executors.newThreadPerTaskExecutor(
+					Thread.ofVirtual().name("jetty-virtual-", 1).factory()));
+			LOG.info("Virtual threads enabled");
+		}
 		var handler = new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
 		handler.setContextPath("/");
 		addProblemServlet(handler, allowedOrigins);
@@ -146,7 +168,7 @@ public class ServerLauncher {
 	}
 
 	private void addHealthCheckServlet(ServletContextHandler handler) {
-		var healthCheckServletHolder = new ServletHolder(HealthCheckServlet.class);
+		var healthCheckServletHolder = new ServletHolder(new HealthCheckServlet(executorServiceProvider));
 		handler.addServlet(healthCheckServletHolder, "/health");
 	}
 
@@ -193,6 +215,18 @@ public class ServerLauncher {
 		return null;
 	}
 
+	public void setModelStoreCacheSize(int modelStoreCacheSize) {
+		injectorHolder.getInjector().getInstance(ModelStoreCache.class).setMaximumSize(modelStoreCacheSize);
+		LOG.info("Model store cache size set to {}", modelStoreCacheSize);
+	}
+
+	public void warmUp(List<Path> problemPaths, int iterations, long requestTimeoutSec)
+			throws IOException, InterruptedException {
+		new ServerWarmup(injectorHolder.getInjector(), requestTimeoutSec).run(problemPaths, iterations);
+		// Don't keep the model stores of the warmup problems in memory.
+		injectorHolder.getInjector().getInstance(ModelStoreCache.class).clear();
+	}
+
 	public void start() throws Exception {
 		try {
 			server.start();
@@ -203,6 +237,10 @@ public class ServerLauncher {
 		}
 	}
 
+	public void dispose() {
+		injectorHolder.dispose();
+	}
+
 	public static void main(String[] args) {
 		SLF4JBridgeHandler.removeHandlersForRootLogger();
 		SLF4JBridgeHandler.install();
@@ -213,6 +251,17 @@ public class ServerLauncher {
 			var webSocketUrl = getWebSocketUrl();
 			var chatBase = getChatBase();
 			var serverLauncher = new ServerLauncher(bindAddress, allowedOrigins, apiBase, webSocketUrl, chatBase);
+			serverLauncher.setModelStoreCacheSize(getModelStoreCacheSize());
+			var warmupMode = getWarmupMode();
+			if (warmupMode != WarmupMode.DISABLED) {
+				// Warm up before starting the server, so that health checks only succeed once we're ready.
+				serverLauncher.warmUp(getWarmupProblems(), getWarmupIterations(), getWarmupTimeout());
+			}
+			if (warmupMode == WarmupMode.EXIT) {
+				// Training run for the ahead-of-time cache, which is written when the JVM exits.
+				serverLauncher.dispose();
+				System.exit(0);
+			}
 			serverLauncher.start();
 		} catch (Exception exception) {
 			LOG.error("Fatal server error", exception);
@@ -314,4 +363,58 @@ public class ServerLauncher {
 	private static String getChatBase() {
 		return System.getenv("REFINERY_CHAT_BASE");
 	}
+
+	private static int getModelStoreCacheSize() {
+		var cacheSizeStr = System.getenv("REFINERY_MODEL_STORE_CACHE_SIZE");
+		if (cacheSizeStr != null) {
+			return Integer.parseUnsignedInt(cacheSizeStr);
+		}
+		return DEFAULT_MODEL_STORE_CACHE_SIZE;
+	}
+
+	private static WarmupMode getWarmupMode() {
+		var warmup = System.getenv("REFINERY_WARMUP");
+		if (warmup == null) {
+			return WarmupMode.DISABLED;
+		}
+		return switch (warmup.toLowerCase()) {
+			case "false" -> WarmupMode.DISABLED;
+			case "true" -> WarmupMode.ENABLED;
+			case "exit" -> WarmupMode.EXIT;
+			default -> throw new IllegalArgumentException("Invalid REFINERY_WARMUP: " + warmup);
+		};
+	}
+
+	private static List<Path> getWarmupProblems() {
+		var warmupProblems = System.getenv("REFINERY_WARMUP_PROBLEMS");
+		if (warmupProblems == null || warmupProblems.isBlank()) {
+			return List.of();
+		}
+		return Arrays.stream(warmupProblems.split(File.pathSeparator))
+				.filter(path -> !path.isBlank())
+				.map(Path::of)
+				.toList();
+	}
+
+	private static int getWarmupIterations() {
+		var iterationsStr = System.getenv("REFINERY_WARMUP_ITERATIONS");
+		if (iterationsStr != null) {
+			return Integer.parseUnsignedInt(iterationsStr);
+		}
+		return DEFAULT_WARMUP_ITERATIONS;
+	}
+
+	private static long getWarmupTimeout() {
+		var timeoutStr = System.getenv("REFINERY_WARMUP_TIMEOUT_SEC");
+		if (timeoutStr != null) {
+			return Long.parseUnsignedLong(timeoutStr);
+		}
+		return ServerWarmup.DEFAULT_REQUEST_TIMEOUT_SEC;
+	}
+
+	private enum WarmupMode {
+		DISABLED,
+		ENABLED,
+		EXIT
+	}
 }
@@ -0,0 +1,186 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web;
+
+import com.google.inject.Injector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.refinery.language.web.api.ConcretizeWorker;
+import tools.refinery.language.web.api.GenerateWorker;
+import tools.refinery.language.web.api.ScheduledWorker;
+import tools.refinery.language.web.api.SemanticsWorker;
+import tools.refinery.language.web.api.dto.GenerateRequest;
+import tools.refinery.language.web.api.dto.ProblemInput;
+import tools.refinery.language.web.api.dto.RefineryResponse;
+import tools.refinery.language.web.api.sink.ResponseSink;
+import tools.refinery.language.web.semantics.SemanticsService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a corpus of problems through the semantics, concretization, and model generation workers before the server
+ * starts accepting requests.
+ * <p>
+ * This loads the native solver libraries, initializes the lazily created Xtext services, and lets the JIT compiler
+ * see the hot paths of the workers, so that the first user requests don't hit a cold server. Running the warmup with
+ * {@code -XX:AOTCacheOutput} also records the loaded and linked classes into an ahead-of-time cache for subsequent
+ * server starts.
+ * </p>
+ */
+public class ServerWarmup {
+	public static final String DEFAULT_PROBLEM = "warmup/statechart.problem";
+
+	public static final String PROBLEM_FILE_EXTENSION = ".problem";
+
+	public static final long DEFAULT_REQUEST_TIMEOUT_SEC = 120;
+
+	private static final Logger LOG = LoggerFactory.getLogger(ServerWarmup.class);
+
+	private final Injector injector;
+
+	private final long requestTimeoutSec;
+
+	/**
+	 * Creates a new server warmup.
+	 *
+	 * @param injector          The injector of the server.
+	 * @param requestTimeoutSec The time to wait for the response to a single warmup request. If it elapses, the
+	 *                          request is cancelled and the rest of the warmup is skipped, so that a stuck request
+	 *                          cannot block the server from starting.
+	 */
+	public ServerWarmup(Injector injector, long requestTimeoutSec) {
+		if (requestTimeoutSec <= 0) {
+			throw new IllegalArgumentException("Request timeout must be positive");
+		}
+		this.injector = injector;
+		this.requestTimeoutSec = requestTimeoutSec;
+	}
+
+	public void run(List<Path> problemPaths, int iterations) throws IOException, InterruptedException {
+		var sources = problemPaths.isEmpty() ? List.of(readDefaultProblem()) : readProblems(problemPaths);
+		LOG.info("Warming up server with {} problem(s) and {} iteration(s)", sources.size(), iterations);
+		long startTime = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			for (var source : sources) {
+				if (!runWorker(SemanticsWorker.class, SemanticsService.createSemanticsRequest(source, false)) ||
+						!runWorker(ConcretizeWorker.class, SemanticsService.createSemanticsRequest(source, true)) ||
+						!runWorker(GenerateWorker.class, createGenerateRequest(source, i))) {
+					LOG.warn("Skipping the rest of the warmup");
+					return;
+				}
+			}
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+		LOG.info("Warmup finished in {} ms", elapsedMillis);
+	}
+
+	private static String readDefaultProblem() throws IOException {
+		try (var inputStream = ServerWarmup.class.getResourceAsStream(DEFAULT_PROBLEM)) {
+			if (inputStream == null) {
+				throw new IllegalStateException("Default warmup problem not found: " + DEFAULT_PROBLEM);
+			}
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static List<String> readProblems(List<Path> problemPaths) throws IOException {
+		var sources = new ArrayList<String>();
+		for (var path : problemPaths) {
+			if (Files.isDirectory(path)) {
+				try (var children = Files.list(path)) {
+					var problemFiles = children
+							.filter(child -> child.getFileName().toString().endsWith(PROBLEM_FILE_EXTENSION))
+							.sorted()
+							.toList();
+					for (var problemFile : problemFiles) {
+						sources.add(Files.readString(problemFile));
+					}
+				} catch (UncheckedIOException e) {
+					throw e.getCause();
+				}
+			} else {
+				sources.add(Files.readString(path));
+			}
+		}
+		return sources;
+	}
+
+	private static GenerateRequest createGenerateRequest(String source, long randomSeed) {
+		var request = new GenerateRequest();
+		var input = new ProblemInput();
+		input.setSource(source);
+		request.setInput(input);
+		request.setRandomSeed(randomSeed);
+		return request;
+	}
+
+	private <T> boolean runWorker(Class<? extends ScheduledWorker<T>> workerClass, T request)
+			throws InterruptedException {
+		var worker = injector.getInstance(workerClass);
+		var responseSink = new WarmupResponseSink();
+		worker.schedule(request, responseSink);
+		if (!responseSink.awaitResponse(requestTimeoutSec)) {
+			LOG.warn("Warmup request to {} did not finish in {} s", workerClass.getSimpleName(), requestTimeoutSec);
+			return false;
+		}
+		var response = responseSink.getResponse();
+		if (response instanceof RefineryResponse.Success) {
+			LOG.debug("Warmup request to {} succeeded", workerClass.getSimpleName());
+		} else {
+			// Keep warming up, since failed requests still exercise most of the code paths.
+			LOG.warn("Warmup request to {} failed: {}", workerClass.getSimpleName(), response);
+		}
+		return true;
+	}
+
+	private static class WarmupResponseSink implements ResponseSink {
+		private final CountDownLatch latch = new CountDownLatch(1);
+		private volatile RefineryResponse response;
+		private volatile boolean cancelled;
+
+		@Override
+		public void setResponse(int statusCode, RefineryResponse response) {
+			this.response = response;
+			latch.countDown();
+		}
+
+		@Override
+		public void updateStatus(Object status) {
+			// Status updates are not needed during warmup.
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		@Override
+		public boolean hasStatusReporting() {
+			return false;
+		}
+
+		public boolean awaitResponse(long timeoutSec) throws InterruptedException {
+			if (latch.await(timeoutSec, TimeUnit.SECONDS)) {
+				return true;
+			}
+			// Let the worker stop processing the request if it checks for cancellation.
+			cancelled = true;
+			return false;
+		}
+
+		public RefineryResponse getResponse() {
+			return response;
+		}
+	}
+}
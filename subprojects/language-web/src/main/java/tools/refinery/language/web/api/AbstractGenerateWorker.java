@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -50,6 +50,13 @@ public abstract class AbstractGenerateWorker<T extends GenerateRequest> extends
 		return timeoutManager.getModelGenerationTimeout();
 	}
 
+	@Override
+	protected long getEstimatedCost() {
+		var request = getRequest();
+		var source = request.getInput().getSource();
+		return source == null ? 0 : (long) source.length() * request.getCount();
+	}
+
 	@Override
 	protected void initialize(T request, ResponseSink responseSink) {
 		super.initialize(request, responseSink);
@@ -126,6 +133,8 @@ public abstract class AbstractGenerateWorker<T extends GenerateRequest> extends
 		var json = jsonEnabled ? outputSerializer.savePartialInterpretation(generator) : null;
 		boolean sourceEnabled = request.getFormat().getSource().isEnabled();
 		var source = sourceEnabled ? outputSerializer.saveSource(generator) : null;
-		return new GenerateSuccessResult(json, source);
+		boolean binaryEnabled = request.getFormat().getBinary().isEnabled();
+		var binary = binaryEnabled ? outputSerializer.saveBinary(generator) : null;
+		return new GenerateSuccessResult(json, source, binary);
 	}
 }
@@ -8,6 +8,7 @@ package tools.refinery.language.web.api;
 import org.jetbrains.annotations.Nullable;
 import tools.refinery.generator.ModelGenerator;
 import tools.refinery.language.web.api.dto.*;
+import tools.refinery.language.web.xtext.server.TaskPriority;
 import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
 import tools.refinery.store.dse.transition.statespace.SolutionStoreListener;
 
@@ -16,6 +17,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class GenerateManyWorker extends AbstractGenerateWorker<GenerateManyRequest> {
+	@Override
+	protected TaskPriority getPriority() {
+		return TaskPriority.BATCH;
+	}
+
 	@Override
 	protected void runModelGenerator(ModelGenerator generator) {
 		try (var listener = new GenerateManySolutionListener(generator, this)) {
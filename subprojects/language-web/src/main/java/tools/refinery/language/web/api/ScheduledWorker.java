@@ -1,11 +1,12 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
 package tools.refinery.language.web.api;
 
 import com.google.inject.Inject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.xtext.service.OperationCanceledError;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.slf4j.Logger;
@@ -13,6 +14,8 @@ import org.slf4j.LoggerFactory;
 import tools.refinery.language.web.api.dto.RefineryResponse;
 import tools.refinery.language.web.api.provider.ServerExceptionMapper;
 import tools.refinery.language.web.api.sink.ResponseSink;
+import tools.refinery.language.web.xtext.server.PrioritizedTask;
+import tools.refinery.language.web.xtext.server.TaskPriority;
 import tools.refinery.language.web.xtext.server.ThreadPoolExecutorServiceProvider;
 import tools.refinery.store.util.CancellationToken;
 
@@ -53,6 +56,20 @@ public abstract class ScheduledWorker<T> {
 
 	protected abstract Duration getTimeout();
 
+	protected TaskPriority getPriority() {
+		return TaskPriority.INTERACTIVE;
+	}
+
+	/**
+	 * Estimates the cost of the request to schedule cheap requests before expensive ones and to reject requests if
+	 * the server is overloaded.
+	 *
+	 * @return The estimated cost of the request.
+	 */
+	protected long getEstimatedCost() {
+		return 0;
+	}
+
 	protected T getRequest() {
 		return request;
 	}
@@ -104,7 +121,7 @@ public abstract class ScheduledWorker<T> {
 					LOG.error("Error sending timeout response", e);
 				}
 			}, timeout.toMillis(), TimeUnit.MILLISECONDS);
-			future = executorService.submit(() -> {
+			var task = new PrioritizedTask(getPriority(), getEstimatedCost(), () -> {
 				try {
 					runWithExceptionMapping();
 				} catch (RuntimeException e) {
@@ -113,6 +130,15 @@ public abstract class ScheduledWorker<T> {
 					LOG.error("Unhandled exception during model generation", e);
 				}
 			});
+			try {
+				future = executorService.submit(task);
+			} catch (RejectedExecutionException e) {
+				LOG.debug("Request rejected", e);
+				timeoutFuture.cancel(true);
+				timeoutFuture = null;
+				setResponse(Response.Status.SERVICE_UNAVAILABLE.getStatusCode(),
+						new RefineryResponse.ServerError("Server is overloaded, please try again later"));
+			}
 		} finally {
 			lock.unlock();
 		}
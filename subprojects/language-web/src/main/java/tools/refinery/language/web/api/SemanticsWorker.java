@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -45,6 +45,12 @@ public class SemanticsWorker extends ScheduledWorker<SemanticsRequest> {
 		return timeoutManager.getModelSemanticsTimeout();
 	}
 
+	@Override
+	protected long getEstimatedCost() {
+		var source = getRequest().getInput().getSource();
+		return source == null ? 0 : source.length();
+	}
+
 	@Override
 	protected void initialize(SemanticsRequest request, ResponseSink responseSink) {
 		super.initialize(request, responseSink);
@@ -0,0 +1,18 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.api.dto;
+
+/**
+ * Output format written by {@link tools.refinery.generator.BinaryModelSerializer} and returned as a Base64 string.
+ * <p>
+ * Unlike the other output formats, it is disabled by default.
+ * </p>
+ */
+public class BinaryOutputFormat extends OutputFormat {
+	public BinaryOutputFormat() {
+		setEnabled(false);
+	}
+}
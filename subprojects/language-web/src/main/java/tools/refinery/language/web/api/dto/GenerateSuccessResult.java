@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -7,5 +7,5 @@ package tools.refinery.language.web.api.dto;
 
 import org.jetbrains.annotations.Nullable;
 
-public record GenerateSuccessResult(@Nullable JsonOutput json, @Nullable String source) {
+public record GenerateSuccessResult(@Nullable JsonOutput json, @Nullable String source, @Nullable String binary) {
 }
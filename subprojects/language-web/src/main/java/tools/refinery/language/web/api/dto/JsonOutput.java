@@ -1,16 +1,16 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
 package tools.refinery.language.web.api.dto;
 
-import com.google.gson.JsonObject;
 import tools.refinery.language.semantics.metadata.NodeMetadata;
 import tools.refinery.language.semantics.metadata.RelationMetadata;
+import tools.refinery.language.web.semantics.PartialInterpretationJson;
 
 import java.util.List;
 
 public record JsonOutput(List<NodeMetadata> nodes, List<RelationMetadata> relations,
-						 JsonObject partialInterpretation) {
+						 PartialInterpretationJson partialInterpretation) {
 }
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -17,6 +17,10 @@ public final class OutputFormats {
 	@Valid
 	private SourceOutputFormat source = new SourceOutputFormat();
 
+	@NotNull
+	@Valid
+	private BinaryOutputFormat binary = new BinaryOutputFormat();
+
 	public JsonOutputFormat getJson() {
 		return json;
 	}
@@ -32,4 +36,12 @@ public final class OutputFormats {
 	public void setSource(SourceOutputFormat source) {
 		this.source = source;
 	}
+
+	public BinaryOutputFormat getBinary() {
+		return binary;
+	}
+
+	public void setBinary(BinaryOutputFormat binary) {
+		this.binary = binary;
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -8,34 +8,29 @@ package tools.refinery.language.web.api.util;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.eclipse.xtext.web.server.validation.ValidationResult;
+import tools.refinery.generator.BinaryModelSerializer;
 import tools.refinery.generator.ModelFacade;
 import tools.refinery.generator.ModelFacadeResult;
 import tools.refinery.generator.RefineryDiagnostics;
 import tools.refinery.language.web.api.dto.JsonOutput;
 import tools.refinery.language.web.api.dto.RefineryResponse;
 import tools.refinery.language.web.semantics.PartialInterpretation2Json;
-import tools.refinery.store.reasoning.ReasoningAdapter;
 import tools.refinery.store.util.CancellationToken;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 
 @Singleton
 public class OutputSerializer {
-	/**
-	 * To avoid excessive memory usage by the Xtext serializer, we limit the number of objects in a serialized model.
-	 * <p>
-	 * Model with more objects than this limit will only be returned as JSON.
-	 * </p>
-	 */
-	private static final int MAX_SERIALIZED_MODEL_SIZE = 200;
-
 	@Inject
 	private PartialInterpretation2Json partialInterpretation2Json;
 
+	@Inject
+	private BinaryModelSerializer binaryModelSerializer;
+
 	@Inject
 	private RefineryDiagnostics refineryDiagnostics;
 
@@ -51,30 +46,14 @@ public class OutputSerializer {
 
 	public String saveSource(ModelFacade facade) throws IOException {
 		checkCancelled();
-		if (isLarge(facade)) {
+		// Assertions are written directly as text, so we don't have to limit the size of serialized models to avoid
+		// excessive memory usage by the Xtext serializer.
+		var outputStream = new ByteArrayOutputStream();
+		if (!facade.trySerialize(outputStream)) {
 			return null;
 		}
 		checkCancelled();
-		var serializedSolutionOption = facade.trySerialize();
-		if (serializedSolutionOption.isEmpty()) {
-			return null;
-		}
-		var serializedSolution = serializedSolutionOption.get();
-		checkCancelled();
-		try (var outputStream = new ByteArrayOutputStream()) {
-			serializedSolution.eResource().save(outputStream, Map.of());
-			return outputStream.toString(StandardCharsets.UTF_8);
-		}
-	}
-
-	private boolean isLarge(ModelFacade facade) {
-		var cursor = facade.getPartialInterpretation(ReasoningAdapter.EXISTS_SYMBOL).getAll();
-		for (int i = 0; i < MAX_SERIALIZED_MODEL_SIZE; i++) {
-			if (!cursor.move()) {
-				return false;
-			}
-		}
-		return true;
+		return outputStream.toString(StandardCharsets.UTF_8);
 	}
 
 	public JsonOutput savePartialInterpretation(ModelFacade facade) {
@@ -87,6 +66,15 @@ public class OutputSerializer {
 		return new JsonOutput(nodes, relations, partialInterpretation);
 	}
 
+	public String saveBinary(ModelFacade facade) throws IOException {
+		checkCancelled();
+		var outputStream = new ByteArrayOutputStream();
+		try (var base64OutputStream = Base64.getEncoder().wrap(outputStream)) {
+			binaryModelSerializer.serialize(facade, base64OutputStream, cancellationToken);
+		}
+		return outputStream.toString(StandardCharsets.US_ASCII);
+	}
+
 	public List<ValidationResult.Issue> getIssues(ModelFacade facade) {
 		var initializationResult = facade.getInitializationResult();
 		if (!(initializationResult instanceof ModelFacadeResult.Rejected rejectedResult)) {
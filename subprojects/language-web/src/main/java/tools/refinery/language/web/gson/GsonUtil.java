@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2024-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -15,6 +15,7 @@ import tools.refinery.language.semantics.metadata.PredicateDetailKind;
 import tools.refinery.language.semantics.metadata.RelationDetail;
 import tools.refinery.language.utils.Visibility;
 import tools.refinery.language.web.api.dto.RefineryResponse;
+import tools.refinery.language.web.semantics.PartialInterpretationJson;
 import tools.refinery.language.web.xtext.servlet.LowercaseTypeAdapter;
 import tools.refinery.language.web.xtext.servlet.LowercaseTypeAdapterFactory;
 import tools.refinery.language.web.xtext.servlet.RuntimeTypeAdapterFactory;
@@ -54,6 +55,7 @@ public class GsonUtil {
 					.registerSubtype(RefineryResponse.Success.class, "success")
 					.registerSubtype(RefineryResponse.Status.class, "status"))
 			.registerTypeAdapter(Visibility.class, new LowercaseTypeAdapter<>(Visibility.class))
+			.registerTypeAdapter(PartialInterpretationJson.class, new PartialInterpretationJsonTypeAdapter())
 			.create();
 
 	private GsonUtil() {
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import tools.refinery.language.web.semantics.PartialInterpretationJson;
+
+import java.io.IOException;
+
+/**
+ * Streams partial interpretations directly to the output without creating intermediate JSON elements.
+ */
+class PartialInterpretationJsonTypeAdapter extends TypeAdapter<PartialInterpretationJson> {
+	@Override
+	public void write(JsonWriter out, PartialInterpretationJson value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+		value.write(out);
+	}
+
+	@Override
+	public PartialInterpretationJson read(JsonReader in) {
+		throw new UnsupportedOperationException("Partial interpretations can only be serialized");
+	}
+}
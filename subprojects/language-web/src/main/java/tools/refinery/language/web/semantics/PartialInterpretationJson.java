@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.semantics;
+
+import com.google.gson.stream.JsonWriter;
+import tools.refinery.generator.serializer.TupleEntry;
+import tools.refinery.generator.serializer.ValueTag;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of the partial interpretation of a model that can be written as JSON without building a JSON tree first.
+ * <p>
+ * The snapshot only refers to the (immutable) tuples and abstract values of the model, so it can be serialized after
+ * the model has been closed.
+ * </p>
+ */
+public class PartialInterpretationJson {
+	private static final String UNKNOWN_STRING = "unknown";
+	private static final String ERROR_STRING = "error";
+
+	private final Map<String, List<TupleEntry>> relations;
+
+	PartialInterpretationJson(Map<String, List<TupleEntry>> relations) {
+		this.relations = relations;
+	}
+
+	public void write(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		for (var relation : relations.entrySet()) {
+			writer.name(relation.getKey());
+			writer.beginArray();
+			for (var entry : relation.getValue()) {
+				writeEntry(writer, entry);
+			}
+			writer.endArray();
+		}
+		writer.endObject();
+	}
+
+	private static void writeEntry(JsonWriter writer, TupleEntry entry) throws IOException {
+		writer.beginArray();
+		var tuple = entry.tuple();
+		int arity = tuple.getSize();
+		for (int i = 0; i < arity; i++) {
+			writer.value(tuple.get(i));
+		}
+		var value = entry.value();
+		var stringValue = value.toString();
+		var tag = ValueTag.of(value, stringValue);
+		if (tag == ValueTag.CONCRETE) {
+			writer.value(stringValue);
+		} else {
+			writer.beginObject();
+			writer.name(tag == ValueTag.ERROR ? ERROR_STRING : UNKNOWN_STRING);
+			writer.value(stringValue);
+			writer.endObject();
+		}
+		writer.endArray();
+	}
+}
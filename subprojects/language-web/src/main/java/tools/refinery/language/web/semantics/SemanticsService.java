@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -42,7 +42,7 @@ public class SemanticsService extends AbstractCachedService<RefineryResponse> {
 				return null;
 			}
 			boolean concretize = pushDoc.isConcretize();
-			var request = getSemanticsRequest(doc, concretize);
+			var request = createSemanticsRequest(doc.getText(), concretize);
 			var worker = concretize ? contretizeWorkerProvider.get() : semanticsWorkerProvider.get();
 			var sink = new PrecomputedServiceSink(cancelIndicator);
 			worker.schedule(request, sink);
@@ -59,10 +59,17 @@ public class SemanticsService extends AbstractCachedService<RefineryResponse> {
 				.anyMatch(issue -> "error".equals(issue.getSeverity()));
 	}
 
-	private static SemanticsRequest getSemanticsRequest(IXtextWebDocument doc, boolean concretize) {
+	/**
+	 * Creates a request for the semantics or concretization of a problem with the same settings as the web editor.
+	 *
+	 * @param source     The source text of the problem.
+	 * @param concretize Whether the problem should be concretized.
+	 * @return The request.
+	 */
+	public static SemanticsRequest createSemanticsRequest(String source, boolean concretize) {
 		var request = new SemanticsRequest();
 		var input = new ProblemInput();
-		input.setSource(doc.getText());
+		input.setSource(source);
 		request.setInput(input);
 		var outputFormats = new OutputFormats();
 		var jsonFormat = new JsonOutputFormat();
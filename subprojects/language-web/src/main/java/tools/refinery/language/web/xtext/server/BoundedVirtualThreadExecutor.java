@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.xtext.server;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each task in a new virtual thread, but lets at most a fixed number of tasks run at the same time.
+ * <p>
+ * Tasks over the limit wait for a permit in their own virtual thread instead of in a queue, so waiting tasks don't
+ * occupy a platform thread, while CPU-bound tasks are still confined to the configured number of threads.
+ * </p>
+ */
+public class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+	private final ExecutorService delegate;
+	private final Semaphore permits;
+	private final int maximumConcurrency;
+
+	public BoundedVirtualThreadExecutor(int maximumConcurrency, ThreadFactory threadFactory) {
+		if (maximumConcurrency <= 0) {
+			throw new IllegalArgumentException("Maximum concurrency must be positive");
+		}
+		delegate = Executors.newThreadPerTaskExecutor(threadFactory);
+		// Use a fair semaphore to run tasks in the order of their submission.
+		permits = new Semaphore(maximumConcurrency, true);
+		this.maximumConcurrency = maximumConcurrency;
+	}
+
+	public int getMaximumConcurrency() {
+		return maximumConcurrency;
+	}
+
+	@Override
+	public void execute(@NotNull Runnable command) {
+		delegate.execute(() -> runWithPermit(command));
+	}
+
+	private void runWithPermit(Runnable command) {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			// The executor was shut down while the task was waiting, so we must not leave its future pending.
+			if (command instanceof Future<?> future) {
+				future.cancel(false);
+			}
+			Thread.currentThread().interrupt();
+			return;
+		}
+		try {
+			command.run();
+		} finally {
+			permits.release();
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		delegate.shutdown();
+	}
+
+	@Override
+	public @NotNull List<Runnable> shutdownNow() {
+		return delegate.shutdownNow();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return delegate.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return delegate.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+		return delegate.awaitTermination(timeout, unit);
+	}
+}
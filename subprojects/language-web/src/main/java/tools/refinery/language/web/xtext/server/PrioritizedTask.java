@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.xtext.server;
+
+/**
+ * A task to submit to a {@link PriorityThreadPoolExecutor}.
+ *
+ * @param priority      The priority class of the task.
+ * @param estimatedCost The estimated cost of the task, e.g., the size of the processed problem. Cheaper tasks are
+ *                      scheduled earlier within the same priority class.
+ * @param runnable      The task to run.
+ */
+public record PrioritizedTask(TaskPriority priority, long estimatedCost, Runnable runnable) implements Runnable {
+	public PrioritizedTask {
+		if (estimatedCost < 0) {
+			throw new IllegalArgumentException("Estimated cost must not be negative");
+		}
+	}
+
+	@Override
+	public void run() {
+		runnable.run();
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.xtext.server;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread pool with a bounded priority queue.
+ * <p>
+ * Tasks are ordered by a virtual deadline computed from their submission time, the delay of their
+ * {@link TaskPriority}, and their estimated cost. Thus, cheap interactive tasks overtake expensive batch tasks, but
+ * every task eventually runs. Tasks without a {@link PrioritizedTask} wrapper are treated as interactive tasks with no
+ * cost.
+ * </p>
+ * <p>
+ * A task is rejected with a {@link RejectedExecutionException} if there are already {@code maxQueueSize} waiting
+ * tasks, or if the total estimated cost of the waiting tasks would exceed {@code maxQueuedCost}. A task is always
+ * admitted if no other tasks are waiting, so that expensive tasks can still run on an idle server.
+ * </p>
+ */
+public class PriorityThreadPoolExecutor extends ThreadPoolExecutor {
+	/**
+	 * Delay of the virtual deadline per unit of estimated cost.
+	 */
+	public static final long COST_DELAY_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+
+	/**
+	 * Maximum delay of the virtual deadline due to the estimated cost.
+	 */
+	public static final long MAX_COST_DELAY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private static final Logger LOG = LoggerFactory.getLogger(PriorityThreadPoolExecutor.class);
+
+	private final int maxQueueSize;
+	private final long maxQueuedCost;
+	private final AtomicLong sequence = new AtomicLong();
+	private final ReentrantLock lock = new ReentrantLock();
+	private int queueSize;
+	private long queuedCost;
+	private long executedCount;
+	private long rejectedCount;
+	private long totalWaitNanos;
+	private long maxWaitNanos;
+
+	public PriorityThreadPoolExecutor(int threadCount, ThreadFactory threadFactory, int maxQueueSize,
+									  long maxQueuedCost) {
+		super(threadCount, threadCount, 0, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), threadFactory);
+		if (maxQueueSize <= 0) {
+			throw new IllegalArgumentException("Maximum queue size must be positive");
+		}
+		if (maxQueuedCost < 0) {
+			throw new IllegalArgumentException("Maximum queued cost must not be negative");
+		}
+		this.maxQueueSize = maxQueueSize;
+		this.maxQueuedCost = maxQueuedCost;
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+		if (runnable instanceof PrioritizedTask prioritizedTask) {
+			return new QueuedTask<>(Executors.callable(runnable, value), prioritizedTask.priority(),
+					prioritizedTask.estimatedCost());
+		}
+		return new QueuedTask<>(Executors.callable(runnable, value), TaskPriority.INTERACTIVE, 0);
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+		return new QueuedTask<>(callable, TaskPriority.INTERACTIVE, 0);
+	}
+
+	@Override
+	public void execute(@NotNull Runnable command) {
+		// The priority queue can only hold comparable tasks.
+		var task = command instanceof QueuedTask<?> queuedTask ? queuedTask :
+				(QueuedTask<?>) newTaskFor(command, null);
+		admit(task);
+		try {
+			super.execute(task);
+		} catch (RejectedExecutionException e) {
+			dequeue(task);
+			throw e;
+		}
+	}
+
+	private void admit(QueuedTask<?> task) {
+		lock.lock();
+		try {
+			if (queueSize > 0 && (queueSize >= maxQueueSize || queuedCost > maxQueuedCost - task.estimatedCost)) {
+				rejectedCount++;
+				throw new RejectedExecutionException("Too many tasks are waiting (%d tasks with a cost of %d)"
+						.formatted(queueSize, queuedCost));
+			}
+			queueSize++;
+			queuedCost += task.estimatedCost;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private long dequeue(QueuedTask<?> task) {
+		long waitNanos = System.nanoTime() - task.submissionTime;
+		lock.lock();
+		try {
+			queueSize--;
+			queuedCost -= task.estimatedCost;
+		} finally {
+			lock.unlock();
+		}
+		return waitNanos;
+	}
+
+	@Override
+	protected void beforeExecute(Thread thread, Runnable runnable) {
+		super.beforeExecute(thread, runnable);
+		if (!(runnable instanceof QueuedTask<?> task)) {
+			return;
+		}
+		long waitNanos = dequeue(task);
+		lock.lock();
+		try {
+			executedCount++;
+			totalWaitNanos += waitNanos;
+			maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+		} finally {
+			lock.unlock();
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Starting {} task with cost {} after waiting {} ms", task.priority, task.estimatedCost,
+					TimeUnit.NANOSECONDS.toMillis(waitNanos));
+		}
+	}
+
+	public QueueMetrics getMetrics() {
+		lock.lock();
+		try {
+			var meanWait = Duration.ofNanos(executedCount == 0 ? 0 : totalWaitNanos / executedCount);
+			return new QueueMetrics(queueSize, queuedCost, executedCount, rejectedCount, meanWait,
+					Duration.ofNanos(maxWaitNanos));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Statistics of the task queue of a {@link PriorityThreadPoolExecutor}.
+	 *
+	 * @param queueSize     The number of tasks currently waiting.
+	 * @param queuedCost    The total estimated cost of the tasks currently waiting.
+	 * @param executedCount The number of tasks started so far.
+	 * @param rejectedCount The number of tasks rejected so far.
+	 * @param meanWait      The mean time tasks have waited in the queue before starting.
+	 * @param maxWait       The longest time a task has waited in the queue before starting.
+	 */
+	public record QueueMetrics(int queueSize, long queuedCost, long executedCount, long rejectedCount,
+							   Duration meanWait, Duration maxWait) {
+	}
+
+	// Tasks are only compared within the priority queue, so there is no need to make {@code equals} consistent with
+	// {@link #compareTo(Object)}.
+	@SuppressWarnings("squid:S1210")
+	private class QueuedTask<T> extends FutureTask<T> implements Comparable<QueuedTask<?>> {
+		private final TaskPriority priority;
+		private final long estimatedCost;
+		private final long submissionTime = System.nanoTime();
+		private final long deadline;
+		private final long sequenceNumber = sequence.getAndIncrement();
+
+		public QueuedTask(Callable<T> callable, TaskPriority priority, long estimatedCost) {
+			super(callable);
+			this.priority = priority;
+			this.estimatedCost = estimatedCost;
+			long costDelay = Math.min(estimatedCost, MAX_COST_DELAY_NANOS / COST_DELAY_NANOS) * COST_DELAY_NANOS;
+			deadline = submissionTime + priority.getDelayNanos() + costDelay;
+		}
+
+		@Override
+		public int compareTo(@NotNull QueuedTask<?> other) {
+			// Compare the difference of {@link System#nanoTime()} values to be robust against numerical overflow.
+			int result = Long.compare(deadline - other.deadline, 0);
+			if (result != 0) {
+				return result;
+			}
+			return Long.compare(sequenceNumber, other.sequenceNumber);
+		}
+	}
+}
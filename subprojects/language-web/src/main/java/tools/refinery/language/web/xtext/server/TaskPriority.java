@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.xtext.server;
+
+import java.time.Duration;
+
+/**
+ * Priority classes of tasks scheduled by a {@link PriorityThreadPoolExecutor}.
+ * <p>
+ * Instead of strictly preferring higher priority tasks, each priority class delays the virtual deadline of its tasks.
+ * This way, lower priority tasks can't starve if there is a constant stream of higher priority tasks.
+ * </p>
+ */
+public enum TaskPriority {
+	/**
+	 * Tasks where a user is waiting for the result, such as semantics requests from the editor.
+	 */
+	INTERACTIVE(Duration.ZERO),
+
+	/**
+	 * Tasks producing many results, which are usually not waited for interactively.
+	 */
+	BATCH(Duration.ofSeconds(10));
+
+	private final long delayNanos;
+
+	TaskPriority(Duration delay) {
+		delayNanos = delay.toNanos();
+	}
+
+	public long getDelayNanos() {
+		return delayNanos;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -14,31 +14,37 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 
 @Singleton
 public class ThreadPoolExecutorServiceProvider extends ExecutorServiceProvider {
 	private static final Logger LOG = LoggerFactory.getLogger(ThreadPoolExecutorServiceProvider.class);
-	private static final String DOCUMENT_LOCK_EXECUTOR;
+	static final String DOCUMENT_LOCK_EXECUTOR;
 	private static final AtomicInteger POOL_ID = new AtomicInteger(1);
 	public static final String SEMANTICS_EXECUTOR = "semantics";
 	public static final String MODEL_GENERATION_EXECUTOR = "modelGeneration";
 	public static final String MODEL_GENERATION_TIMEOUT_EXECUTOR = "modelGenerationTimeout";
+	public static final int DEFAULT_QUEUE_SIZE = 64;
+	public static final long DEFAULT_MODEL_GENERATION_QUEUE_COST = 16_000_000;
 
 	private final Map<String, ScheduledExecutorService> scheduledInstanceCache =
 			Collections.synchronizedMap(new HashMap<>());
+	private final Map<String, PriorityThreadPoolExecutor> priorityInstanceCache =
+			Collections.synchronizedMap(new LinkedHashMap<>());
 	private final int executorThreadCount;
 	private final int lockExecutorThreadCount;
 	private final int semanticsExecutorThreadCount;
 	private final int generatorExecutorThreadCount;
+	private final int semanticsQueueSize;
+	private final int generatorQueueSize;
+	private final long generatorQueueCost;
+	private final boolean virtualThreads;
 
 	static {
 		var lookup = MethodHandles.lookup();
@@ -61,9 +67,16 @@ public class ThreadPoolExecutorServiceProvider extends ExecutorServiceProvider {
 	}
 
 	public ThreadPoolExecutorServiceProvider() {
-		executorThreadCount = getCount("REFINERY_XTEXT_THREAD_COUNT").orElse(1);
-		lockExecutorThreadCount = getCount("REFINERY_XTEXT_LOCKING_THREAD_COUNT").orElse(executorThreadCount);
-		int semanticsCount = getCount("REFINERY_XTEXT_SEMANTICS_THREAD_COUNT").orElse(executorThreadCount);
+		this(System::getenv);
+	}
+
+	ThreadPoolExecutorServiceProvider(UnaryOperator<String> environment) {
+		virtualThreads = Boolean.parseBoolean(environment.apply("REFINERY_VIRTUAL_THREADS"));
+		executorThreadCount = getCount(environment, "REFINERY_XTEXT_THREAD_COUNT").orElse(1);
+		lockExecutorThreadCount = getCount(environment, "REFINERY_XTEXT_LOCKING_THREAD_COUNT")
+				.orElse(executorThreadCount);
+		int semanticsCount = getCount(environment, "REFINERY_XTEXT_SEMANTICS_THREAD_COUNT")
+				.orElse(executorThreadCount);
 		if (semanticsCount == 0 || executorThreadCount == 0) {
 			semanticsExecutorThreadCount = 0;
 		} else {
@@ -74,11 +87,31 @@ public class ThreadPoolExecutorServiceProvider extends ExecutorServiceProvider {
 							"either 0 or at least as large as REFINERY_XTEXT_THREAD_COUNT to avoid lock contention.",
 					semanticsExecutorThreadCount);
 		}
-		generatorExecutorThreadCount = getCount("REFINERY_MODEL_GENERATION_THREAD_COUNT").orElse(executorThreadCount);
+		generatorExecutorThreadCount = getCount(environment, "REFINERY_MODEL_GENERATION_THREAD_COUNT")
+				.orElse(executorThreadCount);
+		semanticsQueueSize = getCount(environment, "REFINERY_XTEXT_SEMANTICS_QUEUE_SIZE").orElse(DEFAULT_QUEUE_SIZE);
+		generatorQueueSize = getCount(environment, "REFINERY_MODEL_GENERATION_QUEUE_SIZE").orElse(DEFAULT_QUEUE_SIZE);
+		generatorQueueCost = Optional.ofNullable(environment.apply("REFINERY_MODEL_GENERATION_QUEUE_COST"))
+				.map(Long::parseUnsignedLong)
+				.orElse(DEFAULT_MODEL_GENERATION_QUEUE_COST);
 	}
 
-	private static Optional<Integer> getCount(String name) {
-		return Optional.ofNullable(System.getenv(name)).map(Integer::parseUnsignedInt);
+	private static Optional<Integer> getCount(UnaryOperator<String> environment, String name) {
+		return Optional.ofNullable(environment.apply(name)).map(Integer::parseUnsignedInt);
+	}
+
+	/**
+	 * Determines whether tasks that mostly wait for other tasks run on virtual threads.
+	 * <p>
+	 * If enabled, Xtext services and timeouts run on virtual threads, while semantics calculation and model
+	 * generation are still confined to their bounded pools of platform threads. The number of concurrently running
+	 * Xtext services is still limited by the configured thread counts, unless they are set to {@code 0}.
+	 * </p>
+	 *
+	 * @return {@code true} if virtual threads are enabled.
+	 */
+	public boolean isVirtualThreads() {
+		return virtualThreads;
 	}
 
 	public ScheduledExecutorService getScheduled(String key) {
@@ -91,23 +124,65 @@ public class ThreadPoolExecutorServiceProvider extends ExecutorServiceProvider {
 		if (key != null) {
 			name = name + "-" + key;
 		}
-		var threadFactory = new Factory(name, 5);
 		int size = getSize(key);
+		boolean computeExecutor = SEMANTICS_EXECUTOR.equals(key) || MODEL_GENERATION_EXECUTOR.equals(key);
+		if (virtualThreads && !computeExecutor) {
+			// Xtext services spend most of their time waiting for the document lock or for semantics results, but
+			// parsing and validation are CPU-bound, so we keep them bounded.
+			var virtualThreadFactory = createVirtualThreadFactory(name);
+			if (size == 0) {
+				return Executors.newThreadPerTaskExecutor(virtualThreadFactory);
+			}
+			return new BoundedVirtualThreadExecutor(size, virtualThreadFactory);
+		}
+		var threadFactory = new Factory(name, 5);
 		if (size == 0) {
 			return Executors.newCachedThreadPool(threadFactory);
 		}
+		if (SEMANTICS_EXECUTOR.equals(key)) {
+			return createPriorityInstance(key, size, threadFactory, semanticsQueueSize, Long.MAX_VALUE);
+		}
+		if (MODEL_GENERATION_EXECUTOR.equals(key)) {
+			return createPriorityInstance(key, size, threadFactory, generatorQueueSize, generatorQueueCost);
+		}
 		return Executors.newFixedThreadPool(size, threadFactory);
 	}
 
+	private ExecutorService createPriorityInstance(String key, int size, ThreadFactory threadFactory,
+												   int queueSize, long queueCost) {
+		var executor = new PriorityThreadPoolExecutor(size, threadFactory, queueSize, queueCost);
+		priorityInstanceCache.put(key, executor);
+		return executor;
+	}
+
+	/**
+	 * Gets the queue statistics of the executors that schedule tasks according to their priority.
+	 *
+	 * @return The queue statistics of the already created executors by their keys.
+	 */
+	public Map<String, PriorityThreadPoolExecutor.QueueMetrics> getQueueMetrics() {
+		var metrics = new LinkedHashMap<String, PriorityThreadPoolExecutor.QueueMetrics>();
+		synchronized (priorityInstanceCache) {
+			for (var entry : priorityInstanceCache.entrySet()) {
+				metrics.put(entry.getKey(), entry.getValue().getMetrics());
+			}
+		}
+		return metrics;
+	}
+
 	protected ScheduledExecutorService createScheduledInstance(String key) {
 		String name = "xtext-scheduled-" + POOL_ID.getAndIncrement();
 		if (key != null) {
 			name = name + "-" + key;
 		}
-		var threadFactory = new Factory(name, 5);
+		var threadFactory = virtualThreads ? createVirtualThreadFactory(name) : new Factory(name, 5);
 		return Executors.newScheduledThreadPool(1, threadFactory);
 	}
 
+	private static ThreadFactory createVirtualThreadFactory(String name) {
+		return Thread.ofVirtual().name(name + "-virtual-", 1).factory();
+	}
+
 	private int getSize(String key) {
 		if (SEMANTICS_EXECUTOR.equals(key)) {
 			return semanticsExecutorThreadCount;
@@ -129,6 +204,7 @@ public class ThreadPoolExecutorServiceProvider extends ExecutorServiceProvider {
 			}
 			scheduledInstanceCache.clear();
 		}
+		priorityInstanceCache.clear();
 	}
 
 	private static class Factory implements ThreadFactory {
@@ -26,9 +26,7 @@ package tools.refinery.language.web.xtext.servlet;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
@@ -36,6 +34,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -296,25 +295,175 @@ public final class RuntimeTypeAdapterFactory<T> implements TypeAdapterFactory {
 				throw new JsonParseException("cannot serialize " + srcType.getName()
 						+ "; did you forget to register a subtype?");
 			}
-			JsonObject jsonObject = delegate.toJsonTree(value).getAsJsonObject();
-
 			if (maintainType) {
-				jsonElementAdapter.write(out, jsonObject);
+				delegate.write(out, value);
 				return;
 			}
 
-			JsonObject clone = new JsonObject();
+			// Refinery: write the type field directly into the output instead of copying the JSON tree of the value, so
+			// that large responses don't have to be materialized in memory.
+			delegate.write(new TypeFieldJsonWriter(out, srcType, label), value);
+		}
+	}
+
+	/**
+	 * Forwards a single JSON object to an underlying writer and inserts the type field at the start of the object.
+	 */
+	private class TypeFieldJsonWriter extends JsonWriter {
+		private static final Writer UNWRITABLE_WRITER = new Writer() {
+			@Override
+			public void write(char[] buffer, int offset, int counter) {
+				throw new AssertionError();
+			}
+
+			@Override
+			public void flush() {
+				throw new AssertionError();
+			}
+
+			@Override
+			public void close() {
+				throw new AssertionError();
+			}
+		};
+
+		private final JsonWriter out;
+		private final Class<?> srcType;
+		private final String label;
+		private int depth;
+
+		TypeFieldJsonWriter(JsonWriter out, Class<?> srcType, String label) {
+			super(UNWRITABLE_WRITER);
+			this.out = out;
+			this.srcType = srcType;
+			this.label = label;
+			setStrictness(out.getStrictness());
+			setHtmlSafe(out.isHtmlSafe());
+			setSerializeNulls(out.getSerializeNulls());
+			setFormattingStyle(out.getFormattingStyle());
+		}
+
+		@Override
+		public JsonWriter beginObject() throws IOException {
+			out.beginObject();
+			depth++;
+			if (depth == 1) {
+				out.name(typeFieldName);
+				out.value(label);
+			}
+			return this;
+		}
+
+		@Override
+		public JsonWriter endObject() throws IOException {
+			depth--;
+			out.endObject();
+			return this;
+		}
+
+		@Override
+		public JsonWriter beginArray() throws IOException {
+			checkInsideObject();
+			depth++;
+			out.beginArray();
+			return this;
+		}
+
+		@Override
+		public JsonWriter endArray() throws IOException {
+			depth--;
+			out.endArray();
+			return this;
+		}
 
-			if (jsonObject.has(typeFieldName)) {
+		@Override
+		public JsonWriter name(String name) throws IOException {
+			if (depth == 1 && typeFieldName.equals(name)) {
 				throw new JsonParseException("cannot serialize " + srcType.getName()
 						+ " because it already defines a field named " + typeFieldName);
 			}
-			clone.add(typeFieldName, new JsonPrimitive(label));
+			out.name(name);
+			return this;
+		}
+
+		@Override
+		public JsonWriter value(String value) throws IOException {
+			checkInsideObject();
+			out.value(value);
+			return this;
+		}
 
-			for (Map.Entry<String, JsonElement> e : jsonObject.entrySet()) {
-				clone.add(e.getKey(), e.getValue());
+		@Override
+		public JsonWriter value(boolean value) throws IOException {
+			checkInsideObject();
+			out.value(value);
+			return this;
+		}
+
+		@Override
+		public JsonWriter value(Boolean value) throws IOException {
+			checkInsideObject();
+			out.value(value);
+			return this;
+		}
+
+		@Override
+		public JsonWriter value(float value) throws IOException {
+			checkInsideObject();
+			out.value(value);
+			return this;
+		}
+
+		@Override
+		public JsonWriter value(double value) throws IOException {
+			checkInsideObject();
+			out.value(value);
+			return this;
+		}
+
+		@Override
+		public JsonWriter value(long value) throws IOException {
+			checkInsideObject();
+			out.value(value);
+			return this;
+		}
+
+		@Override
+		public JsonWriter value(Number value) throws IOException {
+			checkInsideObject();
+			out.value(value);
+			return this;
+		}
+
+		@Override
+		public JsonWriter nullValue() throws IOException {
+			checkInsideObject();
+			out.nullValue();
+			return this;
+		}
+
+		@Override
+		public JsonWriter jsonValue(String value) throws IOException {
+			checkInsideObject();
+			out.jsonValue(value);
+			return this;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+		}
+
+		@Override
+		public void close() {
+			// The underlying writer is owned by the caller.
+		}
+
+		private void checkInsideObject() {
+			if (depth == 0) {
+				throw new JsonParseException("cannot serialize " + srcType.getName()
+						+ " because it is not serialized as a JSON object");
 			}
-			jsonElementAdapter.write(out, clone);
 		}
 	}
 }
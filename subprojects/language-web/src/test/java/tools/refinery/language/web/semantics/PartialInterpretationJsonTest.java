@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.semantics;
+
+import org.junit.jupiter.api.Test;
+import tools.refinery.generator.serializer.TupleEntry;
+import tools.refinery.language.web.api.dto.JsonOutput;
+import tools.refinery.language.web.api.dto.RefineryResponse;
+import tools.refinery.language.web.api.dto.SemanticsSuccessResult;
+import tools.refinery.language.web.gson.GsonUtil;
+import tools.refinery.logic.term.intinterval.IntInterval;
+import tools.refinery.logic.term.truthvalue.TruthValue;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class PartialInterpretationJsonTest {
+	@Test
+	void serializeResponseTest() {
+		var relations = new LinkedHashMap<String, List<TupleEntry>>();
+		relations.put("friend", List.of(
+				new TupleEntry(Tuple.of(0, 1), TruthValue.TRUE),
+				new TupleEntry(Tuple.of(1, 0), TruthValue.UNKNOWN),
+				new TupleEntry(Tuple.of(1, 1), TruthValue.ERROR)));
+		relations.put("age", List.of(
+				new TupleEntry(Tuple.of(0), IntInterval.of(18)),
+				new TupleEntry(Tuple.of(1), IntInterval.of(18, 65))));
+		relations.put("empty", List.of());
+		var json = new JsonOutput(List.of(), List.of(), new PartialInterpretationJson(relations));
+		var response = new RefineryResponse.Success(new SemanticsSuccessResult(List.of(), json));
+		var serialized = GsonUtil.getGson().toJson(response, RefineryResponse.class);
+		assertThat(serialized, is("""
+				{"result":"success","value":{"issues":[],"json":{"nodes":[],"relations":[],"partialInterpretation":\
+				{"friend":[[0,1,"true"],[1,0,"unknown"],[1,1,"error"]],"age":[[0,"18"],[1,{"unknown":"18..65"}]],\
+				"empty":[]}}}}"""));
+	}
+}
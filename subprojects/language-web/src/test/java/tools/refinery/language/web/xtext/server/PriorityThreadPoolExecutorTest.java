@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.xtext.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PriorityThreadPoolExecutorTest {
+	private final CountDownLatch blocker = new CountDownLatch(1);
+	private final List<String> order = new CopyOnWriteArrayList<>();
+	private PriorityThreadPoolExecutor executor;
+
+	@BeforeEach
+	void beforeEach() {
+		executor = new PriorityThreadPoolExecutor(1, Executors.defaultThreadFactory(), 4, 1000);
+		executor.submit(() -> {
+			try {
+				blocker.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+	}
+
+	@AfterEach
+	void afterEach() throws InterruptedException {
+		blocker.countDown();
+		executor.shutdown();
+		executor.awaitTermination(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void interactiveBeforeBatchTest() throws InterruptedException {
+		submit("batch", TaskPriority.BATCH, 0);
+		submit("interactive", TaskPriority.INTERACTIVE, 0);
+		awaitTasks();
+		assertThat(order, is(List.of("interactive", "batch")));
+	}
+
+	@Test
+	void cheapBeforeExpensiveTest() throws InterruptedException {
+		submit("expensive", TaskPriority.INTERACTIVE, 900);
+		submit("cheap", TaskPriority.INTERACTIVE, 10);
+		awaitTasks();
+		assertThat(order, is(List.of("cheap", "expensive")));
+	}
+
+	@Test
+	void fifoTest() throws InterruptedException {
+		submit("first", TaskPriority.INTERACTIVE, 0);
+		submit("second", TaskPriority.INTERACTIVE, 0);
+		awaitTasks();
+		assertThat(order, is(List.of("first", "second")));
+	}
+
+	@Test
+	void rejectByCostTest() {
+		submit("expensive", TaskPriority.INTERACTIVE, 900);
+		assertThrows(RejectedExecutionException.class, () -> submit("rejected", TaskPriority.INTERACTIVE, 200));
+		assertThat(executor.getMetrics().rejectedCount(), is(1L));
+	}
+
+	@Test
+	void rejectByQueueSizeTest() {
+		for (int i = 0; i < 4; i++) {
+			submit("task" + i, TaskPriority.INTERACTIVE, 0);
+		}
+		assertThrows(RejectedExecutionException.class, () -> submit("rejected", TaskPriority.INTERACTIVE, 0));
+		assertThat(executor.getMetrics().queueSize(), is(4));
+	}
+
+	private void submit(String name, TaskPriority priority, long estimatedCost) {
+		executor.submit(new PrioritizedTask(priority, estimatedCost, () -> order.add(name)));
+	}
+
+	private void awaitTasks() throws InterruptedException {
+		blocker.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(1, TimeUnit.SECONDS), is(true));
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.language.web.xtext.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ThreadPoolExecutorServiceProviderTest {
+	private ThreadPoolExecutorServiceProvider provider;
+
+	@AfterEach
+	void afterEach() {
+		if (provider != null) {
+			provider.dispose();
+		}
+	}
+
+	@Test
+	void platformThreadsTest() {
+		provider = createProvider(Map.of(
+				"REFINERY_XTEXT_THREAD_COUNT", "2",
+				"REFINERY_XTEXT_LOCKING_THREAD_COUNT", "3"
+		));
+		assertThat(getPoolSize(provider.get(null)), is(2));
+		assertThat(getPoolSize(provider.get(ThreadPoolExecutorServiceProvider.DOCUMENT_LOCK_EXECUTOR)), is(3));
+		assertThat(provider.get(ThreadPoolExecutorServiceProvider.SEMANTICS_EXECUTOR),
+				instanceOf(PriorityThreadPoolExecutor.class));
+	}
+
+	@Test
+	void virtualThreadsTest() {
+		provider = createProvider(Map.of(
+				"REFINERY_VIRTUAL_THREADS", "true",
+				"REFINERY_XTEXT_THREAD_COUNT", "2",
+				"REFINERY_XTEXT_LOCKING_THREAD_COUNT", "3"
+		));
+		assertThat(getMaximumConcurrency(provider.get(null)), is(2));
+		assertThat(getMaximumConcurrency(provider.get(ThreadPoolExecutorServiceProvider.DOCUMENT_LOCK_EXECUTOR)),
+				is(3));
+		// Semantics calculation and model generation always run on platform threads.
+		assertThat(provider.get(ThreadPoolExecutorServiceProvider.SEMANTICS_EXECUTOR),
+				instanceOf(PriorityThreadPoolExecutor.class));
+		assertThat(provider.get(ThreadPoolExecutorServiceProvider.MODEL_GENERATION_EXECUTOR),
+				instanceOf(PriorityThreadPoolExecutor.class));
+	}
+
+	@Test
+	void unlimitedVirtualThreadsTest() {
+		provider = createProvider(Map.of(
+				"REFINERY_VIRTUAL_THREADS", "true",
+				"REFINERY_XTEXT_THREAD_COUNT", "0"
+		));
+		var executor = provider.get(null);
+		assertThat(executor, not(instanceOf(BoundedVirtualThreadExecutor.class)));
+		assertThat(executor, not(instanceOf(ThreadPoolExecutor.class)));
+	}
+
+	@Test
+	void boundedVirtualThreadExecutorTest() throws Exception {
+		var executor = new BoundedVirtualThreadExecutor(2, Thread.ofVirtual().factory());
+		var running = new AtomicInteger();
+		var maximumRunning = new AtomicInteger();
+		var started = new CountDownLatch(2);
+		var blocker = new CountDownLatch(1);
+		var futures = new ArrayList<Future<?>>();
+		try {
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(() -> {
+					maximumRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					started.countDown();
+					try {
+						blocker.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					running.decrementAndGet();
+				}));
+			}
+			assertThat(started.await(1, TimeUnit.SECONDS), is(true));
+			// Give the tasks waiting for a permit a chance to start if the limit is not enforced.
+			Thread.sleep(50);
+			assertThat(running.get(), is(2));
+			blocker.countDown();
+			for (var future : futures) {
+				future.get(1, TimeUnit.SECONDS);
+			}
+			assertThat(maximumRunning.get(), is(2));
+		} finally {
+			blocker.countDown();
+			executor.shutdown();
+			assertThat(executor.awaitTermination(1, TimeUnit.SECONDS), is(true));
+		}
+	}
+
+	private static ThreadPoolExecutorServiceProvider createProvider(Map<String, String> environment) {
+		return new ThreadPoolExecutorServiceProvider(environment::get);
+	}
+
+	private static int getPoolSize(ExecutorService executor) {
+		assertThat(executor, instanceOf(ThreadPoolExecutor.class));
+		return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+	}
+
+	private static int getMaximumConcurrency(ExecutorService executor) {
+		assertThat(executor, instanceOf(BoundedVirtualThreadExecutor.class));
+		return ((BoundedVirtualThreadExecutor) executor).getMaximumConcurrency();
+	}
+}
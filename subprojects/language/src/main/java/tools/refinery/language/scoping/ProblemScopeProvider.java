@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -9,12 +9,18 @@
  */
 package tools.refinery.language.scoping;
 
+import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.ISelectable;
+import org.eclipse.xtext.resource.impl.EObjectDescriptionLookUp;
 import org.eclipse.xtext.scoping.IScope;
 import org.eclipse.xtext.scoping.Scopes;
+import org.eclipse.xtext.scoping.impl.SelectableBasedScope;
+import org.eclipse.xtext.util.IResourceScopeCache;
+import org.eclipse.xtext.util.Tuples;
 import tools.refinery.language.annotations.internal.TypedAnnotationContext;
 import tools.refinery.language.model.problem.*;
 
@@ -29,9 +35,14 @@ import java.util.LinkedHashSet;
  * on how and when to use it.
  */
 public class ProblemScopeProvider extends AbstractProblemScopeProvider {
+	private static final String NODES_LOOK_UP = "tools.refinery.language.scoping.ProblemScopeProvider.NODES_LOOK_UP";
+
 	@Inject
 	private TypedAnnotationContext annotationContext;
 
+	@Inject
+	private IResourceScopeCache cache = IResourceScopeCache.NullImpl.INSTANCE;
+
 	@Override
 	public IScope getScope(EObject context, EReference reference) {
 		if (reference == ProblemPackage.Literals.NODE_ASSERTION_ARGUMENT__NODE) {
@@ -61,7 +72,16 @@ public class ProblemScopeProvider extends AbstractProblemScopeProvider {
 		if (problem == null) {
 			return delegateScope;
 		}
-		return Scopes.scopeFor(problem.getNodes(), delegateScope);
+		// Generated instance models may contain a large number of implicit nodes, so we look them up by name from an
+		// index shared by all assertions in the resource instead of scanning them for every cross-reference.
+		var resource = problem.eResource();
+		var nodesLookUp = resource == null ? createNodesLookUp(problem) :
+				cache.get(Tuples.create(problem, NODES_LOOK_UP), resource, () -> createNodesLookUp(problem));
+		return SelectableBasedScope.createScope(delegateScope, nodesLookUp, ProblemPackage.Literals.NODE, false);
+	}
+
+	private static ISelectable createNodesLookUp(Problem problem) {
+		return new EObjectDescriptionLookUp(ImmutableList.copyOf(Scopes.scopedElementsFor(problem.getNodes())));
 	}
 
 	protected IScope getVariableOrNodeElementScope(EObject context) {
@@ -1,6 +1,6 @@
 /*******************************************************************************
  * Copyright (c) 2008, 2018 itemis AG (http://www.itemis.eu) and others.
- * Copyright (c) 2023 The Refinery Authors <https://refinery.tools/>
+ * Copyright (c) 2023-2026 The Refinery Authors <https://refinery.tools/>
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -92,6 +92,32 @@ public class ProblemCrossReferenceSerializer extends CrossReferenceSerializer {
 		return postProcessCrossReferenceName(semanticObject, ref, target, crossReferenceName);
 	}
 
+	/**
+	 * Computes the shortest unambiguous name of {@code target} in the scope of {@code reference}.
+	 * <p>
+	 * Unlike {@link #serializeCrossRef(EObject, CrossReference, EObject, INode, ISerializationDiagnostic.Acceptor)},
+	 * this method doesn't need a semantic object that holds the reference, so callers may write references as text
+	 * without creating EMF objects for them.
+	 * </p>
+	 *
+	 * @param context   The object whose scope should be used to resolve the name, e.g., the container of the
+	 *                  (virtual) semantic object holding the reference.
+	 * @param reference The reference to compute the name for.
+	 * @param target    The referenced object.
+	 * @return The shortest unambiguous name of {@code target}, or {@code null} if there is no such name.
+	 */
+	public String getShortestName(EObject context, EReference reference, EObject target) {
+		var scope = scopeProvider.getScope(context, reference);
+		if (scope == null) {
+			return null;
+		}
+		var crossReferenceName = getCrossReferenceNameFromScope(context, null, target, scope, null);
+		if (crossReferenceName == null) {
+			return null;
+		}
+		return postProcessCrossReferenceName(context, reference, target, crossReferenceName);
+	}
+
 	private String getCrossReferenceName(EObject semanticObject, CrossReference crossref, EObject target, INode node,
 										 IScope scope, ISerializationDiagnostic.Acceptor errors) {
 		if (target != null && node != null) {
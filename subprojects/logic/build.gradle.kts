@@ -7,6 +7,7 @@
 plugins {
 	id("tools.refinery.gradle.java-library")
 	id("tools.refinery.gradle.java-test-fixtures")
+	id("tools.refinery.gradle.jmh")
 }
 
 mavenArtifact {
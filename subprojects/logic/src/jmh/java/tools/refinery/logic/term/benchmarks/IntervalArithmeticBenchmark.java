@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.term.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+public class IntervalArithmeticBenchmark {
+	@Benchmark
+	public void intAddBenchmark(IntervalArithmeticExecutionPlan executionPlan, Blackhole blackhole) {
+		var intervals = executionPlan.intIntervals;
+		var accumulator = intervals[0];
+		for (int i = 1; i < intervals.length; i++) {
+			accumulator = accumulator.add(intervals[i]).sub(intervals[i - 1]);
+		}
+		blackhole.consume(accumulator);
+	}
+
+	@Benchmark
+	public void intMulDivBenchmark(IntervalArithmeticExecutionPlan executionPlan, Blackhole blackhole) {
+		var intervals = executionPlan.intIntervals;
+		for (int i = 1; i < intervals.length; i++) {
+			blackhole.consume(intervals[i].mul(intervals[i - 1]));
+			blackhole.consume(intervals[i].div(intervals[i - 1]));
+		}
+	}
+
+	@Benchmark
+	public void intCompareBenchmark(IntervalArithmeticExecutionPlan executionPlan, Blackhole blackhole) {
+		var intervals = executionPlan.intIntervals;
+		for (int i = 1; i < intervals.length; i++) {
+			blackhole.consume(intervals[i].checkLessEq(intervals[i - 1]));
+			blackhole.consume(intervals[i].meet(intervals[i - 1]));
+		}
+	}
+
+	@Benchmark
+	public void realAddBenchmark(IntervalArithmeticExecutionPlan executionPlan, Blackhole blackhole) {
+		var intervals = executionPlan.realIntervals;
+		var accumulator = intervals[0];
+		for (int i = 1; i < intervals.length; i++) {
+			accumulator = accumulator.add(intervals[i]).sub(intervals[i - 1]);
+		}
+		blackhole.consume(accumulator);
+	}
+
+	@Benchmark
+	public void realMulDivBenchmark(IntervalArithmeticExecutionPlan executionPlan, Blackhole blackhole) {
+		var intervals = executionPlan.realIntervals;
+		for (int i = 1; i < intervals.length; i++) {
+			blackhole.consume(intervals[i].mul(intervals[i - 1]));
+			blackhole.consume(intervals[i].div(intervals[i - 1]));
+		}
+	}
+
+	@Benchmark
+	public void realCompareBenchmark(IntervalArithmeticExecutionPlan executionPlan, Blackhole blackhole) {
+		var intervals = executionPlan.realIntervals;
+		for (int i = 1; i < intervals.length; i++) {
+			blackhole.consume(intervals[i].checkLessEq(intervals[i - 1]));
+			blackhole.consume(intervals[i].meet(intervals[i - 1]));
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.term.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.refinery.logic.term.intinterval.IntInterval;
+import tools.refinery.logic.term.realinterval.RealInterval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+@State(Scope.Benchmark)
+public class IntervalArithmeticExecutionPlan {
+	private static final BigInteger LARGE_INT_OFFSET = BigInteger.TWO.pow(80);
+	private static final BigDecimal LARGE_REAL_OFFSET = new BigDecimal("1E+40");
+
+	@Param({"1000"})
+	public int nValues;
+
+	/**
+	 * Whether the values fit into the compact representation of bounds ({@code true}) or force arbitrary-precision
+	 * arithmetic ({@code false}). The latter serves as the baseline for measuring the speedup of the fast path.
+	 */
+	@Param({"true", "false"})
+	public boolean compact;
+
+	public IntInterval[] intIntervals;
+
+	public RealInterval[] realIntervals;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		var random = new Random(1);
+		intIntervals = new IntInterval[nValues];
+		realIntervals = new RealInterval[nValues];
+		for (int i = 0; i < nValues; i++) {
+			var lowerInt = BigInteger.valueOf(random.nextInt(-1000, 1000));
+			var upperInt = lowerInt.add(BigInteger.valueOf(random.nextInt(1, 100)));
+			// Two decimal places are typical of real literals in problems.
+			var lowerReal = BigDecimal.valueOf(random.nextInt(-100_000, 100_000), 2);
+			var upperReal = lowerReal.add(BigDecimal.valueOf(random.nextInt(1, 10_000), 2));
+			if (!compact) {
+				lowerInt = lowerInt.add(LARGE_INT_OFFSET);
+				upperInt = upperInt.add(LARGE_INT_OFFSET);
+				lowerReal = lowerReal.add(LARGE_REAL_OFFSET);
+				upperReal = upperReal.add(LARGE_REAL_OFFSET);
+			}
+			intIntervals[i] = IntInterval.of(lowerInt, upperInt);
+			realIntervals[i] = RealInterval.of(lowerReal, upperReal);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -156,10 +156,47 @@ public sealed interface IntBound {
 		}
 	}
 
+	/**
+	 * A finite integer bound.
+	 * <p>
+	 * If both operands fit into a {@code long}, arithmetic is carried out on primitive values and a {@link BigInteger}
+	 * is only created for the result. Results close to zero are shared, so common bounds are not allocated at all.
+	 *
+	 * @param value The value of the bound.
+	 */
 	record Finite(BigInteger value) implements IntBound {
-		public static final Finite ZERO = new Finite(BigInteger.ZERO);
-		public static final Finite ONE = new Finite(BigInteger.ONE);
-		public static final Finite NEGATIVE_ONE = new Finite(BigInteger.valueOf(-1));
+		private static final int CACHE_LOW = -128;
+		private static final int CACHE_HIGH = 1024;
+		private static final Finite[] CACHE = createCache();
+
+		public static final Finite ZERO = valueOf(0);
+		public static final Finite ONE = valueOf(1);
+		public static final Finite NEGATIVE_ONE = valueOf(-1);
+
+		public static Finite valueOf(long value) {
+			if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+				return CACHE[(int) (value - CACHE_LOW)];
+			}
+			return new Finite(BigInteger.valueOf(value));
+		}
+
+		public static Finite valueOf(BigInteger value) {
+			if (value.bitLength() < Long.SIZE) {
+				long longValue = value.longValue();
+				if (longValue >= CACHE_LOW && longValue <= CACHE_HIGH) {
+					return CACHE[(int) (longValue - CACHE_LOW)];
+				}
+			}
+			return new Finite(value);
+		}
+
+		private static Finite[] createCache() {
+			var cache = new Finite[CACHE_HIGH - CACHE_LOW + 1];
+			for (int i = 0; i < cache.length; i++) {
+				cache[i] = new Finite(BigInteger.valueOf(i + CACHE_LOW));
+			}
+			return cache;
+		}
 
 		@Override
 		public boolean lessThanOrEquals(IntBound other) {
@@ -177,7 +214,13 @@ public sealed interface IntBound {
 
 		@Override
 		public IntBound minus(RoundingMode roundingMode) {
-			return new Finite(value.negate());
+			if (fitsInLong()) {
+				long longValue = value.longValue();
+				if (longValue != Long.MIN_VALUE) {
+					return valueOf(-longValue);
+				}
+			}
+			return valueOf(value.negate());
 		}
 
 		@Override
@@ -185,7 +228,18 @@ public sealed interface IntBound {
 			return switch (other) {
 				case Infinite.POSITIVE_INFINITY -> Infinite.POSITIVE_INFINITY;
 				case Infinite.NEGATIVE_INFINITY -> Infinite.NEGATIVE_INFINITY;
-				case Finite(var otherValue) -> new Finite(value.add(otherValue));
+				case Finite finite -> {
+					if (fitsInLong() && finite.fitsInLong()) {
+						long longValue = value.longValue();
+						long otherValue = finite.value.longValue();
+						long result = longValue + otherValue;
+						// Overflow iff both operands have the same sign, but the result has a different sign.
+						if (((longValue ^ result) & (otherValue ^ result)) >= 0) {
+							yield valueOf(result);
+						}
+					}
+					yield valueOf(value.add(finite.value));
+				}
 			};
 		}
 
@@ -194,7 +248,18 @@ public sealed interface IntBound {
 			return switch (other) {
 				case Infinite.POSITIVE_INFINITY -> Infinite.NEGATIVE_INFINITY;
 				case Infinite.NEGATIVE_INFINITY -> Infinite.POSITIVE_INFINITY;
-				case Finite(var otherValue) -> new Finite(value.subtract(otherValue));
+				case Finite finite -> {
+					if (fitsInLong() && finite.fitsInLong()) {
+						long longValue = value.longValue();
+						long otherValue = finite.value.longValue();
+						long result = longValue - otherValue;
+						// Overflow iff the signs of the operands differ and the result has the sign of the subtrahend.
+						if (((longValue ^ otherValue) & (longValue ^ result)) >= 0) {
+							yield valueOf(result);
+						}
+					}
+					yield valueOf(value.subtract(finite.value));
+				}
 			};
 		}
 
@@ -202,7 +267,19 @@ public sealed interface IntBound {
 		public IntBound mul(IntBound other, RoundingMode roundingMode) {
 			return switch (other) {
 				case Infinite ignored -> other.mul(this, roundingMode);
-				case Finite(var otherValue) -> new Finite(value.multiply(otherValue));
+				case Finite finite -> {
+					if (fitsInLong() && finite.fitsInLong()) {
+						long longValue = value.longValue();
+						long otherValue = finite.value.longValue();
+						long high = Math.multiplyHigh(longValue, otherValue);
+						long low = longValue * otherValue;
+						// The product fits into a {@code long} iff the high word is the sign extension of the low word.
+						if (high == (low >> (Long.SIZE - 1))) {
+							yield valueOf(low);
+						}
+					}
+					yield valueOf(value.multiply(finite.value));
+				}
 			};
 		}
 
@@ -210,7 +287,18 @@ public sealed interface IntBound {
 		public IntBound div(IntBound other, RoundingMode roundingMode) {
 			return switch (other) {
 				case Infinite ignored -> ZERO;
-				case Finite(var otherValue) -> new Finite(value.divide(otherValue));
+				case Finite finite -> {
+					if (fitsInLong() && finite.fitsInLong()) {
+						long longValue = value.longValue();
+						long otherValue = finite.value.longValue();
+						if (!(longValue == Long.MIN_VALUE && otherValue == -1)) {
+							// Like {@link BigInteger#divide(BigInteger)}, {@code long} division truncates towards zero
+							// and throws {@link ArithmeticException} when dividing by zero.
+							yield valueOf(longValue / otherValue);
+						}
+					}
+					yield valueOf(value.divide(finite.value));
+				}
 			};
 		}
 
@@ -229,19 +317,30 @@ public sealed interface IntBound {
 			return other instanceof Finite(var otherValue) ? value.compareTo(otherValue) :
 					-other.compareBound(this);
 		}
+
+		private boolean fitsInLong() {
+			return value.bitLength() < Long.SIZE;
+		}
 	}
 
 	static IntBound of(BigInteger value) {
-		return new Finite(value);
+		return Finite.valueOf(value);
 	}
 
 	static IntBound of(int value) {
-		return new Finite(BigInteger.valueOf(value));
+		return Finite.valueOf(value);
+	}
+
+	static IntBound of(long value) {
+		return Finite.valueOf(value);
 	}
 
 	static IntBound of(BigDecimal value) {
 		// Casting to {@code int} in Java rounds towards zero.
 		var rounded = value.setScale(0, java.math.RoundingMode.DOWN);
+		if (rounded.precision() < 19) {
+			return IntBound.of(rounded.longValueExact());
+		}
 		return IntBound.of(rounded.toBigIntegerExact());
 	}
 }
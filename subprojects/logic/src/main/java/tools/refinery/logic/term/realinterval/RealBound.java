@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -10,7 +10,6 @@ import org.jetbrains.annotations.NotNull;
 import tools.refinery.logic.term.intinterval.IntBound;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 
 public sealed interface RealBound {
 	boolean lessThanOrEquals(RealBound other);
@@ -232,11 +231,22 @@ public sealed interface RealBound {
 		}
 	}
 
+	/**
+	 * A finite real bound.
+	 * <p>
+	 * Values with at most 18 significant digits are stored by {@link BigDecimal} as an unscaled {@code long}, and the
+	 * arithmetic operations of {@link BigDecimal} work on them without allocating a {@link java.math.BigInteger}.
+	 * Therefore, we avoid the iterative algorithms of {@link BigDecimalMath} whenever the result is exact anyway.
+	 *
+	 * @param value The value of the bound.
+	 */
 	record Finite(BigDecimal value) implements RealBound {
 		public static final Finite ZERO = new Finite(BigDecimal.ZERO);
 		public static final Finite ONE = new Finite(BigDecimal.ONE);
 		public static final Finite NEGATIVE_ONE = new Finite(BigDecimal.valueOf(-1));
 
+		private static final int MAX_INTEGER_POWER = 64;
+
 		@Override
 		public boolean lessThanOrEquals(RealBound other) {
 			return switch (other) {
@@ -262,7 +272,7 @@ public sealed interface RealBound {
 
 		@Override
 		public RealBound minus(RoundingMode roundingMode) {
-			return new Finite(value.multiply(NEGATIVE_ONE.value, roundingMode.context()));
+			return new Finite(value.negate(roundingMode.context()));
 		}
 
 		@Override
@@ -302,6 +312,9 @@ public sealed interface RealBound {
 
 		@Override
 		public RealBound exp(RoundingMode roundingMode) {
+			if (value.signum() == 0) {
+				return ONE;
+			}
 			return new Finite(BigDecimalMath.exp(value, roundingMode.context()));
 		}
 
@@ -314,6 +327,9 @@ public sealed interface RealBound {
 			if (compare == 0) {
 				return Infinite.NEGATIVE_INFINITY;
 			}
+			if (value.compareTo(BigDecimal.ONE) == 0) {
+				return ZERO;
+			}
 			return new Finite(BigDecimalMath.log(value, roundingMode.context()));
 		}
 
@@ -323,7 +339,9 @@ public sealed interface RealBound {
 			if (compare < 0) {
 				throw new ArithmeticException();
 			}
-			return new Finite(BigDecimalMath.sqrt(value, roundingMode.context()));
+			// Since Java 15, this is correctly rounded in the direction of the rounding mode, and perfect squares have
+			// an exact result.
+			return new Finite(value.sqrt(roundingMode.context()));
 		}
 
 		@Override
@@ -357,8 +375,17 @@ public sealed interface RealBound {
 					}
 					yield other == Infinite.POSITIVE_INFINITY ? Infinite.POSITIVE_INFINITY : ZERO;
 				}
-				case Finite(var finiteValue) ->
-						new Finite(BigDecimalMath.pow(value, finiteValue, roundingMode.context()));
+				case Finite(var finiteValue) -> {
+					var context = roundingMode.context();
+					if (isSmallNaturalNumber(finiteValue)) {
+						int exponent = finiteValue.intValue();
+						// The exact power has at most this many digits, so it needs no rounding.
+						if ((long) value.precision() * exponent <= context.getPrecision()) {
+							yield new Finite(value.pow(exponent));
+						}
+					}
+					yield new Finite(BigDecimalMath.pow(value, finiteValue, context));
+				}
 			};
 		}
 
@@ -377,7 +404,8 @@ public sealed interface RealBound {
 
 		@Override
 		public int hashCode() {
-			return Objects.hashCode(value);
+			// Must be consistent with {@link #equals(Object)}, which ignores the scale of the value.
+			return value.signum() == 0 ? 0 : value.stripTrailingZeros().hashCode();
 		}
 
 		@Override
@@ -397,6 +425,11 @@ public sealed interface RealBound {
 		public IntBound asInt() {
 			return IntBound.of(value);
 		}
+
+		private static boolean isSmallNaturalNumber(BigDecimal value) {
+			return value.signum() >= 0 && value.compareTo(BigDecimal.valueOf(MAX_INTEGER_POWER)) <= 0 &&
+					(value.scale() <= 0 || value.stripTrailingZeros().scale() <= 0);
+		}
 	}
 
 	static RealBound of(BigDecimal value) {
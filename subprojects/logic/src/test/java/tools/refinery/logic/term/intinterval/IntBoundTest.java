@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.term.intinterval;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class IntBoundTest {
+	private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+	private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+
+	@ParameterizedTest(name = "{0} {1} {2}")
+	@MethodSource
+	void arithmeticTest(BigInteger left, String operator, BigInteger right) {
+		BinaryOperator<IntBound> boundOperator = switch (operator) {
+			case "+" -> (a, b) -> a.add(b, RoundingMode.FLOOR);
+			case "-" -> (a, b) -> a.sub(b, RoundingMode.FLOOR);
+			case "*" -> (a, b) -> a.mul(b, RoundingMode.FLOOR);
+			case "/" -> (a, b) -> a.div(b, RoundingMode.FLOOR);
+			default -> throw new IllegalArgumentException("Unknown operator: " + operator);
+		};
+		BinaryOperator<BigInteger> bigIntegerOperator = switch (operator) {
+			case "+" -> BigInteger::add;
+			case "-" -> BigInteger::subtract;
+			case "*" -> BigInteger::multiply;
+			case "/" -> BigInteger::divide;
+			default -> throw new IllegalArgumentException("Unknown operator: " + operator);
+		};
+		var actual = boundOperator.apply(IntBound.of(left), IntBound.of(right));
+		var expected = bigIntegerOperator.apply(left, right);
+		assertThat(actual, equalTo(IntBound.of(expected)));
+		assertThat(actual, instanceOf(IntBound.Finite.class));
+		var finite = (IntBound.Finite) actual;
+		assertThat(finite.value(), equalTo(expected));
+		assertThat(actual.hashCode(), equalTo(IntBound.of(expected).hashCode()));
+	}
+
+	static Stream<Arguments> arithmeticTest() {
+		return Stream.of(
+				Arguments.of(BigInteger.valueOf(2), "+", BigInteger.valueOf(3)),
+				Arguments.of(LONG_MAX, "+", BigInteger.ONE),
+				Arguments.of(LONG_MIN, "+", BigInteger.valueOf(-1)),
+				Arguments.of(LONG_MAX.add(BigInteger.ONE), "+", BigInteger.valueOf(-1)),
+				Arguments.of(BigInteger.valueOf(2), "-", BigInteger.valueOf(3)),
+				Arguments.of(LONG_MIN, "-", BigInteger.ONE),
+				Arguments.of(BigInteger.ZERO, "-", LONG_MIN),
+				Arguments.of(BigInteger.valueOf(-7), "*", BigInteger.valueOf(6)),
+				Arguments.of(LONG_MAX, "*", BigInteger.TWO),
+				Arguments.of(LONG_MIN, "*", BigInteger.valueOf(-1)),
+				Arguments.of(BigInteger.valueOf(1L << 32), "*", BigInteger.valueOf(1L << 31)),
+				Arguments.of(BigInteger.valueOf(1L << 32), "*", BigInteger.valueOf(-(1L << 31))),
+				Arguments.of(BigInteger.valueOf(-7), "/", BigInteger.valueOf(2)),
+				Arguments.of(LONG_MIN, "/", BigInteger.valueOf(-1)),
+				Arguments.of(LONG_MAX.multiply(BigInteger.TWO), "/", BigInteger.TWO)
+		);
+	}
+
+	@Test
+	void smallValuesSharedTest() {
+		var sum = IntBound.of(2).add(IntBound.of(3), RoundingMode.FLOOR);
+		assertThat(sum, sameInstance(IntBound.of(5)));
+		assertThat(IntBound.of(BigInteger.valueOf(-1)), sameInstance(IntBound.Finite.NEGATIVE_ONE));
+	}
+
+	@Test
+	void minusOverflowTest() {
+		var actual = IntBound.of(Long.MIN_VALUE).minus(RoundingMode.FLOOR);
+		assertThat(actual, equalTo(IntBound.of(LONG_MIN.negate())));
+		assertThat(actual.signum(), is(1));
+	}
+
+	@Test
+	void compareMixedTest() {
+		var small = IntBound.of(Long.MAX_VALUE);
+		var large = IntBound.of(LONG_MAX.add(BigInteger.ONE));
+		var negativeLarge = IntBound.of(LONG_MIN.subtract(BigInteger.ONE));
+		assertThat(small.compareBound(large), lessThan(0));
+		assertThat(large.compareBound(small), greaterThan(0));
+		assertThat(small.compareBound(negativeLarge), greaterThan(0));
+		assertThat(negativeLarge.lessThanOrEquals(small), is(true));
+		assertThat(large.lessThanOrEquals(IntBound.Infinite.POSITIVE_INFINITY), is(true));
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.logic.term.realinterval;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class RealBoundTest {
+	@ParameterizedTest(name = "{0} {1} {2} ({3})")
+	@MethodSource
+	void arithmeticTest(String left, String operator, String right, RoundingMode roundingMode) {
+		var leftValue = new BigDecimal(left);
+		var rightValue = new BigDecimal(right);
+		var context = roundingMode.context();
+		BinaryOperator<RealBound> boundOperator = switch (operator) {
+			case "+" -> (a, b) -> a.add(b, roundingMode);
+			case "-" -> (a, b) -> a.sub(b, roundingMode);
+			case "*" -> (a, b) -> a.mul(b, roundingMode);
+			case "/" -> (a, b) -> a.div(b, roundingMode);
+			default -> throw new IllegalArgumentException("Unknown operator: " + operator);
+		};
+		var expected = switch (operator) {
+			case "+" -> leftValue.add(rightValue, context);
+			case "-" -> leftValue.subtract(rightValue, context);
+			case "*" -> leftValue.multiply(rightValue, context);
+			case "/" -> leftValue.divide(rightValue, context);
+			default -> throw new IllegalArgumentException("Unknown operator: " + operator);
+		};
+		var actual = boundOperator.apply(RealBound.of(leftValue), RealBound.of(rightValue));
+		assertThat(actual, equalTo(RealBound.of(expected)));
+		assertThat(actual.hashCode(), equalTo(RealBound.of(expected).hashCode()));
+		assertThat(actual, instanceOf(RealBound.Finite.class));
+		assertThat(((RealBound.Finite) actual).value().compareTo(expected), is(0));
+	}
+
+	static Stream<Arguments> arithmeticTest() {
+		return Stream.of(
+				Arguments.of("0.1", "+", "0.2", RoundingMode.FLOOR),
+				Arguments.of("1.5", "+", "1.5", RoundingMode.CEIL),
+				Arguments.of("1234567890123456", "+", "0.1", RoundingMode.FLOOR),
+				Arguments.of("1234567890123456", "+", "0.1", RoundingMode.CEIL),
+				Arguments.of("9999999999999999", "+", "1", RoundingMode.CEIL),
+				Arguments.of("0.1", "-", "0.25", RoundingMode.FLOOR),
+				Arguments.of("-9999999999999999", "-", "9999999999999999", RoundingMode.FLOOR),
+				Arguments.of("3.14", "*", "-2.5", RoundingMode.FLOOR),
+				Arguments.of("123456789.123", "*", "987654321.987", RoundingMode.FLOOR),
+				Arguments.of("123456789.123", "*", "987654321.987", RoundingMode.CEIL),
+				Arguments.of("1", "/", "8", RoundingMode.CEIL),
+				Arguments.of("100", "/", "0.5", RoundingMode.FLOOR),
+				Arguments.of("1", "/", "3", RoundingMode.FLOOR),
+				Arguments.of("1", "/", "3", RoundingMode.CEIL),
+				Arguments.of("-2", "/", "3", RoundingMode.CEIL),
+				Arguments.of("1E+20", "+", "1", RoundingMode.FLOOR),
+				Arguments.of("1E-30", "*", "1E-30", RoundingMode.CEIL)
+		);
+	}
+
+	@Test
+	void equalityIgnoresScaleTest() {
+		var value = RealBound.of(new BigDecimal("1.50"));
+		assertThat(value, equalTo(RealBound.of(new BigDecimal("1.5"))));
+		assertThat(value.hashCode(), equalTo(RealBound.of(new BigDecimal("1.5")).hashCode()));
+		assertThat(value.toString(), is("1.50"));
+		assertThat(RealBound.of(new BigDecimal("100")).toString(), is("100.0"));
+		var zero = RealBound.of(new BigDecimal("0.00"));
+		assertThat(zero, equalTo(RealBound.Finite.ZERO));
+		assertThat(zero.hashCode(), equalTo(RealBound.Finite.ZERO.hashCode()));
+		var large = RealBound.of(new BigDecimal("12345678901234567890.5"));
+		assertThat(large, equalTo(RealBound.of(new BigDecimal("12345678901234567890.50"))));
+		assertThat(large.hashCode(), equalTo(RealBound.of(new BigDecimal("12345678901234567890.50")).hashCode()));
+	}
+
+	@Test
+	void compareTest() {
+		var small = RealBound.of(new BigDecimal("0.000001"));
+		var large = RealBound.of(new BigDecimal("1000000000000000"));
+		assertThat(small.compareBound(large), lessThan(0));
+		assertThat(large.compareBound(small), greaterThan(0));
+		assertThat(small.minus(RoundingMode.FLOOR).compareBound(large.minus(RoundingMode.FLOOR)), greaterThan(0));
+		assertThat(RealBound.of(new BigDecimal("0.5")).compareBound(RealBound.of(new BigDecimal("0.50"))), is(0));
+	}
+
+	@Test
+	void sqrtExactTest() {
+		assertThat(RealBound.of(new BigDecimal("2.25")).sqrt(RoundingMode.FLOOR),
+				equalTo(RealBound.of(new BigDecimal("1.5"))));
+		assertThat(RealBound.of(new BigDecimal("0.09")).sqrt(RoundingMode.CEIL),
+				equalTo(RealBound.of(new BigDecimal("0.3"))));
+	}
+
+	@Test
+	void powIntegerTest() {
+		assertThat(RealBound.of(new BigDecimal("1.5")).pow(RealBound.of(new BigDecimal(3)), RoundingMode.CEIL),
+				equalTo(RealBound.of(new BigDecimal("3.375"))));
+	}
+}
@@ -1,10 +1,15 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
 package tools.refinery.store.dse.propagation;
 
+import org.jetbrains.annotations.Nullable;
+import tools.refinery.store.representation.Symbol;
+
+import java.util.Collection;
+
 @FunctionalInterface
 public interface BoundPropagator {
 	PropagationResult propagateOne();
@@ -27,4 +32,59 @@ public interface BoundPropagator {
 	default PropagationResult checkConcretization() {
 		return PropagationResult.UNCHANGED;
 	}
+
+	/**
+	 * Starts {@link #propagateOne(PropagationRequest)} in the background if it only checks the consistency of the
+	 * model without refining it.
+	 * <p>
+	 * Only called if concurrent checks are enabled in the {@link PropagationBuilder}. Other propagators may modify
+	 * the model before the result is awaited, so the background computation must work on a snapshot of the model
+	 * taken by this method.
+	 * </p>
+	 *
+	 * @param request The kind of propagation requested.
+	 * @return The pending result, or {@code null} if the propagation step has to run synchronously.
+	 */
+	default @Nullable PendingPropagation propagateOneAsync(PropagationRequest request) {
+		return null;
+	}
+
+	/**
+	 * Starts {@link #checkConcretization()} in the background.
+	 *
+	 * @return The pending result, or {@code null} if the check has to run synchronously.
+	 * @see #propagateOneAsync(PropagationRequest)
+	 */
+	default @Nullable PendingPropagation checkConcretizationAsync() {
+		return null;
+	}
+
+	/**
+	 * Gets the symbols whose interpretations are read by {@link #propagateOne()}.
+	 * <p>
+	 * A propagator that declares its inputs is only called again during propagation if one of its inputs has changed.
+	 * Otherwise, it is called again whenever any propagator has changed the model.
+	 * </p>
+	 *
+	 * @return The input symbols, or {@code null} if this propagator may read any part of the model.
+	 */
+	default @Nullable Collection<? extends Symbol<?>> getInputSymbols() {
+		return null;
+	}
+
+	default PropagatorCost getCost() {
+		return PropagatorCost.LOW;
+	}
+
+	/**
+	 * Gets the number of checks that were answered from a cache of this propagator instead of being computed again.
+	 * <p>
+	 * Reported in {@link PropagatorStatistics#cacheHitCount()}.
+	 * </p>
+	 *
+	 * @return The number of cache hits since the propagator was bound to the model.
+	 */
+	default long getCacheHitCount() {
+		return 0;
+	}
 }
@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.propagation;
+
+/**
+ * Result of a propagation step that is being computed in the background.
+ * <p>
+ * The background computation must not access the model, because the model keeps being modified by other
+ * propagators until {@link #await()} is called. Every pending propagation must be awaited before its propagator is
+ * called again, even if its result is no longer needed.
+ * </p>
+ */
+@FunctionalInterface
+public interface PendingPropagation {
+	/**
+	 * Waits for the background computation to finish. Must be called on the thread that owns the model.
+	 *
+	 * @return The result of the propagation step.
+	 */
+	PropagationResult await();
+
+	static PendingPropagation completed(PropagationResult result) {
+		return () -> result;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -8,6 +8,8 @@ package tools.refinery.store.dse.propagation;
 import tools.refinery.store.adapter.ModelAdapter;
 import tools.refinery.store.dse.propagation.impl.PropagationBuilderImpl;
 
+import java.util.List;
+
 public interface PropagationAdapter extends ModelAdapter {
 	@Override
 	PropagationStoreAdapter getStoreAdapter();
@@ -22,6 +24,13 @@ public interface PropagationAdapter extends ModelAdapter {
 
 	PropagationResult checkConcretization();
 
+	/**
+	 * Gets the statistics of the propagators bound to this model in the order they are scheduled.
+	 *
+	 * @return The statistics of each propagator since the model was created.
+	 */
+	List<PropagatorStatistics> getStatistics();
+
 	static PropagationBuilder builder() {
 		return new PropagationBuilderImpl();
 	}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -40,6 +40,20 @@ public interface PropagationBuilder extends ModelAdapterBuilder {
 
 	PropagationBuilder throwOnFatalRejection(boolean throwOnFatalRejection);
 
+	/**
+	 * Sets whether propagators that only check the consistency of the model may run in the background while other
+	 * propagators are running.
+	 * <p>
+	 * Checks are started at the beginning of each propagation round, so they may overlap with every other
+	 * propagator in the same round. Disabled by default, because checks usually have a high cost and only share a
+	 * round with other propagators of the same cost.
+	 * </p>
+	 *
+	 * @param concurrentChecks {@code true} to run consistency checks concurrently.
+	 * @return This builder for chaining.
+	 */
+	PropagationBuilder concurrentChecks(boolean concurrentChecks);
+
 	@Override
 	PropagationStoreAdapter build(ModelStore store);
 }
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.propagation;
+
+/**
+ * Relative cost of calling a {@link BoundPropagator}.
+ * <p>
+ * During propagation, more expensive propagators are only called once the cheaper ones have reached a fixed point.
+ * Thus, expensive solvers see the combined result of many cheap propagation steps in a single call.
+ * </p>
+ */
+public enum PropagatorCost {
+	/**
+	 * Propagators that only evaluate incremental queries, such as propagation rules.
+	 */
+	LOW,
+
+	/**
+	 * Propagators that call a linear programming solver.
+	 */
+	MEDIUM,
+
+	/**
+	 * Propagators that call an SMT or interval constraint solver.
+	 */
+	HIGH
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.propagation;
+
+import java.time.Duration;
+
+/**
+ * Statistics of a {@link Propagator} bound to a model.
+ *
+ * @param propagator    The propagator.
+ * @param cost          The cost class the propagator was scheduled in.
+ * @param callCount     The number of times the propagator was called during propagation.
+ * @param changeCount   The number of calls that changed the model.
+ * @param cacheHitCount The number of checks the propagator answered from its own cache.
+ * @param totalTime     The total time spent in the propagator during propagation.
+ */
+public record PropagatorStatistics(Propagator propagator, PropagatorCost cost, long callCount, long changeCount,
+								   long cacheHitCount, Duration totalTime) {
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -7,21 +7,89 @@ package tools.refinery.store.dse.propagation.impl;
 
 import tools.refinery.store.dse.propagation.*;
 import tools.refinery.store.model.Model;
+import tools.refinery.store.representation.Symbol;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
 
 class PropagationAdapterImpl implements PropagationAdapter {
+	/**
+	 * Maximum number of consecutive propagation rounds in which more expensive propagators may be skipped while
+	 * cheaper ones keep changing the model. Afterward, every propagator is called in a single round to let them
+	 * detect inconsistencies in case the cheap propagators never reach a fixed point.
+	 */
+	private static final int MAX_DEFERRED_ROUNDS = 16;
+
 	private final Model model;
 	private final PropagationStoreAdapterImpl storeAdapter;
+	private final Propagator[] propagators;
 	private final BoundPropagator[] boundPropagators;
+	private final PropagatorCost[] costs;
+	private final int[] tierEnds;
+	private final boolean[] inputsDeclared;
+	private final boolean[] dirty;
+	private final long[] callCounts;
+	private final long[] changeCounts;
+	private final long[] elapsedNanos;
+	private final PendingPropagation[] pendingPropagations;
 	private boolean concretizationInProgress;
 
 	public PropagationAdapterImpl(Model model, PropagationStoreAdapterImpl storeAdapter) {
 		this.model = model;
 		this.storeAdapter = storeAdapter;
-		var propagators = storeAdapter.getPropagators();
-		boundPropagators = new BoundPropagator[propagators.size()];
-		for (int i = 0; i < boundPropagators.length; i++) {
-			boundPropagators[i] = propagators.get(i).bindToModel(model);
+		var propagatorList = storeAdapter.getPropagators();
+		int propagatorCount = propagatorList.size();
+		var unsortedBoundPropagators = new BoundPropagator[propagatorCount];
+		for (int i = 0; i < propagatorCount; i++) {
+			unsortedBoundPropagators[i] = propagatorList.get(i).bindToModel(model);
+		}
+		// Stable sort to keep the registration order of propagators with the same cost.
+		var order = IntStream.range(0, propagatorCount)
+				.boxed()
+				.sorted(Comparator.comparing(i -> unsortedBoundPropagators[i].getCost()))
+				.mapToInt(Integer::intValue)
+				.toArray();
+		propagators = new Propagator[propagatorCount];
+		boundPropagators = new BoundPropagator[propagatorCount];
+		costs = new PropagatorCost[propagatorCount];
+		for (int i = 0; i < propagatorCount; i++) {
+			propagators[i] = propagatorList.get(order[i]);
+			boundPropagators[i] = unsortedBoundPropagators[order[i]];
+			costs[i] = boundPropagators[i].getCost();
+		}
+		tierEnds = new int[propagatorCount];
+		for (int i = propagatorCount - 1; i >= 0; i--) {
+			tierEnds[i] = i + 1 < propagatorCount && costs[i + 1] == costs[i] ? tierEnds[i + 1] : i + 1;
+		}
+		inputsDeclared = new boolean[propagatorCount];
+		dirty = new boolean[propagatorCount];
+		for (int i = 0; i < propagatorCount; i++) {
+			addInputListeners(i);
 		}
+		callCounts = new long[propagatorCount];
+		changeCounts = new long[propagatorCount];
+		elapsedNanos = new long[propagatorCount];
+		pendingPropagations = storeAdapter.isConcurrentChecks() ? new PendingPropagation[propagatorCount] : null;
+	}
+
+	private void addInputListeners(int index) {
+		var inputSymbols = boundPropagators[index].getInputSymbols();
+		if (inputSymbols == null) {
+			return;
+		}
+		inputsDeclared[index] = true;
+		for (var inputSymbol : inputSymbols) {
+			addInputListener(inputSymbol, index);
+		}
+	}
+
+	private <T> void addInputListener(Symbol<T> inputSymbol, int index) {
+		model.getInterpretation(inputSymbol).addListener((key, fromValue, toValue, restoring) -> dirty[index] = true,
+				false);
 	}
 
 	@Override
@@ -62,14 +130,22 @@ class PropagationAdapterImpl implements PropagationAdapter {
 	}
 
 	private PropagationResult propagate(PropagationRequest request) {
+		// We can't tell what has changed in the model since the last propagation, so we have to call every
+		// propagator at least once.
+		Arrays.fill(dirty, true);
 		PropagationResult result = PropagationResult.UNCHANGED;
-		PropagationResult lastResult;
-		do {
+		int deferredRounds = 0;
+		int firstDirty;
+		while ((firstDirty = findDirty(0)) >= 0) {
 			model.checkCancelled();
-			lastResult = propagateOne(request);
-			result = result.andThen(lastResult);
-		} while (lastResult.isChanged());
-		if (lastResult instanceof PropagationRejectedResult rejectedResult &&
+			int roundEnd = deferredRounds < MAX_DEFERRED_ROUNDS ? tierEnds[firstDirty] : boundPropagators.length;
+			result = result.andThen(propagateRound(request, roundEnd));
+			if (result.isRejected()) {
+				break;
+			}
+			deferredRounds = findDirty(roundEnd) >= 0 ? deferredRounds + 1 : 0;
+		}
+		if (result instanceof PropagationRejectedResult rejectedResult &&
 				rejectedResult.fatal() &&
 				storeAdapter.isThrowOnFatalRejection()) {
 			rejectedResult.throwIfRejected();
@@ -77,24 +153,160 @@ class PropagationAdapterImpl implements PropagationAdapter {
 		return result;
 	}
 
-	private PropagationResult propagateOne(PropagationRequest request) {
+	private int findDirty(int startIndex) {
+		for (int i = startIndex; i < dirty.length; i++) {
+			if (dirty[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private PropagationResult propagateRound(PropagationRequest request, int roundEnd) {
+		if (pendingPropagations != null) {
+			return propagateRoundConcurrently(request, roundEnd);
+		}
 		PropagationResult result = PropagationResult.UNCHANGED;
-		// Use a classic for loop to avoid allocating an iterator.
-		//noinspection ForLoopReplaceableByForEach
-		for (int i = 0; i < boundPropagators.length; i++) {
+		for (int i = 0; i < roundEnd; i++) {
+			if (!dirty[i]) {
+				continue;
+			}
 			model.checkCancelled();
-			var propagator = boundPropagators[i];
-			var lastResult = propagator.propagateOne(request);
+			dirty[i] = false;
+			var lastResult = propagateOne(i, request);
 			result = result.andThen(lastResult);
 			if (result.isRejected()) {
 				break;
 			}
+			if (lastResult.isChanged()) {
+				markChanged(request);
+			}
 		}
 		return result;
 	}
 
+	private PropagationResult propagateRoundConcurrently(PropagationRequest request, int roundEnd) {
+		try {
+			return doPropagateRoundConcurrently(request, roundEnd);
+		} catch (RuntimeException | Error e) {
+			awaitAbandonedPropagations(e);
+			throw e;
+		}
+	}
+
+	private PropagationResult doPropagateRoundConcurrently(PropagationRequest request, int roundEnd) {
+		var results = new PropagationResult[roundEnd];
+		// Start the read-only checks before any other propagator in this round refines the model, so that they can
+		// overlap with all of them. Checking a less refined model is sound: if it is rejected, every refinement of it
+		// is rejected, too. Otherwise, refinements made during this round will mark the checks as dirty again.
+		for (int i = 0; i < roundEnd; i++) {
+			if (dirty[i]) {
+				model.checkCancelled();
+				if (startPropagateOne(i, request)) {
+					dirty[i] = false;
+				}
+			}
+		}
+		for (int i = 0; i < roundEnd; i++) {
+			// Propagators with a pending check may not be called again until the check is awaited.
+			if (!dirty[i] || pendingPropagations[i] != null) {
+				continue;
+			}
+			model.checkCancelled();
+			dirty[i] = false;
+			var lastResult = propagateOne(i, request);
+			results[i] = lastResult;
+			if (lastResult.isRejected()) {
+				break;
+			}
+			if (lastResult.isChanged()) {
+				markChanged(request);
+			}
+		}
+		// Await every pending propagation even after a rejection, because propagators may not be called again while
+		// their background computation is still running. Results are merged in the order of the propagators to keep
+		// rejection reasons deterministic.
+		PropagationResult result = PropagationResult.UNCHANGED;
+		for (int i = 0; i < roundEnd; i++) {
+			var pendingPropagation = pendingPropagations[i];
+			if (pendingPropagation != null) {
+				pendingPropagations[i] = null;
+				long startTime = System.nanoTime();
+				var lastResult = pendingPropagation.await();
+				recordCall(i, startTime, lastResult);
+				results[i] = lastResult;
+				if (lastResult.isChanged()) {
+					markChanged(request);
+				}
+			}
+			if (results[i] != null) {
+				result = result.andThen(results[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Waits for the background computations that were started before an exception interrupted the current round.
+	 * <p>
+	 * Their results are discarded, but the propagators can't be called again until they are awaited. If the
+	 * exception was caused by cancellation, the propagators are expected to notice the cancellation and return early.
+	 * </p>
+	 *
+	 * @param cause The exception that interrupted the current round.
+	 */
+	private void awaitAbandonedPropagations(Throwable cause) {
+		for (int i = 0; i < pendingPropagations.length; i++) {
+			var pendingPropagation = pendingPropagations[i];
+			if (pendingPropagation != null) {
+				pendingPropagations[i] = null;
+				try {
+					pendingPropagation.await();
+				} catch (RuntimeException e) {
+					cause.addSuppressed(e);
+				}
+			}
+		}
+	}
+
+	private boolean startPropagateOne(int index, PropagationRequest request) {
+		long startTime = System.nanoTime();
+		var pendingPropagation = boundPropagators[index].propagateOneAsync(request);
+		elapsedNanos[index] += System.nanoTime() - startTime;
+		pendingPropagations[index] = pendingPropagation;
+		return pendingPropagation != null;
+	}
+
+	private PropagationResult propagateOne(int index, PropagationRequest request) {
+		long startTime = System.nanoTime();
+		var result = boundPropagators[index].propagateOne(request);
+		recordCall(index, startTime, result);
+		return result;
+	}
+
+	private void recordCall(int index, long startTime, PropagationResult result) {
+		elapsedNanos[index] += System.nanoTime() - startTime;
+		callCounts[index]++;
+		if (result.isChanged()) {
+			changeCounts[index]++;
+		}
+	}
+
+	private void markChanged(PropagationRequest request) {
+		// Concretization may read symbols other than the declared inputs of propagation.
+		boolean useDeclaredInputs = request == PropagationRequest.PROPAGATE;
+		for (int i = 0; i < dirty.length; i++) {
+			if (!useDeclaredInputs || !inputsDeclared[i]) {
+				dirty[i] = true;
+			}
+		}
+	}
+
 	@Override
 	public PropagationResult checkConcretization() {
+		if (pendingPropagations != null) {
+			return checkConcretizationConcurrently();
+		}
 		PropagationResult result = PropagationResult.UNCHANGED;
 		// Use a classic for loop to avoid allocating an iterator.
 		//noinspection ForLoopReplaceableByForEach
@@ -110,6 +322,54 @@ class PropagationAdapterImpl implements PropagationAdapter {
 		return result;
 	}
 
+	private PropagationResult checkConcretizationConcurrently() {
+		try {
+			return doCheckConcretizationConcurrently();
+		} catch (RuntimeException | Error e) {
+			awaitAbandonedPropagations(e);
+			throw e;
+		}
+	}
+
+	private PropagationResult doCheckConcretizationConcurrently() {
+		var results = new PropagationResult[boundPropagators.length];
+		for (int i = 0; i < boundPropagators.length; i++) {
+			model.checkCancelled();
+			var propagator = boundPropagators[i];
+			var pendingPropagation = propagator.checkConcretizationAsync();
+			if (pendingPropagation == null) {
+				results[i] = propagator.checkConcretization();
+				if (results[i].isRejected()) {
+					break;
+				}
+			} else {
+				pendingPropagations[i] = pendingPropagation;
+			}
+		}
+		PropagationResult result = PropagationResult.UNCHANGED;
+		for (int i = 0; i < boundPropagators.length; i++) {
+			var pendingPropagation = pendingPropagations[i];
+			if (pendingPropagation != null) {
+				pendingPropagations[i] = null;
+				results[i] = pendingPropagation.await();
+			}
+			if (results[i] != null) {
+				result = result.andThen(results[i]);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public List<PropagatorStatistics> getStatistics() {
+		var statistics = new ArrayList<PropagatorStatistics>(propagators.length);
+		for (int i = 0; i < propagators.length; i++) {
+			statistics.add(new PropagatorStatistics(propagators[i], costs[i], callCounts[i], changeCounts[i],
+					boundPropagators[i].getCacheHitCount(), Duration.ofNanos(elapsedNanos[i])));
+		}
+		return statistics;
+	}
+
 	@Override
 	public Model getModel() {
 		return model;
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -22,6 +22,7 @@ public class PropagationBuilderImpl extends AbstractModelAdapterBuilder<Propagat
 	private final Set<Rule> concretizationRules = new LinkedHashSet<>();
 	private final Deque<Propagator> propagators = new ArrayDeque<>();
 	private boolean throwOnFatalRejection = true;
+	private boolean concurrentChecks;
 
 	@Override
 	public PropagationBuilder rule(Rule propagationRule) {
@@ -50,6 +51,12 @@ public class PropagationBuilderImpl extends AbstractModelAdapterBuilder<Propagat
 		return this;
 	}
 
+	@Override
+	public PropagationBuilder concurrentChecks(boolean concurrentChecks) {
+		this.concurrentChecks = concurrentChecks;
+		return this;
+	}
+
 	@Override
 	protected void doConfigure(ModelStoreBuilder storeBuilder) {
 		super.doConfigure(storeBuilder);
@@ -64,6 +71,7 @@ public class PropagationBuilderImpl extends AbstractModelAdapterBuilder<Propagat
 
 	@Override
 	protected PropagationStoreAdapter doBuild(ModelStore store) {
-		return new PropagationStoreAdapterImpl(store, List.copyOf(propagators), throwOnFatalRejection);
+		return new PropagationStoreAdapterImpl(store, List.copyOf(propagators), throwOnFatalRejection,
+				concurrentChecks);
 	}
 }
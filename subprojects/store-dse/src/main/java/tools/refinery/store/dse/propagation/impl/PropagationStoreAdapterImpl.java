@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -19,11 +19,14 @@ class PropagationStoreAdapterImpl implements PropagationStoreAdapter {
 	private final ModelStore store;
 	private final List<Propagator> propagators;
 	private final boolean throwOnFatalRejection;
+	private final boolean concurrentChecks;
 
-	PropagationStoreAdapterImpl(ModelStore store, List<Propagator> propagators, boolean throwOnFatalRejection) {
+	PropagationStoreAdapterImpl(ModelStore store, List<Propagator> propagators, boolean throwOnFatalRejection,
+								boolean concurrentChecks) {
 		this.store = store;
 		this.propagators = propagators;
 		this.throwOnFatalRejection = throwOnFatalRejection;
+		this.concurrentChecks = concurrentChecks;
 	}
 
 	@Override
@@ -43,4 +46,8 @@ class PropagationStoreAdapterImpl implements PropagationStoreAdapter {
 	boolean isThrowOnFatalRejection() {
 		return throwOnFatalRejection;
 	}
+
+	boolean isConcurrentChecks() {
+		return concurrentChecks;
+	}
 }
@@ -1,19 +1,24 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
 package tools.refinery.store.dse.strategy;
 
+import org.jetbrains.annotations.Nullable;
 import tools.refinery.store.dse.transition.DesignSpaceExplorationStoreAdapter;
 import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
 import tools.refinery.store.dse.transition.statespace.ActivationStore;
 import tools.refinery.store.dse.transition.statespace.EquivalenceClassStore;
+import tools.refinery.store.dse.transition.statespace.NogoodStore;
 import tools.refinery.store.dse.transition.statespace.ObjectivePriorityQueue;
+import tools.refinery.store.dse.transition.statespace.PropagationMemo;
 import tools.refinery.store.dse.transition.statespace.SolutionStore;
 import tools.refinery.store.dse.transition.statespace.internal.ActivationStoreImpl;
 import tools.refinery.store.dse.transition.statespace.internal.FastEquivalenceClassStore;
+import tools.refinery.store.dse.transition.statespace.internal.NogoodStoreImpl;
 import tools.refinery.store.dse.transition.statespace.internal.ObjectivePriorityQueueImpl;
+import tools.refinery.store.dse.transition.statespace.internal.PropagationMemoImpl;
 import tools.refinery.store.dse.transition.statespace.internal.SolutionStoreImpl;
 import tools.refinery.store.map.Version;
 import tools.refinery.store.model.ModelStore;
@@ -31,6 +36,8 @@ public class BestFirstStoreManager {
 	SolutionStore solutionStore;
 	EquivalenceClassStore equivalenceClassStore;
 	VisualizationStore visualizationStore;
+	@Nullable NogoodStore nogoodStore;
+	@Nullable PropagationMemo propagationMemo;
 
 	public BestFirstStoreManager(ModelStore modelStore, int maxNumberOfSolutions) {
 		this.modelStore = modelStore;
@@ -51,6 +58,40 @@ public class BestFirstStoreManager {
 		visualizationStore = new VisualizationStoreImpl();
 	}
 
+	/**
+	 * Sets whether to remember sets of decisions that lead to propagation rejections and avoid them in other branches
+	 * of the exploration.
+	 * <p>
+	 * Only enable this if every decision refines the model monotonically and rejections are preserved by refinement,
+	 * otherwise solutions may be missed.
+	 * </p>
+	 * <p>
+	 * Nogoods are found by replaying decisions from the initial model, which runs propagation on the exploring
+	 * worker. Replaying stops after {@link NogoodStoreImpl#DEFAULT_REPLAY_BUDGET} propagations in total, but the
+	 * nogoods learned up to that point are still used.
+	 * </p>
+	 *
+	 * @param learnNogoods {@code true} to enable nogood learning.
+	 * @return This store manager.
+	 */
+	public BestFirstStoreManager learnNogoods(boolean learnNogoods) {
+		nogoodStore = learnNogoods ? new NogoodStoreImpl() : null;
+		return this;
+	}
+
+	/**
+	 * Sets the number of state codes of models before propagation that are remembered if propagation led to a
+	 * submitted state. Models reached again on other branches of the exploration can be discarded without running the
+	 * propagators if their state code is remembered. Models rejected by propagation are not remembered.
+	 *
+	 * @param propagationMemoSize The number of remembered state codes, or {@code 0} to always run propagation.
+	 * @return This store manager.
+	 */
+	public BestFirstStoreManager propagationMemoSize(int propagationMemoSize) {
+		propagationMemo = propagationMemoSize > 0 ? new PropagationMemoImpl(propagationMemoSize) : null;
+		return this;
+	}
+
 	public ModelStore getModelStore() {
 		return modelStore;
 	}
@@ -75,6 +116,14 @@ public class BestFirstStoreManager {
 		return visualizationStore;
 	}
 
+	public @Nullable NogoodStore getNogoodStore() {
+		return nogoodStore;
+	}
+
+	public @Nullable PropagationMemo getPropagationMemo() {
+		return propagationMemo;
+	}
+
 	public void startExploration(Version initial) {
 		startExploration(initial, 1);
 	}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -10,6 +10,8 @@ import tools.refinery.store.dse.propagation.PropagationAdapter;
 import tools.refinery.store.dse.transition.DesignSpaceExplorationAdapter;
 import tools.refinery.store.dse.transition.ObjectiveValue;
 import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
+import tools.refinery.store.dse.transition.statespace.NogoodStore;
+import tools.refinery.store.dse.transition.statespace.PropagationMemo;
 import tools.refinery.store.dse.transition.statespace.internal.ActivationStoreWorker;
 import tools.refinery.store.map.Version;
 import tools.refinery.store.model.Model;
@@ -17,9 +19,17 @@ import tools.refinery.store.query.ModelQueryAdapter;
 import tools.refinery.store.statecoding.StateCoderAdapter;
 import tools.refinery.visualization.statespace.VisualizationStore;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 public class BestFirstWorker {
+	/**
+	 * Maximum number of decisions on the path to a rejected model for which we try to find a nogood by replaying the
+	 * decisions from the initial model. Replaying longer paths would cost more propagations than a nogood can save.
+	 */
+	private static final int MAX_NOGOOD_SIZE = 4;
+
 	final BestFirstStoreManager storeManager;
 	final Model model;
 	final ActivationStoreWorker activationStoreWorker;
@@ -29,6 +39,8 @@ public class BestFirstWorker {
 	final @Nullable PropagationAdapter propagationAdapter;
 	final VisualizationStore visualizationStore;
 	final boolean isVisualizationEnabled;
+	final @Nullable NogoodStore nogoodStore;
+	final @Nullable PropagationMemo propagationMemo;
 
 	public BestFirstWorker(BestFirstStoreManager storeManager, Model model) {
 		this.storeManager = storeManager;
@@ -42,6 +54,8 @@ public class BestFirstWorker {
 				explorationAdapter.getTransformations());
 		visualizationStore = storeManager.getVisualizationStore();
 		isVisualizationEnabled = visualizationStore != null;
+		nogoodStore = propagationAdapter == null ? null : storeManager.getNogoodStore();
+		propagationMemo = propagationAdapter == null ? null : storeManager.getPropagationMemo();
 	}
 
 	protected VersionWithObjectiveValue last = null;
@@ -71,6 +85,10 @@ public class BestFirstWorker {
 		last = versionWithObjectiveValue;
 		var accepted = explorationAdapter.checkAccept();
 
+		if (nogoodStore != null && nogoodStore.getRoot() == null) {
+			// Another worker may set the root concurrently, but only the first one will succeed.
+			nogoodStore.trySetRoot(version, getApplicableDecisions());
+		}
 		storeManager.getObjectiveStore().submit(last);
 		storeManager.getActivationStore().markNewAsVisited(last, activationStoreWorker.calculateEmptyActivationSize());
 		if (accepted) {
@@ -173,25 +191,50 @@ public class BestFirstWorker {
 			throw new IllegalStateException("The model has uncommitted changes!");
 		}
 
-		var visitResult = activationStoreWorker.fireRandomActivation(this.last, random);
+		var selectedActivation = activationStoreWorker.selectRandomActivation(this.last, random);
+		NogoodStore.Decision decision = null;
+		if (nogoodStore != null && selectedActivation.successfulVisit()) {
+			decision = new NogoodStore.Decision(selectedActivation.transformation(),
+					activationStoreWorker.getActivation(selectedActivation));
+			if (nogoodStore.isExcluded(last.version(), decision)) {
+				return new RandomVisitResult(null, selectedActivation.mayHaveMore());
+			}
+		}
+		var visitResult = activationStoreWorker.fireActivation(selectedActivation);
 
 		if (!visitResult.successfulVisit()) {
 			return new RandomVisitResult(null, visitResult.mayHaveMore());
 		}
 
+		int modelCode = 0;
+		if (propagationMemo != null) {
+			modelCode = stateCoderAdapter.calculateModelCode();
+			if (propagationMemo.contains(modelCode)) {
+				return new RandomVisitResult(new SubmitResult(false, false, null, null), visitResult.mayHaveMore());
+			}
+		}
+
 		if (propagationAdapter != null) {
 			var propagationResult = propagationAdapter.propagate();
 			if (propagationResult.isRejected()) {
+				if (decision != null) {
+					learnNogood(decision);
+				}
 				return new RandomVisitResult(null, visitResult.mayHaveMore());
 			}
 		}
 		queryAdapter.flushChanges();
 
-		Version oldVersion = null;
-		if (isVisualizationEnabled) {
-			oldVersion = last.version();
-		}
+		var oldVersion = last.version();
 		var submitResult = submit();
+		if (propagationMemo != null) {
+			// Any model with the same state code before propagation will lead to an equivalent state, which will be
+			// discarded by the equivalence class store.
+			propagationMemo.add(modelCode);
+		}
+		if (decision != null && submitResult.newVersion() != null) {
+			nogoodStore.addDecision(oldVersion, decision, submitResult.newVersion().version());
+		}
 		if (isVisualizationEnabled && submitResult.newVersion() != null) {
 			var newVersion = submitResult.newVersion().version();
 			visualizationStore.addTransition(oldVersion, newVersion,
@@ -200,6 +243,95 @@ public class BestFirstWorker {
 		return new RandomVisitResult(submitResult, visitResult.mayHaveMore());
 	}
 
+	private List<NogoodStore.Decision> getApplicableDecisions() {
+		var decisions = new ArrayList<NogoodStore.Decision>();
+		var transformations = explorationAdapter.getTransformations();
+		for (int i = 0; i < transformations.size(); i++) {
+			var cursor = transformations.get(i).getAllActivationsAsResultSet().getAll();
+			while (cursor.move()) {
+				if (Boolean.TRUE.equals(cursor.getValue())) {
+					decisions.add(new NogoodStore.Decision(i, cursor.getKey()));
+				}
+			}
+		}
+		return decisions;
+	}
+
+	private void learnNogood(NogoodStore.Decision decision) {
+		var root = nogoodStore.getRoot();
+		if (root == null || !nogoodStore.isRootDecision(decision)) {
+			return;
+		}
+		if (root.equals(last.version())) {
+			// We have just observed the rejection of this decision in the initial model, so no replay is needed even
+			// if the replay budget is exhausted.
+			nogoodStore.addNogood(List.of(decision));
+		} else if (nogoodStore.isLearning()) {
+			replayAndLearnNogood(root, decision);
+		}
+		model.restore(last.version());
+	}
+
+	private void replayAndLearnNogood(Version root, NogoodStore.Decision decision) {
+		var candidate = new ArrayList<NogoodStore.Decision>();
+		for (var previousDecision : nogoodStore.getPath(last.version())) {
+			// Decisions not applicable in the initial model can't be replayed from there, so we leave them out and
+			// check whether the remaining decisions still lead to a rejection.
+			if (nogoodStore.isRootDecision(previousDecision)) {
+				candidate.add(previousDecision);
+			}
+		}
+		candidate.add(decision);
+		List<NogoodStore.Decision> nogood = null;
+		var unitCandidate = List.of(decision);
+		if (nogoodStore.markTested(unitCandidate) && replayRejects(root, unitCandidate)) {
+			nogood = unitCandidate;
+		} else if (candidate.size() > 1 && candidate.size() <= MAX_NOGOOD_SIZE && nogoodStore.markTested(candidate) &&
+				replayRejects(root, candidate)) {
+			nogood = minimizeNogood(root, candidate);
+		}
+		if (nogood != null) {
+			nogoodStore.addNogood(nogood);
+		}
+	}
+
+	private List<NogoodStore.Decision> minimizeNogood(Version root, List<NogoodStore.Decision> nogood) {
+		var result = nogood;
+		// Keep the last decision, because the model was not rejected before applying it.
+		for (int i = result.size() - 2; i >= 0 && nogoodStore.isLearning(); i--) {
+			var smallerNogood = new ArrayList<>(result);
+			smallerNogood.remove(i);
+			if (replayRejects(root, smallerNogood)) {
+				result = smallerNogood;
+			}
+		}
+		return result;
+	}
+
+	private boolean replayRejects(Version root, List<NogoodStore.Decision> decisions) {
+		model.restore(root);
+		var transformations = explorationAdapter.getTransformations();
+		int propagationCount = 0;
+		try {
+			for (var decision : decisions) {
+				var transformation = transformations.get(decision.transformation());
+				var activation = decision.activation();
+				if (!Boolean.TRUE.equals(transformation.getAllActivationsAsResultSet().get(activation)) ||
+						!transformation.fireActivation(activation)) {
+					return false;
+				}
+				propagationCount++;
+				if (propagationAdapter.propagate().isRejected()) {
+					return true;
+				}
+				queryAdapter.flushChanges();
+			}
+			return false;
+		} finally {
+			nogoodStore.recordReplayPropagations(propagationCount);
+		}
+	}
+
 	public boolean hasEnoughSolution() {
 		return storeManager.solutionStore.hasEnoughSolution();
 	}
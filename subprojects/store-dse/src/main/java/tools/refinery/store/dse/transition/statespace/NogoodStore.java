@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace;
+
+import org.jetbrains.annotations.Nullable;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores sets of decisions (nogoods) that were found to lead to a propagation rejection when applied to the initial
+ * model of the exploration.
+ * <p>
+ * Nogoods are only sound if every decision refines the model monotonically, and rejections are preserved by
+ * refinement. In this case, any model reached by applying all decisions of a nogood will also be rejected.
+ * </p>
+ */
+public interface NogoodStore {
+	record Decision(int transformation, Tuple activation) {
+	}
+
+	/**
+	 * Sets the initial model of the exploration unless it was already set by another worker.
+	 *
+	 * @param root          The version of the initial model.
+	 * @param rootDecisions The decisions applicable in the initial model.
+	 * @return {@code true} if the root was set by this call.
+	 */
+	boolean trySetRoot(Version root, Collection<Decision> rootDecisions);
+
+	@Nullable
+	Version getRoot();
+
+	/**
+	 * Determines whether a decision was already applicable in the initial model. Only such decisions may appear in
+	 * nogoods, because the objects referenced by other decisions may be different in other branches of the
+	 * exploration.
+	 *
+	 * @param decision The decision.
+	 * @return {@code true} if the decision was applicable in the initial model.
+	 */
+	boolean isRootDecision(Decision decision);
+
+	void addDecision(Version from, Decision decision, Version to);
+
+	List<Decision> getPath(Version version);
+
+	/**
+	 * Determines whether applying a decision to a version would apply every decision of some nogood.
+	 *
+	 * @param from     The version to apply the decision to.
+	 * @param decision The decision.
+	 * @return {@code true} if the decision can be skipped, because the resulting model would be rejected.
+	 */
+	boolean isExcluded(Version from, Decision decision);
+
+	/**
+	 * Marks a set of decisions as tested for leading to a rejection.
+	 *
+	 * @param decisions The decisions in the order of their application.
+	 * @return {@code true} if the decisions were not tested before.
+	 */
+	boolean markTested(List<Decision> decisions);
+
+	void addNogood(Collection<Decision> nogood);
+
+	/**
+	 * Determines whether decisions may still be replayed from the initial model to learn new nogoods.
+	 *
+	 * @return {@code false} if the replay budget was exhausted.
+	 */
+	boolean isLearning();
+
+	/**
+	 * Records the number of propagations run while replaying decisions from the initial model. Learning stops once
+	 * the total number of replay propagations exceeds the replay budget.
+	 *
+	 * @param propagationCount The number of propagations.
+	 */
+	void recordReplayPropagations(int propagationCount);
+
+	int getNumberOfNogoods();
+
+	/**
+	 * Gets the number of times {@link #isExcluded(Version, Decision)} has found a decision to be excluded.
+	 *
+	 * @return The number of decisions skipped because of nogoods.
+	 */
+	long getNumberOfExcludedDecisions();
+}
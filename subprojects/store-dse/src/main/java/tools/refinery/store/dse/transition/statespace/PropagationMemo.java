@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace;
+
+/**
+ * Remembers the state codes of models before propagation that led to a state submitted for exploration.
+ * <p>
+ * Like {@link EquivalenceClassStore}, this assumes that models with the same state code are equivalent. Thus, a model
+ * with a remembered state code would lead to an equivalent state that was already submitted, and propagation can be
+ * skipped.
+ * </p>
+ * <p>
+ * Rejected models are not remembered. If their state code collided with that of another model, the other model
+ * would be discarded without propagation, which could prune a branch of the exploration that contains solutions.
+ * </p>
+ */
+public interface PropagationMemo {
+	boolean contains(int modelCode);
+
+	void add(int modelCode);
+
+	long getHitCount();
+
+	long getMissCount();
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -8,6 +8,7 @@ package tools.refinery.store.dse.transition.statespace.internal;
 import tools.refinery.store.dse.transition.Transformation;
 import tools.refinery.store.dse.transition.VersionWithObjectiveValue;
 import tools.refinery.store.dse.transition.statespace.ActivationStore;
+import tools.refinery.store.tuple.Tuple;
 
 import java.util.List;
 import java.util.Random;
@@ -31,7 +32,18 @@ public class ActivationStoreWorker {
 
 
 	public ActivationStore.VisitResult fireRandomActivation(VersionWithObjectiveValue thisVersion, Random random) {
-		var result = store.getRandomAndMarkAsVisited(thisVersion, random);
+		return fireActivation(selectRandomActivation(thisVersion, random));
+	}
+
+	public ActivationStore.VisitResult selectRandomActivation(VersionWithObjectiveValue thisVersion, Random random) {
+		return store.getRandomAndMarkAsVisited(thisVersion, random);
+	}
+
+	public Tuple getActivation(ActivationStore.VisitResult result) {
+		return transformations.get(result.transformation()).getActivation(result.activation());
+	}
+
+	public ActivationStore.VisitResult fireActivation(ActivationStore.VisitResult result) {
 		if (result.successfulVisit()) {
 			int selectedTransformation = result.transformation();
 			int selectedActivation = result.activation();
@@ -0,0 +1,182 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import org.jetbrains.annotations.Nullable;
+import tools.refinery.store.dse.transition.statespace.NogoodStore;
+import tools.refinery.store.map.Version;
+
+import java.util.*;
+
+public class NogoodStoreImpl implements NogoodStore {
+	/**
+	 * Total number of propagations that may be spent on replaying decisions from the initial model.
+	 */
+	public static final int DEFAULT_REPLAY_BUDGET = 1024;
+
+	/**
+	 * Maximum number of versions for which the path from the initial model is remembered.
+	 */
+	public static final int DEFAULT_MAX_PATHS = 1 << 20;
+
+	private final int replayBudget;
+	private final int maxPaths;
+	private final Map<Version, DecisionPath> paths = new HashMap<>();
+	private final Map<Decision, List<Set<Decision>>> nogoodsByDecision = new HashMap<>();
+	private final Set<Set<Decision>> nogoods = new HashSet<>();
+	private final Set<List<Decision>> tested = new HashSet<>();
+	private Version root;
+	private Set<Decision> rootDecisions = Set.of();
+	private long excludedDecisionCount;
+	private long replayPropagationCount;
+	private boolean learning;
+	private boolean recordingPaths;
+	private boolean hasCompoundNogoods;
+
+	public NogoodStoreImpl() {
+		this(DEFAULT_REPLAY_BUDGET, DEFAULT_MAX_PATHS);
+	}
+
+	public NogoodStoreImpl(int replayBudget, int maxPaths) {
+		if (replayBudget < 0) {
+			throw new IllegalArgumentException("Replay budget must not be negative");
+		}
+		if (maxPaths < 0) {
+			throw new IllegalArgumentException("Maximum number of paths must not be negative");
+		}
+		this.replayBudget = replayBudget;
+		this.maxPaths = maxPaths;
+		learning = replayBudget > 0;
+		recordingPaths = learning;
+	}
+
+	@Override
+	public synchronized boolean trySetRoot(Version root, Collection<Decision> rootDecisions) {
+		if (this.root != null) {
+			return false;
+		}
+		this.root = root;
+		this.rootDecisions = Set.copyOf(rootDecisions);
+		return true;
+	}
+
+	@Override
+	public synchronized @Nullable Version getRoot() {
+		return root;
+	}
+
+	@Override
+	public synchronized boolean isRootDecision(Decision decision) {
+		return rootDecisions.contains(decision);
+	}
+
+	@Override
+	public synchronized void addDecision(Version from, Decision decision, Version to) {
+		// Versions without a remembered path are treated as if they were reached by fewer decisions. This is sound,
+		// because a nogood matching a subset of the decisions on a path also matches the whole path.
+		if (!recordingPaths || paths.size() >= maxPaths) {
+			return;
+		}
+		// Keep the first path found to each version. Any path is sound for matching nogoods.
+		paths.computeIfAbsent(to, _ -> new DecisionPath(paths.get(from), decision));
+	}
+
+	@Override
+	public synchronized List<Decision> getPath(Version version) {
+		var decisions = new ArrayList<Decision>();
+		var path = paths.get(version);
+		while (path != null) {
+			decisions.add(path.decision());
+			path = path.parent();
+		}
+		Collections.reverse(decisions);
+		return decisions;
+	}
+
+	@Override
+	public synchronized boolean isExcluded(Version from, Decision decision) {
+		var candidates = nogoodsByDecision.get(decision);
+		if (candidates == null) {
+			return false;
+		}
+		Set<Decision> decisionsOnPath = null;
+		for (var nogood : candidates) {
+			if (nogood.size() == 1) {
+				excludedDecisionCount++;
+				return true;
+			}
+			if (decisionsOnPath == null) {
+				decisionsOnPath = new HashSet<>(getPath(from));
+			}
+			if (containsAllExcept(decisionsOnPath, nogood, decision)) {
+				excludedDecisionCount++;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean containsAllExcept(Set<Decision> decisionsOnPath, Set<Decision> nogood, Decision decision) {
+		for (var other : nogood) {
+			if (!other.equals(decision) && !decisionsOnPath.contains(other)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public synchronized boolean markTested(List<Decision> decisions) {
+		return tested.add(List.copyOf(decisions));
+	}
+
+	@Override
+	public synchronized void addNogood(Collection<Decision> nogood) {
+		var nogoodSet = Set.copyOf(nogood);
+		if (nogoodSet.isEmpty() || !nogoods.add(nogoodSet)) {
+			return;
+		}
+		if (nogoodSet.size() > 1) {
+			hasCompoundNogoods = true;
+		}
+		for (var decision : nogoodSet) {
+			nogoodsByDecision.computeIfAbsent(decision, _ -> new ArrayList<>()).add(nogoodSet);
+		}
+	}
+
+	@Override
+	public synchronized boolean isLearning() {
+		return learning;
+	}
+
+	@Override
+	public synchronized void recordReplayPropagations(int propagationCount) {
+		replayPropagationCount += propagationCount;
+		if (!learning || replayPropagationCount < replayBudget) {
+			return;
+		}
+		learning = false;
+		tested.clear();
+		if (!hasCompoundNogoods) {
+			// Paths are only needed to learn new nogoods and to match nogoods with more than one decision.
+			recordingPaths = false;
+			paths.clear();
+		}
+	}
+
+	@Override
+	public synchronized int getNumberOfNogoods() {
+		return nogoods.size();
+	}
+
+	@Override
+	public synchronized long getNumberOfExcludedDecisions() {
+		return excludedDecisionCount;
+	}
+
+	private record DecisionPath(@Nullable DecisionPath parent, Decision decision) {
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import tools.refinery.store.dse.transition.statespace.PropagationMemo;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PropagationMemoImpl implements PropagationMemo {
+	private final ModelCodeCache modelCodes;
+	private long hitCount;
+	private long missCount;
+
+	public PropagationMemoImpl(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Invalid propagation memo size: " + maxSize);
+		}
+		modelCodes = new ModelCodeCache(maxSize);
+	}
+
+	@Override
+	public synchronized boolean contains(int modelCode) {
+		// Use get instead of containsKey to update the access order.
+		boolean result = modelCodes.get(modelCode) != null;
+		if (result) {
+			hitCount++;
+		} else {
+			missCount++;
+		}
+		return result;
+	}
+
+	@Override
+	public synchronized void add(int modelCode) {
+		modelCodes.put(modelCode, Boolean.TRUE);
+	}
+
+	@Override
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	private static class ModelCodeCache extends LinkedHashMap<Integer, Boolean> {
+		@Serial
+		private static final long serialVersionUID = 7415826037612059318L;
+
+		private final int maxSize;
+
+		public ModelCodeCache(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Boolean> eldest) {
+			return size() > maxSize;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.propagation;
+
+import org.junit.jupiter.api.Test;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PropagationAdapterTest {
+	private final Symbol<Integer> counter = Symbol.of("counter", 0, Integer.class, 0);
+	private final Symbol<Integer> other = Symbol.of("other", 0, Integer.class, 0);
+
+	@Test
+	void expensivePropagatorAfterFixedPointTest() {
+		var observedValues = new ArrayList<Integer>();
+		var expensivePropagator = new TestPropagator(PropagatorCost.HIGH, null, model -> {
+			observedValues.add(model.getInterpretation(counter).get(Tuple.of()));
+			return PropagationResult.UNCHANGED;
+		});
+		var cheapPropagator = new TestPropagator(PropagatorCost.LOW, null, model -> increment(model, counter, 3));
+		var model = createModel(expensivePropagator, cheapPropagator);
+		var propagationAdapter = model.getAdapter(PropagationAdapter.class);
+
+		var result = propagationAdapter.propagate();
+
+		assertThat(result.isChanged(), is(true));
+		assertThat(observedValues, contains(3));
+		var statistics = propagationAdapter.getStatistics();
+		assertThat(statistics.stream().map(PropagatorStatistics::propagator).toList(),
+				contains(cheapPropagator, expensivePropagator));
+		assertThat(statistics.get(0).callCount(), is(4L));
+		assertThat(statistics.get(0).changeCount(), is(3L));
+		assertThat(statistics.get(1).callCount(), is(1L));
+		assertThat(statistics.get(1).changeCount(), is(0L));
+	}
+
+	@Test
+	void declaredInputsTest() {
+		var changingPropagator = new TestPropagator(PropagatorCost.LOW, null, model -> increment(model, counter, 2));
+		var dependentPropagator = new TestPropagator(PropagatorCost.LOW, List.of(counter),
+				model -> PropagationResult.UNCHANGED);
+		var independentPropagator = new TestPropagator(PropagatorCost.LOW, List.of(other),
+				model -> PropagationResult.UNCHANGED);
+		var model = createModel(changingPropagator, dependentPropagator, independentPropagator);
+		var propagationAdapter = model.getAdapter(PropagationAdapter.class);
+
+		propagationAdapter.propagate();
+
+		var callCounts = propagationAdapter.getStatistics().stream()
+				.map(PropagatorStatistics::callCount)
+				.toList();
+		// Propagators are registered in reverse order.
+		assertThat(callCounts, contains(1L, 3L, 3L));
+	}
+
+	@Test
+	void repeatedPropagationTest() {
+		var declaredPropagator = new TestPropagator(PropagatorCost.LOW, List.of(other),
+				model -> PropagationResult.UNCHANGED);
+		var model = createModel(declaredPropagator);
+		var propagationAdapter = model.getAdapter(PropagationAdapter.class);
+
+		propagationAdapter.propagate();
+		propagationAdapter.propagate();
+
+		assertThat(propagationAdapter.getStatistics().getFirst().callCount(), is(2L));
+	}
+
+	@Test
+	void concurrentCheckTest() {
+		var events = new ArrayList<String>();
+		var asyncPropagator = new AsyncTestPropagator(events, true);
+		var syncPropagator = new TestPropagator(PropagatorCost.LOW, null, model -> {
+			events.add("sync");
+			return new PropagationRejectedResult("sync", "Rejected synchronously");
+		});
+		// Propagators are registered in reverse order.
+		var model = createModel(true, syncPropagator, asyncPropagator);
+		var propagationAdapter = model.getAdapter(PropagationAdapter.class);
+
+		var result = propagationAdapter.propagate();
+
+		assertThat(events, contains("start", "sync", "await"));
+		assertThat(result, is(new PropagationRejectedResult(asyncPropagator, "Rejected asynchronously")));
+		assertThat(propagationAdapter.getStatistics().getFirst().callCount(), is(1L));
+	}
+
+	@Test
+	void concurrentCheckExceptionTest() {
+		var events = new ArrayList<String>();
+		var asyncPropagator = new AsyncTestPropagator(events, true);
+		var syncPropagator = new TestPropagator(PropagatorCost.LOW, null, model -> {
+			events.add("sync");
+			throw new IllegalStateException("Failed synchronously");
+		});
+		var model = createModel(true, syncPropagator, asyncPropagator);
+		var propagationAdapter = model.getAdapter(PropagationAdapter.class);
+
+		assertThrows(IllegalStateException.class, propagationAdapter::propagate);
+		assertThat(events, contains("start", "sync", "await"));
+
+		// The asynchronous propagator may be called again, because its pending propagation was awaited.
+		events.clear();
+		assertThrows(IllegalStateException.class, propagationAdapter::propagate);
+		assertThat(events, contains("start", "sync", "await"));
+	}
+
+	@Test
+	void concurrentCheckStartsBeforeRoundTest() {
+		var events = new ArrayList<String>();
+		var asyncPropagator = new AsyncTestPropagator(events, false);
+		var syncPropagator = new TestPropagator(PropagatorCost.LOW, null, model -> {
+			events.add("sync");
+			return increment(model, counter, 1);
+		});
+		// Propagators are registered in reverse order, so the check comes after the synchronous propagator.
+		var model = createModel(true, asyncPropagator, syncPropagator);
+		var propagationAdapter = model.getAdapter(PropagationAdapter.class);
+
+		var result = propagationAdapter.propagate();
+
+		// The check of the unrefined model is started first, then repeated after the synchronous propagator
+		// refined the model.
+		assertThat(events, contains("start", "sync", "await", "start", "sync", "await"));
+		assertThat(result, is(PropagationResult.PROPAGATED));
+		assertThat(model.getInterpretation(counter).get(Tuple.of()), is(1));
+	}
+
+	private Model createModel(Propagator... propagators) {
+		return createModel(false, propagators);
+	}
+
+	private Model createModel(boolean concurrentChecks, Propagator... propagators) {
+		var propagationBuilder = PropagationAdapter.builder()
+				.concurrentChecks(concurrentChecks);
+		for (var propagator : propagators) {
+			propagationBuilder.propagator(propagator);
+		}
+		var store = ModelStore.builder()
+				.symbols(counter, other)
+				.with(propagationBuilder)
+				.build();
+		return store.createEmptyModel();
+	}
+
+	private static PropagationResult increment(Model model, Symbol<Integer> symbol, int maxValue) {
+		var interpretation = model.getInterpretation(symbol);
+		int value = interpretation.get(Tuple.of());
+		if (value >= maxValue) {
+			return PropagationResult.UNCHANGED;
+		}
+		interpretation.put(Tuple.of(), value + 1);
+		return PropagationResult.PROPAGATED;
+	}
+
+	private record TestPropagator(PropagatorCost cost, Collection<? extends Symbol<?>> inputSymbols,
+								  Function<Model, PropagationResult> action) implements Propagator {
+		@Override
+		public BoundPropagator bindToModel(Model model) {
+			return new BoundPropagator() {
+				@Override
+				public PropagationResult propagateOne() {
+					return action.apply(model);
+				}
+
+				@Override
+				public Collection<? extends Symbol<?>> getInputSymbols() {
+					return inputSymbols;
+				}
+
+				@Override
+				public PropagatorCost getCost() {
+					return cost;
+				}
+			};
+		}
+	}
+
+	private record AsyncTestPropagator(List<String> events, boolean reject) implements Propagator {
+		@Override
+		public BoundPropagator bindToModel(Model model) {
+			return new BoundPropagator() {
+				private boolean pending;
+
+				@Override
+				public PropagationResult propagateOne() {
+					throw new AssertionError("Propagator should be called asynchronously");
+				}
+
+				@Override
+				public PendingPropagation propagateOneAsync(PropagationRequest request) {
+					if (pending) {
+						throw new AssertionError("Previous propagation is still pending");
+					}
+					pending = true;
+					events.add("start");
+					return () -> {
+						pending = false;
+						events.add("await");
+						if (!reject) {
+							return PropagationResult.UNCHANGED;
+						}
+						return new PropagationRejectedResult(AsyncTestPropagator.this, "Rejected asynchronously");
+					};
+				}
+			};
+		}
+	}
+}
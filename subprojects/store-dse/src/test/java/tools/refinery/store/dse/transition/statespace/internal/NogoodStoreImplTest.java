@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.refinery.store.dse.transition.statespace.NogoodStore.Decision;
+import tools.refinery.store.map.Version;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NogoodStoreImplTest {
+	private final Version root = new TestVersion();
+	private final Version first = new TestVersion();
+	private final Version second = new TestVersion();
+	private final Decision a = new Decision(0, Tuple.of(0));
+	private final Decision b = new Decision(0, Tuple.of(1));
+	private final Decision c = new Decision(1, Tuple.of(0));
+	private NogoodStoreImpl store;
+
+	@BeforeEach
+	void beforeEach() {
+		store = new NogoodStoreImpl();
+		store.trySetRoot(root, List.of(a, b, c));
+		store.addDecision(root, a, first);
+		store.addDecision(first, b, second);
+	}
+
+	@Test
+	void pathTest() {
+		assertEquals(List.of(), store.getPath(root));
+		assertEquals(List.of(a, b), store.getPath(second));
+	}
+
+	@Test
+	void firstPathKeptTest() {
+		store.addDecision(root, c, second);
+		assertEquals(List.of(a, b), store.getPath(second));
+	}
+
+	@Test
+	void unitNogoodTest() {
+		store.addNogood(List.of(c));
+		assertTrue(store.isExcluded(root, c));
+		assertTrue(store.isExcluded(second, c));
+		assertFalse(store.isExcluded(root, a));
+	}
+
+	@Test
+	void nogoodOnPathTest() {
+		store.addNogood(List.of(a, c));
+		assertFalse(store.isExcluded(root, c));
+		assertTrue(store.isExcluded(first, c));
+		assertTrue(store.isExcluded(second, c));
+		assertEquals(2, store.getNumberOfExcludedDecisions());
+	}
+
+	@Test
+	void duplicateNogoodTest() {
+		store.addNogood(List.of(a, c));
+		store.addNogood(List.of(c, a));
+		assertEquals(1, store.getNumberOfNogoods());
+	}
+
+	@Test
+	void markTestedTest() {
+		assertTrue(store.markTested(List.of(a, b)));
+		assertFalse(store.markTested(List.of(a, b)));
+		assertTrue(store.markTested(List.of(b, a)));
+	}
+
+	@Test
+	void rootSetOnceTest() {
+		assertFalse(store.trySetRoot(first, List.of(a)));
+		assertEquals(root, store.getRoot());
+		assertTrue(store.isRootDecision(c));
+	}
+
+	@Test
+	void replayBudgetTest() {
+		store = new NogoodStoreImpl(4, NogoodStoreImpl.DEFAULT_MAX_PATHS);
+		store.trySetRoot(root, List.of(a, b, c));
+		store.addDecision(root, a, first);
+		store.recordReplayPropagations(3);
+		assertTrue(store.isLearning());
+		store.recordReplayPropagations(1);
+		assertFalse(store.isLearning());
+		// Paths are no longer needed if there are no nogoods with more than one decision.
+		store.addDecision(first, b, second);
+		assertEquals(List.of(), store.getPath(first));
+		assertEquals(List.of(), store.getPath(second));
+	}
+
+	@Test
+	void pathsKeptForCompoundNogoodsTest() {
+		store = new NogoodStoreImpl(1, NogoodStoreImpl.DEFAULT_MAX_PATHS);
+		store.trySetRoot(root, List.of(a, b, c));
+		store.addDecision(root, a, first);
+		store.addNogood(List.of(a, c));
+		store.recordReplayPropagations(1);
+		assertFalse(store.isLearning());
+		store.addDecision(first, b, second);
+		assertEquals(List.of(a, b), store.getPath(second));
+		assertTrue(store.isExcluded(second, c));
+	}
+
+	@Test
+	void zeroReplayBudgetTest() {
+		store = new NogoodStoreImpl(0, NogoodStoreImpl.DEFAULT_MAX_PATHS);
+		store.trySetRoot(root, List.of(a, b, c));
+		assertFalse(store.isLearning());
+		store.addDecision(root, a, first);
+		assertEquals(List.of(), store.getPath(first));
+	}
+
+	@Test
+	void maxPathsTest() {
+		store = new NogoodStoreImpl(NogoodStoreImpl.DEFAULT_REPLAY_BUDGET, 1);
+		store.trySetRoot(root, List.of(a, b, c));
+		store.addDecision(root, a, first);
+		store.addDecision(first, b, second);
+		store.addNogood(List.of(a, b, c));
+		assertEquals(List.of(a), store.getPath(first));
+		assertEquals(List.of(), store.getPath(second));
+		// Missing paths may only prevent decisions from being excluded.
+		assertFalse(store.isExcluded(second, c));
+	}
+
+	private static class TestVersion implements Version {
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.dse.transition.statespace.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropagationMemoImplTest {
+	@Test
+	void hitAndMissTest() {
+		var memo = new PropagationMemoImpl(2);
+		assertFalse(memo.contains(1));
+		memo.add(1);
+		assertTrue(memo.contains(1));
+		assertEquals(1, memo.getHitCount());
+		assertEquals(1, memo.getMissCount());
+	}
+
+	@Test
+	void leastRecentlyUsedEvictedTest() {
+		var memo = new PropagationMemoImpl(2);
+		memo.add(1);
+		memo.add(2);
+		memo.contains(1);
+		memo.add(3);
+		assertTrue(memo.contains(1));
+		assertFalse(memo.contains(2));
+		assertTrue(memo.contains(3));
+	}
+
+	@Test
+	void invalidSizeTest() {
+		assertThrows(IllegalArgumentException.class, () -> new PropagationMemoImpl(0));
+	}
+}
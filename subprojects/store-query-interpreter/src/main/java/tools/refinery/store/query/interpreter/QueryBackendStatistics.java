@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter;
+
+import tools.refinery.logic.dnf.AnyQuery;
+import tools.refinery.store.query.resultset.ResultSet;
+
+/**
+ * Runtime profile of a lazily materialized query, used to choose between local search and incremental evaluation.
+ *
+ * @param query              The canonical query.
+ * @param materialized       Whether the query is evaluated by an incremental matcher.
+ * @param searchReads        The number of reads answered by local search.
+ * @param searchNanos        The total time spent on reads answered by local search.
+ * @param maxSearchNanos     The time spent on the slowest read answered by local search.
+ * @param incrementalReads   The number of reads answered by the incremental matcher.
+ * @param searchUpdates      The number of model updates flushed while the query was evaluated by local search.
+ * @param observedResultSize The number of results at the last {@link ResultSet#size()} call or complete iteration
+ *                           answered by local search, or {@code -1} if the results were never counted.
+ */
+public record QueryBackendStatistics(AnyQuery query, boolean materialized, int searchReads, long searchNanos,
+									 long maxSearchNanos, int incrementalReads, int searchUpdates,
+									 int observedResultSize) {
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -8,10 +8,22 @@ package tools.refinery.store.query.interpreter;
 import tools.refinery.store.query.ModelQueryAdapter;
 import tools.refinery.store.query.interpreter.internal.QueryInterpreterBuilderImpl;
 
+import java.util.List;
+
 public interface QueryInterpreterAdapter extends ModelQueryAdapter {
 	@Override
 	QueryInterpreterStoreAdapter getStoreAdapter();
 
+	/**
+	 * Returns the runtime profiles of queries with lazy materialization.
+	 * <p>
+	 * Queries evaluated eagerly (i.e., if neither {@link QueryInterpreterBuilder#lazyMaterialization(boolean)} nor
+	 * {@link QueryInterpreterBuilder#adaptiveBackendSelection(boolean)} is enabled) are not profiled.
+	 *
+	 * @return The profiles of the queries in the model.
+	 */
+	List<QueryBackendStatistics> getBackendStatistics();
+
 	static QueryInterpreterBuilder builder() {
 		return new QueryInterpreterBuilderImpl();
 	}
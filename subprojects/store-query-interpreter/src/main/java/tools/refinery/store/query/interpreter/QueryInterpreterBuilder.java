@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -49,6 +49,45 @@ public interface QueryInterpreterBuilder extends ModelQueryBuilder {
 
 	QueryInterpreterBuilder computeHint(Function<Dnf, QueryEvaluationHint> computeHint);
 
+	/**
+	 * Defers building the incremental matcher of each query until its result set is read often enough (see
+	 * {@link #materializationThreshold(int)}) or gets a listener.
+	 * <p>
+	 * Until then, reads are answered by the search backend, which always reflects the current state of the model
+	 * instead of the state at the last {@link tools.refinery.store.query.ModelQueryAdapter#flushChanges()}.
+	 * <p>
+	 * As incremental matchers are built on an already populated model, their joins are ordered by the sizes of the
+	 * interpretations at the time of materialization (see
+	 * {@link tools.refinery.interpreter.rete.util.ReteHintOptions#useCostBasedJoinOrdering}).
+	 *
+	 * @param lazyMaterialization Whether to build incremental matchers lazily.
+	 * @return This builder.
+	 */
+	QueryInterpreterBuilder lazyMaterialization(boolean lazyMaterialization);
+
+	/**
+	 * Sets the number of reads of a lazily materialized result set to answer by the search backend before building
+	 * its incremental matcher. The default value of {@code 0} builds the matcher on the first read.
+	 *
+	 * @param searchReads The number of reads to answer without an incremental matcher.
+	 * @return This builder.
+	 */
+	QueryInterpreterBuilder materializationThreshold(int searchReads);
+
+	/**
+	 * Profiles the reads of each query at runtime and only builds its incremental matcher once the time spent on
+	 * answering reads by local search exceeds the estimated cost of materialization, and the observed number of
+	 * updates and results suggests that maintaining the matcher is cheaper than searching. Overrides
+	 * {@link #materializationThreshold(int)}.
+	 * <p>
+	 * The decisions and the collected profiles are available from
+	 * {@link QueryInterpreterAdapter#getBackendStatistics()}.
+	 *
+	 * @param adaptiveBackendSelection Whether to select the backend of each query adaptively.
+	 * @return This builder.
+	 */
+	QueryInterpreterBuilder adaptiveBackendSelection(boolean adaptiveBackendSelection);
+
 	@Override
 	QueryInterpreterStoreAdapter build(ModelStore store);
 }
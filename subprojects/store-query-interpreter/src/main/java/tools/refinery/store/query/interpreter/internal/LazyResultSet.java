@@ -0,0 +1,204 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal;
+
+import tools.refinery.interpreter.api.AdvancedInterpreterEngine;
+import tools.refinery.interpreter.api.IQuerySpecification;
+import tools.refinery.interpreter.matchers.backend.QueryEvaluationHint;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.store.map.Cursor;
+import tools.refinery.store.query.interpreter.QueryBackendStatistics;
+import tools.refinery.store.query.interpreter.internal.matcher.AbstractInterpretedMatcher;
+import tools.refinery.store.query.interpreter.internal.matcher.RawPatternMatcher;
+import tools.refinery.store.query.resultset.AbstractResultSet;
+import tools.refinery.store.query.resultset.ResultSetListener;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.function.Function;
+
+/**
+ * Result set that only builds the incremental matcher of its query once its {@link MaterializationPolicy} says so.
+ * <p>
+ * Reads before materialization are answered by the search backend. Adding a listener materializes the result set
+ * immediately, because only incremental matchers can report changes.
+ *
+ * @param <T> The type of the values in the result set.
+ */
+class LazyResultSet<T> extends AbstractResultSet<T> {
+	private static final QueryEvaluationHint SEARCH_HINT = new QueryEvaluationHint(null,
+			QueryEvaluationHint.BackendRequirement.DEFAULT_SEARCH);
+
+	private final QueryInterpreterAdapterImpl adapter;
+	private final AdvancedInterpreterEngine queryEngine;
+	private final IQuerySpecification<RawPatternMatcher> querySpecification;
+	private final Function<RawPatternMatcher, AbstractInterpretedMatcher<T>> resultSetFactory;
+	private final MaterializationPolicy materializationPolicy;
+	private final ResultSetListener<T> forwardingListener = this::notifyChange;
+	private final int initialUpdateCount;
+	private AbstractInterpretedMatcher<T> searchResultSet;
+	private AbstractInterpretedMatcher<T> materializedResultSet;
+	private int searchReads;
+	private long searchNanos;
+	private long maxSearchNanos;
+	private int incrementalReads;
+	private int searchUpdates = -1;
+	private int observedResultSize = -1;
+
+	LazyResultSet(QueryInterpreterAdapterImpl adapter, Query<T> query, AdvancedInterpreterEngine queryEngine,
+				  IQuerySpecification<RawPatternMatcher> querySpecification,
+				  Function<RawPatternMatcher, AbstractInterpretedMatcher<T>> resultSetFactory,
+				  MaterializationPolicy materializationPolicy) {
+		super(adapter, query);
+		this.adapter = adapter;
+		this.queryEngine = queryEngine;
+		this.querySpecification = querySpecification;
+		this.resultSetFactory = resultSetFactory;
+		this.materializationPolicy = materializationPolicy;
+		initialUpdateCount = adapter.getUpdateCount();
+	}
+
+	public boolean isMaterialized() {
+		return materializedResultSet != null;
+	}
+
+	int getSearchReads() {
+		return searchReads;
+	}
+
+	QueryBackendStatistics getStatistics() {
+		int updates = searchUpdates >= 0 ? searchUpdates : adapter.getUpdateCount() - initialUpdateCount;
+		return new QueryBackendStatistics(getCanonicalQuery(), isMaterialized(), searchReads, searchNanos,
+				maxSearchNanos, incrementalReads, updates, observedResultSize);
+	}
+
+	@Override
+	public T get(Tuple parameters) {
+		var resultSet = getMaterializedResultSet();
+		if (resultSet != null) {
+			return resultSet.get(parameters);
+		}
+		long start = System.nanoTime();
+		var result = getSearchResultSet().get(parameters);
+		recordSearchRead(System.nanoTime() - start);
+		return result;
+	}
+
+	@Override
+	public Cursor<Tuple, T> getAll() {
+		var resultSet = getMaterializedResultSet();
+		if (resultSet != null) {
+			return resultSet.getAll();
+		}
+		long start = System.nanoTime();
+		var cursor = getSearchResultSet().getAll();
+		long elapsed = System.nanoTime() - start;
+		recordSearchRead(elapsed);
+		// Local search enumerates matches while the cursor is moved, so we keep accounting for the time spent.
+		return new TimedCursor(cursor, elapsed);
+	}
+
+	@Override
+	public int size() {
+		var resultSet = getMaterializedResultSet();
+		if (resultSet != null) {
+			return resultSet.size();
+		}
+		long start = System.nanoTime();
+		int size = getSearchResultSet().size();
+		recordSearchRead(System.nanoTime() - start);
+		observedResultSize = size;
+		return size;
+	}
+
+	private AbstractInterpretedMatcher<T> getMaterializedResultSet() {
+		if (materializedResultSet == null && materializationPolicy.shouldMaterialize(this)) {
+			materialize();
+		}
+		if (materializedResultSet != null) {
+			incrementalReads++;
+		}
+		return materializedResultSet;
+	}
+
+	private AbstractInterpretedMatcher<T> getSearchResultSet() {
+		if (searchResultSet == null) {
+			searchResultSet = resultSetFactory.apply(queryEngine.getMatcher(querySpecification, SEARCH_HINT));
+		}
+		return searchResultSet;
+	}
+
+	private void recordSearchRead(long elapsed) {
+		searchReads++;
+		recordSearchTime(elapsed, elapsed);
+	}
+
+	private void recordSearchTime(long elapsed, long readTotal) {
+		searchNanos += elapsed;
+		maxSearchNanos = Math.max(maxSearchNanos, readTotal);
+	}
+
+	private AbstractInterpretedMatcher<T> materialize() {
+		if (materializedResultSet == null) {
+			// The query engine flushes pending changes before building the new matcher, so the materialized results
+			// are consistent with the model.
+			materializedResultSet = resultSetFactory.apply(queryEngine.getMatcher(querySpecification));
+			searchResultSet = null;
+			searchUpdates = adapter.getUpdateCount() - initialUpdateCount;
+		}
+		return materializedResultSet;
+	}
+
+	@Override
+	protected void startListeningForChanges() {
+		materialize().addListener(forwardingListener);
+	}
+
+	@Override
+	protected void stopListeningForChanges() {
+		materializedResultSet.removeListener(forwardingListener);
+	}
+
+	private class TimedCursor implements Cursor<Tuple, T> {
+		private final Cursor<Tuple, T> cursor;
+		private long readTotal;
+		private int count;
+
+		private TimedCursor(Cursor<Tuple, T> cursor, long readTotal) {
+			this.cursor = cursor;
+			this.readTotal = readTotal;
+		}
+
+		@Override
+		public Tuple getKey() {
+			return cursor.getKey();
+		}
+
+		@Override
+		public T getValue() {
+			return cursor.getValue();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return cursor.isTerminated();
+		}
+
+		@Override
+		public boolean move() {
+			long start = System.nanoTime();
+			boolean moved = cursor.move();
+			long elapsed = System.nanoTime() - start;
+			readTotal += elapsed;
+			recordSearchTime(elapsed, readTotal);
+			if (moved) {
+				count++;
+			} else {
+				observedResultSize = count;
+			}
+			return moved;
+		}
+	}
+}
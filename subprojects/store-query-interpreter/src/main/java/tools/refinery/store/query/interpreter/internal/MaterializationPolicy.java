@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal;
+
+import tools.refinery.store.query.interpreter.QueryBackendStatistics;
+
+/**
+ * Decides when a {@link LazyResultSet} should switch from local search to an incremental matcher.
+ */
+@FunctionalInterface
+interface MaterializationPolicy {
+	/**
+	 * Estimated cost of building an incremental matcher, expressed as a multiple of the slowest read answered by local
+	 * search.
+	 */
+	long ADAPTIVE_COST_FACTOR = 4;
+
+	boolean shouldMaterialize(LazyResultSet<?> resultSet);
+
+	static MaterializationPolicy afterSearchReads(int searchReads) {
+		return resultSet -> resultSet.getSearchReads() >= searchReads;
+	}
+
+	/**
+	 * Keeps answering reads by local search until the time spent on them exceeds the estimated cost of materializing
+	 * the query, and the observed profile suggests that incremental maintenance would be cheaper than searching.
+	 *
+	 * @see #isMaterializationProfitable(QueryBackendStatistics)
+	 */
+	static MaterializationPolicy adaptive() {
+		return resultSet -> isMaterializationProfitable(resultSet.getStatistics());
+	}
+
+	/**
+	 * Decides whether a query evaluated by local search should be materialized based on its profile.
+	 * <p>
+	 * Building an incremental matcher is estimated to cost {@link #ADAPTIVE_COST_FACTOR} times the slowest search
+	 * read. Like in the ski rental problem, we only pay for it after spending the same amount of time on search
+	 * reads, so rarely read queries never pay for an incremental matcher.
+	 * </p>
+	 * <p>
+	 * Afterward, the incremental matcher has to process every update, while local search only pays for reads. We
+	 * estimate the maintenance cost of a single result by the search time per result, where a query whose results
+	 * were never counted is assumed to have a single result. Assuming that the observed ratio of updates to reads
+	 * persists, materialization pays off if a search read costs more than the maintenance between two reads.
+	 * </p>
+	 *
+	 * @param statistics The profile of the query.
+	 * @return {@code true} if the query should be materialized.
+	 */
+	static boolean isMaterializationProfitable(QueryBackendStatistics statistics) {
+		int searchReads = statistics.searchReads();
+		if (searchReads <= 0) {
+			return false;
+		}
+		long searchNanos = statistics.searchNanos();
+		long maxSearchNanos = statistics.maxSearchNanos();
+		if (searchNanos < ADAPTIVE_COST_FACTOR * maxSearchNanos) {
+			return false;
+		}
+		double nanosPerResult = (double) maxSearchNanos / Math.max(statistics.observedResultSize(), 1);
+		double maintenanceNanosPerRead = nanosPerResult * statistics.searchUpdates() / searchReads;
+		double searchNanosPerRead = (double) searchNanos / searchReads;
+		return searchNanosPerRead > maintenanceNanosPerRead;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -11,10 +11,13 @@ import tools.refinery.logic.dnf.AnyQuery;
 import tools.refinery.logic.dnf.Query;
 import tools.refinery.store.model.Model;
 import tools.refinery.store.model.ModelListener;
+import tools.refinery.store.query.interpreter.QueryBackendStatistics;
 import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
 import tools.refinery.store.query.resultset.AnyResultSet;
 import tools.refinery.store.query.resultset.ResultSet;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class QueryInterpreterAdapterImpl implements QueryInterpreterAdapter, ModelListener {
@@ -23,6 +26,7 @@ public class QueryInterpreterAdapterImpl implements QueryInterpreterAdapter, Mod
 	private final AdvancedInterpreterEngine queryEngine;
 	private final Map<AnyQuery, AnyResultSet> resultSets;
 	private boolean pendingChanges;
+	private int updateCount;
 
 	QueryInterpreterAdapterImpl(Model model, QueryInterpreterStoreAdapterImpl storeAdapter) {
 		this.model = model;
@@ -60,6 +64,17 @@ public class QueryInterpreterAdapterImpl implements QueryInterpreterAdapter, Mod
 		return typedResultSet;
 	}
 
+	@Override
+	public List<QueryBackendStatistics> getBackendStatistics() {
+		var statistics = new ArrayList<QueryBackendStatistics>();
+		for (var resultSet : resultSets.values()) {
+			if (resultSet instanceof LazyResultSet<?> lazyResultSet) {
+				statistics.add(lazyResultSet.getStatistics());
+			}
+		}
+		return statistics;
+	}
+
 	@Override
 	public boolean hasPendingChanges() {
 		return pendingChanges;
@@ -74,9 +89,16 @@ public class QueryInterpreterAdapterImpl implements QueryInterpreterAdapter, Mod
 	@Override
 	public void flushChanges() {
 		queryEngine.flushChanges();
+		if (pendingChanges) {
+			updateCount++;
+		}
 		pendingChanges = false;
 	}
 
+	int getUpdateCount() {
+		return updateCount;
+	}
+
 	@Override
 	public void afterRestore() {
 		flushChanges();
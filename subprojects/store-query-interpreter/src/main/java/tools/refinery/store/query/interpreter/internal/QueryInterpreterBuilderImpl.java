@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -14,6 +14,7 @@ import tools.refinery.interpreter.matchers.backend.IQueryBackendFactory;
 import tools.refinery.interpreter.matchers.backend.QueryEvaluationHint;
 import tools.refinery.interpreter.rete.matcher.ReteBackendFactory;
 import tools.refinery.interpreter.rete.recipes.RecipesPackage;
+import tools.refinery.interpreter.rete.util.ReteHintOptions;
 import tools.refinery.logic.InvalidQueryException;
 import tools.refinery.logic.dnf.AnyQuery;
 import tools.refinery.logic.dnf.Dnf;
@@ -22,6 +23,7 @@ import tools.refinery.logic.rewriter.*;
 import tools.refinery.store.adapter.AbstractModelAdapterBuilder;
 import tools.refinery.store.model.ModelStore;
 import tools.refinery.store.query.interpreter.QueryInterpreterBuilder;
+import tools.refinery.store.query.interpreter.internal.context.InterpretationSizeStatistics;
 import tools.refinery.store.query.interpreter.internal.localsearch.FlatCostFunction;
 import tools.refinery.store.query.interpreter.internal.matcher.RawPatternMatcher;
 import tools.refinery.store.query.interpreter.internal.pquery.Dnf2PQuery;
@@ -39,6 +41,9 @@ public class QueryInterpreterBuilderImpl extends AbstractModelAdapterBuilder<Que
 	private final CompositeRewriter rewriter;
 	private final Dnf2PQuery dnf2PQuery = new Dnf2PQuery();
 	private final Set<AnyQuery> queries = new LinkedHashSet<>();
+	private boolean lazyMaterialization;
+	private int materializationThreshold;
+	private boolean adaptiveBackendSelection;
 
 	public QueryInterpreterBuilderImpl() {
 		EPackage.Registry.INSTANCE.put(RecipesPackage.eNS_URI, RecipesPackage.eINSTANCE);
@@ -114,6 +119,30 @@ public class QueryInterpreterBuilderImpl extends AbstractModelAdapterBuilder<Que
 		return this;
 	}
 
+	@Override
+	public QueryInterpreterBuilder lazyMaterialization(boolean lazyMaterialization) {
+		checkNotConfigured();
+		this.lazyMaterialization = lazyMaterialization;
+		return this;
+	}
+
+	@Override
+	public QueryInterpreterBuilder materializationThreshold(int searchReads) {
+		checkNotConfigured();
+		if (searchReads < 0) {
+			throw new IllegalArgumentException("Materialization threshold must be non-negative, got: " + searchReads);
+		}
+		materializationThreshold = searchReads;
+		return this;
+	}
+
+	@Override
+	public QueryInterpreterBuilder adaptiveBackendSelection(boolean adaptiveBackendSelection) {
+		checkNotConfigured();
+		this.adaptiveBackendSelection = adaptiveBackendSelection;
+		return this;
+	}
+
 	@Override
 	public QueryInterpreterStoreAdapterImpl doBuild(ModelStore store) {
 		var canonicalQueryMap = new HashMap<AnyQuery, AnyQuery>();
@@ -144,7 +173,7 @@ public class QueryInterpreterBuilderImpl extends AbstractModelAdapterBuilder<Que
 
 		validateSymbols(store);
 		var validatedQueries = new ValidatedQueries(canonicalQueryMap, querySpecifications, vacuousQueries,
-				alwaysTrueQueries);
+				alwaysTrueQueries, getMaterializationPolicy());
 		return new QueryInterpreterStoreAdapterImpl(store, buildEngineOptions(), dnf2PQuery.getSymbolViews(),
 				validatedQueries, store::checkCancelled);
 	}
@@ -162,10 +191,30 @@ public class QueryInterpreterBuilderImpl extends AbstractModelAdapterBuilder<Que
 			// Nothing to do, leave the default backend unchanged.
 		}
 		}
-		engineOptionsBuilder.withDefaultHint(defaultHint);
+		var hint = defaultHint;
+		if (lazyMaterialization || adaptiveBackendSelection) {
+			// Rete networks are only built when a query is materialized, which usually happens after the model was
+			// populated. Hence, the current interpretation sizes are meaningful inputs for ordering the joins.
+			// Explicitly set default hints still take precedence.
+			hint = new QueryEvaluationHint(Map.of(
+					ReteHintOptions.useCostBasedJoinOrdering, true,
+					ReteHintOptions.joinCardinalityStatistics, InterpretationSizeStatistics.INSTANCE
+			), (IQueryBackendFactory) null).overrideBy(defaultHint);
+		}
+		engineOptionsBuilder.withDefaultHint(hint);
 		return engineOptionsBuilder.build();
 	}
 
+	private MaterializationPolicy getMaterializationPolicy() {
+		if (adaptiveBackendSelection) {
+			return MaterializationPolicy.adaptive();
+		}
+		if (lazyMaterialization) {
+			return MaterializationPolicy.afterSearchReads(materializationThreshold);
+		}
+		return null;
+	}
+
 	private void validateSymbols(ModelStore store) {
 		var symbols = store.getSymbols();
 		for (var symbolView : dnf2PQuery.getSymbolViews().keySet()) {
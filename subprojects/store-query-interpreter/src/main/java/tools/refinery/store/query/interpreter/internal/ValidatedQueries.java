@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2025 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2025-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -12,6 +12,7 @@ import tools.refinery.logic.dnf.AnyQuery;
 import tools.refinery.logic.dnf.FunctionalQuery;
 import tools.refinery.logic.dnf.Query;
 import tools.refinery.logic.dnf.RelationalQuery;
+import tools.refinery.store.query.interpreter.internal.matcher.AbstractInterpretedMatcher;
 import tools.refinery.store.query.interpreter.internal.matcher.InterpretedFunctionalMatcher;
 import tools.refinery.store.query.interpreter.internal.matcher.InterpretedRelationalMatcher;
 import tools.refinery.store.query.interpreter.internal.matcher.RawPatternMatcher;
@@ -28,10 +29,12 @@ class ValidatedQueries {
 	private final Set<AnyQuery> vacuousQueries;
 	private final Set<RelationalQuery> alwaysTrueQueries;
 	private final Set<AnyQuery> allQueries;
+	private final MaterializationPolicy materializationPolicy;
 
 	public ValidatedQueries(Map<AnyQuery, AnyQuery> canonicalQueryMap,
 							Map<AnyQuery, IQuerySpecification<RawPatternMatcher>> querySpecifications,
-							Set<AnyQuery> vacuousQueries, Set<RelationalQuery> alwaysTrueQueries) {
+							Set<AnyQuery> vacuousQueries, Set<RelationalQuery> alwaysTrueQueries,
+							MaterializationPolicy materializationPolicy) {
 		this.canonicalQueryMap = Collections.unmodifiableMap(canonicalQueryMap);
 		this.querySpecifications = Collections.unmodifiableMap(querySpecifications);
 		this.vacuousQueries = Collections.unmodifiableSet(vacuousQueries);
@@ -42,6 +45,7 @@ class ValidatedQueries {
 		mutableAllQueries.addAll(vacuousQueries);
 		mutableAllQueries.addAll(alwaysTrueQueries);
 		this.allQueries = Collections.unmodifiableSet(mutableAllQueries);
+		this.materializationPolicy = materializationPolicy;
 	}
 
 	public Map<AnyQuery, AnyQuery> getCanonicalQueryMap() {
@@ -54,15 +58,24 @@ class ValidatedQueries {
 
 	public Map<AnyQuery, AnyResultSet> instantiate(QueryInterpreterAdapterImpl adapter,
 												   AdvancedInterpreterEngine queryEngine) {
-		GenericQueryGroup.of(
-				Collections.<IQuerySpecification<?>>unmodifiableCollection(querySpecifications.values()).stream()
-		).prepare(queryEngine);
-		queryEngine.flushChanges();
+		boolean lazy = materializationPolicy != null;
+		if (!lazy) {
+			GenericQueryGroup.of(
+					Collections.<IQuerySpecification<?>>unmodifiableCollection(querySpecifications.values()).stream()
+			).prepare(queryEngine);
+			queryEngine.flushChanges();
+		}
 		var resultSets = LinkedHashMap.<AnyQuery, AnyResultSet>newLinkedHashMap(allQueries.size());
 		for (var entry : querySpecifications.entrySet()) {
-			var rawPatternMatcher = queryEngine.getMatcher(entry.getValue());
-			var query = entry.getKey();
-			resultSets.put(query, createResultSet(adapter, (Query<?>) query, rawPatternMatcher));
+			var query = (Query<?>) entry.getKey();
+			var querySpecification = entry.getValue();
+			AnyResultSet resultSet;
+			if (lazy) {
+				resultSet = createLazyResultSet(adapter, query, queryEngine, querySpecification);
+			} else {
+				resultSet = createResultSet(adapter, query, queryEngine.getMatcher(querySpecification));
+			}
+			resultSets.put(query, resultSet);
 		}
 		for (var vacuousQuery : vacuousQueries) {
 			resultSets.put(vacuousQuery, new EmptyResultSet<>(adapter, (Query<?>) vacuousQuery));
@@ -73,12 +86,20 @@ class ValidatedQueries {
 		return resultSets;
 	}
 
-	private <T> ResultSet<T> createResultSet(QueryInterpreterAdapterImpl adapter, Query<T> query,
-											 RawPatternMatcher matcher) {
+	private <T> ResultSet<T> createLazyResultSet(QueryInterpreterAdapterImpl adapter, Query<T> query,
+												 AdvancedInterpreterEngine queryEngine,
+												 IQuerySpecification<RawPatternMatcher> querySpecification) {
+		return new LazyResultSet<>(adapter, query, queryEngine, querySpecification,
+				matcher -> createResultSet(adapter, query, matcher), materializationPolicy);
+	}
+
+	private <T> AbstractInterpretedMatcher<T> createResultSet(QueryInterpreterAdapterImpl adapter, Query<T> query,
+															  RawPatternMatcher matcher) {
 		return switch (query) {
 			case RelationalQuery relationalQuery -> {
 				@SuppressWarnings("unchecked")
-				var resultSet = (ResultSet<T>) new InterpretedRelationalMatcher(adapter, relationalQuery, matcher);
+				var resultSet = (AbstractInterpretedMatcher<T>) new InterpretedRelationalMatcher(adapter,
+						relationalQuery, matcher);
 				yield resultSet;
 			}
 			case FunctionalQuery<T> functionalQuery ->
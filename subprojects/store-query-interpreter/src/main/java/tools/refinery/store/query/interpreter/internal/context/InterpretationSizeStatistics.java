@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal.context;
+
+import tools.refinery.interpreter.matchers.context.IInputKey;
+import tools.refinery.interpreter.matchers.context.IQueryRuntimeContext;
+import tools.refinery.interpreter.matchers.tuple.TupleMask;
+import tools.refinery.interpreter.rete.util.JoinCardinalityStatistics;
+
+import java.util.Optional;
+
+/**
+ * Estimates the size of symbol views by the size of their underlying interpretations in the current model.
+ * <p>
+ * The estimates are only meaningful if the Rete network is built after the model was populated, e.g., when queries
+ * are materialized lazily. Otherwise, every interpretation is still empty when the network is built.
+ * </p>
+ */
+public final class InterpretationSizeStatistics implements JoinCardinalityStatistics {
+	public static final InterpretationSizeStatistics INSTANCE = new InterpretationSizeStatistics();
+
+	private InterpretationSizeStatistics() {
+	}
+
+	@Override
+	public Optional<Long> estimateCardinality(IQueryRuntimeContext runtimeContext, IInputKey inputKey,
+											  TupleMask groupMask) {
+		if (runtimeContext instanceof RelationalRuntimeContext relationalRuntimeContext) {
+			return Optional.of(relationalRuntimeContext.getInterpretationSize(inputKey));
+		}
+		return Optional.empty();
+	}
+}
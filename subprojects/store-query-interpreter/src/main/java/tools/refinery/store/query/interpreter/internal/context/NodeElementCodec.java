@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal.context;
+
+import tools.refinery.interpreter.matchers.tuple.ITupleElementCodec;
+import tools.refinery.store.tuple.Tuple;
+import tools.refinery.store.tuple.Tuple1;
+
+/**
+ * Encodes the node elements of query tuples, which are represented by {@link Tuple1} instances, by their node ID.
+ * Other elements, such as data values, are left to be stored as objects.
+ */
+final class NodeElementCodec implements ITupleElementCodec {
+	static final NodeElementCodec INSTANCE = new NodeElementCodec();
+
+	private NodeElementCodec() {
+	}
+
+	@Override
+	public int encode(Object element) {
+		if (element instanceof Tuple1 node) {
+			int nodeId = node.value0();
+			return nodeId >= 0 ? nodeId : NOT_ENCODABLE;
+		}
+		return NOT_ENCODABLE;
+	}
+
+	@Override
+	public Object decode(int code) {
+		return Tuple.of(code);
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -8,6 +8,7 @@ package tools.refinery.store.query.interpreter.internal.context;
 import tools.refinery.interpreter.CancellationToken;
 import tools.refinery.interpreter.matchers.context.*;
 import tools.refinery.interpreter.matchers.tuple.ITuple;
+import tools.refinery.interpreter.matchers.tuple.ITupleElementCodec;
 import tools.refinery.interpreter.matchers.tuple.Tuple;
 import tools.refinery.interpreter.matchers.tuple.TupleMask;
 import tools.refinery.interpreter.matchers.tuple.Tuples;
@@ -107,6 +108,13 @@ public class RelationalRuntimeContext implements IQueryRuntimeContext {
 		return Optional.empty();
 	}
 
+	long getInterpretationSize(IInputKey key) {
+		// Symbol views only ever filter or project the entries of the underlying interpretation, so the size of
+		// the interpretation bounds the size of any projection of the view from above.
+		var symbol = checkKey(key).getSymbol();
+		return model.getInterpretation(symbol).getSize();
+	}
+
 	@Override
 	public Iterable<Tuple> enumerateTuples(IInputKey key, TupleMask seedMask, ITuple seed) {
 		var filteredBySeed = enumerate(key, seedMask, seed);
@@ -167,6 +175,11 @@ public class RelationalRuntimeContext implements IQueryRuntimeContext {
 		this.modelUpdateListener.removeListener(key, relationViewKey, seed, listener);
 	}
 
+	@Override
+	public ITupleElementCodec getTupleElementCodec() {
+		return NodeElementCodec.INSTANCE;
+	}
+
 	@Override
 	public Object wrapElement(Object externalElement) {
 		return externalElement;
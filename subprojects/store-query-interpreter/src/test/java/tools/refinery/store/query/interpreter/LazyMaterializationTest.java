@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter;
+
+import org.junit.jupiter.api.Test;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.logic.dnf.RelationalQuery;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.query.ModelQueryAdapter;
+import tools.refinery.store.query.view.AnySymbolView;
+import tools.refinery.store.query.view.KeyOnlyView;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tools.refinery.store.query.interpreter.tests.QueryAssertions.assertResults;
+
+class LazyMaterializationTest {
+	private static final Symbol<Boolean> person = Symbol.of("Person", 1);
+	private static final Symbol<Boolean> friend = Symbol.of("friend", 2);
+	private static final AnySymbolView personView = new KeyOnlyView<>(person);
+	private static final AnySymbolView friendView = new KeyOnlyView<>(friend);
+	private static final RelationalQuery friendQuery = Query.of("Friend", (builder, p1, p2) ->
+			builder.clause(personView.call(p1), personView.call(p2), friendView.call(p1, p2)));
+
+	@Test
+	void searchReadsTest() {
+		checkResults(Integer.MAX_VALUE);
+	}
+
+	@Test
+	void materializeOnFirstReadTest() {
+		checkResults(0);
+	}
+
+	@Test
+	void materializeAfterThresholdTest() {
+		checkResults(3);
+	}
+
+	@Test
+	void adaptiveBackendSelectionTest() {
+		checkResults(QueryInterpreterAdapter.builder()
+				.adaptiveBackendSelection(true));
+	}
+
+	private static void checkResults(int materializationThreshold) {
+		checkResults(QueryInterpreterAdapter.builder()
+				.lazyMaterialization(true)
+				.materializationThreshold(materializationThreshold));
+	}
+
+	private static void checkResults(QueryInterpreterBuilder queryInterpreterBuilder) {
+		var store = ModelStore.builder()
+				.symbols(person, friend)
+				.with(queryInterpreterBuilder.queries(friendQuery))
+				.build();
+
+		try (var model = store.createEmptyModel()) {
+			var personInterpretation = model.getInterpretation(person);
+			var friendInterpretation = model.getInterpretation(friend);
+			var queryEngine = model.getAdapter(ModelQueryAdapter.class);
+			var friendResultSet = queryEngine.getResultSet(friendQuery);
+
+			personInterpretation.put(Tuple.of(0), true);
+			personInterpretation.put(Tuple.of(1), true);
+			friendInterpretation.put(Tuple.of(0, 1), true);
+			friendInterpretation.put(Tuple.of(1, 2), true);
+			queryEngine.flushChanges();
+
+			assertResults(Map.of(
+					Tuple.of(0, 1), true,
+					Tuple.of(1, 2), false
+			), friendResultSet);
+
+			personInterpretation.put(Tuple.of(2), true);
+			queryEngine.flushChanges();
+
+			assertResults(Map.of(
+					Tuple.of(0, 1), true,
+					Tuple.of(1, 2), true
+			), friendResultSet);
+		}
+	}
+
+	@Test
+	void listenerTest() {
+		var store = ModelStore.builder()
+				.symbols(person, friend)
+				.with(QueryInterpreterAdapter.builder()
+						.lazyMaterialization(true)
+						.materializationThreshold(Integer.MAX_VALUE)
+						.queries(friendQuery))
+				.build();
+
+		try (var model = store.createEmptyModel()) {
+			var personInterpretation = model.getInterpretation(person);
+			var friendInterpretation = model.getInterpretation(friend);
+			var queryEngine = model.getAdapter(ModelQueryAdapter.class);
+			var friendResultSet = queryEngine.getResultSet(friendQuery);
+
+			personInterpretation.put(Tuple.of(0), true);
+			personInterpretation.put(Tuple.of(1), true);
+			queryEngine.flushChanges();
+
+			List<Tuple> changes = new ArrayList<>();
+			friendResultSet.addListener((key, fromValue, toValue) -> changes.add(key));
+
+			friendInterpretation.put(Tuple.of(0, 1), true);
+			friendInterpretation.put(Tuple.of(1, 2), true);
+			queryEngine.flushChanges();
+
+			assertEquals(List.of(Tuple.of(0, 1)), changes);
+		}
+	}
+
+	@Test
+	void statisticsTest() {
+		var store = ModelStore.builder()
+				.symbols(person, friend)
+				.with(QueryInterpreterAdapter.builder()
+						.lazyMaterialization(true)
+						.materializationThreshold(2)
+						.queries(friendQuery))
+				.build();
+
+		try (var model = store.createEmptyModel()) {
+			var personInterpretation = model.getInterpretation(person);
+			var queryEngine = model.getAdapter(QueryInterpreterAdapter.class);
+			var friendResultSet = queryEngine.getResultSet(friendQuery);
+
+			personInterpretation.put(Tuple.of(0), true);
+			queryEngine.flushChanges();
+			assertEquals(0, friendResultSet.size());
+
+			var searchStatistics = queryEngine.getBackendStatistics();
+			assertEquals(1, searchStatistics.size());
+			var searchStatistic = searchStatistics.getFirst();
+			assertEquals(friendQuery, searchStatistic.query());
+			assertFalse(searchStatistic.materialized());
+			assertEquals(1, searchStatistic.searchReads());
+			assertEquals(1, searchStatistic.searchUpdates());
+			assertEquals(0, searchStatistic.observedResultSize());
+
+			friendResultSet.get(Tuple.of(0, 0));
+			friendResultSet.get(Tuple.of(0, 0));
+
+			var materializedStatistic = queryEngine.getBackendStatistics().getFirst();
+			assertTrue(materializedStatistic.materialized());
+			assertEquals(2, materializedStatistic.searchReads());
+			assertEquals(1, materializedStatistic.incrementalReads());
+		}
+	}
+
+	@Test
+	void eagerStatisticsTest() {
+		var store = ModelStore.builder()
+				.symbols(person, friend)
+				.with(QueryInterpreterAdapter.builder()
+						.queries(friendQuery))
+				.build();
+
+		try (var model = store.createEmptyModel()) {
+			var queryEngine = model.getAdapter(QueryInterpreterAdapter.class);
+			assertTrue(queryEngine.getBackendStatistics().isEmpty());
+		}
+	}
+
+	@Test
+	void negativeThresholdTest() {
+		var builder = QueryInterpreterAdapter.builder();
+		assertThrows(IllegalArgumentException.class, () -> builder.materializationThreshold(-1));
+	}
+}
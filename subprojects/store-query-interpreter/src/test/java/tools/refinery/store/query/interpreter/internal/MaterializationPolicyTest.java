@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import tools.refinery.store.query.interpreter.QueryBackendStatistics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class MaterializationPolicyTest {
+	@ParameterizedTest(name = "reads={0}, nanos={1}, max={2}, updates={3}, results={4} -> {5}")
+	@CsvSource({
+			// Never read.
+			"0, 0, 0, 0, -1, false",
+			// Search time does not cover the cost of building the matcher yet.
+			"3, 300, 100, 0, -1, false",
+			"1, 100, 100, 0, 10, false",
+			// Repeated reads without updates.
+			"4, 400, 100, 0, -1, true",
+			// One update per read with a single result: maintenance costs as much as searching.
+			"8, 800, 100, 8, 1, false",
+			// Results were never counted, so we assume a single result.
+			"8, 800, 100, 8, -1, false",
+			// Same update frequency, but maintenance only touches a small part of the large result set.
+			"8, 800, 100, 8, 100, true",
+			// Frequent updates outweigh the large result set.
+			"8, 800, 100, 1000, 100, false",
+			// Many reads between updates.
+			"16, 1600, 100, 2, -1, true",
+			// The slowest read dominates the total search time.
+			"8, 800, 400, 0, -1, false",
+	})
+	void adaptivePolicyTest(int searchReads, long searchNanos, long maxSearchNanos, int searchUpdates,
+							int observedResultSize, boolean expected) {
+		var statistics = new QueryBackendStatistics(null, false, searchReads, searchNanos, maxSearchNanos, 0,
+				searchUpdates, observedResultSize);
+		assertThat(MaterializationPolicy.isMaterializationProfitable(statistics), is(expected));
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.query.interpreter.internal.context;
+
+import org.apache.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import tools.refinery.interpreter.matchers.backend.IMatcherCapability;
+import tools.refinery.interpreter.matchers.backend.IQueryBackendFactory;
+import tools.refinery.interpreter.matchers.backend.IQueryBackendHintProvider;
+import tools.refinery.interpreter.matchers.backend.QueryEvaluationHint;
+import tools.refinery.interpreter.matchers.context.IQueryBackendContext;
+import tools.refinery.interpreter.matchers.context.IQueryCacheContext;
+import tools.refinery.interpreter.matchers.context.IQueryResultProviderAccess;
+import tools.refinery.interpreter.matchers.context.IQueryRuntimeContext;
+import tools.refinery.interpreter.matchers.planning.SubPlan;
+import tools.refinery.interpreter.matchers.planning.operations.PEnumerate;
+import tools.refinery.interpreter.matchers.planning.operations.PJoin;
+import tools.refinery.interpreter.matchers.psystem.analysis.QueryAnalyzer;
+import tools.refinery.interpreter.matchers.psystem.basicenumerables.TypeConstraint;
+import tools.refinery.interpreter.matchers.psystem.queries.PQuery;
+import tools.refinery.interpreter.rete.construction.quasitree.QuasiTreeLayout;
+import tools.refinery.interpreter.rete.util.JoinCardinalityStatistics;
+import tools.refinery.interpreter.rete.util.ReteHintOptions;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.store.query.interpreter.internal.pquery.Dnf2PQuery;
+import tools.refinery.store.query.interpreter.internal.pquery.SymbolViewWrapper;
+import tools.refinery.store.query.view.AnySymbolView;
+import tools.refinery.store.query.view.KeyOnlyView;
+import tools.refinery.store.representation.Symbol;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class JoinOrderingTest {
+	private static final AnySymbolView bigView = new KeyOnlyView<>(Symbol.of("big", 2));
+	private static final AnySymbolView mediumView = new KeyOnlyView<>(Symbol.of("medium", 2));
+	private static final AnySymbolView smallView = new KeyOnlyView<>(Symbol.of("small", 2));
+	private static final Map<AnySymbolView, Long> SIZES = Map.of(
+			bigView, 1000L,
+			mediumView, 100L,
+			smallView, 10L
+	);
+	private static final JoinCardinalityStatistics STATISTICS = (runtimeContext, inputKey, groupMask) ->
+			Optional.ofNullable(SIZES.get(((SymbolViewWrapper) inputKey).getWrappedKey()));
+
+	private final Dnf2PQuery dnf2PQuery = new Dnf2PQuery();
+
+	@Test
+	void structuralOrderingWithoutHintTest() {
+		var firstJoin = getFirstJoin(new QueryEvaluationHint(Map.of(), (IQueryBackendFactory) null));
+		// Without statistics, ties are broken by the order of the constraints in the body.
+		assertThat(firstJoin, is(Set.of(bigView, mediumView)));
+	}
+
+	@Test
+	void structuralOrderingWithoutStatisticsTest() {
+		var firstJoin = getFirstJoin(new QueryEvaluationHint(Map.of(
+				ReteHintOptions.useCostBasedJoinOrdering, true
+		), (IQueryBackendFactory) null));
+		assertThat(firstJoin, is(Set.of(bigView, mediumView)));
+	}
+
+	@Test
+	void statisticsWithoutHintTest() {
+		var firstJoin = getFirstJoin(new QueryEvaluationHint(Map.of(
+				ReteHintOptions.joinCardinalityStatistics, STATISTICS
+		), (IQueryBackendFactory) null));
+		assertThat(firstJoin, is(Set.of(bigView, mediumView)));
+	}
+
+	@Test
+	void costBasedOrderingTest() {
+		var firstJoin = getFirstJoin(new QueryEvaluationHint(Map.of(
+				ReteHintOptions.useCostBasedJoinOrdering, true,
+				ReteHintOptions.joinCardinalityStatistics, STATISTICS
+		), (IQueryBackendFactory) null));
+		// Estimated join sizes: big |x| small = 1000, small |x| medium = 100, medium |x| big = 1000.
+		assertThat(firstJoin, is(Set.of(smallView, mediumView)));
+	}
+
+	private Set<AnySymbolView> getFirstJoin(QueryEvaluationHint hint) {
+		var query = Query.of("Triangle", (builder, a, b, c) -> builder.clause(
+				bigView.call(a, b),
+				smallView.call(b, c),
+				mediumView.call(c, a)
+		));
+		var pQuery = dnf2PQuery.translate(query.getDnf());
+		var metaContext = new RelationalQueryMetaContext(new HashMap<>(dnf2PQuery.getSymbolViews()));
+		var layout = new QuasiTreeLayout(new PlanningBackendContext(metaContext), _ -> hint);
+		var body = pQuery.getDisjunctBodies().getBodies().iterator().next();
+		var plan = layout.plan(body, Logger.getLogger(JoinOrderingTest.class), metaContext);
+		var firstJoin = findFirstJoin(plan);
+		if (firstJoin == null) {
+			throw new AssertionError("No join in plan " + plan);
+		}
+		var views = new HashSet<AnySymbolView>();
+		for (var parent : firstJoin.getParentPlans()) {
+			views.add(getView(parent));
+		}
+		return views;
+	}
+
+	private static SubPlan findFirstJoin(SubPlan plan) {
+		for (var parent : plan.getParentPlans()) {
+			var firstJoin = findFirstJoin(parent);
+			if (firstJoin != null) {
+				return firstJoin;
+			}
+		}
+		return plan.getOperation() instanceof PJoin ? plan : null;
+	}
+
+	private static AnySymbolView getView(SubPlan plan) {
+		var current = plan;
+		while (current.getParentPlans().size() == 1) {
+			current = current.getParentPlans().getFirst();
+		}
+		if (current.getOperation() instanceof PEnumerate enumerate &&
+				enumerate.getEnumerablePConstraint() instanceof TypeConstraint typeConstraint &&
+				typeConstraint.getSupplierKey() instanceof SymbolViewWrapper wrapper) {
+			return wrapper.getWrappedKey();
+		}
+		throw new AssertionError("Not a symbol view enumeration: " + plan);
+	}
+
+	private record PlanningBackendContext(RelationalQueryMetaContext metaContext) implements IQueryBackendContext {
+		@Override
+		public Logger getLogger() {
+			return Logger.getLogger(JoinOrderingTest.class);
+		}
+
+		@Override
+		public IQueryRuntimeContext getRuntimeContext() {
+			return null;
+		}
+
+		@Override
+		public IQueryCacheContext getQueryCacheContext() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IQueryBackendHintProvider getHintProvider() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IQueryResultProviderAccess getResultProviderAccess() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public QueryAnalyzer getQueryAnalyzer() {
+			return new QueryAnalyzer(metaContext);
+		}
+
+		@Override
+		public IMatcherCapability getRequiredMatcherCapability(PQuery query, QueryEvaluationHint overrideHints) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean areUpdatesDelayed() {
+			return false;
+		}
+	}
+}
@@ -38,6 +38,7 @@ public class IbexPropagator implements ModelStoreConfiguration {
 
 	private double defaultPrecision = DEFAULT_PRECISION;
 	private double relativeEpsilon = DEFAULT_RELATIVE_EPSILON;
+	private boolean incremental = true;
 	private final MutableObjectDoubleMap<AnyPartialSymbol> precisionMap = ObjectDoubleMaps.mutable.empty();
 	private final List<TheoryRule> rules = new ArrayList<>();
 
@@ -73,6 +74,21 @@ public class IbexPropagator implements ModelStoreConfiguration {
 		return this;
 	}
 
+	/**
+	 * Sets whether IBEX should only contract the matches whose variables or activations have changed since the last
+	 * contraction.
+	 * <p>
+	 * If disabled, every match of a rule is contracted again whenever any of its matches or variables change.
+	 * </p>
+	 *
+	 * @param incremental {@code true} to only contract changed matches.
+	 * @return This propagator for chaining.
+	 */
+	public IbexPropagator incremental(boolean incremental) {
+		this.incremental = incremental;
+		return this;
+	}
+
 	public IbexPropagator rule(RelationalQuery precondition, Term<TruthValue> assertedTerm) {
 		return rule(new TheoryRule(precondition, assertedTerm));
 	}
@@ -105,7 +121,8 @@ public class IbexPropagator implements ModelStoreConfiguration {
 		}
 
 		storeBuilder.getAdapter(PropagationBuilder.class)
-				.propagator(model -> new BoundIbexPropagator(this, model, preparedRules, relativeEpsilon));
+				.propagator(model -> new BoundIbexPropagator(this, model, preparedRules, relativeEpsilon,
+						incremental));
 
 		storeBuilder.getAdapter(ReasoningBuilder.class)
 				.requiredInterpretations(Set.of(Concreteness.PARTIAL, Concreteness.CANDIDATE));
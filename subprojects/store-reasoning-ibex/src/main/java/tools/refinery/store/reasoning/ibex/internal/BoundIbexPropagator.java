@@ -7,6 +7,7 @@ package tools.refinery.store.reasoning.ibex.internal;
 
 import tools.refinery.store.dse.propagation.BoundPropagator;
 import tools.refinery.store.dse.propagation.PropagationResult;
+import tools.refinery.store.dse.propagation.PropagatorCost;
 import tools.refinery.store.model.Model;
 import tools.refinery.store.model.ModelListener;
 import tools.refinery.store.reasoning.ibex.IbexPropagator;
@@ -19,9 +20,9 @@ public class BoundIbexPropagator implements BoundPropagator, ModelListener {
 	private final List<IbexSolver> solvers;
 
 	public BoundIbexPropagator(IbexPropagator propagator, Model model, Collection<PreparedIbexRule> rules,
-							   double relativeEpsilon) {
+							   double relativeEpsilon, boolean incremental) {
 		solvers = rules.stream()
-				.map(rule -> new IbexSolver(propagator, rule, relativeEpsilon, model))
+				.map(rule -> new IbexSolver(propagator, rule, relativeEpsilon, incremental, model))
 				.toList();
 		model.addListener(this);
 	}
@@ -38,6 +39,11 @@ public class BoundIbexPropagator implements BoundPropagator, ModelListener {
 		return overall;
 	}
 
+	@Override
+	public PropagatorCost getCost() {
+		return PropagatorCost.HIGH;
+	}
+
 	@Override
 	public void afterRestore() {
 		for (var solver : solvers) {
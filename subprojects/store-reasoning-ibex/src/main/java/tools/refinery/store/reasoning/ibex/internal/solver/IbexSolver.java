@@ -19,7 +19,9 @@ import tools.refinery.store.reasoning.representation.PartialFunction;
 import tools.refinery.store.tuple.Tuple;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class IbexSolver implements ResultSetListener<Boolean>, AutoCloseable {
 	private static final String REJECTION_EMPTY = "IBEX contracted a domain to empty";
@@ -28,16 +30,20 @@ public class IbexSolver implements ResultSetListener<Boolean>, AutoCloseable {
 	private final PreparedIbexRule rule;
 	private Ibex ibex;
 	private final double relativeEpsilon;
+	private final boolean incremental;
 	private final Model model;
 	private final ResultSet<Boolean> resultSet;
 	private List<PartialFunctionMonitor<?, ?>> monitors;
+	private final Set<Tuple> dirtyMatches = new LinkedHashSet<>();
 	private boolean started = false;
-	private boolean changed = true;
+	private boolean allMatchesDirty = true;
 
-	public IbexSolver(Object reason, PreparedIbexRule rule, double relativeEpsilon, Model model) {
+	public IbexSolver(Object reason, PreparedIbexRule rule, double relativeEpsilon, boolean incremental,
+					  Model model) {
 		this.reason = reason;
 		this.rule = rule;
 		this.relativeEpsilon = relativeEpsilon;
+		this.incremental = incremental;
 		this.model = model;
 
 		var queryAdapter = model.getAdapter(ModelQueryAdapter.class);
@@ -54,11 +60,20 @@ public class IbexSolver implements ResultSetListener<Boolean>, AutoCloseable {
 	}
 
 	public boolean isChanged() {
-		return changed;
+		return allMatchesDirty || !dirtyMatches.isEmpty();
 	}
 
 	public void markChanged() {
-		changed = true;
+		allMatchesDirty = true;
+		dirtyMatches.clear();
+	}
+
+	void markDirty(Set<Tuple> matchKeys) {
+		if (!incremental) {
+			markChanged();
+		} else if (!allMatchesDirty) {
+			dirtyMatches.addAll(matchKeys);
+		}
 	}
 
 	private void startIfNeeded() {
@@ -94,14 +109,18 @@ public class IbexSolver implements ResultSetListener<Boolean>, AutoCloseable {
 	}
 
 	private void changeRefs(Tuple matchKey, boolean add) {
-		markChanged();
+		if (add || !incremental) {
+			markDirty(Set.of(matchKey));
+		} else {
+			dirtyMatches.remove(matchKey);
+		}
 		var influences = rule.influences();
 		for (int i = 0; i < influences.size(); i++) {
 			var nodeTuple = extractNodeTuple(matchKey, influences.get(i).parameterIndices());
 			if (add) {
-				monitors.get(i).addRef(nodeTuple);
+				monitors.get(i).addRef(nodeTuple, matchKey);
 			} else {
-				monitors.get(i).removeRef(nodeTuple);
+				monitors.get(i).removeRef(nodeTuple, matchKey);
 			}
 		}
 	}
@@ -109,22 +128,43 @@ public class IbexSolver implements ResultSetListener<Boolean>, AutoCloseable {
 	public PropagationResult propagate() {
 		checkReleased();
 		startIfNeeded();
-		if (!changed) {
+		if (!isChanged()) {
 			return PropagationResult.UNCHANGED;
 		}
-		changed = false;
-
+		// Matches whose variables get contracted in this pass are marked as dirty again by the monitors, so they
+		// will be contracted in the next pass until we reach a fixed point.
+		var matches = takeDirtyMatches();
 		var overall = PropagationResult.UNCHANGED;
-		var cursor = resultSet.getAll();
-		while (cursor.move()) {
-			overall = overall.andThen(propagateMatch(cursor.getKey()));
+		for (var matchKey : matches) {
+			if (!Boolean.TRUE.equals(resultSet.get(matchKey))) {
+				// The match was removed by a contraction earlier in this pass.
+				continue;
+			}
+			overall = overall.andThen(propagateMatch(matchKey));
 			if (overall.isRejected()) {
+				markChanged();
 				return overall;
 			}
 		}
 		return overall;
 	}
 
+	private List<Tuple> takeDirtyMatches() {
+		if (allMatchesDirty) {
+			allMatchesDirty = false;
+			dirtyMatches.clear();
+			var matches = new ArrayList<Tuple>();
+			var cursor = resultSet.getAll();
+			while (cursor.move()) {
+				matches.add(cursor.getKey());
+			}
+			return matches;
+		}
+		var matches = List.copyOf(dirtyMatches);
+		dirtyMatches.clear();
+		return matches;
+	}
+
 	private PropagationResult propagateMatch(Tuple matchKey) {
 		var influences = rule.influences();
 		int numVars = influences.size();
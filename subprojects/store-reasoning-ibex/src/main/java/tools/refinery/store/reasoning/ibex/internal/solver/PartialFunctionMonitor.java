@@ -5,8 +5,6 @@
  */
 package tools.refinery.store.reasoning.ibex.internal.solver;
 
-import org.eclipse.collections.api.factory.primitive.ObjectIntMaps;
-import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
 import tools.refinery.logic.AbstractValue;
 import tools.refinery.logic.term.intinterval.IntBound;
 import tools.refinery.logic.term.intinterval.IntInterval;
@@ -26,6 +24,10 @@ import tools.refinery.store.tuple.Tuple;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 
 class PartialFunctionMonitor<A extends AbstractValue<A, C>, C> implements ResultSetListener<A> {
 	private static final String REJECTION_EMPTY = "IBEX contracted a domain to empty";
@@ -34,7 +36,7 @@ class PartialFunctionMonitor<A extends AbstractValue<A, C>, C> implements Result
 	private final PartialFunction<A, C> partialFunction;
 	private final PartialInterpretation<A, C> interpretation;
 	private final PartialInterpretationRefiner<A, C> refiner;
-	private final MutableObjectIntMap<Tuple> refCounts = ObjectIntMaps.mutable.empty();
+	private final Map<Tuple, Set<Tuple>> referencingMatches = new HashMap<>();
 
 	PartialFunctionMonitor(IbexSolver ibexSolver, PartialFunction<A, C> partialFunction,
 						   ReasoningAdapter reasoningAdapter) {
@@ -45,21 +47,18 @@ class PartialFunctionMonitor<A extends AbstractValue<A, C>, C> implements Result
 		interpretation.addListener(this);
 	}
 
-	void addRef(Tuple key) {
-		int newCount = refCounts.addToValue(key, 1);
-		if (newCount == 1) {
-			ibexSolver.markChanged();
-		}
+	void addRef(Tuple key, Tuple matchKey) {
+		referencingMatches.computeIfAbsent(key, ignored -> new LinkedHashSet<>()).add(matchKey);
 	}
 
-	void removeRef(Tuple key) {
-		int newCount = refCounts.addToValue(key, -1);
-		if (newCount < 0) {
-			throw new IllegalStateException(
-					"Negative reference count for %s%s".formatted(partialFunction.name(), key));
+	void removeRef(Tuple key, Tuple matchKey) {
+		var matches = referencingMatches.get(key);
+		if (matches == null || !matches.remove(matchKey)) {
+			throw new IllegalStateException("Match %s does not reference %s%s".formatted(
+					matchKey, partialFunction.name(), key));
 		}
-		if (newCount == 0) {
-			refCounts.remove(key);
+		if (matches.isEmpty()) {
+			referencingMatches.remove(key);
 		}
 	}
 
@@ -111,8 +110,9 @@ class PartialFunctionMonitor<A extends AbstractValue<A, C>, C> implements Result
 
 	@Override
 	public void put(Tuple key, A fromValue, A toValue) {
-		if (refCounts.containsKey(key)) {
-			ibexSolver.markChanged();
+		var matches = referencingMatches.get(key);
+		if (matches != null) {
+			ibexSolver.markDirty(matches);
 		}
 	}
 
@@ -0,0 +1,194 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.reasoning.ibex;
+
+import org.junit.jupiter.api.Test;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.logic.term.Variable;
+import tools.refinery.logic.term.cardinalityinterval.CardinalityIntervals;
+import tools.refinery.logic.term.intinterval.IntInterval;
+import tools.refinery.logic.term.intinterval.IntIntervalDomain;
+import tools.refinery.logic.term.truthvalue.TruthValue;
+import tools.refinery.store.dse.propagation.PropagationAdapter;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
+import tools.refinery.store.reasoning.ReasoningAdapter;
+import tools.refinery.store.reasoning.ReasoningStoreAdapter;
+import tools.refinery.store.reasoning.literal.Concreteness;
+import tools.refinery.store.reasoning.representation.PartialFunction;
+import tools.refinery.store.reasoning.representation.PartialRelation;
+import tools.refinery.store.reasoning.representation.PartialSymbol;
+import tools.refinery.store.reasoning.seed.ModelSeed;
+import tools.refinery.store.reasoning.translator.attribute.AttributeInfo;
+import tools.refinery.store.reasoning.translator.containment.ContainmentHierarchyTranslator;
+import tools.refinery.store.reasoning.translator.metamodel.Metamodel;
+import tools.refinery.store.reasoning.translator.metamodel.MetamodelTranslator;
+import tools.refinery.store.reasoning.translator.multiobject.MultiObjectTranslator;
+import tools.refinery.store.tuple.Tuple;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static tools.refinery.logic.term.intinterval.IntIntervalTerms.*;
+
+/**
+ * Verifies that contracting only the dirty matches of a rule reaches the same fixed point as contracting every match.
+ * <p>
+ * Nodes 0, 1, 2 and 3 form a chain of {@code parents} edges, while the edge from node 4 to node 1 is only added
+ * later. The rule {@code age(q) >= age(p) + 18} shares the age of every inner node of the chain between two matches.
+ */
+class IbexIncrementalContractionTest {
+	private static final IntInterval DEFAULT_AGE = IntInterval.of(0, 100);
+	private static final int NODE_COUNT = 5;
+
+	private final PartialRelation person = PartialSymbol.of("Person", 1);
+	private final PartialRelation parents = PartialSymbol.of("parents", 2);
+	private final PartialRelation invalidParentsMultiplicity = PartialSymbol.of("parents::invalidMultiplicity", 1);
+	private final PartialFunction<IntInterval, BigInteger> age = PartialSymbol.of("age", 1,
+			IntIntervalDomain.INSTANCE);
+
+	@Test
+	void fullContractionTest() {
+		var outcome = runScenario(false);
+		assertThat(outcome.rejected(), contains(
+				false, // Initial model.
+				false, // age(0) <= 20.
+				false, // parents(4, 1) with age(4) >= 30.
+				true, // age(4) >= 40 forces age(3) >= 94, but age(3) <= 90.
+				false, // Restored after the rejection.
+				false, // Restored to the initial model.
+				false // age(2) >= 40.
+		));
+		// The contractions of the matches sharing the ages of nodes 1 and 2 must be propagated along the whole chain.
+		assertThat(outcome.ages().getFirst(), contains(
+				IntInterval.of(0, 46),
+				IntInterval.of(18, 64),
+				IntInterval.of(36, 82),
+				IntInterval.of(54, 100),
+				DEFAULT_AGE
+		));
+	}
+
+	@Test
+	void sameFixedPointAsFullContractionTest() {
+		var expected = runScenario(false);
+		var actual = runScenario(true);
+		assertThat(actual.rejected(), is(expected.rejected()));
+		assertThat(actual.ages(), is(expected.ages()));
+	}
+
+	private ScenarioOutcome runScenario(boolean incremental) {
+		var store = getModelStore(new IbexPropagator().incremental(incremental));
+		var rejected = new ArrayList<Boolean>();
+		var ages = new ArrayList<List<IntInterval>>();
+		try (var model = store.getAdapter(ReasoningStoreAdapter.class).createInitialModel(getModelSeed())) {
+			var reasoningAdapter = model.getAdapter(ReasoningAdapter.class);
+			var parentsRefiner = reasoningAdapter.getRefiner(parents);
+			var ageRefiner = reasoningAdapter.getRefiner(age);
+			var ageInterpretation = reasoningAdapter.getPartialInterpretation(Concreteness.PARTIAL, age);
+			var propagationAdapter = model.getAdapter(PropagationAdapter.class);
+			Runnable check = () -> {
+				boolean isRejected = propagationAdapter.propagate().isRejected();
+				rejected.add(isRejected);
+				if (isRejected) {
+					// The contracted domains after a rejection depend on the order of the contractions.
+					return;
+				}
+				var currentAges = new ArrayList<IntInterval>(NODE_COUNT);
+				for (int i = 0; i < NODE_COUNT; i++) {
+					currentAges.add(ageInterpretation.get(Tuple.of(i)));
+				}
+				ages.add(currentAges);
+			};
+
+			check.run();
+			var initialVersion = model.commit();
+
+			ageRefiner.merge(Tuple.of(0), IntInterval.of(0, 20));
+			check.run();
+
+			// Adds a new activation that narrows the age of node 1 shared with the chain. Afterward, age(1) >= 48
+			// entails the constraint for parents(0, 1), so its match is removed while contracting the other matches.
+			ageRefiner.merge(Tuple.of(4), IntInterval.of(30, 100));
+			parentsRefiner.merge(Tuple.of(4, 1), TruthValue.TRUE);
+			check.run();
+			var addedParentVersion = model.commit();
+
+			// The rejected contraction marks every match as changed.
+			ageRefiner.merge(Tuple.of(3), IntInterval.of(0, 90));
+			ageRefiner.merge(Tuple.of(4), IntInterval.of(40, 100));
+			check.run();
+
+			model.restore(addedParentVersion);
+			check.run();
+
+			model.restore(initialVersion);
+			check.run();
+
+			ageRefiner.merge(Tuple.of(2), IntInterval.of(40, 100));
+			check.run();
+		}
+		return new ScenarioOutcome(rejected, ages);
+	}
+
+	private ModelStore getModelStore(IbexPropagator ibexPropagator) {
+		var metamodel = Metamodel.builder()
+				.type(person)
+				.reference(parents, builder -> builder
+						.source(person)
+						.target(person)
+						.multiplicity(CardinalityIntervals.atMost(2), invalidParentsMultiplicity))
+				.attribute(age, new AttributeInfo(person, DEFAULT_AGE))
+				.build();
+
+		var p = Variable.of("p");
+		var q = Variable.of("q");
+
+		return ModelStore.builder()
+				.with(QueryInterpreterAdapter.builder())
+				.with(PropagationAdapter.builder())
+				.with(ReasoningAdapter.builder())
+				.with(new MultiObjectTranslator())
+				.with(new MetamodelTranslator(metamodel))
+				.with(ibexPropagator
+						.rule(
+								Query.of("parent", builder -> builder
+										.parameters(p, q)
+										.clause(parents.call(p, q))),
+								greaterEq(age.call(q), add(age.call(p), constant(IntInterval.of(18))))
+						))
+				.build();
+	}
+
+	private ModelSeed getModelSeed() {
+		return ModelSeed.builder(NODE_COUNT)
+				.seed(MultiObjectTranslator.COUNT_SYMBOL, builder -> builder
+						.reducedValue(CardinalityIntervals.ONE))
+				.seed(ContainmentHierarchyTranslator.CONTAINED_SYMBOL, builder -> builder
+						.reducedValue(TruthValue.FALSE))
+				.seed(ContainmentHierarchyTranslator.CONTAINER_SYMBOL, builder -> builder
+						.reducedValue(TruthValue.FALSE))
+				.seed(ContainmentHierarchyTranslator.CONTAINS_SYMBOL, builder -> builder
+						.reducedValue(TruthValue.FALSE))
+				.seed(person, builder -> builder
+						.reducedValue(TruthValue.TRUE))
+				.seed(parents, builder -> builder
+						.reducedValue(TruthValue.FALSE)
+						.put(Tuple.of(0, 1), TruthValue.TRUE)
+						.put(Tuple.of(1, 2), TruthValue.TRUE)
+						.put(Tuple.of(2, 3), TruthValue.TRUE)
+						.put(Tuple.of(4, 1), TruthValue.UNKNOWN))
+				.seed(age, builder -> builder
+						.reducedValue(DEFAULT_AGE))
+				.build();
+	}
+
+	private record ScenarioOutcome(List<Boolean> rejected, List<List<IntInterval>> ages) {
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -22,12 +22,17 @@ import tools.refinery.logic.term.uppercardinality.UpperCardinality;
 import tools.refinery.store.dse.propagation.BoundPropagator;
 import tools.refinery.store.dse.propagation.PropagationRejectedResult;
 import tools.refinery.store.dse.propagation.PropagationResult;
+import tools.refinery.store.dse.propagation.PropagatorCost;
 import tools.refinery.store.model.Interpretation;
 import tools.refinery.store.model.Model;
 import tools.refinery.store.model.ModelListener;
 import tools.refinery.store.query.ModelQueryAdapter;
 import tools.refinery.store.tuple.Tuple;
 
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 class BoundScopePropagator implements BoundPropagator, ModelListener {
 	private final Model model;
 	private final ModelQueryAdapter queryEngine;
@@ -38,13 +43,19 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 	private final MutableIntObjectMap<MPVariable> variables = IntObjectMaps.mutable.empty();
 	private final MutableIntSet activeVariables = IntSets.mutable.empty();
 	private final TypeScopePropagator[] propagators;
+	private final FixedPointCache fixedPoints;
+	private final MutableIntSet lowerBoundAttained = IntSets.mutable.empty();
+	private final MutableIntSet upperBoundAttained = IntSets.mutable.empty();
 	private boolean changed = true;
 	private boolean disposed;
+	private long fixedPointCacheHitCount;
 
 	public BoundScopePropagator(Model model, ScopePropagator scopePropagator) {
 		this.model = model;
 		queryEngine = model.getAdapter(ModelQueryAdapter.class);
 		this.scopePropagator = scopePropagator;
+		int fixedPointCacheSize = scopePropagator.getFixedPointCacheSize();
+		fixedPoints = fixedPointCacheSize > 0 ? new FixedPointCache(fixedPointCacheSize) : null;
 		countInterpretation = model.getInterpretation(scopePropagator.getCountSymbol());
 		solver = MPSolver.createSolver("GLOP");
 		try {
@@ -196,6 +207,18 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 		if (activeVariables.isEmpty()) {
 			return checkEmptiness();
 		}
+		// After restoring the model to a previously propagated state, we don't need to solve the same linear
+		// program again.
+		LinearProgramKey key = null;
+		if (fixedPoints != null) {
+			key = createKey();
+			if (fixedPoints.get(key) != null) {
+				fixedPointCacheHitCount++;
+				return result;
+			}
+		}
+		lowerBoundAttained.clear();
+		upperBoundAttained.clear();
 		var iterator = activeVariables.intIterator();
 		while (iterator.hasNext()) {
 			int nodeId = iterator.next();
@@ -203,14 +226,58 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 			if (variable == null) {
 				throw new AssertionError("Missing active variable: " + nodeId);
 			}
-			result = result.andThen(propagateNode(nodeId, variable));
+			var nodeResult = propagateNode(nodeId, variable);
+			if (nodeResult.isChanged()) {
+				// Solutions of the previous linear program may be infeasible for the refined bounds.
+				lowerBoundAttained.clear();
+				upperBoundAttained.clear();
+			}
+			result = result.andThen(nodeResult);
 			if (result.isRejected()) {
 				return result;
 			}
 		}
+		if (fixedPoints != null && !result.isChanged()) {
+			fixedPoints.put(key, Boolean.TRUE);
+		}
 		return result;
 	}
 
+	private LinearProgramKey createKey() {
+		var keyBuilder = LinearProgramKey.builder();
+		for (int nodeId : variables.keySet().toSortedArray()) {
+			var variable = variables.get(nodeId);
+			keyBuilder.variable(nodeId, activeVariables.contains(nodeId), variable.lb(), variable.ub());
+		}
+		for (var propagator : propagators) {
+			propagator.addToKey(keyBuilder);
+		}
+		return keyBuilder.build();
+	}
+
+	/**
+	 * Records the variables that take their lower or upper bound in the last solution of the linear program.
+	 * <p>
+	 * Since the solution is feasible, the bounds of such variables can't be refined further, so we may skip solving
+	 * for their minimum or maximum.
+	 * </p>
+	 */
+	private void recordAttainedBounds() {
+		var iterator = activeVariables.intIterator();
+		while (iterator.hasNext()) {
+			int nodeId = iterator.next();
+			var variable = variables.get(nodeId);
+			double value = variable.solutionValue();
+			if (RoundingUtil.roundUp(value) <= variable.lb()) {
+				lowerBoundAttained.add(nodeId);
+			}
+			double upperBound = variable.ub();
+			if (upperBound != Double.POSITIVE_INFINITY && RoundingUtil.roundDown(value) >= upperBound) {
+				upperBoundAttained.add(nodeId);
+			}
+		}
+	}
+
 	private PropagationResult checkEmptiness() {
 		model.checkCancelled();
 		var emptinessCheckingResult = solver.solve();
@@ -224,31 +291,45 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 	private PropagationResult propagateNode(int nodeId, MPVariable variable) {
 		objective.setCoefficient(variable, 1);
 		try {
-			model.checkCancelled();
-			objective.setMinimization();
-			var minimizationResult = solver.solve();
 			int lowerBound;
-			switch (minimizationResult) {
-			case OPTIMAL -> lowerBound = RoundingUtil.roundUp(objective.value());
-			case UNBOUNDED -> lowerBound = 0;
-			case ABNORMAL, INFEASIBLE -> {
-				return createRejectedResult();
-			}
-			default -> throw new IllegalStateException("Failed to solve for minimum of %s: %s"
-					.formatted(variable, minimizationResult));
+			if (lowerBoundAttained.contains(nodeId)) {
+				lowerBound = RoundingUtil.roundUp(variable.lb());
+			} else {
+				model.checkCancelled();
+				objective.setMinimization();
+				var minimizationResult = solver.solve();
+				switch (minimizationResult) {
+				case OPTIMAL -> {
+					lowerBound = RoundingUtil.roundUp(objective.value());
+					recordAttainedBounds();
+				}
+				case UNBOUNDED -> lowerBound = 0;
+				case ABNORMAL, INFEASIBLE -> {
+					return createRejectedResult();
+				}
+				default -> throw new IllegalStateException("Failed to solve for minimum of %s: %s"
+						.formatted(variable, minimizationResult));
+				}
 			}
 
-			model.checkCancelled();
-			objective.setMaximization();
-			var maximizationResult = solver.solve();
 			UpperCardinality upperBound;
-			switch (maximizationResult) {
-			case OPTIMAL -> upperBound = UpperCardinalities.atMost(RoundingUtil.roundDown(objective.value()));
-			// Problem was feasible when minimizing, the only possible source of {@code UNBOUNDED_OR_INFEASIBLE} is
-			// an unbounded maximization problem. See https://github.com/google/or-tools/issues/3319
-			case ABNORMAL, UNBOUNDED, INFEASIBLE -> upperBound = UpperCardinalities.UNBOUNDED;
-			default -> throw new IllegalStateException("Failed to solve for maximum of %s: %s"
-					.formatted(variable, minimizationResult));
+			if (upperBoundAttained.contains(nodeId)) {
+				upperBound = UpperCardinalities.atMost(RoundingUtil.roundDown(variable.ub()));
+			} else {
+				model.checkCancelled();
+				objective.setMaximization();
+				var maximizationResult = solver.solve();
+				switch (maximizationResult) {
+				case OPTIMAL -> {
+					upperBound = UpperCardinalities.atMost(RoundingUtil.roundDown(objective.value()));
+					recordAttainedBounds();
+				}
+				// Problem was feasible when minimizing, the only possible source of {@code UNBOUNDED_OR_INFEASIBLE}
+				// is an unbounded maximization problem. See https://github.com/google/or-tools/issues/3319
+				case ABNORMAL, UNBOUNDED, INFEASIBLE -> upperBound = UpperCardinalities.UNBOUNDED;
+				default -> throw new IllegalStateException("Failed to solve for maximum of %s: %s"
+						.formatted(variable, maximizationResult));
+				}
 			}
 
 			var newInterval = CardinalityIntervals.between(lowerBound, upperBound);
@@ -264,6 +345,16 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 		}
 	}
 
+	@Override
+	public PropagatorCost getCost() {
+		return PropagatorCost.MEDIUM;
+	}
+
+	@Override
+	public long getCacheHitCount() {
+		return fixedPointCacheHitCount;
+	}
+
 	@Override
 	public PropagationResult checkConcretization() {
 		for (var propagator : propagators) {
@@ -307,6 +398,26 @@ class BoundScopePropagator implements BoundPropagator, ModelListener {
 			variable.delete();
 		}
 		solver.delete();
+		if (fixedPoints != null) {
+			fixedPoints.clear();
+		}
 		disposed = true;
 	}
+
+	private static class FixedPointCache extends LinkedHashMap<LinearProgramKey, Boolean> {
+		@Serial
+		private static final long serialVersionUID = -1318741204547232907L;
+
+		private final int maxSize;
+
+		public FixedPointCache(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<LinearProgramKey, Boolean> eldest) {
+			return size() > maxSize;
+		}
+	}
 }
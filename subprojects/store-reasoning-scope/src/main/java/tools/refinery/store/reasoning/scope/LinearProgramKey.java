@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.reasoning.scope;
+
+import org.eclipse.collections.api.factory.primitive.DoubleLists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of the variable bounds, constraint bounds, and constraint coefficients of the linear program solved by a
+ * {@link BoundScopePropagator}.
+ * <p>
+ * Equal keys describe the same linear program, and hence the same propagation result.
+ * </p>
+ */
+final class LinearProgramKey {
+	private final double[] bounds;
+	private final int[] structure;
+	private final int hashCode;
+
+	private LinearProgramKey(double[] bounds, int[] structure) {
+		this.bounds = bounds;
+		this.structure = structure;
+		hashCode = 31 * Arrays.hashCode(bounds) + Arrays.hashCode(structure);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof LinearProgramKey other)) {
+			return false;
+		}
+		return hashCode == other.hashCode && Arrays.equals(bounds, other.bounds) &&
+				Arrays.equals(structure, other.structure);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static final class Builder {
+		private final MutableDoubleList bounds = DoubleLists.mutable.empty();
+		private final MutableIntList structure = IntLists.mutable.empty();
+
+		private Builder() {
+		}
+
+		public Builder variable(int nodeId, boolean active, double lowerBound, double upperBound) {
+			structure.add(nodeId);
+			structure.add(active ? 1 : 0);
+			bounds.add(lowerBound);
+			bounds.add(upperBound);
+			return this;
+		}
+
+		public Builder constraint(double lowerBound, double upperBound, int[] sortedNodeIds) {
+			// Separate the node lists of subsequent constraints, since node ids are never negative.
+			structure.add(-1);
+			structure.addAll(sortedNodeIds);
+			bounds.add(lowerBound);
+			bounds.add(upperBound);
+			return this;
+		}
+
+		public LinearProgramKey build() {
+			return new LinearProgramKey(bounds.toArray(), structure.toArray());
+		}
+	}
+}
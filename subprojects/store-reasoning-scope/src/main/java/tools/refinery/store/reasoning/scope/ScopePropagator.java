@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -19,9 +19,12 @@ import tools.refinery.logic.term.uppercardinality.FiniteUpperCardinality;
 import java.util.*;
 
 public class ScopePropagator implements ModelStoreConfiguration {
+	public static final int DEFAULT_FIXED_POINT_CACHE_SIZE = 1024;
+
 	private final Symbol<CardinalityInterval> countSymbol;
 	private final Map<PartialRelation, CardinalityInterval> scopes = new LinkedHashMap<>();
 	private final List<TypeScopePropagator.Factory> typeScopePropagatorFactories = new ArrayList<>();
+	private int fixedPointCacheSize = DEFAULT_FIXED_POINT_CACHE_SIZE;
 
 	public ScopePropagator() {
 		this(MultiObjectTranslator.COUNT_STORAGE);
@@ -65,6 +68,21 @@ public class ScopePropagator implements ModelStoreConfiguration {
 		return this;
 	}
 
+	/**
+	 * Sets the maximum number of linear programs remembered to be already at a fixed point in each model. If a model
+	 * is restored to a state with a remembered linear program, it doesn't have to be solved again.
+	 *
+	 * @param fixedPointCacheSize The maximum number of linear programs, or {@code 0} to always solve them.
+	 * @return This scope propagator.
+	 */
+	public ScopePropagator fixedPointCacheSize(int fixedPointCacheSize) {
+		if (fixedPointCacheSize < 0) {
+			throw new IllegalArgumentException("Fixed point cache size must not be negative");
+		}
+		this.fixedPointCacheSize = fixedPointCacheSize;
+		return this;
+	}
+
 	@Override
 	public void apply(ModelStoreBuilder storeBuilder) {
 		createTypeScopePropagatorFactories();
@@ -99,4 +117,8 @@ public class ScopePropagator implements ModelStoreConfiguration {
 	List<TypeScopePropagator.Factory> getTypeScopePropagatorFactories() {
 		return typeScopePropagatorFactories;
 	}
+
+	int getFixedPointCacheSize() {
+		return fixedPointCacheSize;
+	}
 }
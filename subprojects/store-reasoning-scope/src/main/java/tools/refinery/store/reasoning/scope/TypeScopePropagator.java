@@ -1,11 +1,12 @@
 /*
- * SPDX-FileCopyrightText: 2023 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2023-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
 package tools.refinery.store.reasoning.scope;
 
 import com.google.ortools.linearsolver.MPConstraint;
+import org.eclipse.collections.api.factory.primitive.IntLists;
 import tools.refinery.logic.dnf.AnyQuery;
 import tools.refinery.logic.dnf.RelationalQuery;
 import tools.refinery.store.dse.transition.objectives.Criterion;
@@ -92,6 +93,15 @@ abstract class TypeScopePropagator {
 		adapter.markAsChanged();
 	}
 
+	public void addToKey(LinearProgramKey.Builder keyBuilder) {
+		var nodeIds = IntLists.mutable.withInitialCapacity(multiNodes.size());
+		var cursor = multiNodes.getAll();
+		while (cursor.move()) {
+			nodeIds.add(cursor.getKey().get(0));
+		}
+		keyBuilder.constraint(constraint.lb(), constraint.ub(), nodeIds.sortThis().toArray());
+	}
+
 	public void delete() {
 		constraint.delete();
 	}
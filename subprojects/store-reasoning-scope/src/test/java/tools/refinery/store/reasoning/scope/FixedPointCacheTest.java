@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.reasoning.scope;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.refinery.logic.term.cardinalityinterval.CardinalityIntervals;
+import tools.refinery.logic.term.truthvalue.TruthValue;
+import tools.refinery.store.dse.propagation.PropagationAdapter;
+import tools.refinery.store.dse.propagation.PropagationResult;
+import tools.refinery.store.dse.propagation.PropagatorStatistics;
+import tools.refinery.store.model.Model;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
+import tools.refinery.store.reasoning.ReasoningAdapter;
+import tools.refinery.store.reasoning.ReasoningStoreAdapter;
+import tools.refinery.store.reasoning.representation.PartialRelation;
+import tools.refinery.store.reasoning.seed.ModelSeed;
+import tools.refinery.store.reasoning.translator.PartialRelationTranslator;
+import tools.refinery.store.reasoning.translator.multiobject.MultiObjectTranslator;
+import tools.refinery.store.representation.Symbol;
+import tools.refinery.store.tuple.Tuple;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class FixedPointCacheTest {
+	private static final PartialRelation person = new PartialRelation("Person", 1);
+
+	@ParameterizedTest(name = "fixedPointCacheSize = {0}")
+	@ValueSource(ints = {0, 1, ScopePropagator.DEFAULT_FIXED_POINT_CACHE_SIZE})
+	void restoreTest(int fixedPointCacheSize) {
+		var scopePropagator = new ScopePropagator()
+				.scope(person, CardinalityIntervals.between(5, 15))
+				.fixedPointCacheSize(fixedPointCacheSize);
+		try (var model = createModel(scopePropagator)) {
+			var countStorage = model.getInterpretation(MultiObjectTranslator.COUNT_STORAGE);
+			assertThat(countStorage.get(Tuple.of(0)), is(CardinalityIntervals.between(2, 12)));
+			var initialVersion = model.commit();
+
+			countStorage.put(Tuple.of(0), CardinalityIntervals.between(4, 6));
+			assertThat(propagate(model), is(PropagationResult.UNCHANGED));
+			assertThat(countStorage.get(Tuple.of(0)), is(CardinalityIntervals.between(4, 6)));
+
+			long hitCount = getCacheHitCount(model);
+			model.restore(initialVersion);
+			assertThat(propagate(model), is(PropagationResult.UNCHANGED));
+			assertThat(countStorage.get(Tuple.of(0)), is(CardinalityIntervals.between(2, 12)));
+			// The fixed point of the initial model is only remembered if the cache could hold both linear programs.
+			long expectedHitCount = fixedPointCacheSize >= 2 ? 1 : 0;
+			assertThat(getCacheHitCount(model) - hitCount, is(expectedHitCount));
+		}
+	}
+
+	private static Model createModel(ScopePropagator scopePropagator) {
+		var store = ModelStore.builder()
+				.with(QueryInterpreterAdapter.builder())
+				.with(PropagationAdapter.builder())
+				.with(ReasoningAdapter.builder())
+				.with(new MultiObjectTranslator())
+				.with(PartialRelationTranslator.of(person)
+						.symbol(Symbol.of("Person", 1, TruthValue.class, TruthValue.FALSE)))
+				.with(scopePropagator)
+				.build();
+		return store.getAdapter(ReasoningStoreAdapter.class).createInitialModel(ModelSeed.builder(4)
+				.seed(MultiObjectTranslator.COUNT_SYMBOL, builder -> builder
+						.reducedValue(CardinalityIntervals.ONE)
+						.put(Tuple.of(0), CardinalityIntervals.SET))
+				.seed(person, builder -> builder.reducedValue(TruthValue.TRUE))
+				.build());
+	}
+
+	private static PropagationResult propagate(Model model) {
+		return model.getAdapter(PropagationAdapter.class).propagate();
+	}
+
+	private static long getCacheHitCount(Model model) {
+		// Only the scope propagator has a cache in this model.
+		return model.getAdapter(PropagationAdapter.class).getStatistics().stream()
+				.mapToLong(PropagatorStatistics::cacheHitCount)
+				.sum();
+	}
+}
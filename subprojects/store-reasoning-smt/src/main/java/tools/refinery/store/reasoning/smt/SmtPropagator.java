@@ -25,9 +25,13 @@ import java.util.List;
 import java.util.Set;
 
 public class SmtPropagator implements ModelStoreConfiguration {
+	public static final int DEFAULT_RESULT_CACHE_SIZE = 256;
+
 	private final List<TheoryRule> rules = new ArrayList<>();
 	private int timeout;
 	private int rlimit;
+	private boolean incremental = true;
+	private int resultCacheSize = DEFAULT_RESULT_CACHE_SIZE;
 
 	public SmtPropagator rule(RelationalQuery precondition, Term<TruthValue> assertedTerm) {
 		return rule(new TheoryRule(precondition, assertedTerm));
@@ -57,6 +61,39 @@ public class SmtPropagator implements ModelStoreConfiguration {
 		return this;
 	}
 
+	/**
+	 * Sets whether the SMT solver should keep the encoding of the propagation rules between checks and only replace
+	 * the bounds of the variables.
+	 * <p>
+	 * If disabled, the solver is reset and the whole problem is encoded anew before each check.
+	 * </p>
+	 *
+	 * @param incremental {@code true} to use incremental solving.
+	 * @return This propagator for chaining.
+	 */
+	public SmtPropagator incremental(boolean incremental) {
+		this.incremental = incremental;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of satisfiability results remembered for previously seen SMT problems.
+	 * <p>
+	 * Problems are identified by the activations of the rules and the bounds of the variables, so if the model is
+	 * restored to a state with a remembered problem, the SMT solver doesn't have to be called again.
+	 * </p>
+	 *
+	 * @param resultCacheSize The maximum number of results, or {@code 0} to always call the SMT solver.
+	 * @return This propagator for chaining.
+	 */
+	public SmtPropagator resultCacheSize(int resultCacheSize) {
+		if (resultCacheSize < 0) {
+			throw new IllegalArgumentException("Result cache size must not be negative");
+		}
+		this.resultCacheSize = resultCacheSize;
+		return this;
+	}
+
 	@Override
 	public void apply(ModelStoreBuilder storeBuilder) {
 		Z3SolverLoader.loadNativeLibraries();
@@ -66,7 +103,8 @@ public class SmtPropagator implements ModelStoreConfiguration {
 			queryEngineBuilder.queries(preparedRule.partialPrecondition(), preparedRule.candidatePrecondition());
 		}
 		storeBuilder.getAdapter(PropagationBuilder.class)
-				.propagator(model -> new BoundSmtPropagator(this, model, preparedRules, timeout, rlimit));
+				.propagator(model -> new BoundSmtPropagator(this, model, preparedRules, timeout, rlimit,
+						incremental, resultCacheSize));
 		// SMT rules rely on `PARTIAL` interpretations for attributes.
 		storeBuilder.getAdapter(ReasoningBuilder.class)
 				.requiredInterpretations(Set.of(Concreteness.PARTIAL, Concreteness.CANDIDATE));
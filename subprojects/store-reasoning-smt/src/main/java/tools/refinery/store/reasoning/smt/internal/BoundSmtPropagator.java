@@ -6,7 +6,10 @@
 package tools.refinery.store.reasoning.smt.internal;
 
 import tools.refinery.store.dse.propagation.BoundPropagator;
+import tools.refinery.store.dse.propagation.PendingPropagation;
+import tools.refinery.store.dse.propagation.PropagationRequest;
 import tools.refinery.store.dse.propagation.PropagationResult;
+import tools.refinery.store.dse.propagation.PropagatorCost;
 import tools.refinery.store.model.Model;
 import tools.refinery.store.model.ModelListener;
 import tools.refinery.store.reasoning.literal.Concreteness;
@@ -23,9 +26,9 @@ public class BoundSmtPropagator implements BoundPropagator, ModelListener {
 	private final RuleBasedSolver concretizationSolver;
 
 	public BoundSmtPropagator(SmtPropagator propagator, Model model, Collection<PreparedSmtRule> rules,
-							  int timeout, int rlimit) {
+							  int timeout, int rlimit, boolean incremental, int resultCacheSize) {
 		this.propagator = propagator;
-		context = new ModelContext(model, rules, timeout, rlimit);
+		context = new ModelContext(model, rules, timeout, rlimit, incremental, resultCacheSize);
 		propagationSolver = context.createSolver(Concreteness.PARTIAL);
 		concretizationSolver = context.createSolver(Concreteness.CANDIDATE);
 	}
@@ -35,6 +38,25 @@ public class BoundSmtPropagator implements BoundPropagator, ModelListener {
 		return propagationSolver.checkSatisfiable(propagator);
 	}
 
+	@Override
+	public PendingPropagation propagateOneAsync(PropagationRequest request) {
+		return switch (request) {
+			case PROPAGATE -> propagationSolver.checkSatisfiableAsync(propagator);
+			// Concretization refines the model with the values found by the solver.
+			case CONCRETIZE -> null;
+		};
+	}
+
+	@Override
+	public PropagatorCost getCost() {
+		return PropagatorCost.HIGH;
+	}
+
+	@Override
+	public long getCacheHitCount() {
+		return context.getResultCacheHitCount();
+	}
+
 	@Override
 	public boolean concretizationRequested() {
 		return concretizationSolver.isChanged();
@@ -50,6 +72,11 @@ public class BoundSmtPropagator implements BoundPropagator, ModelListener {
 		return concretizationSolver.checkSatisfiable(propagator);
 	}
 
+	@Override
+	public PendingPropagation checkConcretizationAsync() {
+		return concretizationSolver.checkSatisfiableAsync(propagator);
+	}
+
 	@Override
 	public void afterRestore() {
 		propagationSolver.markChanged();
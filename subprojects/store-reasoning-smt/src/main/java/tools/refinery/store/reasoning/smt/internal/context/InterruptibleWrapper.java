@@ -41,6 +41,10 @@ public class InterruptibleWrapper {
 	}
 
 	public <T> T call(Callable<T> callable) {
+		return await(submit(callable));
+	}
+
+	public <T> Future<T> submit(Callable<T> callable) {
 		if (terminated) {
 			throw new CancellationException("SMT solver was already interrupted");
 		}
@@ -50,6 +54,13 @@ public class InterruptibleWrapper {
 
 		Future<T> future = executor.submit(callable);
 		currentFuture = future;
+		return future;
+	}
+
+	public <T> T await(Future<T> future) {
+		if (future != currentFuture) {
+			throw new IllegalStateException("Task is not pending");
+		}
 		try {
 			while (true) {
 				try {
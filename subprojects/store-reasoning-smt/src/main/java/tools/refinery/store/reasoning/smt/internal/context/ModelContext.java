@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 public class ModelContext implements AutoCloseable {
 	private final Model model;
@@ -39,6 +40,8 @@ public class ModelContext implements AutoCloseable {
 	private final List<PreparedSmtRule> rules;
 	private final int timeout;
 	private final int rlimit;
+	private final boolean incremental;
+	private final int resultCacheSize;
 	private final Context context;
 	private final Sort boolSort;
 	private final Sort intSort;
@@ -48,13 +51,17 @@ public class ModelContext implements AutoCloseable {
 	private final Map<AnyPartialFunction, Map<Tuple, FuncDecl<?>>> variableCache = new HashMap<>();
 	private final Map<PreparedSmtRule, Map<Tuple, Expr<?>>> exprCache = new HashMap<>();
 	private final InterruptibleWrapper interruptibleWrapper;
+	private long resultCacheHitCount;
 
-	public ModelContext(Model model, Collection<PreparedSmtRule> rules, int timeout, int rlimit) {
+	public ModelContext(Model model, Collection<PreparedSmtRule> rules, int timeout, int rlimit,
+						boolean incremental, int resultCacheSize) {
 		this.model = model;
 		queryEngine = model.getAdapter(ModelQueryAdapter.class);
 		this.rules = List.copyOf(rules);
 		this.timeout = timeout;
 		this.rlimit = rlimit;
+		this.incremental = incremental;
+		this.resultCacheSize = resultCacheSize;
 		context = new Context();
 		boolSort = context.getBoolSort();
 		intSort = context.getIntSort();
@@ -100,7 +107,15 @@ public class ModelContext implements AutoCloseable {
 			params.add("rlimit", rlimit);
 		}
 		solver.setParameters(params);
-		return new RuleBasedSolver(this, concreteness, rules, solver);
+		return new RuleBasedSolver(this, concreteness, rules, solver, incremental, resultCacheSize);
+	}
+
+	public void recordResultCacheHit() {
+		resultCacheHitCount++;
+	}
+
+	public long getResultCacheHitCount() {
+		return resultCacheHitCount;
 	}
 
 	public FuncDecl<?> getVariable(AnyPartialFunction partialFunction, Tuple input) {
@@ -140,6 +155,14 @@ public class ModelContext implements AutoCloseable {
 		return interruptibleWrapper.call(callable);
 	}
 
+	public <T> Future<T> submitWithInterrupt(Callable<T> callable) {
+		return interruptibleWrapper.submit(callable);
+	}
+
+	public <T> T awaitWithInterrupt(Future<T> future) {
+		return interruptibleWrapper.await(future);
+	}
+
 	@Override
 	public void close() {
 		interruptibleWrapper.shutdown();
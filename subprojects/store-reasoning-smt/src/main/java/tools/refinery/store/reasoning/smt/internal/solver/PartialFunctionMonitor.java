@@ -30,6 +30,8 @@ import tools.refinery.store.reasoning.representation.PartialFunction;
 import tools.refinery.store.tuple.Tuple;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 
 // Z3 assertions create unchecked generic arrays.
 // Moreover, we need to convert `FuncDecl<?>` to the specific Z3 sort for assertions.
@@ -163,6 +165,14 @@ class PartialFunctionMonitor<A extends AbstractValue<A, C>, C> implements Result
 		}
 	}
 
+	public Map<Tuple, A> getValues() {
+		var values = HashMap.<Tuple, A>newHashMap(refCounts.size());
+		for (var tuple : refCounts.keysView()) {
+			values.put(tuple, partialInterpretation.get(tuple));
+		}
+		return values;
+	}
+
 	public boolean isTracking() {
 		return refCounts.notEmpty();
 	}
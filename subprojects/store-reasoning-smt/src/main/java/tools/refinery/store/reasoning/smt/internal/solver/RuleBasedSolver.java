@@ -7,8 +7,10 @@ package tools.refinery.store.reasoning.smt.internal.solver;
 
 import com.microsoft.z3.Solver;
 import com.microsoft.z3.Status;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tools.refinery.store.dse.propagation.PendingPropagation;
 import tools.refinery.store.dse.propagation.PropagationRejectedResult;
 import tools.refinery.store.dse.propagation.PropagationResult;
 import tools.refinery.store.reasoning.literal.Concreteness;
@@ -17,7 +19,11 @@ import tools.refinery.store.reasoning.smt.internal.PreparedSmtRule;
 import tools.refinery.store.reasoning.smt.internal.context.ModelContext;
 import tools.refinery.store.tuple.Tuple;
 
+import java.io.Serial;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
 
 public class RuleBasedSolver {
 	private static final Logger LOGGER = LoggerFactory.getLogger(RuleBasedSolver.class);
@@ -31,15 +37,21 @@ public class RuleBasedSolver {
 	private final Solver solver;
 	private final VariableMonitor variableMonitor;
 	private final List<RuleMonitor> ruleMonitors;
+	private final boolean incremental;
+	private final ResultCache resultCache;
 	private boolean started;
 	private boolean changed = true;
+	private boolean rulesChanged = true;
+	private boolean scopePushed;
 	private PropagationResult cachedResult;
 
 	public RuleBasedSolver(ModelContext context, Concreteness concreteness, List<PreparedSmtRule> rules,
-						   Solver solver) {
+						   Solver solver, boolean incremental, int resultCacheSize) {
 		this.context = context;
 		this.concreteness = concreteness;
 		this.solver = solver;
+		this.incremental = incremental;
+		resultCache = resultCacheSize > 0 ? new ResultCache(resultCacheSize) : null;
 		solver.interrupt();
 		variableMonitor = new VariableMonitor(this);
 		ruleMonitors = rules.stream()
@@ -63,6 +75,11 @@ public class RuleBasedSolver {
 		changed = true;
 	}
 
+	void markRulesChanged() {
+		rulesChanged = true;
+		markChanged();
+	}
+
 	private void markUnchanged() {
 		changed = false;
 	}
@@ -76,13 +93,44 @@ public class RuleBasedSolver {
 	}
 
 	private Status doCheckSatisfiable() {
+		prepareAssertions();
+		return context.callWithInterrupt(solver::check);
+	}
+
+	private void prepareAssertions() {
 		startIfNeeded();
-		solver.reset();
+		if (!incremental) {
+			solver.reset();
+			addRuleAssertions();
+			variableMonitor.addAssertions(solver);
+			return;
+		}
+		if (rulesChanged || !scopePushed) {
+			solver.reset();
+			scopePushed = false;
+			addRuleAssertions();
+			rulesChanged = false;
+		} else {
+			// Only the variable bounds have changed, so we can keep the encoding of the rules.
+			solver.pop();
+			scopePushed = false;
+		}
+		solver.push();
+		scopePushed = true;
 		variableMonitor.addAssertions(solver);
+	}
+
+	private void addRuleAssertions() {
 		for (var ruleMonitor : ruleMonitors) {
 			ruleMonitor.addAssertions(solver);
 		}
-		return context.callWithInterrupt(solver::check);
+	}
+
+	private SmtProblemKey createProblemKey() {
+		var activations = ruleMonitors.stream()
+				.map(RuleMonitor::getActivations)
+				.toList();
+		return new SmtProblemKey(activations, variableMonitor.getValues());
 	}
 
 	private void startIfNeeded() {
@@ -96,18 +144,52 @@ public class RuleBasedSolver {
 	}
 
 	public PropagationResult checkSatisfiable(Object reason) {
+		return checkSatisfiableAsync(reason).await();
+	}
+
+	/**
+	 * Starts checking the satisfiability of the current model on the SMT worker thread.
+	 * <p>
+	 * The assertions are added on the calling thread, so the model may be modified before the result is awaited.
+	 * Modifications will only mark this solver as changed and will be taken into account by the next check.
+	 * </p>
+	 *
+	 * @param reason The reason to report if the SMT problem is not satisfiable.
+	 * @return The pending result of the check.
+	 */
+	public PendingPropagation checkSatisfiableAsync(Object reason) {
 		if (canReuseResult()) {
-			return cachedResult;
+			return PendingPropagation.completed(cachedResult);
 		}
-		var status = doCheckSatisfiable();
-		if (LOGGER.isTraceEnabled()) {
-			LOGGER.trace("checkSatisfiable {}", solver.getStatistics());
+		startIfNeeded();
+		var key = resultCache == null ? null : createProblemKey();
+		var previousStatus = key == null ? null : resultCache.get(key);
+		if (previousStatus != null) {
+			context.recordResultCacheHit();
+			markUnchanged();
+			return PendingPropagation.completed(setCheckResult(key, previousStatus, reason));
 		}
+		prepareAssertions();
+		Future<Status> future = context.submitWithInterrupt(solver::check);
+		markUnchanged();
+		return () -> {
+			var status = context.awaitWithInterrupt(future);
+			if (LOGGER.isTraceEnabled()) {
+				LOGGER.trace("checkSatisfiable {}", solver.getStatistics());
+			}
+			return setCheckResult(key, status, reason);
+		};
+	}
+
+	private PropagationResult setCheckResult(@Nullable SmtProblemKey key, Status status, Object reason) {
 		cachedResult = switch (status) {
 			case SATISFIABLE, UNKNOWN -> PropagationResult.UNCHANGED;
 			case UNSATISFIABLE -> new PropagationRejectedResult(reason, REJECTION_UNSAT);
 		};
-		markUnchanged();
+		// An unknown status may be caused by a timeout, so we retry the check when we see the same problem again.
+		if (key != null && status != Status.UNKNOWN) {
+			resultCache.put(key, status);
+		}
 		return cachedResult;
 	}
 
@@ -136,4 +218,21 @@ public class RuleBasedSolver {
 		markUnchanged();
 		return cachedResult;
 	}
+
+	private static class ResultCache extends LinkedHashMap<SmtProblemKey, Status> {
+		@Serial
+		private static final long serialVersionUID = 6040913227496382311L;
+
+		private final int maxSize;
+
+		public ResultCache(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<SmtProblemKey, Status> eldest) {
+			return size() > maxSize;
+		}
+	}
 }
@@ -11,7 +11,9 @@ import tools.refinery.store.query.resultset.ResultSetListener;
 import tools.refinery.store.reasoning.smt.internal.PreparedSmtRule;
 import tools.refinery.store.tuple.Tuple;
 
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 
 public class RuleMonitor implements ResultSetListener<Boolean> {
 	private final RuleBasedSolver solver;
@@ -43,6 +45,15 @@ public class RuleMonitor implements ResultSetListener<Boolean> {
 		}
 	}
 
+	public Set<Tuple> getActivations() {
+		var activations = HashSet.<Tuple>newHashSet(resultSet.size());
+		var cursor = resultSet.getAll();
+		while (cursor.move()) {
+			activations.add(cursor.getKey());
+		}
+		return activations;
+	}
+
 	@Override
 	public void put(Tuple key, Boolean fromValue, Boolean toValue) {
 		if (!Objects.equals(fromValue, toValue)) {
@@ -51,7 +62,7 @@ public class RuleMonitor implements ResultSetListener<Boolean> {
 	}
 
 	private void changeRefs(Tuple key, boolean add) {
-		solver.markChanged();
+		solver.markRulesChanged();
 		for (var influence : rule.influences()) {
 			var indexTuple = influence.parameterIndices();
 			int arity = indexTuple.getSize();
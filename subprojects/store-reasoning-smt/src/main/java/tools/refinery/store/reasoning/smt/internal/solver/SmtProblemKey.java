@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.reasoning.smt.internal.solver;
+
+import tools.refinery.store.reasoning.representation.AnyPartialFunction;
+import tools.refinery.store.tuple.Tuple;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot of the assertions passed to the SMT solver.
+ * <p>
+ * The activations of the rules determine the asserted rule instances, while the values of the variables referenced
+ * by them determine the asserted variable bounds. Thus, equal keys describe the same SMT problem.
+ * </p>
+ *
+ * @param activations The activations of each rule.
+ * @param values      The current values of the variables referenced by the rules.
+ */
+record SmtProblemKey(List<Set<Tuple>> activations, Map<AnyPartialFunction, Map<Tuple, ?>> values) {
+}
@@ -46,6 +46,15 @@ class VariableMonitor {
 			entry.getValue().addAssertions(solver);
 		}
 	}
+
+	public Map<AnyPartialFunction, Map<Tuple, ?>> getValues() {
+		var values = HashMap.<AnyPartialFunction, Map<Tuple, ?>>newHashMap(monitorMap.size());
+		for (var entry : monitorMap.entrySet()) {
+			values.put(entry.getKey(), entry.getValue().getValues());
+		}
+		return values;
+	}
+
 	public boolean isTracking() {
 		for (var monitor : monitorMap.values()) {
 			if (monitor.isTracking()) {
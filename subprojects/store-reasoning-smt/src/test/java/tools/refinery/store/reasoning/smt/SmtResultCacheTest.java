@@ -0,0 +1,212 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.reasoning.smt;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.refinery.logic.dnf.Query;
+import tools.refinery.logic.term.Variable;
+import tools.refinery.logic.term.cardinalityinterval.CardinalityIntervals;
+import tools.refinery.logic.term.intinterval.IntInterval;
+import tools.refinery.logic.term.intinterval.IntIntervalDomain;
+import tools.refinery.logic.term.truthvalue.TruthValue;
+import tools.refinery.store.dse.propagation.PropagationAdapter;
+import tools.refinery.store.dse.propagation.PropagatorStatistics;
+import tools.refinery.store.model.ModelStore;
+import tools.refinery.store.query.interpreter.QueryInterpreterAdapter;
+import tools.refinery.store.reasoning.ReasoningAdapter;
+import tools.refinery.store.reasoning.ReasoningStoreAdapter;
+import tools.refinery.store.reasoning.representation.PartialFunction;
+import tools.refinery.store.reasoning.representation.PartialRelation;
+import tools.refinery.store.reasoning.representation.PartialSymbol;
+import tools.refinery.store.reasoning.seed.ModelSeed;
+import tools.refinery.store.reasoning.translator.attribute.AttributeInfo;
+import tools.refinery.store.reasoning.translator.containment.ContainmentHierarchyTranslator;
+import tools.refinery.store.reasoning.translator.metamodel.Metamodel;
+import tools.refinery.store.reasoning.translator.metamodel.MetamodelTranslator;
+import tools.refinery.store.reasoning.translator.multiobject.MultiObjectTranslator;
+import tools.refinery.store.tuple.Tuple;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static tools.refinery.logic.term.intinterval.IntIntervalTerms.*;
+
+class SmtResultCacheTest {
+	private static final IntInterval DEFAULT_AGE = IntInterval.of(0, 30);
+
+	private final PartialRelation person = PartialSymbol.of("Person", 1);
+	private final PartialRelation parents = PartialSymbol.of("parents", 2);
+	private final PartialRelation invalidParentsMultiplicity = PartialSymbol.of("parents::invalidMultiplicity", 1);
+	private final PartialFunction<IntInterval, BigInteger> age = PartialSymbol.of("age", 1,
+			IntIntervalDomain.INSTANCE);
+
+	@Test
+	void fromScratchTest() {
+		var outcome = runScenario(false, 0);
+		assertThat(outcome.propagationRejected(), contains(
+				false, // Initial model.
+				false, // parents(0, 1) adds an activation.
+				true, // parents(1, 2) forces age(2) >= age(0) + 36.
+				false, // Restored to parents(0, 1).
+				true, // age(0) >= 13 forces age(1) >= 31.
+				false, // Restored to the initial model.
+				false, // age(2) <= 10 is not constrained by any rule yet.
+				true, // parents(1, 2) forces age(2) >= 18.
+				false, // Restored to parents(0, 1).
+				false // Restored to age(2) <= 10.
+		));
+		assertThat(outcome.resultCacheHitCount(), is(0L));
+	}
+
+	@ParameterizedTest(name = "incremental = {0}, resultCacheSize = {1}")
+	@MethodSource
+	void sameResultsAsFromScratchTest(boolean incremental, int resultCacheSize) {
+		var expected = runScenario(false, 0);
+		var actual = runScenario(incremental, resultCacheSize);
+		assertThat(actual.propagationRejected(), is(expected.propagationRejected()));
+		assertThat(actual.concretizationRejected(), is(expected.concretizationRejected()));
+	}
+
+	static Stream<Arguments> sameResultsAsFromScratchTest() {
+		return Stream.of(
+				Arguments.of(true, 0),
+				Arguments.of(false, 1),
+				Arguments.of(true, 1),
+				Arguments.of(false, SmtPropagator.DEFAULT_RESULT_CACHE_SIZE),
+				Arguments.of(true, SmtPropagator.DEFAULT_RESULT_CACHE_SIZE)
+		);
+	}
+
+	@Test
+	void cacheEvictionTest() {
+		var withoutEviction = runScenario(true, SmtPropagator.DEFAULT_RESULT_CACHE_SIZE);
+		var withEviction = runScenario(true, 1);
+		// Every restored problem is remembered by the large cache, but the small cache only holds the last problem.
+		assertThat(withoutEviction.resultCacheHitCount(), greaterThan(withEviction.resultCacheHitCount()));
+		assertThat(withEviction.propagationRejected(), is(withoutEviction.propagationRejected()));
+		assertThat(withEviction.concretizationRejected(), is(withoutEviction.concretizationRejected()));
+	}
+
+	private ScenarioOutcome runScenario(boolean incremental, int resultCacheSize) {
+		var smtPropagator = createSmtPropagator()
+				.incremental(incremental)
+				.resultCacheSize(resultCacheSize);
+		var store = getModelStore(smtPropagator);
+		var propagationRejected = new ArrayList<Boolean>();
+		var concretizationRejected = new ArrayList<Boolean>();
+		long resultCacheHitCount;
+		try (var model = store.getAdapter(ReasoningStoreAdapter.class).createInitialModel(getModelSeed())) {
+			var reasoningAdapter = model.getAdapter(ReasoningAdapter.class);
+			var parentsRefiner = reasoningAdapter.getRefiner(parents);
+			var ageRefiner = reasoningAdapter.getRefiner(age);
+			var propagationAdapter = model.getAdapter(PropagationAdapter.class);
+			Runnable check = () -> {
+				propagationRejected.add(propagationAdapter.propagate().isRejected());
+				concretizationRejected.add(propagationAdapter.checkConcretization().isRejected());
+			};
+
+			check.run();
+			var initialVersion = model.commit();
+
+			parentsRefiner.merge(Tuple.of(0, 1), TruthValue.TRUE);
+			check.run();
+			var oneParentVersion = model.commit();
+
+			parentsRefiner.merge(Tuple.of(1, 2), TruthValue.TRUE);
+			check.run();
+
+			model.restore(oneParentVersion);
+			check.run();
+
+			ageRefiner.merge(Tuple.of(0), IntInterval.of(13, 30));
+			check.run();
+
+			model.restore(initialVersion);
+			check.run();
+
+			ageRefiner.merge(Tuple.of(2), IntInterval.of(0, 10));
+			check.run();
+			var youngVersion = model.commit();
+
+			parentsRefiner.merge(Tuple.of(1, 2), TruthValue.TRUE);
+			check.run();
+
+			model.restore(oneParentVersion);
+			check.run();
+
+			model.restore(youngVersion);
+			check.run();
+
+			// Only the SMT propagator has a cache in this model.
+			resultCacheHitCount = propagationAdapter.getStatistics().stream()
+					.mapToLong(PropagatorStatistics::cacheHitCount)
+					.sum();
+		}
+		return new ScenarioOutcome(propagationRejected, concretizationRejected, resultCacheHitCount);
+	}
+
+	private SmtPropagator createSmtPropagator() {
+		var p = Variable.of("p");
+		var q = Variable.of("q");
+		return new SmtPropagator()
+				.rule(
+						Query.of("parent", builder -> builder
+								.parameters(p, q)
+								.clause(parents.call(p, q))),
+						greaterEq(age.call(q), add(age.call(p), constant(IntInterval.of(18))))
+				);
+	}
+
+	private ModelStore getModelStore(SmtPropagator smtPropagator) {
+		var metamodel = Metamodel.builder()
+				.type(person)
+				.reference(parents, builder -> builder
+						.source(person)
+						.target(person)
+						.multiplicity(CardinalityIntervals.atMost(2), invalidParentsMultiplicity))
+				.attribute(age, new AttributeInfo(person, DEFAULT_AGE))
+				.build();
+
+		return ModelStore.builder()
+				.with(QueryInterpreterAdapter.builder())
+				.with(PropagationAdapter.builder())
+				.with(ReasoningAdapter.builder())
+				.with(new MultiObjectTranslator())
+				.with(new MetamodelTranslator(metamodel))
+				.with(smtPropagator)
+				.build();
+	}
+
+	private ModelSeed getModelSeed() {
+		return ModelSeed.builder(3)
+				.seed(MultiObjectTranslator.COUNT_SYMBOL, builder -> builder
+						.reducedValue(CardinalityIntervals.ONE))
+				.seed(ContainmentHierarchyTranslator.CONTAINED_SYMBOL, builder -> builder
+						.reducedValue(TruthValue.FALSE))
+				.seed(ContainmentHierarchyTranslator.CONTAINER_SYMBOL, builder -> builder
+						.reducedValue(TruthValue.FALSE))
+				.seed(ContainmentHierarchyTranslator.CONTAINS_SYMBOL, builder -> builder
+						.reducedValue(TruthValue.FALSE))
+				.seed(person, builder -> builder
+						.reducedValue(TruthValue.TRUE))
+				.seed(parents, builder -> builder
+						.reducedValue(TruthValue.UNKNOWN))
+				.seed(age, builder -> builder
+						.reducedValue(DEFAULT_AGE))
+				.build();
+	}
+
+	private record ScenarioOutcome(List<Boolean> propagationRejected, List<Boolean> concretizationRejected,
+								   long resultCacheHitCount) {
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -11,6 +11,7 @@ import tools.refinery.store.reasoning.literal.Concreteness;
 import tools.refinery.store.reasoning.representation.AnyPartialSymbol;
 import tools.refinery.store.reasoning.seed.ModelSeed;
 import tools.refinery.store.reasoning.seed.PropagatedModel;
+import tools.refinery.store.reasoning.seed.SeededModel;
 
 import java.util.Collection;
 import java.util.Set;
@@ -29,8 +30,24 @@ public interface ReasoningStoreAdapter extends ModelStoreAdapter {
 	}
 
 	PropagatedModel tryCreateInitialModel(ModelSeed modelSeed);
+
 	PropagatedModel tryResetInitialModel(Model model, ModelSeed modelSeed);
 
+	/**
+	 * Seeds a model like {@link #tryResetInitialModel(Model, ModelSeed)}, but commits the model after seeding and
+	 * before propagation.
+	 * <p>
+	 * If the returned version is restored and the model is seeded again, only the tuples where the two seeds differ
+	 * are changed. Therefore, model queries are updated incrementally instead of being computed from scratch as in a
+	 * newly created model.
+	 * </p>
+	 *
+	 * @param model     The model to seed. It will be closed if seeding or propagation fails.
+	 * @param modelSeed The seed.
+	 * @return The version of the seeded model and the propagated model.
+	 */
+	SeededModel tryResetAndCommitInitialModel(Model model, ModelSeed modelSeed);
+
 	@Override
 	ReasoningAdapter createModelAdapter(Model model);
 }
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2021-2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2021-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -20,6 +20,7 @@ import tools.refinery.store.reasoning.refinement.StorageRefiner;
 import tools.refinery.store.reasoning.representation.AnyPartialSymbol;
 import tools.refinery.store.reasoning.seed.ModelSeed;
 import tools.refinery.store.reasoning.seed.PropagatedModel;
+import tools.refinery.store.reasoning.seed.SeededModel;
 import tools.refinery.store.representation.AnySymbol;
 import tools.refinery.store.representation.Symbol;
 import tools.refinery.store.tuple.Tuple;
@@ -104,28 +105,49 @@ class ReasoningStoreAdapterImpl implements ReasoningStoreAdapter {
 	@Override
 	public PropagatedModel tryCreateInitialModel(ModelSeed modelSeed) {
 		var model = store.createEmptyModel();
-		return tryResetInitialModel(model,modelSeed);
+		return tryResetInitialModel(model, modelSeed);
 	}
 
+	@Override
 	public PropagatedModel tryResetInitialModel(Model model, ModelSeed modelSeed) {
 		try {
-			model.getInterpretation(ReasoningAdapterImpl.NODE_COUNT_SYMBOL).put(Tuple.of(), modelSeed.getNodeCount());
-			for (var initializer : initializers) {
-				initializer.initialize(model, modelSeed);
-			}
-			var reasoningAdapter = ((ReasoningAdapterImpl) model.getAdapter(ReasoningAdapter.class));
-			reasoningAdapter.afterInitialize(modelSeed);
-			var propagationResult = model.tryGetAdapter(PropagationAdapter.class)
-					.map(PropagationAdapter::propagate)
-					.orElse(PropagationResult.UNCHANGED);
-			model.getAdapter(ModelQueryAdapter.class).flushChanges();
-			return new PropagatedModel(model, propagationResult);
+			seedModel(model, modelSeed);
+			return propagateModel(model);
+		} catch (RuntimeException e) {
+			model.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public SeededModel tryResetAndCommitInitialModel(Model model, ModelSeed modelSeed) {
+		try {
+			seedModel(model, modelSeed);
+			var seededVersion = model.commit();
+			return new SeededModel(seededVersion, propagateModel(model));
 		} catch (RuntimeException e) {
 			model.close();
 			throw e;
 		}
 	}
 
+	private void seedModel(Model model, ModelSeed modelSeed) {
+		model.getInterpretation(ReasoningAdapterImpl.NODE_COUNT_SYMBOL).put(Tuple.of(), modelSeed.getNodeCount());
+		for (var initializer : initializers) {
+			initializer.initialize(model, modelSeed);
+		}
+		var reasoningAdapter = ((ReasoningAdapterImpl) model.getAdapter(ReasoningAdapter.class));
+		reasoningAdapter.afterInitialize(modelSeed);
+	}
+
+	private static PropagatedModel propagateModel(Model model) {
+		var propagationResult = model.tryGetAdapter(PropagationAdapter.class)
+				.map(PropagationAdapter::propagate)
+				.orElse(PropagationResult.UNCHANGED);
+		model.getAdapter(ModelQueryAdapter.class).flushChanges();
+		return new PropagatedModel(model, propagationResult);
+	}
+
 	@Override
 	public ReasoningAdapterImpl createModelAdapter(Model model) {
 		return new ReasoningAdapterImpl(model, this);
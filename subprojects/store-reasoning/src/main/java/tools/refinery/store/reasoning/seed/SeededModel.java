@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: 2026 The Refinery Authors <https://refinery.tools/>
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package tools.refinery.store.reasoning.seed;
+
+import tools.refinery.store.map.Version;
+
+/**
+ * The result of seeding a model and committing it before propagation.
+ *
+ * @param seededVersion    The version of the model after seeding, but before propagation.
+ * @param propagatedModel  The model after propagation.
+ */
+public record SeededModel(Version seededVersion, PropagatedModel propagatedModel) {
+}
@@ -1,5 +1,5 @@
 /*
- * SPDX-FileCopyrightText: 2024 The Refinery Authors <https://refinery.tools/>
+ * SPDX-FileCopyrightText: 2024-2026 The Refinery Authors <https://refinery.tools/>
  *
  * SPDX-License-Identifier: EPL-2.0
  */
@@ -23,7 +23,9 @@ import tools.refinery.store.query.ModelQueryAdapter;
 import tools.refinery.store.query.ModelQueryBuilder;
 import tools.refinery.store.query.resultset.ResultSet;
 import tools.refinery.store.reasoning.ReasoningAdapter;
+import tools.refinery.store.representation.Symbol;
 
+import java.util.Collection;
 import java.util.List;
 
 import static tools.refinery.logic.literal.Literals.check;
@@ -99,6 +101,11 @@ public class CleanupPropagator implements Propagator {
 			return propagated ? PropagationResult.PROPAGATED : PropagationResult.UNCHANGED;
 		}
 
+		@Override
+		public Collection<? extends Symbol<?>> getInputSymbols() {
+			return keepNonExistingObjects ? List.of() : List.of(MultiObjectTranslator.COUNT_STORAGE);
+		}
+
 		@Override
 		public PropagationResult checkConcretization() {
 			var cursor = countInterpretation.getAll();